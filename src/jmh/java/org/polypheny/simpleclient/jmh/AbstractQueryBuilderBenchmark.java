@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.jmh;
+
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.polypheny.simpleclient.query.Query;
+import org.polypheny.simpleclient.query.QueryBuilder;
+
+
+/**
+ * Measures the query builders of a scenario. The builder to use is selected by the {@code builder} parameter of the
+ * subclasses. The string construction benchmarks of the subclasses operate on a pool of pre-generated queries
+ * ({@link #nextQuery()}), so that they do not include the costs of the builder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public abstract class AbstractQueryBuilderBenchmark {
+
+    private static final int POOL_SIZE = 1024;
+
+    private final Function<Query, String> statementBuilder;
+
+    protected QueryBuilder queryBuilder;
+    protected StubExecutor executor;
+
+    private final Query[] pool = new Query[POOL_SIZE];
+    private int next = 0;
+
+
+    protected AbstractQueryBuilderBenchmark( Function<Query, String> statementBuilder ) {
+        this.statementBuilder = statementBuilder;
+    }
+
+
+    protected abstract QueryBuilder createQueryBuilder();
+
+
+    @Setup
+    public void setUp() {
+        queryBuilder = createQueryBuilder();
+        executor = new StubExecutor( statementBuilder );
+        for ( int i = 0; i < POOL_SIZE; i++ ) {
+            pool[i] = queryBuilder.getNewQuery();
+        }
+    }
+
+
+    protected Query nextQuery() {
+        Query query = pool[next];
+        next = (next + 1) % POOL_SIZE;
+        return query;
+    }
+
+
+    static Properties loadProperties( String resource ) {
+        Properties props = new Properties();
+        try {
+            props.load( Objects.requireNonNull( ClassLoader.getSystemResourceAsStream( resource ) ) );
+        } catch ( IOException e ) {
+            throw new RuntimeException( "Exception while reading properties file", e );
+        }
+        return props;
+    }
+
+
+    @Benchmark
+    public Query getNewQuery() {
+        return queryBuilder.getNewQuery();
+    }
+
+
+    /**
+     * Building a query and the statement sent for it, which is what an evaluation thread does for every query.
+     */
+    @Benchmark
+    public long buildAndExecute() {
+        return executor.executeQuery( queryBuilder.getNewQuery() );
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.jmh;
+
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.polypheny.simpleclient.query.Query;
+import org.polypheny.simpleclient.scenario.coms.ComsConfig;
+import org.polypheny.simpleclient.scenario.coms.simulation.NetworkGenerator;
+import org.polypheny.simpleclient.scenario.coms.simulation.NetworkGenerator.Network;
+
+
+/**
+ * Coms has no query builders; its queries are the result of simulating a run on the generated network.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ComsBenchmark {
+
+    private ComsConfig config;
+    private Network network;
+    private List<Query> queries;
+    private StubExecutor executor;
+
+
+    @Setup(Level.Trial)
+    public void setUpConfig() {
+        config = new ComsConfig( "polypheny", AbstractQueryBuilderBenchmark.loadProperties( "org/polypheny/simpleclient/scenario/coms/coms.properties" ), 1 );
+        // Routes the queries like the multi-model executor of Polypheny does
+        executor = new StubExecutor( query -> {
+            if ( query.getMongoQl() != null ) {
+                return query.getMongoQl();
+            } else if ( query.getCypher() != null ) {
+                return query.getCypher();
+            }
+            return query.getSql();
+        } );
+    }
+
+
+    // A simulated run changes the network, hence start every iteration with a freshly generated one
+    @Setup(Level.Iteration)
+    public void setUpNetwork() {
+        network = new NetworkGenerator( config ).network;
+        queries = network.simulateRun();
+    }
+
+
+    @Benchmark
+    public List<Query> simulateRun() {
+        return network.simulateRun();
+    }
+
+
+    @Benchmark
+    public long buildStatements() {
+        long time = 0;
+        for ( Query query : queries ) {
+            time += executor.executeQuery( query );
+        }
+        return time;
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.jmh;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.polypheny.simpleclient.query.Query;
+import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.scenario.docbench.DataGenerator;
+import org.polypheny.simpleclient.scenario.docbench.DocBenchConfig;
+import org.polypheny.simpleclient.scenario.docbench.queryBuilder.PutProductQueryBuilder;
+import org.polypheny.simpleclient.scenario.docbench.queryBuilder.SearchProductQueryBuilder;
+import org.polypheny.simpleclient.scenario.docbench.queryBuilder.UpdateProductQueryBuilder;
+
+
+public class DocBenchBenchmark extends AbstractQueryBuilderBenchmark {
+
+    @Param({ "SearchProductQueryBuilder", "UpdateProductQueryBuilder", "PutProductQueryBuilder" })
+    public String builder;
+
+
+    public DocBenchBenchmark() {
+        super( Query::getMongoQl );
+    }
+
+
+    @Override
+    protected QueryBuilder createQueryBuilder() {
+        DocBenchConfig config = new DocBenchConfig( loadProperties( "org/polypheny/simpleclient/scenario/docbench/docbench.properties" ), 1 );
+        Random random = new Random( config.seed );
+
+        // Same values pool as built by DocBench
+        List<String> valuesPool = new ArrayList<>();
+        for ( int i = 0; i < config.sizeOfValuesPool; i++ ) {
+            int stringLength = DataGenerator.boundedRandom( random, config.valuesStringMinLength, config.valuesStringMaxLength );
+            valuesPool.add( DataGenerator.randomString( random, stringLength ) );
+        }
+
+        switch ( builder ) {
+            case "SearchProductQueryBuilder":
+                return new SearchProductQueryBuilder( random, valuesPool, config );
+            case "UpdateProductQueryBuilder":
+                return new UpdateProductQueryBuilder( random, valuesPool, config );
+            case "PutProductQueryBuilder":
+                return new PutProductQueryBuilder( random, valuesPool, config );
+            default:
+                throw new RuntimeException( "Unknown query builder: " + builder );
+        }
+    }
+
+
+    @Benchmark
+    public String getMongoQl() {
+        return nextQuery().getMongoQl();
+    }
+
+}
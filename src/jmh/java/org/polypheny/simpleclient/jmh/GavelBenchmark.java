@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.jmh;
+
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.polypheny.simpleclient.QueryMode;
+import org.polypheny.simpleclient.query.Query;
+import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.scenario.gavel.GavelConfig;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.ChangePasswordOfRandomUser;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.ChangeRandomAuction;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.CountAuction;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.CountBid;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.InsertRandomAuction;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.InsertRandomBid;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.InsertUser;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.SearchAuction;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.SelectAllBidsOnRandomAuction;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.SelectHighestBidOnRandomAuction;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.SelectHighestOverallBid;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.SelectPriceBetweenAndNotInCategory;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.SelectRandomAuction;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.SelectRandomBid;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.SelectRandomUser;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.SelectTheHundredNextEndingAuctionsOfRandomCategory;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.SelectTopHundredSellerByNumberOfAuctions;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.SelectTopTenCitiesByNumberOfCustomers;
+
+
+public class GavelBenchmark extends AbstractQueryBuilderBenchmark {
+
+    // Roughly the table sizes of the default data set
+    private static final int NUMBER_OF_USERS = 1_000;
+    private static final int NUMBER_OF_CATEGORIES = 35;
+    private static final int NUMBER_OF_AUCTIONS = 10_000;
+    private static final int NUMBER_OF_BIDS = 100_000;
+
+    @Param({ "InsertUser", "ChangePasswordOfRandomUser", "InsertRandomAuction", "InsertRandomBid", "ChangeRandomAuction",
+            "SelectRandomAuction", "SelectTheHundredNextEndingAuctionsOfRandomCategory", "SearchAuction", "CountAuction",
+            "SelectTopTenCitiesByNumberOfCustomers", "CountBid", "SelectRandomBid", "SelectRandomUser",
+            "SelectAllBidsOnRandomAuction", "SelectHighestBidOnRandomAuction", "SelectHighestOverallBid",
+            "SelectTopHundredSellerByNumberOfAuctions", "SelectPriceBetweenAndNotInCategory" })
+    public String builder;
+
+    @Param({ "TABLE" })
+    public QueryMode queryMode;
+
+
+    public GavelBenchmark() {
+        super( Query::getSql );
+    }
+
+
+    @Override
+    protected QueryBuilder createQueryBuilder() {
+        GavelConfig config = new GavelConfig( loadProperties( "org/polypheny/simpleclient/scenario/gavel/gavel.properties" ), 1 );
+        switch ( builder ) {
+            case "InsertUser":
+                return new InsertUser();
+            case "ChangePasswordOfRandomUser":
+                return new ChangePasswordOfRandomUser( NUMBER_OF_USERS );
+            case "InsertRandomAuction":
+                return new InsertRandomAuction( NUMBER_OF_USERS, NUMBER_OF_CATEGORIES, config );
+            case "InsertRandomBid":
+                return new InsertRandomBid( NUMBER_OF_AUCTIONS, NUMBER_OF_USERS );
+            case "ChangeRandomAuction":
+                return new ChangeRandomAuction( NUMBER_OF_AUCTIONS, config );
+            case "SelectRandomAuction":
+                return new SelectRandomAuction( NUMBER_OF_AUCTIONS, queryMode );
+            case "SelectTheHundredNextEndingAuctionsOfRandomCategory":
+                return new SelectTheHundredNextEndingAuctionsOfRandomCategory( NUMBER_OF_CATEGORIES, config, queryMode );
+            case "SearchAuction":
+                return new SearchAuction( queryMode );
+            case "CountAuction":
+                return new CountAuction( queryMode );
+            case "SelectTopTenCitiesByNumberOfCustomers":
+                return new SelectTopTenCitiesByNumberOfCustomers( queryMode );
+            case "CountBid":
+                return new CountBid( queryMode );
+            case "SelectRandomBid":
+                return new SelectRandomBid( NUMBER_OF_BIDS, queryMode );
+            case "SelectRandomUser":
+                return new SelectRandomUser( NUMBER_OF_USERS, queryMode );
+            case "SelectAllBidsOnRandomAuction":
+                return new SelectAllBidsOnRandomAuction( NUMBER_OF_AUCTIONS, queryMode );
+            case "SelectHighestBidOnRandomAuction":
+                return new SelectHighestBidOnRandomAuction( NUMBER_OF_AUCTIONS, queryMode );
+            case "SelectHighestOverallBid":
+                return new SelectHighestOverallBid( queryMode );
+            case "SelectTopHundredSellerByNumberOfAuctions":
+                return new SelectTopHundredSellerByNumberOfAuctions( queryMode );
+            case "SelectPriceBetweenAndNotInCategory":
+                return new SelectPriceBetweenAndNotInCategory( queryMode );
+            default:
+                throw new RuntimeException( "Unknown query builder: " + builder );
+        }
+    }
+
+
+    @Benchmark
+    public String getSql() {
+        return nextQuery().getSql();
+    }
+
+
+    @Benchmark
+    public String getMongoQl() {
+        return nextQuery().getMongoQl();
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.jmh;
+
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.polypheny.simpleclient.query.Query;
+import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.scenario.graph.GraphBenchConfig;
+import org.polypheny.simpleclient.scenario.graph.queryBuilder.CountNodePropertyBuilder;
+import org.polypheny.simpleclient.scenario.graph.queryBuilder.DeleteNodeBuilder;
+import org.polypheny.simpleclient.scenario.graph.queryBuilder.DifferentPathsBuilder;
+import org.polypheny.simpleclient.scenario.graph.queryBuilder.EdgeLabelMatchBuilder;
+import org.polypheny.simpleclient.scenario.graph.queryBuilder.FindNeighborsBuilder;
+import org.polypheny.simpleclient.scenario.graph.queryBuilder.NodeFilterBuilder;
+import org.polypheny.simpleclient.scenario.graph.queryBuilder.RelatedInsertBuilder;
+import org.polypheny.simpleclient.scenario.graph.queryBuilder.SetPropertyBuilder;
+import org.polypheny.simpleclient.scenario.graph.queryBuilder.ShortestPathBuilder;
+import org.polypheny.simpleclient.scenario.graph.queryBuilder.UnwindBuilder;
+
+
+public class GraphBenchBenchmark extends AbstractQueryBuilderBenchmark {
+
+    @Param({ "CountNodePropertyBuilder", "EdgeLabelMatchBuilder", "FindNeighborsBuilder", "UnwindBuilder", "NodeFilterBuilder",
+            "DifferentPathsBuilder", "ShortestPathBuilder", "SetPropertyBuilder", "RelatedInsertBuilder", "DeleteNodeBuilder" })
+    public String builder;
+
+
+    public GraphBenchBenchmark() {
+        super( Query::getCypher );
+    }
+
+
+    @Override
+    protected QueryBuilder createQueryBuilder() {
+        GraphBenchConfig config = new GraphBenchConfig( loadProperties( "org/polypheny/simpleclient/scenario/graph/graph.properties" ), 1 );
+        switch ( builder ) {
+            case "CountNodePropertyBuilder":
+                return new CountNodePropertyBuilder( config );
+            case "EdgeLabelMatchBuilder":
+                return new EdgeLabelMatchBuilder( config );
+            case "FindNeighborsBuilder":
+                return new FindNeighborsBuilder( config );
+            case "UnwindBuilder":
+                return new UnwindBuilder( config );
+            case "NodeFilterBuilder":
+                return new NodeFilterBuilder( config );
+            case "DifferentPathsBuilder":
+                return new DifferentPathsBuilder( config );
+            case "ShortestPathBuilder":
+                return new ShortestPathBuilder( config );
+            case "SetPropertyBuilder":
+                return new SetPropertyBuilder( config );
+            case "RelatedInsertBuilder":
+                return new RelatedInsertBuilder( config );
+            case "DeleteNodeBuilder":
+                return new DeleteNodeBuilder( config );
+            default:
+                throw new RuntimeException( "Unknown query builder: " + builder );
+        }
+    }
+
+
+    @Benchmark
+    public String getCypher() {
+        return nextQuery().getCypher();
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.jmh;
+
+
+import com.google.gson.JsonObject;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.polypheny.simpleclient.executor.ExecutorException;
+import org.polypheny.simpleclient.query.BatchableInsert;
+import org.polypheny.simpleclient.query.Query;
+import org.polypheny.simpleclient.query.RestRequest;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.InsertBid;
+import org.polypheny.simpleclient.scenario.gavel.queryBuilder.InsertUser;
+
+
+/**
+ * Measures building the batched inserts used during data generation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InsertBenchmark {
+
+    @Param({ "user", "bid" })
+    public String entity;
+
+    @Param({ "1", "100", "1000" })
+    public int batchSize;
+
+    private List<BatchableInsert> batch;
+    private StubExecutor executor;
+
+
+    @Setup
+    public void setUp() {
+        Random random = new Random( 42 );
+        InsertUser insertUser = new InsertUser();
+        batch = new ArrayList<>( batchSize );
+        for ( int i = 0; i < batchSize; i++ ) {
+            switch ( entity ) {
+                case "user":
+                    batch.add( insertUser.getNewQuery() );
+                    break;
+                case "bid":
+                    batch.add( new InsertBid( random.nextInt( 10_000 ), random.nextInt( 1_000 ), random.nextInt( 100_000 ), LocalDateTime.now() ).getNewQuery() );
+                    break;
+                default:
+                    throw new RuntimeException( "Unknown entity: " + entity );
+            }
+        }
+        executor = new StubExecutor( Query::getSql );
+    }
+
+
+    @Benchmark
+    public void getMongoQlRowExpression( Blackhole blackhole ) {
+        for ( BatchableInsert insert : batch ) {
+            blackhole.consume( insert.getMongoQlRowExpression() );
+        }
+    }
+
+
+    @Benchmark
+    public long executeInsertListAsMultiInsert() throws ExecutorException {
+        executor.executeMultiInsert( batch );
+        return executor.getConsumedCharacters();
+    }
+
+
+    @Benchmark
+    public RestRequest buildRestInsert() {
+        List<JsonObject> rows = new ArrayList<>( batch.size() );
+        for ( BatchableInsert insert : batch ) {
+            rows.add( insert.getRestRowExpression() );
+        }
+        return Query.buildRestInsert( batch.getFirst().getEntity(), rows );
+    }
+
+}
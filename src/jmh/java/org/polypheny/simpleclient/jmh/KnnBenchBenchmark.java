@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.jmh;
+
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.polypheny.simpleclient.query.Query;
+import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.scenario.knnbench.KnnBenchConfig;
+import org.polypheny.simpleclient.scenario.knnbench.queryBuilder.MetadataKnnIntFeature;
+import org.polypheny.simpleclient.scenario.knnbench.queryBuilder.MetadataKnnRealFeature;
+import org.polypheny.simpleclient.scenario.knnbench.queryBuilder.SimpleKnnIdIntFeature;
+import org.polypheny.simpleclient.scenario.knnbench.queryBuilder.SimpleKnnIdRealFeature;
+import org.polypheny.simpleclient.scenario.knnbench.queryBuilder.SimpleKnnIntFeature;
+import org.polypheny.simpleclient.scenario.knnbench.queryBuilder.SimpleKnnRealFeature;
+import org.polypheny.simpleclient.scenario.knnbench.queryBuilder.SimpleMetadata;
+
+
+public class KnnBenchBenchmark extends AbstractQueryBuilderBenchmark {
+
+    @Param({ "SimpleKnnIntFeature", "SimpleKnnRealFeature", "SimpleMetadata", "SimpleKnnIdIntFeature", "SimpleKnnIdRealFeature",
+            "MetadataKnnIntFeature", "MetadataKnnRealFeature" })
+    public String builder;
+
+
+    public KnnBenchBenchmark() {
+        super( Query::getSql );
+    }
+
+
+    @Override
+    protected QueryBuilder createQueryBuilder() {
+        KnnBenchConfig config = new KnnBenchConfig( loadProperties( "org/polypheny/simpleclient/scenario/knnbench/knn.properties" ), 1 );
+        switch ( builder ) {
+            case "SimpleKnnIntFeature":
+                return new SimpleKnnIntFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm );
+            case "SimpleKnnRealFeature":
+                return new SimpleKnnRealFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm );
+            case "SimpleMetadata":
+                return new SimpleMetadata( config.randomSeedQuery, config.numberOfEntries );
+            case "SimpleKnnIdIntFeature":
+                return new SimpleKnnIdIntFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm );
+            case "SimpleKnnIdRealFeature":
+                return new SimpleKnnIdRealFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm );
+            case "MetadataKnnIntFeature":
+                return new MetadataKnnIntFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm );
+            case "MetadataKnnRealFeature":
+                return new MetadataKnnRealFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm );
+            default:
+                throw new RuntimeException( "Unknown query builder: " + builder );
+        }
+    }
+
+
+    @Benchmark
+    public String getSql() {
+        return nextQuery().getSql();
+    }
+
+}
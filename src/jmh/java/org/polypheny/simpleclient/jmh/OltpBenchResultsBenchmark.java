@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.jmh;
+
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.polypheny.simpleclient.scenario.oltpbench.OltpBenchResults;
+
+
+/**
+ * Measures parsing the raw results of an OLTPBench run; run with {@code -prof gc} to verify that the allocation does
+ * not grow with the number of lines.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OltpBenchResultsBenchmark {
+
+    private static final String[] TRANSACTION_NAMES = { "NewOrder", "Payment", "OrderStatus", "Delivery", "StockLevel" };
+
+    @Param({ "1000000" })
+    public int numberOfLines;
+
+    private byte[] csv;
+
+
+    @Setup
+    public void setUp() {
+        Random random = new Random( 42 );
+        StringBuilder sb = new StringBuilder( "Transaction Type Index,Transaction Name,Start Time (microseconds),Latency (microseconds),Worker Id,Phase Id\n" );
+        for ( int i = 0; i < numberOfLines; i++ ) {
+            int type = random.nextInt( TRANSACTION_NAMES.length );
+            sb.append( type + 1 ).append( ',' ).append( TRANSACTION_NAMES[type] ).append( ',' )
+                    .append( String.format( Locale.ROOT, "%10.6f", i / 10_000.0 ) ).append( ',' )
+                    .append( 500 + random.nextInt( 100_000 ) ).append( ',' ).append( i % 16 ).append( ",0\n" );
+        }
+        csv = sb.toString().getBytes( StandardCharsets.UTF_8 );
+    }
+
+
+    @Benchmark
+    public long parse() throws IOException {
+        OltpBenchResults results = new OltpBenchResults();
+        results.parse( new ByteArrayInputStream( csv ) );
+        return results.getLatency().getTotalCount();
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.jmh;
+
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.Getter;
+import org.polypheny.simpleclient.executor.ExecutorException;
+import org.polypheny.simpleclient.executor.JdbcExecutor;
+import org.polypheny.simpleclient.query.BatchableInsert;
+import org.polypheny.simpleclient.query.Query;
+
+
+/**
+ * In-process executor which only builds the text of the statements it is asked to execute. This allows to measure
+ * the share of the client in the latency without any database or network involved.
+ */
+public class StubExecutor extends JdbcExecutor {
+
+    // Builds the statement for the query language of the simulated interface, e.g. Query::getSql
+    private final Function<Query, String> statementBuilder;
+
+    @Getter
+    private long consumedCharacters = 0;
+
+
+    public StubExecutor( Function<Query, String> statementBuilder ) {
+        super( null, false );
+        this.statementBuilder = statementBuilder;
+    }
+
+
+    @Override
+    public void reset() {
+        consumedCharacters = 0;
+    }
+
+
+    @Override
+    public long executeQuery( Query query ) {
+        long start = System.nanoTime();
+        String text = statementBuilder.apply( query );
+        if ( text != null ) {
+            consumedCharacters += text.length();
+        }
+        return System.nanoTime() - start;
+    }
+
+
+    @Override
+    public long executeQueryAndGetNumber( Query query ) {
+        executeQuery( query );
+        return 0;
+    }
+
+
+    @Override
+    public void executeCommit() {
+        // Nothing to commit
+    }
+
+
+    @Override
+    public void executeRollback() {
+        // Nothing to roll back
+    }
+
+
+    @Override
+    public void closeConnection() {
+        // There is no connection
+    }
+
+
+    /**
+     * Builds the multi-row INSERT statement for the batch like {@link JdbcExecutor} does during data generation.
+     */
+    public void executeMultiInsert( List<BatchableInsert> batch ) throws ExecutorException {
+        executeInsertListAsMultiInsert( batch );
+    }
+
+}
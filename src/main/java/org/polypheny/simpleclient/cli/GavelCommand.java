@@ -34,6 +34,7 @@ import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.polypheny.simpleclient.QueryMode;
 import org.polypheny.simpleclient.executor.Executor.ExecutorFactory;
+import org.polypheny.simpleclient.executor.JdbcExecutor;
 import org.polypheny.simpleclient.executor.PolyphenyDbJdbcExecutor.PolyphenyDbJdbcExecutorFactory;
 import org.polypheny.simpleclient.executor.PolyphenyDbMongoQlExecutor.PolyphenyDbMongoQlExecutorFactory;
 import org.polypheny.simpleclient.executor.PolyphenyDbRestExecutor.PolyphenyDbRestExecutorFactory;
@@ -59,6 +60,15 @@ public class GavelCommand implements CliRunnable {
     @Option(name = { "--mongoql" }, arity = 0, description = "Use MongoQL instead of SQL (default: false).")
     public static boolean mongoQlInterface = false;
 
+    @Option(name = { "--fetchSize" }, title = "Rows", arity = 1, description = "Fetch size of the JDBC result sets (default: 100).")
+    public int fetchSize = JdbcExecutor.DEFAULT_FETCH_SIZE;
+
+    @Option(name = { "--statementCacheSize" }, title = "Statements", arity = 1, description = "Number of prepared statements kept open per connection (default: 256).")
+    public int statementCacheSize = JdbcExecutor.DEFAULT_STATEMENT_CACHE_SIZE;
+
+    @Option(name = { "--resultConsumption" }, title = "Mode", arity = 1, description = "How result sets are consumed: count, decode or checksum (default: count).")
+    public String resultConsumption = "count";
+
     @Option(name = { "--writeCSV" }, arity = 0, description = "Write a CSV file containing execution times for all executed queries (default: false).")
     public boolean writeCsv = false;
 
@@ -100,7 +110,7 @@ public class GavelCommand implements CliRunnable {
         } else if ( restInterface ) {
             executorFactory = new PolyphenyDbRestExecutorFactory( polyphenyDbHost );
         } else {
-            executorFactory = new PolyphenyDbJdbcExecutorFactory( polyphenyDbHost, true );
+            executorFactory = new PolyphenyDbJdbcExecutorFactory( polyphenyDbHost, true, statementCacheSize, fetchSize, JdbcExecutor.parseResultConsumption( resultConsumption ) );
         }
 
         try {
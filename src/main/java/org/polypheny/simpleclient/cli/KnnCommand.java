@@ -33,6 +33,8 @@ import java.sql.SQLException;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.polypheny.simpleclient.executor.Executor.ExecutorFactory;
+import org.polypheny.simpleclient.executor.JdbcExecutor;
+import org.polypheny.simpleclient.executor.JdbcExecutor.ResultConsumption;
 import org.polypheny.simpleclient.executor.PolyphenyDbJdbcExecutor.PolyphenyDbJdbcExecutorFactory;
 import org.polypheny.simpleclient.main.KnnBenchScenario;
 
@@ -52,6 +54,14 @@ public class KnnCommand implements CliRunnable {
     public static String polyphenyDbHost = "127.0.0.1";
 
 
+    @Option(name = { "--prepareStatements" }, arity = 0, description = "Execute the queries as parameterized prepared statements (default: false).")
+    public boolean prepareStatements = false;
+
+
+    @Option(name = { "--statementCacheSize" }, title = "Statements", arity = 1, description = "Number of prepared statements kept open per connection (default: 256).")
+    public int statementCacheSize = JdbcExecutor.DEFAULT_STATEMENT_CACHE_SIZE;
+
+
     @Option(name = { "--writeCSV" }, arity = 0, description = "Write a CSV file containing execution times for all executed queries (default: false).")
     public boolean writeCsv = false;
 
@@ -78,7 +88,7 @@ public class KnnCommand implements CliRunnable {
         }
 
         ExecutorFactory executorFactory;
-        executorFactory = new PolyphenyDbJdbcExecutorFactory( polyphenyDbHost, false );
+        executorFactory = new PolyphenyDbJdbcExecutorFactory( polyphenyDbHost, prepareStatements, statementCacheSize, JdbcExecutor.DEFAULT_FETCH_SIZE, ResultConsumption.COUNT );
 
         try {
             if ( args.getFirst().equalsIgnoreCase( "data" ) ) {
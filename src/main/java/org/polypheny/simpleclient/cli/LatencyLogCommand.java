@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.cli;
+
+import com.github.rvesse.airline.HelpOption;
+import com.github.rvesse.airline.annotations.AirlineModule;
+import com.github.rvesse.airline.annotations.Arguments;
+import com.github.rvesse.airline.annotations.Command;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.polypheny.simpleclient.main.CsvWriter;
+
+
+@Slf4j
+@Command(name = "latencylog", description = "Convert a binary latency log (results.bin) to CSV.")
+public class LatencyLogCommand implements CliRunnable {
+
+    @AirlineModule
+    private HelpOption<LatencyLogCommand> help;
+
+    @Arguments(description = "Binary latency log and (optionally) the CSV file to write")
+    private List<String> args;
+
+
+    @Override
+    public int run() {
+        if ( args == null || args.isEmpty() || args.size() > 2 ) {
+            System.err.println( "Missing binary latency log" );
+            System.exit( 1 );
+        }
+        File input = new File( args.get( 0 ) );
+        File output;
+        if ( args.size() == 2 ) {
+            output = new File( args.get( 1 ) );
+        } else {
+            String name = input.getName().endsWith( ".bin" ) ? input.getName().substring( 0, input.getName().length() - 4 ) : input.getName();
+            output = new File( input.getAbsoluteFile().getParentFile(), name + ".csv" );
+        }
+
+        try {
+            CsvWriter.convertToCsv( input, output );
+        } catch ( IOException e ) {
+            log.error( "Exception while converting latency log", e );
+            return 1;
+        }
+        return 0;
+    }
+
+}
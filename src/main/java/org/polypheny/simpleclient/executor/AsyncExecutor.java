@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.executor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import kong.unirest.core.HttpRequest;
+import org.polypheny.simpleclient.main.CsvWriter;
+import org.polypheny.simpleclient.query.Query;
+
+
+/**
+ * Executor which is able to dispatch queries without waiting for their result. This allows to keep several requests
+ * outstanding per client.
+ */
+public interface AsyncExecutor extends Executor {
+
+    /**
+     * Sends the query without waiting for the response. The returned future completes with the time (in nanoseconds)
+     * it took until the response has been received. Queries which cannot be sent asynchronously are executed
+     * synchronously and a completed future is returned.
+     *
+     * @param templateId Template of the query, recorded in the latency log; the response is not received on the
+     * calling thread and the template id set using {@link CsvWriter#setCurrentTemplateId} is therefore not available
+     */
+    CompletableFuture<Long> executeQueryAsync( Query query, int templateId ) throws ExecutorException;
+
+
+    static CompletableFuture<Long> sendAsync( HttpRequest<?> request, String name, CsvWriter csvWriter, Supplier<String> csvEntry, int templateId ) {
+        long start = System.nanoTime();
+        return request.asBytesAsync().thenApply( result -> {
+            long time = System.nanoTime() - start;
+            if ( !result.isSuccess() ) {
+                throw new CompletionException( new ExecutorException( "Error while executing " + name + " query. Message: " + result.getStatusText() + "  |  URL: " + request.getUrl() ) );
+            }
+            if ( csvWriter != null ) {
+                csvWriter.appendToCsv( csvEntry, templateId, time );
+            }
+            return time;
+        } );
+    }
+
+}
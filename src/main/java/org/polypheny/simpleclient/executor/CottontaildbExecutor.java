@@ -306,7 +306,7 @@ public class CottontaildbExecutor implements Executor {
                 this.executeWrappedQuery( cottontailQuery, query.isExpectResultSet() );
                 time = System.nanoTime() - start;
                 if ( csvWriter != null ) {
-                    csvWriter.appendToCsv( wrapperToString( cottontailQuery ), time );
+                    csvWriter.appendToCsv( () -> wrapperToString( cottontailQuery ), time );
                 }
             } catch ( UnirestException e ) {
                 throw new ExecutorException( e );
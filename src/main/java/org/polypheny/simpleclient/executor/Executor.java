@@ -25,6 +25,7 @@
 package org.polypheny.simpleclient.executor;
 
 import java.util.List;
+import java.util.Properties;
 import org.polypheny.simpleclient.main.CsvWriter;
 import org.polypheny.simpleclient.query.BatchableInsert;
 import org.polypheny.simpleclient.query.Query;
@@ -72,6 +73,16 @@ public interface Executor {
         // Allows to limit number of concurrent executor threads, 0 means no limit
         public abstract int getMaxNumberOfThreads();
 
+
+        // Adds statistics of resources shared by the executors of this factory (e.g., HTTP clients) to the results
+        public void reportStatistics( Properties properties ) {
+        }
+
+
+        // Releases the resources shared by the executors of this factory
+        public void close() {
+        }
+
     }
 
 
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.executor;
+
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+
+/**
+ * Settings of the HTTP clients used by the executors of the HTTP-based interfaces.
+ */
+@Getter
+@Builder
+public class HttpClientSettings {
+
+    private final String host;
+    @Builder.Default
+    private final String protocol = "http";
+    // 0 uses the default port of the interface
+    @Builder.Default
+    private final int port = 0;
+
+    // Maximum number of concurrent requests (and hence connections) per client; 0 means no limit
+    @Builder.Default
+    private final int maxConnections = 0;
+    // Time (ms) idle connections are kept open; 0 keeps the default of the JDK HTTP client
+    @Builder.Default
+    private final long keepAlive = 0;
+    @Builder.Default
+    private final int connectTimeout = 10000;
+    // Timeout (ms) for receiving a response; 0 means no timeout
+    @Builder.Default
+    private final int requestTimeout = 0;
+    @Builder.Default
+    private final boolean http2 = false;
+
+
+    public static HttpClientSettings forHost( String host ) {
+        return HttpClientSettings.builder().host( host ).build();
+    }
+
+
+    /**
+     * Reads the settings from the parameters of a job, falling back to the defaults for missing parameters.
+     */
+    public static HttpClientSettings fromJob( String host, Map<String, String> parameters ) {
+        return HttpClientSettings.builder()
+                .host( host )
+                .protocol( parameters.getOrDefault( "httpProtocol", "http" ) )
+                .port( Integer.parseInt( parameters.getOrDefault( "httpPort", "0" ) ) )
+                .maxConnections( Integer.parseInt( parameters.getOrDefault( "httpMaxConnections", "0" ) ) )
+                .keepAlive( Long.parseLong( parameters.getOrDefault( "httpKeepAlive", "0" ) ) )
+                .connectTimeout( Integer.parseInt( parameters.getOrDefault( "httpConnectTimeout", "10000" ) ) )
+                .requestTimeout( Integer.parseInt( parameters.getOrDefault( "httpRequestTimeout", "0" ) ) )
+                .http2( Boolean.parseBoolean( parameters.getOrDefault( "http2", "false" ) ) )
+                .build();
+    }
+
+}
@@ -28,20 +28,29 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.file.Files;
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Time;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.main.CsvWriter;
@@ -60,13 +69,57 @@ public abstract class JdbcExecutor implements Executor {
 
     protected final CsvWriter csvWriter;
 
+    public static final int DEFAULT_FETCH_SIZE = 100;
+
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 256;
+
     protected final boolean prepareStatements;
-    protected final Map<String, PreparedStatement> preparedStatements = new HashMap<>();
+    // LRU cache of the prepared statements of this connection, keyed by the parameterized SQL
+    protected final Map<String, PreparedStatement> preparedStatements = new LinkedHashMap<>( 16, 0.75f, true ) {
+        @Override
+        protected boolean removeEldestEntry( Map.Entry<String, PreparedStatement> eldest ) {
+            if ( size() > statementCacheSize ) {
+                closeStatement( eldest.getValue() );
+                return true;
+            }
+            return false;
+        }
+    };
+    @Getter
+    private long statementCacheHits;
+    @Getter
+    private long statementCacheMisses;
+    // Hits and misses of all connections closed since the last reset
+    private static final AtomicLong TOTAL_STATEMENT_CACHE_HITS = new AtomicLong();
+    private static final AtomicLong TOTAL_STATEMENT_CACHE_MISSES = new AtomicLong();
+
+    // Maximum number of prepared statements kept open per connection
+    protected final int statementCacheSize;
+    protected final int fetchSize;
+    @Getter
+    protected final ResultConsumption resultConsumption;
+
+    // Rows and bytes (of the decoded values) fetched by the last query
+    @Getter
+    private long lastFetchedRows;
+    @Getter
+    private long lastFetchedBytes;
+    // Folds in all values if the results are consumed using ResultConsumption.CHECKSUM
+    @Getter
+    private long checksum;
 
 
     public JdbcExecutor( CsvWriter csvWriter, boolean prepareStatements ) {
+        this( csvWriter, prepareStatements, DEFAULT_STATEMENT_CACHE_SIZE, DEFAULT_FETCH_SIZE, ResultConsumption.COUNT );
+    }
+
+
+    public JdbcExecutor( CsvWriter csvWriter, boolean prepareStatements, int statementCacheSize, int fetchSize, ResultConsumption resultConsumption ) {
         this.csvWriter = csvWriter;
         this.prepareStatements = prepareStatements;
+        this.statementCacheSize = statementCacheSize;
+        this.fetchSize = fetchSize;
+        this.resultConsumption = resultConsumption;
     }
 
 
@@ -78,15 +131,12 @@ public abstract class JdbcExecutor implements Executor {
     public long executeQuery( Query query ) throws ExecutorException {
         try {
             ArrayList<File> files = new ArrayList<>();
+            lastFetchedRows = 0;
+            lastFetchedBytes = 0;
             long start = System.nanoTime();
 
             if ( prepareStatements && query.getParameterizedSqlQuery() != null ) {
-                if ( !preparedStatements.containsKey( query.getClass().getCanonicalName() ) ) {
-                    PreparedStatement statement = connection.prepareStatement( query.getParameterizedSqlQuery() );
-                    preparedStatements.put( query.getClass().getCanonicalName(), statement );
-                }
-
-                PreparedStatement preparedStatement = preparedStatements.get( query.getClass().getCanonicalName() );
+                PreparedStatement preparedStatement = getPreparedStatement( query.getParameterizedSqlQuery() );
                 Map<Integer, ImmutablePair<DataTypes, Object>> values = query.getParameterValues();
                 for ( Entry<Integer, ImmutablePair<DataTypes, Object>> entry : values.entrySet() ) {
                     switch ( entry.getValue().left ) {
@@ -119,25 +169,13 @@ public abstract class JdbcExecutor implements Executor {
                     }
                 }
                 if ( query.isExpectResultSet() ) {
-                    ResultSet resultSet = preparedStatement.executeQuery();
-                    List<String> result = new ArrayList<>();
-                    while ( resultSet.next() ) {
-                        // walk through the whole result set
-                        result.add( resultSet.toString() );
-                    }
-                    log.debug( "Number of result rows: " + result.size() );
+                    consumeResultSet( preparedStatement.executeQuery() );
                 } else {
                     preparedStatement.execute();
                 }
             } else {
                 if ( query.isExpectResultSet() ) {
-                    ResultSet resultSet = executeStatement.executeQuery( query.getSql() );
-                    List<String> result = new ArrayList<>();
-                    while ( resultSet.next() ) {
-                        // walk through the whole result set
-                        result.add( resultSet.toString() );
-                    }
-                    log.debug( "Number of result rows: " + result.size() );
+                    consumeResultSet( executeStatement.executeQuery( query.getSql() ) );
                 } else {
                     executeStatement.execute( query.getSql() );
                 }
@@ -146,7 +184,7 @@ public abstract class JdbcExecutor implements Executor {
             long time = System.nanoTime() - start;
             files.forEach( File::delete );
             if ( csvWriter != null ) {
-                csvWriter.appendToCsv( query.getSql(), time );
+                csvWriter.appendToCsv( query::getSql, time );
             }
             return time;
         } catch ( SQLException | FileNotFoundException e ) {
@@ -156,6 +194,145 @@ public abstract class JdbcExecutor implements Executor {
     }
 
 
+    /**
+     * Returns the cached prepared statement for this SQL, preparing it on a miss. Keyed by statement rather than by
+     * query class, since one class (e.g. a compiled query) can represent several statements.
+     */
+    protected PreparedStatement getPreparedStatement( String parameterizedSql ) throws SQLException {
+        PreparedStatement statement = preparedStatements.get( parameterizedSql );
+        if ( statement == null ) {
+            statementCacheMisses++;
+            statement = connection.prepareStatement( parameterizedSql );
+            statement.setFetchSize( fetchSize );
+            preparedStatements.put( parameterizedSql, statement );
+        } else {
+            statementCacheHits++;
+        }
+        return statement;
+    }
+
+
+    private void closeStatement( PreparedStatement statement ) {
+        try {
+            statement.close();
+        } catch ( SQLException e ) {
+            log.warn( "Exception while closing prepared statement", e );
+        }
+    }
+
+
+    /**
+     * Walks through the whole result set. Depending on the {@link ResultConsumption}, the values are decoded or
+     * additionally folded into the {@link #getChecksum() checksum}.
+     */
+    protected void consumeResultSet( ResultSet resultSet ) throws SQLException {
+        long rows = 0;
+        long bytes = 0;
+        if ( resultConsumption == ResultConsumption.COUNT ) {
+            while ( resultSet.next() ) {
+                rows++;
+            }
+        } else {
+            boolean checksum = resultConsumption == ResultConsumption.CHECKSUM;
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            int columnCount = metaData.getColumnCount();
+            int[] columnTypes = new int[columnCount + 1];
+            for ( int i = 1; i <= columnCount; i++ ) {
+                columnTypes[i] = metaData.getColumnType( i );
+            }
+            long hash = this.checksum;
+            while ( resultSet.next() ) {
+                rows++;
+                for ( int i = 1; i <= columnCount; i++ ) {
+                    long value;
+                    switch ( columnTypes[i] ) {
+                        case Types.TINYINT:
+                        case Types.SMALLINT:
+                        case Types.INTEGER:
+                            value = resultSet.getInt( i );
+                            bytes += 4;
+                            break;
+                        case Types.BIGINT:
+                            value = resultSet.getLong( i );
+                            bytes += 8;
+                            break;
+                        case Types.REAL:
+                        case Types.FLOAT:
+                        case Types.DOUBLE:
+                            value = Double.doubleToRawLongBits( resultSet.getDouble( i ) );
+                            bytes += 8;
+                            break;
+                        case Types.BOOLEAN:
+                        case Types.BIT:
+                            value = resultSet.getBoolean( i ) ? 1 : 0;
+                            bytes += 1;
+                            break;
+                        case Types.DECIMAL:
+                        case Types.NUMERIC:
+                            BigDecimal decimal = resultSet.getBigDecimal( i );
+                            value = decimal == null ? 0 : decimal.hashCode();
+                            bytes += decimal == null ? 0 : decimal.unscaledValue().bitLength() / 8 + 1;
+                            break;
+                        case Types.DATE:
+                            Date date = resultSet.getDate( i );
+                            value = date == null ? 0 : date.getTime();
+                            bytes += 4;
+                            break;
+                        case Types.TIME:
+                            Time time = resultSet.getTime( i );
+                            value = time == null ? 0 : time.getTime();
+                            bytes += 8;
+                            break;
+                        case Types.TIMESTAMP:
+                            Timestamp timestamp = resultSet.getTimestamp( i );
+                            value = timestamp == null ? 0 : timestamp.getTime();
+                            bytes += 8;
+                            break;
+                        case Types.BINARY:
+                        case Types.VARBINARY:
+                        case Types.LONGVARBINARY:
+                        case Types.BLOB:
+                            byte[] binary = resultSet.getBytes( i );
+                            value = checksum && binary != null ? Arrays.hashCode( binary ) : 0;
+                            bytes += binary == null ? 0 : binary.length;
+                            break;
+                        case Types.ARRAY:
+                            Array array = resultSet.getArray( i );
+                            value = 0;
+                            if ( array != null ) {
+                                // Drivers may return arrays of primitives, so they cannot be cast to Object[]
+                                Object elements = array.getArray();
+                                int length = java.lang.reflect.Array.getLength( elements );
+                                if ( checksum ) {
+                                    value = 1;
+                                    for ( int j = 0; j < length; j++ ) {
+                                        value = 31 * value + Objects.hashCode( java.lang.reflect.Array.get( elements, j ) );
+                                    }
+                                }
+                                bytes += 8L * length;
+                                array.free();
+                            }
+                            break;
+                        default:
+                            String str = resultSet.getString( i );
+                            value = checksum && str != null ? str.hashCode() : 0;
+                            bytes += str == null ? 0 : str.length();
+                            break;
+                    }
+                    hash = 31 * hash + value;
+                }
+            }
+            if ( checksum ) {
+                this.checksum = hash;
+            }
+        }
+        resultSet.close();
+        lastFetchedRows = rows;
+        lastFetchedBytes = bytes;
+        log.debug( "Number of result rows: " + rows );
+    }
+
+
     @Override
     public long executeQueryAndGetNumber( Query query ) throws ExecutorException {
         try {
@@ -198,6 +375,26 @@ public abstract class JdbcExecutor implements Executor {
     }
 
 
+    public static void resetStatementCacheStatistics() {
+        TOTAL_STATEMENT_CACHE_HITS.set( 0 );
+        TOTAL_STATEMENT_CACHE_MISSES.set( 0 );
+    }
+
+
+    /**
+     * Reports the hits and misses of the prepared statement caches of all connections closed since the last reset.
+     */
+    public static void reportStatementCacheStatistics( Properties properties ) {
+        long hits = TOTAL_STATEMENT_CACHE_HITS.get();
+        long misses = TOTAL_STATEMENT_CACHE_MISSES.get();
+        if ( hits + misses > 0 ) {
+            properties.put( "statementCacheHits", hits );
+            properties.put( "statementCacheMisses", misses );
+            properties.put( "statementCacheHitRatio", (double) hits / (hits + misses) );
+        }
+    }
+
+
     @Override
     public void closeConnection() throws ExecutorException {
         try {
@@ -207,6 +404,13 @@ public abstract class JdbcExecutor implements Executor {
             for ( PreparedStatement preparedStatement : preparedStatements.values() ) {
                 preparedStatement.close();
             }
+            if ( statementCacheHits + statementCacheMisses > 0 ) {
+                log.debug( "Prepared statement cache: {} hits, {} misses", statementCacheHits, statementCacheMisses );
+                TOTAL_STATEMENT_CACHE_HITS.addAndGet( statementCacheHits );
+                TOTAL_STATEMENT_CACHE_MISSES.addAndGet( statementCacheMisses );
+                statementCacheHits = 0;
+                statementCacheMisses = 0;
+            }
             if ( connection != null ) {
                 connection.close();
             }
@@ -230,7 +434,7 @@ public abstract class JdbcExecutor implements Executor {
 
     protected void executeInsertListAsPreparedBatch( List<BatchableInsert> queryList ) throws ExecutorException {
         try {
-            PreparedStatement preparedStatement = connection.prepareStatement( queryList.getFirst().getParameterizedSqlQuery() );
+            PreparedStatement preparedStatement = getPreparedStatement( queryList.getFirst().getParameterizedSqlQuery() );
             ArrayList<File> files = new ArrayList<>();
             for ( BatchableInsert insert : queryList ) {
                 Map<Integer, ImmutablePair<DataTypes, Object>> data = insert.getParameterValues();
@@ -267,7 +471,6 @@ public abstract class JdbcExecutor implements Executor {
                 preparedStatement.addBatch();
             }
             preparedStatement.executeBatch();
-            preparedStatement.close();
             files.forEach( File::delete );
         } catch ( SQLException | IOException e ) {
             throw new ExecutorException( e );
@@ -294,6 +497,21 @@ public abstract class JdbcExecutor implements Executor {
     }
 
 
+    public static ResultConsumption parseResultConsumption( String str ) {
+        switch ( str.trim().toLowerCase() ) {
+            case "count":
+                return ResultConsumption.COUNT;
+            case "decode":
+                return ResultConsumption.DECODE;
+            case "checksum":
+                return ResultConsumption.CHECKSUM;
+            default:
+                log.error( "Unknown result consumption '{}'. Supported values are 'count', 'decode' and 'checksum'.", str );
+                throw new RuntimeException( "Unknown result consumption '" + str + "'. Supported values are 'count', 'decode' and 'checksum'." );
+        }
+    }
+
+
     @Override
     public void flushCsvWriter() {
         if ( csvWriter != null ) {
@@ -305,4 +523,17 @@ public abstract class JdbcExecutor implements Executor {
         }
     }
 
+
+    /**
+     * How the result sets of queries are consumed.
+     */
+    public enum ResultConsumption {
+        // Only walk through the rows
+        COUNT,
+        // Decode every column into its Java type
+        DECODE,
+        // Decode every column and fold the values into a checksum
+        CHECKSUM
+    }
+
 }
@@ -30,8 +30,8 @@ import com.google.gson.JsonObject;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Properties;
 import kong.unirest.core.HttpRequest;
-import kong.unirest.core.Unirest;
 import lombok.extern.slf4j.Slf4j;
 import org.polypheny.simpleclient.main.CsvWriter;
 import org.polypheny.simpleclient.query.BatchableInsert;
@@ -45,8 +45,8 @@ import org.polypheny.simpleclient.scenario.AbstractConfig;
 public class PolyphenyDbCypherExecutor extends PolyphenyDbHttpExecutor {
 
 
-    public PolyphenyDbCypherExecutor( String host, CsvWriter csvWriter, String namespace ) {
-        super( "Cypher", Query::getCypher, host, csvWriter );
+    public PolyphenyDbCypherExecutor( PolyphenyDbHttpClient httpClient, PolyphenyDbJdbcExecutorPool jdbcPool, CsvWriter csvWriter, String namespace ) {
+        super( "Cypher", Query::getCypher, httpClient, jdbcPool, csvWriter );
         this.namespace = namespace;
     }
 
@@ -56,7 +56,7 @@ public class PolyphenyDbCypherExecutor extends PolyphenyDbHttpExecutor {
         JsonObject data = new JsonObject();
         data.addProperty( "query", query );
         data.addProperty( "database", namespace );
-        return Unirest.post( "{protocol}://{host}:{port}/cypher" )
+        return httpClient.post( "/cypher" )
                 .header( "Content-Type", "application/json" )
                 .body( data );
     }
@@ -99,11 +99,18 @@ public class PolyphenyDbCypherExecutor extends PolyphenyDbHttpExecutor {
 
     public static class PolyphenyDbCypherExecutorFactory extends ExecutorFactory {
 
-        private final String host;
+        private final PolyphenyDbHttpClient httpClient;
+        private final PolyphenyDbJdbcExecutorPool jdbcPool;
 
 
         public PolyphenyDbCypherExecutorFactory( String host ) {
-            this.host = host;
+            this( HttpClientSettings.forHost( host ), PolyphenyDbJdbcExecutorPool.DEFAULT_MAX_CONNECTIONS );
+        }
+
+
+        public PolyphenyDbCypherExecutorFactory( HttpClientSettings settings, int jdbcPoolSize ) {
+            this.httpClient = new PolyphenyDbHttpClient( settings, DEFAULT_PORT );
+            this.jdbcPool = PolyphenyDbJdbcExecutorPool.getShared( settings.getHost(), jdbcPoolSize );
         }
 
 
@@ -115,7 +122,7 @@ public class PolyphenyDbCypherExecutor extends PolyphenyDbHttpExecutor {
 
         @Override
         public PolyphenyDbCypherExecutor createExecutorInstance( CsvWriter csvWriter, String namespace ) {
-            return new PolyphenyDbCypherExecutor( host, csvWriter, namespace );
+            return new PolyphenyDbCypherExecutor( httpClient, jdbcPool, csvWriter, namespace );
         }
 
 
@@ -124,6 +131,18 @@ public class PolyphenyDbCypherExecutor extends PolyphenyDbHttpExecutor {
             return 0;
         }
 
+
+        @Override
+        public void reportStatistics( Properties properties ) {
+            httpClient.reportStatistics( properties, "cypher" );
+        }
+
+
+        @Override
+        public void close() {
+            httpClient.close();
+        }
+
     }
 
 }
@@ -49,6 +49,7 @@ import org.polypheny.simpleclient.executor.MonetdbExecutor.MonetdbInstance;
 import org.polypheny.simpleclient.executor.PolyphenyDbJdbcExecutor.PolyphenyDbJdbcExecutorFactory;
 import org.polypheny.simpleclient.executor.PostgresExecutor.PostgresInstance;
 import org.polypheny.simpleclient.scenario.AbstractConfig;
+import org.polypheny.simpleclient.scenario.MetricsTimeline;
 
 
 public interface PolyphenyDbExecutor extends Executor {
@@ -763,7 +764,12 @@ public interface PolyphenyDbExecutor extends Executor {
             log.info( "Start gather status data from Polypheny every " + intervalSeconds + " seconds." );
             Runnable statusGatherer = () -> {
                 try {
-                    statuses.add( gatherOnce() );
+                    PolyphenyStatus status = gatherOnce();
+                    statuses.add( status );
+                    // Put the reading on the timeline of the benchmark if one is currently executing
+                    MetricsTimeline.recordStatus( "currentMemory", status.currentMemory() );
+                    MetricsTimeline.recordStatus( "numOfActiveTrx", status.numOfActiveTrx() );
+                    MetricsTimeline.recordStatus( "monitoringQueueSize", status.monitoringQueueSize() );
                 } catch ( Exception e ) {
                     log.error( "Unable to gather status data from Polypheny", e );
                 }
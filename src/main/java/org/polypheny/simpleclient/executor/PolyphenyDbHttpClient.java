@@ -0,0 +1,187 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.executor;
+
+import java.io.File;
+import java.net.http.HttpClient.Version;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import kong.unirest.core.HttpRequest;
+import kong.unirest.core.HttpRequestWithBody;
+import kong.unirest.core.MultipartBody;
+import kong.unirest.core.Unirest;
+import kong.unirest.core.UnirestInstance;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.polypheny.simpleclient.query.RestRequest;
+
+
+/**
+ * HTTP client shared by the executors of one factory. Each client has its own Unirest instance and hence its own
+ * connection pool. The number of concurrent requests can be limited, which also bounds the number of connections.
+ */
+@Slf4j
+public class PolyphenyDbHttpClient {
+
+    private static final String KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+
+    @Getter
+    private final HttpClientSettings settings;
+    @Getter
+    private final int port;
+    private final String baseUrl;
+    private final UnirestInstance unirest;
+    private final Semaphore connections;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong waits = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+
+    public PolyphenyDbHttpClient( HttpClientSettings settings, int defaultPort ) {
+        this.settings = settings;
+        this.port = settings.getPort() > 0 ? settings.getPort() : defaultPort;
+        this.baseUrl = settings.getProtocol() + "://" + settings.getHost() + ":" + port;
+
+        if ( settings.getKeepAlive() > 0 && System.getProperty( KEEP_ALIVE_PROPERTY ) == null ) {
+            // The JDK HTTP client only supports a process-wide keep-alive timeout, which is read when the first client is created
+            System.setProperty( KEEP_ALIVE_PROPERTY, String.valueOf( Math.max( 1, TimeUnit.MILLISECONDS.toSeconds( settings.getKeepAlive() ) ) ) );
+        }
+        unirest = Unirest.spawnInstance();
+        unirest.config()
+                .connectTimeout( settings.getConnectTimeout() )
+                .version( settings.isHttp2() ? Version.HTTP_2 : Version.HTTP_1_1 );
+        if ( settings.getRequestTimeout() > 0 ) {
+            unirest.config().requestTimeout( settings.getRequestTimeout() );
+        }
+        connections = settings.getMaxConnections() > 0 ? new Semaphore( settings.getMaxConnections() ) : null;
+    }
+
+
+    public HttpRequestWithBody post( String path ) {
+        return unirest.post( baseUrl + path );
+    }
+
+
+    /**
+     * Builds the HTTP request for a request to the REST interface on the Unirest instance of this client.
+     */
+    public HttpRequest<?> request( RestRequest restRequest ) {
+        HttpRequestWithBody request = unirest.request( restRequest.getMethod().name(), baseUrl + restRequest.getPath() );
+        restRequest.getHeaders().forEach( request::header );
+        for ( ImmutablePair<String, Object> parameter : restRequest.getQueryParameters() ) {
+            request.queryString( parameter.getKey(), parameter.getValue() );
+        }
+        if ( restRequest.isMultipart() ) {
+            MultipartBody body = request.multiPartContent();
+            for ( Entry<String, Object> field : restRequest.getFields().entrySet() ) {
+                if ( field.getValue() instanceof File file ) {
+                    body.field( field.getKey(), file );
+                } else {
+                    body.field( field.getKey(), (String) field.getValue() );
+                }
+            }
+            return body;
+        } else if ( restRequest.getBody() != null ) {
+            return request.body( restRequest.getBody() );
+        }
+        return request;
+    }
+
+
+    /**
+     * Sends a request, waiting for a free connection if the maximum number of connections is in use.
+     */
+    public <T> T send( Supplier<T> call ) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            release();
+        }
+    }
+
+
+    public <T> CompletableFuture<T> sendAsync( Supplier<CompletableFuture<T>> call ) {
+        acquire();
+        try {
+            return call.get().whenComplete( ( result, throwable ) -> release() );
+        } catch ( RuntimeException e ) {
+            release();
+            throw e;
+        }
+    }
+
+
+    private void acquire() {
+        requests.incrementAndGet();
+        if ( connections != null && !connections.tryAcquire() ) {
+            long start = System.nanoTime();
+            connections.acquireUninterruptibly();
+            waits.incrementAndGet();
+            totalWaitNanos.addAndGet( System.nanoTime() - start );
+        }
+        peakInFlight.accumulateAndGet( inFlight.incrementAndGet(), Math::max );
+    }
+
+
+    private void release() {
+        inFlight.decrementAndGet();
+        if ( connections != null ) {
+            connections.release();
+        }
+    }
+
+
+    /**
+     * Adds the request statistics of this client with the given prefix. The JDK HTTP client does not expose its pool;
+     * with keep-alive, the peak number of concurrent requests bounds the number of connections which had to be opened.
+     */
+    public void reportStatistics( Properties properties, String prefix ) {
+        long n = requests.get();
+        properties.put( prefix + "_requests", n );
+        properties.put( prefix + "_peakConcurrentRequests", peakInFlight.get() );
+        // Not measured: assumes that at most one connection has been opened per concurrent request
+        properties.put( prefix + "_estimatedConnectionReuse", n == 0 ? 0 : Math.max( 0, n - peakInFlight.get() ) / (double) n );
+        properties.put( prefix + "_connectionWaits", waits.get() );
+        properties.put( prefix + "_connectionWaitTime", totalWaitNanos.get() / 1_000_000.0 );
+        log.info( "{} HTTP client: {} requests, peak {} concurrent, {} waited {} ms for a connection", prefix, n, peakInFlight.get(), waits.get(), totalWaitNanos.get() / 1_000_000.0 );
+    }
+
+
+    public void close() {
+        unirest.close();
+    }
+
+}
@@ -27,16 +27,15 @@ package org.polypheny.simpleclient.executor;
 import com.google.gson.JsonObject;
 import java.io.IOException;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import kong.unirest.core.HttpRequest;
 import kong.unirest.core.HttpResponse;
 import kong.unirest.core.JsonNode;
-import kong.unirest.core.Unirest;
 import kong.unirest.core.UnirestException;
 import kong.unirest.core.json.JSONArray;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.polypheny.simpleclient.executor.PolyphenyDbJdbcExecutor.PolyphenyDbJdbcExecutorFactory;
 import org.polypheny.simpleclient.main.CsvWriter;
 import org.polypheny.simpleclient.query.MultipartInsert;
 import org.polypheny.simpleclient.query.Query;
@@ -44,7 +43,7 @@ import org.polypheny.simpleclient.query.RawQuery;
 
 
 @Slf4j
-public abstract class PolyphenyDbHttpExecutor implements PolyphenyDbExecutor {
+public abstract class PolyphenyDbHttpExecutor implements PolyphenyDbExecutor, AsyncExecutor {
 
     @Getter
     public final String name;
@@ -55,14 +54,19 @@ public abstract class PolyphenyDbHttpExecutor implements PolyphenyDbExecutor {
     @Getter
     public final Function<Query, String> queryAccessor;
 
-    protected final PolyphenyDbJdbcExecutorFactory jdbcExecutorFactory;
+    // Default port of the HTTP interface of Polypheny
+    public static final int DEFAULT_PORT = 13137;
+
+    protected final PolyphenyDbHttpClient httpClient;
+    protected final PolyphenyDbJdbcExecutorPool jdbcPool;
     protected final CsvWriter csvWriter;
 
 
-    public PolyphenyDbHttpExecutor( String name, Function<Query, String> queryAccessor, String host, CsvWriter csvWriter ) {
+    public PolyphenyDbHttpExecutor( String name, Function<Query, String> queryAccessor, PolyphenyDbHttpClient httpClient, PolyphenyDbJdbcExecutorPool jdbcPool, CsvWriter csvWriter ) {
         this.name = name;
         this.queryAccessor = queryAccessor;
-        this.jdbcExecutorFactory = new PolyphenyDbJdbcExecutorFactory( host, false );
+        this.httpClient = httpClient;
+        this.jdbcPool = jdbcPool;
         this.csvWriter = csvWriter;
     }
 
@@ -87,64 +91,52 @@ public abstract class PolyphenyDbHttpExecutor implements PolyphenyDbExecutor {
 
     @Override
     public void dropStore( String name ) throws ExecutorException {
-        PolyphenyDbJdbcExecutor executor = null;
         try {
-            executor = jdbcExecutorFactory.createExecutorInstance( csvWriter );
-            executor.dropStore( name );
-            executor.executeCommit();
+            jdbcPool.execute( executor -> {
+                executor.dropStore( name );
+                return null;
+            } );
         } catch ( ExecutorException e ) {
             throw new ExecutorException( "Error while executing query via JDBC", e );
-        } finally {
-            PolyphenyDbJdbcExecutor.commitAndCloseJdbcExecutor( executor );
         }
     }
 
 
     @Override
     public void deployStore( String name, String clazz, String config ) throws ExecutorException {
-        PolyphenyDbJdbcExecutor executor = null;
         try {
-            executor = jdbcExecutorFactory.createExecutorInstance( csvWriter );
-            executor.deployStore( name, clazz, config );
-            executor.executeCommit();
+            jdbcPool.execute( executor -> {
+                executor.deployStore( name, clazz, config );
+                return null;
+            } );
         } catch ( ExecutorException e ) {
             throw new ExecutorException( "Error while executing query via JDBC", e );
-        } finally {
-            PolyphenyDbJdbcExecutor.commitAndCloseJdbcExecutor( executor );
         }
     }
 
 
     @Override
     public void deployAdapter( String name, String adapterIdentifier, String type, String config ) throws ExecutorException {
-        PolyphenyDbJdbcExecutor executor = null;
         try {
-            executor = jdbcExecutorFactory.createExecutorInstance( csvWriter );
-            executor.deployAdapter( name, adapterIdentifier, type, config );
-            executor.executeCommit();
+            jdbcPool.execute( executor -> {
+                executor.deployAdapter( name, adapterIdentifier, type, config );
+                return null;
+            } );
         } catch ( ExecutorException e ) {
             throw new ExecutorException( "Error while executing query via JDBC", e );
-        } finally {
-            PolyphenyDbJdbcExecutor.commitAndCloseJdbcExecutor( executor );
         }
     }
 
 
     @Override
     public void setConfig( String key, String value ) {
-        PolyphenyDbJdbcExecutor executor = null;
         try {
-            executor = jdbcExecutorFactory.createExecutorInstance( csvWriter );
-            executor.setConfig( key, value );
-            executor.executeCommit();
+            jdbcPool.execute( executor -> {
+                executor.setConfig( key, value );
+                return null;
+            } );
         } catch ( ExecutorException e ) {
             log.error( "Exception while setting config \"" + key + "\"!", e );
-        } finally {
-            try {
-                PolyphenyDbJdbcExecutor.commitAndCloseJdbcExecutor( executor );
-            } catch ( ExecutorException e ) {
-                log.error( "Exception while closing JDBC executor", e );
-            }
         }
     }
 
@@ -158,16 +150,17 @@ public abstract class PolyphenyDbHttpExecutor implements PolyphenyDbExecutor {
         }
         long time;
 
-        HttpRequest<?> request = getRequest( queryAccessor.apply( query ), namespace );
+        String queryString = queryAccessor.apply( query );
+        HttpRequest<?> request = getRequest( queryString, namespace );
         try {
             long start = System.nanoTime();
-            @SuppressWarnings("rawtypes") HttpResponse result = request.asBytes();
+            @SuppressWarnings("rawtypes") HttpResponse result = httpClient.send( request::asBytes );
             if ( !result.isSuccess() ) {
                 throw new ExecutorException( "Error while executing " + name + " query. Message: " + result.getStatusText() + "  |  URL: " + request.getUrl() );
             }
             time = System.nanoTime() - start;
             if ( csvWriter != null ) {
-                csvWriter.appendToCsv( queryAccessor.apply( query ), time );
+                csvWriter.appendToCsv( () -> queryString, time );
             }
         } catch ( UnirestException e ) {
             throw new ExecutorException( e );
@@ -177,12 +170,23 @@ public abstract class PolyphenyDbHttpExecutor implements PolyphenyDbExecutor {
     }
 
 
+    @Override
+    public CompletableFuture<Long> executeQueryAsync( Query query, int templateId ) throws ExecutorException {
+        if ( query instanceof MultipartInsert ) {
+            return CompletableFuture.completedFuture( executeQuery( query ) );
+        }
+        String queryString = queryAccessor.apply( query );
+        HttpRequest<?> request = getRequest( queryString, namespace );
+        return httpClient.sendAsync( () -> AsyncExecutor.sendAsync( request, name, csvWriter, () -> queryString, templateId ) );
+    }
+
+
     HttpRequest<?> buildQuery( String mql, String namespace ) {
         JsonObject data = new JsonObject();
         data.addProperty( "query", mql );
         data.addProperty( "database", namespace );
 
-        return Unirest.post( "{protocol}://{host}:{port}/" + name.toLowerCase( Locale.ROOT ) )
+        return httpClient.post( "/" + name.toLowerCase( Locale.ROOT ) )
                 .header( "Content-Type", "application/json" )
                 .body( data );
     }
@@ -191,9 +195,6 @@ public abstract class PolyphenyDbHttpExecutor implements PolyphenyDbExecutor {
     HttpRequest<?> getRequest( String query, String namespace ) {
         HttpRequest<?> request = buildQuery( query, namespace );
         request.basicAuth( "pa", "" );
-        request.routeParam( "protocol", "http" );
-        request.routeParam( "host", "127.0.0.1" );
-        request.routeParam( "port", "13137" );
         return request;
     }
 
@@ -209,12 +210,12 @@ public abstract class PolyphenyDbHttpExecutor implements PolyphenyDbExecutor {
 
         try {
             long start = System.nanoTime();
-            HttpResponse<JsonNode> result = request.asJson();
+            HttpResponse<JsonNode> result = httpClient.send( request::asJson );
             if ( !result.isSuccess() ) {
                 throw new ExecutorException( "Error while executing " + name + " query. Message: " + result.getStatusText() + "  |  URL: " + request.getUrl() );
             }
             if ( csvWriter != null ) {
-                csvWriter.appendToCsv( request.getUrl(), System.nanoTime() - start );
+                csvWriter.appendToCsv( request::getUrl, System.nanoTime() - start );
             }
             // Get result of a count query
             JSONArray res = result.getBody().getObject().getJSONArray( "data" );
@@ -27,7 +27,9 @@ package org.polypheny.simpleclient.executor;
 import java.lang.reflect.InvocationTargetException;
 import java.sql.Driver;
 import java.sql.SQLException;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.polypheny.simpleclient.main.CsvWriter;
 import org.polypheny.simpleclient.main.CustomClassLoader;
@@ -37,24 +39,18 @@ import org.polypheny.simpleclient.query.RawQuery;
 @Slf4j
 public class PolyphenyDbJdbcExecutor extends JdbcExecutor implements PolyphenyDbExecutor {
 
+    // Loading the driver using its own class loader is expensive, hence it is loaded only once
+    private static final Map<String, Driver> DRIVERS = new ConcurrentHashMap<>();
 
-    private PolyphenyDbJdbcExecutor( String polyphenyHost, CsvWriter csvWriter, boolean prepareStatements ) {
-        super( csvWriter, prepareStatements );
+
+    private PolyphenyDbJdbcExecutor( String polyphenyHost, CsvWriter csvWriter, boolean prepareStatements, int statementCacheSize, int fetchSize, ResultConsumption resultConsumption ) {
+        super( csvWriter, prepareStatements, statementCacheSize, fetchSize, resultConsumption );
 
         Driver driver;
-        try {
-            CustomClassLoader loader = new CustomClassLoader( ClassLoader.getSystemClassLoader() );
-            Class<?> driverClass;
-            if ( PolyphenyVersionSwitch.getInstance().usePrismJdbcDriver ) {
-                driverClass = Class.forName( "org.polypheny.jdbc.PolyphenyDriver", true, loader );
-            } else {
-                driverClass = Class.forName( "org.polypheny.jdbc.Driver", true, loader );
-            }
-            driver = (Driver) driverClass.getDeclaredConstructor().newInstance();
-        } catch ( ClassNotFoundException e ) {
-            throw new RuntimeException( "Driver not found.", e );
-        } catch ( InvocationTargetException | InstantiationException | IllegalAccessException | NoSuchMethodException e ) {
-            throw new RuntimeException( e );
+        if ( PolyphenyVersionSwitch.getInstance().usePrismJdbcDriver ) {
+            driver = getDriver( "org.polypheny.jdbc.PolyphenyDriver" );
+        } else {
+            driver = getDriver( "org.polypheny.jdbc.Driver" );
         }
 
         try {
@@ -71,13 +67,28 @@ public class PolyphenyDbJdbcExecutor extends JdbcExecutor implements PolyphenyDb
             connection.setAutoCommit( false );
 
             executeStatement = connection.createStatement();
-            executeStatement.setFetchSize( 100 );
+            executeStatement.setFetchSize( fetchSize );
         } catch ( SQLException e ) {
             throw new RuntimeException( "Connection failed.", e );
         }
     }
 
 
+    private static Driver getDriver( String driverClassName ) {
+        return DRIVERS.computeIfAbsent( driverClassName, name -> {
+            try {
+                CustomClassLoader loader = new CustomClassLoader( ClassLoader.getSystemClassLoader() );
+                Class<?> driverClass = Class.forName( name, true, loader );
+                return (Driver) driverClass.getDeclaredConstructor().newInstance();
+            } catch ( ClassNotFoundException e ) {
+                throw new RuntimeException( "Driver not found.", e );
+            } catch ( InvocationTargetException | InstantiationException | IllegalAccessException | NoSuchMethodException e ) {
+                throw new RuntimeException( e );
+            }
+        } );
+    }
+
+
     @Override
     public void reset() throws ExecutorException {
         throw new RuntimeException( "Unsupported operation" );
@@ -137,17 +148,28 @@ public class PolyphenyDbJdbcExecutor extends JdbcExecutor implements PolyphenyDb
 
         private final String host;
         private final boolean prepareStatements;
+        private final int statementCacheSize;
+        private final int fetchSize;
+        private final ResultConsumption resultConsumption;
 
 
         public PolyphenyDbJdbcExecutorFactory( String host, boolean prepareStatements ) {
+            this( host, prepareStatements, DEFAULT_STATEMENT_CACHE_SIZE, DEFAULT_FETCH_SIZE, ResultConsumption.COUNT );
+        }
+
+
+        public PolyphenyDbJdbcExecutorFactory( String host, boolean prepareStatements, int statementCacheSize, int fetchSize, ResultConsumption resultConsumption ) {
             this.host = host;
             this.prepareStatements = prepareStatements;
+            this.statementCacheSize = statementCacheSize;
+            this.fetchSize = fetchSize;
+            this.resultConsumption = resultConsumption;
         }
 
 
         @Override
         public PolyphenyDbJdbcExecutor createExecutorInstance( CsvWriter csvWriter ) {
-            return new PolyphenyDbJdbcExecutor( host, csvWriter, prepareStatements );
+            return new PolyphenyDbJdbcExecutor( host, csvWriter, prepareStatements, statementCacheSize, fetchSize, resultConsumption );
         }
 
 
@@ -0,0 +1,294 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.executor;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.polypheny.simpleclient.executor.PolyphenyDbJdbcExecutor.PolyphenyDbJdbcExecutorFactory;
+import org.polypheny.simpleclient.scenario.Scenario;
+
+
+/**
+ * Bounded pool of JDBC connections to Polypheny. Used by the executors of the other interfaces to execute queries and
+ * administrative statements they cannot express themselves, without connecting for every single statement.
+ */
+@Slf4j
+public class PolyphenyDbJdbcExecutorPool {
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 16;
+
+    // Connections idle for longer than this are validated before being handed out
+    private static final long VALIDATE_AFTER_IDLE_NANOS = TimeUnit.SECONDS.toNanos( 10 );
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private static final Map<String, PolyphenyDbJdbcExecutorPool> SHARED_POOLS = new ConcurrentHashMap<>();
+    // Time the current thread waited for connections since the last call of takeThreadWaitNanos()
+    private static final ThreadLocal<long[]> THREAD_WAIT_NANOS = ThreadLocal.withInitial( () -> new long[1] );
+
+    private final PolyphenyDbJdbcExecutorFactory executorFactory;
+    private final int maxConnections;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledExecutor> idle = new LinkedBlockingDeque<>();
+
+    private final AtomicLong borrowed = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    // Wait for a free connection per borrow; the evaluation threads exclude this wait from the measured query times
+    private final Histogram waitTimes = Scenario.createConcurrentLatencyHistogram();
+    private final AtomicBoolean exhausted = new AtomicBoolean();
+
+
+    public PolyphenyDbJdbcExecutorPool( PolyphenyDbJdbcExecutorFactory executorFactory, int maxConnections ) {
+        this.executorFactory = executorFactory;
+        this.maxConnections = maxConnections;
+        this.permits = new Semaphore( maxConnections, true );
+    }
+
+
+    /**
+     * Returns the pool shared by all executors connecting to this host. The size of the pool is taken from the first
+     * factory requesting a pool for this host.
+     */
+    public static PolyphenyDbJdbcExecutorPool getShared( String host, int maxConnections ) {
+        return SHARED_POOLS.computeIfAbsent( host, h -> new PolyphenyDbJdbcExecutorPool( new PolyphenyDbJdbcExecutorFactory( h, false ), maxConnections ) );
+    }
+
+
+    /**
+     * Borrows an executor, blocking while all connections are in use. The executor has to be handed back using
+     * {@link #release} (or {@link #invalidate} if it failed).
+     */
+    public PolyphenyDbJdbcExecutor borrow() throws ExecutorException {
+        long start = System.nanoTime();
+        if ( !permits.tryAcquire() ) {
+            if ( !exhausted.getAndSet( true ) ) {
+                log.warn( "All {} pooled JDBC connections are in use, waiting for a free one (see jdbcPoolSize)", maxConnections );
+            }
+            try {
+                permits.acquire();
+            } catch ( InterruptedException e ) {
+                throw new RuntimeException( "Unexpected interrupt", e );
+            }
+        }
+        long waitTime = System.nanoTime() - start;
+        THREAD_WAIT_NANOS.get()[0] += waitTime;
+        waitTimes.recordValue( waitTime );
+        totalWaitNanos.addAndGet( waitTime );
+        maxWaitNanos.accumulateAndGet( waitTime, Math::max );
+        borrowed.incrementAndGet();
+
+        try {
+            PooledExecutor pooled;
+            while ( (pooled = idle.pollFirst()) != null ) {
+                if ( System.nanoTime() - pooled.idleSince < VALIDATE_AFTER_IDLE_NANOS || isValid( pooled.executor ) ) {
+                    return pooled.executor;
+                }
+                log.debug( "Discarding broken pooled connection" );
+                close( pooled.executor );
+            }
+            created.incrementAndGet();
+            return executorFactory.createExecutorInstance( null );
+        } catch ( RuntimeException e ) {
+            permits.release();
+            throw new ExecutorException( "Unable to connect to Polypheny", e );
+        }
+    }
+
+
+    /**
+     * Runs the task on a pooled executor and commits. If the task fails, the connection is rolled back and discarded.
+     */
+    public <T> T execute( PooledTask<T> task ) throws ExecutorException {
+        PolyphenyDbJdbcExecutor executor = borrow();
+        T result;
+        try {
+            result = task.execute( executor );
+        } catch ( ExecutorException | RuntimeException e ) {
+            invalidate( executor );
+            throw e;
+        }
+        release( executor );
+        return result;
+    }
+
+
+    /**
+     * Commits the transaction of the executor and returns it to the pool.
+     */
+    public void release( PolyphenyDbJdbcExecutor executor ) throws ExecutorException {
+        if ( executor == null ) {
+            return;
+        }
+        try {
+            executor.executeCommit();
+            idle.offerFirst( new PooledExecutor( executor, System.nanoTime() ) );
+        } catch ( ExecutorException e ) {
+            try {
+                executor.executeRollback();
+            } catch ( ExecutorException ex ) {
+                log.error( "Error while rollback connection", e );
+            }
+            close( executor );
+            throw e;
+        } finally {
+            permits.release();
+        }
+    }
+
+
+    /**
+     * Rolls back and closes an executor which failed instead of returning it to the pool.
+     */
+    public void invalidate( PolyphenyDbJdbcExecutor executor ) {
+        if ( executor == null ) {
+            return;
+        }
+        try {
+            executor.executeRollback();
+        } catch ( ExecutorException e ) {
+            log.debug( "Error while rollback connection", e );
+        }
+        close( executor );
+        permits.release();
+    }
+
+
+    /**
+     * Returns the time the current thread waited for a free connection (of any pool) since the last call and resets it.
+     * Used by the evaluation threads to exclude this wait from the measured query times.
+     */
+    public static long takeThreadWaitNanos() {
+        long[] waitNanos = THREAD_WAIT_NANOS.get();
+        long nanos = waitNanos[0];
+        waitNanos[0] = 0;
+        return nanos;
+    }
+
+
+    /**
+     * Time spent waiting for a free connection, which is not part of the measured query times.
+     */
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.get();
+    }
+
+
+    public Histogram getWaitTimes() {
+        return waitTimes;
+    }
+
+
+    public void logStatistics() {
+        long n = borrowed.get();
+        if ( n > 0 ) {
+            log.info( "JDBC connection pool: {} borrows, {} connections opened, pool wait mean {} ms, max {} ms",
+                    n,
+                    created.get(),
+                    totalWaitNanos.get() / n / 1_000_000.0,
+                    maxWaitNanos.get() / 1_000_000.0 );
+        }
+    }
+
+
+    public void close() {
+        PooledExecutor pooled;
+        while ( (pooled = idle.pollFirst()) != null ) {
+            close( pooled.executor );
+        }
+        logStatistics();
+    }
+
+
+    /**
+     * Reports the time waited for a pooled connection (in ms) over all shared pools, so that it can be told apart from
+     * the time spent executing the queries.
+     */
+    public static void reportSharedStatistics( Properties properties ) {
+        Histogram waits = Scenario.createLatencyHistogram();
+        long total = 0;
+        int size = 0;
+        for ( PolyphenyDbJdbcExecutorPool pool : SHARED_POOLS.values() ) {
+            waits.add( pool.getWaitTimes() );
+            total += pool.getTotalWaitNanos();
+            size += pool.maxConnections;
+        }
+        properties.put( "jdbcPoolSize", size );
+        properties.put( "jdbcPoolWaitTime", total / 1_000_000.0 );
+        properties.put( "jdbcPoolWaits", waits.getTotalCount() );
+        if ( waits.getTotalCount() > 0 ) {
+            properties.put( "jdbcPoolWait_mean", waits.getMean() / 1_000_000.0 );
+            properties.put( "jdbcPoolWait_p99", waits.getValueAtPercentile( 99.0 ) / 1_000_000.0 );
+            properties.put( "jdbcPoolWait_max", waits.getMaxValue() / 1_000_000.0 );
+        }
+    }
+
+
+    public static void closeSharedPools() {
+        SHARED_POOLS.values().forEach( PolyphenyDbJdbcExecutorPool::close );
+        SHARED_POOLS.clear();
+    }
+
+
+    private boolean isValid( PolyphenyDbJdbcExecutor executor ) {
+        try {
+            return executor.connection.isValid( VALIDATION_TIMEOUT_SECONDS );
+        } catch ( SQLException e ) {
+            return false;
+        }
+    }
+
+
+    private void close( PolyphenyDbJdbcExecutor executor ) {
+        try {
+            executor.closeConnection();
+        } catch ( ExecutorException e ) {
+            log.debug( "Error while closing connection", e );
+        }
+    }
+
+
+    @FunctionalInterface
+    public interface PooledTask<T> {
+
+        T execute( PolyphenyDbJdbcExecutor executor ) throws ExecutorException;
+
+    }
+
+
+    private record PooledExecutor( PolyphenyDbJdbcExecutor executor, long idleSince ) {
+
+    }
+
+}
@@ -27,6 +27,7 @@ package org.polypheny.simpleclient.executor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Properties;
 import kong.unirest.core.HttpRequest;
 import kong.unirest.core.HttpResponse;
 import kong.unirest.core.JsonNode;
@@ -47,8 +48,8 @@ public class PolyphenyDbMongoQlExecutor extends PolyphenyDbHttpExecutor {
     public static final String DEFAULT_NAMESPACE = "test";
 
 
-    public PolyphenyDbMongoQlExecutor( String host, CsvWriter csvWriter, String namespace ) {
-        super( "Mongo", Query::getMongoQl, host, csvWriter );
+    public PolyphenyDbMongoQlExecutor( PolyphenyDbHttpClient httpClient, PolyphenyDbJdbcExecutorPool jdbcPool, CsvWriter csvWriter, String namespace ) {
+        super( "Mongo", Query::getMongoQl, httpClient, jdbcPool, csvWriter );
         this.namespace = namespace;
     }
 
@@ -67,13 +68,13 @@ public class PolyphenyDbMongoQlExecutor extends PolyphenyDbHttpExecutor {
         log.debug( request.getUrl() );
         try {
             long start = System.nanoTime();
-            @SuppressWarnings("rawtypes") HttpResponse result = request.asBytes();
+            @SuppressWarnings("rawtypes") HttpResponse result = httpClient.send( request::asBytes );
             if ( !result.isSuccess() ) {
                 throw new ExecutorException( "Error while executing MongoQl query. Message: " + result.getStatusText() + "  |  URL: " + request.getUrl() );
             }
             time = System.nanoTime() - start;
             if ( csvWriter != null ) {
-                csvWriter.appendToCsv( request.getUrl(), time );
+                csvWriter.appendToCsv( request::getUrl, time );
             }
         } catch ( UnirestException e ) {
             throw new ExecutorException( e );
@@ -94,12 +95,12 @@ public class PolyphenyDbMongoQlExecutor extends PolyphenyDbHttpExecutor {
         log.debug( request.getUrl() );
         try {
             long start = System.nanoTime();
-            HttpResponse<JsonNode> result = request.asJson();
+            HttpResponse<JsonNode> result = httpClient.send( request::asJson );
             if ( !result.isSuccess() ) {
                 throw new ExecutorException( "Error while executing MongoQl query. Message: " + result.getStatusText() + "  |  URL: " + request.getUrl() );
             }
             if ( csvWriter != null ) {
-                csvWriter.appendToCsv( request.getUrl(), System.nanoTime() - start );
+                csvWriter.appendToCsv( request::getUrl, System.nanoTime() - start );
             }
             // Get result of a count query
             JSONArray res = result.getBody().getObject().getJSONArray( "data" );
@@ -159,23 +160,30 @@ public class PolyphenyDbMongoQlExecutor extends PolyphenyDbHttpExecutor {
 
     public static class PolyphenyDbMongoQlExecutorFactory extends ExecutorFactory {
 
-        private final String host;
+        private final PolyphenyDbHttpClient httpClient;
+        private final PolyphenyDbJdbcExecutorPool jdbcPool;
 
 
         public PolyphenyDbMongoQlExecutorFactory( String host ) {
-            this.host = host;
+            this( HttpClientSettings.forHost( host ), PolyphenyDbJdbcExecutorPool.DEFAULT_MAX_CONNECTIONS );
+        }
+
+
+        public PolyphenyDbMongoQlExecutorFactory( HttpClientSettings settings, int jdbcPoolSize ) {
+            this.httpClient = new PolyphenyDbHttpClient( settings, DEFAULT_PORT );
+            this.jdbcPool = PolyphenyDbJdbcExecutorPool.getShared( settings.getHost(), jdbcPoolSize );
         }
 
 
         @Override
         public PolyphenyDbMongoQlExecutor createExecutorInstance( CsvWriter csvWriter ) {
-            return new PolyphenyDbMongoQlExecutor( host, csvWriter, DEFAULT_NAMESPACE );
+            return new PolyphenyDbMongoQlExecutor( httpClient, jdbcPool, csvWriter, DEFAULT_NAMESPACE );
         }
 
 
         @Override
         public PolyphenyDbMongoQlExecutor createExecutorInstance( CsvWriter csvWriter, String namespace ) {
-            return new PolyphenyDbMongoQlExecutor( host, csvWriter, namespace );
+            return new PolyphenyDbMongoQlExecutor( httpClient, jdbcPool, csvWriter, namespace );
         }
 
 
@@ -184,6 +192,18 @@ public class PolyphenyDbMongoQlExecutor extends PolyphenyDbHttpExecutor {
             return 0;
         }
 
+
+        @Override
+        public void reportStatistics( Properties properties ) {
+            httpClient.reportStatistics( properties, "mongoQl" );
+        }
+
+
+        @Override
+        public void close() {
+            httpClient.close();
+        }
+
     }
 
 }
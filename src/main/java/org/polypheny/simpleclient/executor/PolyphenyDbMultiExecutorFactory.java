@@ -28,6 +28,7 @@ import static org.polypheny.simpleclient.scenario.coms.simulation.entites.Graph.
 import static org.polypheny.simpleclient.scenario.coms.simulation.entites.Graph.GRAPH_POSTFIX;
 
 import java.util.List;
+import java.util.Properties;
 import lombok.Getter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
@@ -82,6 +83,20 @@ public class PolyphenyDbMultiExecutorFactory extends ExecutorFactory {
     }
 
 
+    @Override
+    public void reportStatistics( Properties properties ) {
+        mongoQlExecutorFactory.reportStatistics( properties );
+        cypherExecutorFactory.reportStatistics( properties );
+    }
+
+
+    @Override
+    public void close() {
+        mongoQlExecutorFactory.close();
+        cypherExecutorFactory.close();
+    }
+
+
     @Value
     public static class MultiExecutor implements PolyphenyDbExecutor {
 
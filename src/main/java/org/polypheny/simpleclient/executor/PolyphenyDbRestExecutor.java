@@ -29,14 +29,15 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import kong.unirest.core.HttpRequest;
 import kong.unirest.core.HttpResponse;
 import kong.unirest.core.JsonNode;
 import kong.unirest.core.UnirestException;
 import kong.unirest.core.json.JSONArray;
 import lombok.extern.slf4j.Slf4j;
-import org.polypheny.simpleclient.executor.PolyphenyDbJdbcExecutor.PolyphenyDbJdbcExecutorFactory;
 import org.polypheny.simpleclient.main.CsvWriter;
 import org.polypheny.simpleclient.query.BatchableInsert;
 import org.polypheny.simpleclient.query.MultipartInsert;
@@ -46,19 +47,22 @@ import org.polypheny.simpleclient.scenario.AbstractConfig;
 
 
 @Slf4j
-public class PolyphenyDbRestExecutor implements PolyphenyDbExecutor {
+public class PolyphenyDbRestExecutor implements PolyphenyDbExecutor, AsyncExecutor {
 
-    private final PolyphenyDbJdbcExecutorFactory jdbcExecutorFactory;
-    private final String host;
+    // Default port of the REST interface of Polypheny
+    public static final int DEFAULT_PORT = 8089;
+
+    private final PolyphenyDbJdbcExecutorPool jdbcPool;
+    private final PolyphenyDbHttpClient httpClient;
 
     private final CsvWriter csvWriter;
 
 
-    public PolyphenyDbRestExecutor( String host, CsvWriter csvWriter ) {
+    public PolyphenyDbRestExecutor( PolyphenyDbHttpClient httpClient, PolyphenyDbJdbcExecutorPool jdbcPool, CsvWriter csvWriter ) {
         super();
-        this.host = host;
+        this.httpClient = httpClient;
+        this.jdbcPool = jdbcPool;
         this.csvWriter = csvWriter;
-        jdbcExecutorFactory = new PolyphenyDbJdbcExecutor.PolyphenyDbJdbcExecutorFactory( host, false );
     }
 
 
@@ -78,21 +82,17 @@ public class PolyphenyDbRestExecutor implements PolyphenyDbExecutor {
         }
         long time;
         if ( query.getRest() != null ) {
-            HttpRequest<?> request = query.getRest();
-            request.basicAuth( "pa", "" );
-            request.routeParam( "protocol", "http" );
-            request.routeParam( "host", host );
-            request.routeParam( "port", "8089" );
+            HttpRequest<?> request = getRestRequest( query );
             log.debug( request.getUrl() );
             try {
                 long start = System.nanoTime();
-                @SuppressWarnings("rawtypes") HttpResponse result = request.asBytes();
+                @SuppressWarnings("rawtypes") HttpResponse result = httpClient.send( request::asBytes );
                 if ( !result.isSuccess() ) {
                     throw new ExecutorException( "Error while executing REST query. Message: " + result.getStatusText() + "  |  URL: " + request.getUrl() );
                 }
                 time = System.nanoTime() - start;
                 if ( csvWriter != null ) {
-                    csvWriter.appendToCsv( request.getUrl(), time );
+                    csvWriter.appendToCsv( request::getUrl, time );
                 }
             } catch ( UnirestException e ) {
                 throw new ExecutorException( e );
@@ -100,17 +100,15 @@ public class PolyphenyDbRestExecutor implements PolyphenyDbExecutor {
         } else {
             // There is no REST expression available for this query. Executing SQL expression via JDBC.
             //log.warn( query.getSql() );
-            JdbcExecutor executor = null;
+            // The connection is borrowed from a pool. Waiting for it is neither part of the returned time nor of the time
+            // measured by the evaluation threads, it is reported separately (see PolyphenyDbJdbcExecutorPool).
             try {
-                executor = jdbcExecutorFactory.createExecutorInstance( csvWriter );
-                time = executor.executeQuery( query );
+                time = jdbcPool.execute( executor -> executor.executeQuery( query ) );
                 if ( csvWriter != null ) {
-                    csvWriter.appendToCsv( query.getSql(), time );
+                    csvWriter.appendToCsv( query::getSql, time );
                 }
             } catch ( ExecutorException e ) {
                 throw new ExecutorException( "Error while executing query via JDBC", e );
-            } finally {
-                PolyphenyDbJdbcExecutor.commitAndCloseJdbcExecutor( executor );
             }
         }
 
@@ -118,6 +116,24 @@ public class PolyphenyDbRestExecutor implements PolyphenyDbExecutor {
     }
 
 
+    @Override
+    public CompletableFuture<Long> executeQueryAsync( Query query, int templateId ) throws ExecutorException {
+        if ( query instanceof MultipartInsert || query.getRest() == null ) {
+            // Multipart inserts and queries without REST expression are executed synchronously
+            return CompletableFuture.completedFuture( executeQuery( query ) );
+        }
+        HttpRequest<?> request = getRestRequest( query );
+        return httpClient.sendAsync( () -> AsyncExecutor.sendAsync( request, "REST", csvWriter, request::getUrl, templateId ) );
+    }
+
+
+    private HttpRequest<?> getRestRequest( Query query ) {
+        HttpRequest<?> request = httpClient.request( query.getRest() );
+        request.basicAuth( "pa", "" );
+        return request;
+    }
+
+
     @Override
     public long executeQueryAndGetNumber( Query query ) throws ExecutorException {
         query.debug();
@@ -127,20 +143,16 @@ public class PolyphenyDbRestExecutor implements PolyphenyDbExecutor {
             return l;
         }
         if ( query.getRest() != null ) {
-            HttpRequest<?> request = query.getRest();
-            request.basicAuth( "pa", "" );
-            request.routeParam( "protocol", "http" );
-            request.routeParam( "host", host );
-            request.routeParam( "port", "8089" );
+            HttpRequest<?> request = getRestRequest( query );
             log.debug( request.getUrl() );
             try {
                 long start = System.nanoTime();
-                HttpResponse<JsonNode> result = request.asJson();
+                HttpResponse<JsonNode> result = httpClient.send( request::asJson );
                 if ( !result.isSuccess() ) {
                     throw new ExecutorException( "Error while executing REST query. Message: " + result.getStatusText() + "  |  URL: " + request.getUrl() );
                 }
                 if ( csvWriter != null ) {
-                    csvWriter.appendToCsv( request.getUrl(), System.nanoTime() - start );
+                    csvWriter.appendToCsv( request::getUrl, System.nanoTime() - start );
                 }
                 // Get result of a count query
                 JSONArray res = result.getBody().getObject().getJSONArray( "result" );
@@ -158,14 +170,10 @@ public class PolyphenyDbRestExecutor implements PolyphenyDbExecutor {
         } else {
             // There is no REST expression available for this query. Executing SQL expression via JDBC.
             log.warn( query.getSql().substring( 0, Math.min( 500, query.getSql().length() ) ) );
-            JdbcExecutor executor = null;
             try {
-                executor = jdbcExecutorFactory.createExecutorInstance( csvWriter );
-                return executor.executeQueryAndGetNumber( query );
+                return jdbcPool.execute( executor -> executor.executeQueryAndGetNumber( query ) );
             } catch ( ExecutorException e ) {
                 throw new ExecutorException( "Error while executing query via JDBC", e );
-            } finally {
-                PolyphenyDbJdbcExecutor.commitAndCloseJdbcExecutor( executor );
             }
         }
     }
@@ -218,64 +226,52 @@ public class PolyphenyDbRestExecutor implements PolyphenyDbExecutor {
 
     @Override
     public void dropStore( String name ) throws ExecutorException {
-        PolyphenyDbJdbcExecutor executor = null;
         try {
-            executor = jdbcExecutorFactory.createExecutorInstance( csvWriter );
-            executor.dropStore( name );
-            executor.executeCommit();
+            jdbcPool.execute( executor -> {
+                executor.dropStore( name );
+                return null;
+            } );
         } catch ( ExecutorException e ) {
             throw new ExecutorException( "Error while executing query via JDBC", e );
-        } finally {
-            PolyphenyDbJdbcExecutor.commitAndCloseJdbcExecutor( executor );
         }
     }
 
 
     @Override
     public void deployStore( String name, String clazz, String config ) throws ExecutorException {
-        PolyphenyDbJdbcExecutor executor = null;
         try {
-            executor = jdbcExecutorFactory.createExecutorInstance( csvWriter );
-            executor.deployStore( name, clazz, config );
-            executor.executeCommit();
+            jdbcPool.execute( executor -> {
+                executor.deployStore( name, clazz, config );
+                return null;
+            } );
         } catch ( ExecutorException e ) {
             throw new ExecutorException( "Error while executing query via JDBC", e );
-        } finally {
-            PolyphenyDbJdbcExecutor.commitAndCloseJdbcExecutor( executor );
         }
     }
 
 
     @Override
     public void deployAdapter( String name, String adapterIdentifier, String type, String config ) throws ExecutorException {
-        PolyphenyDbJdbcExecutor executor = null;
         try {
-            executor = jdbcExecutorFactory.createExecutorInstance( csvWriter );
-            executor.deployAdapter( name, adapterIdentifier, type, config );
-            executor.executeCommit();
+            jdbcPool.execute( executor -> {
+                executor.deployAdapter( name, adapterIdentifier, type, config );
+                return null;
+            } );
         } catch ( ExecutorException e ) {
             throw new ExecutorException( "Error while executing query via JDBC", e );
-        } finally {
-            PolyphenyDbJdbcExecutor.commitAndCloseJdbcExecutor( executor );
         }
     }
 
 
     @Override
     public void setConfig( String key, String value ) {
-        PolyphenyDbJdbcExecutor executor = null;
         try {
-            executor = jdbcExecutorFactory.createExecutorInstance( csvWriter );
-            executor.setConfig( key, value );
-            executor.executeCommit();
+            jdbcPool.execute( executor -> {
+                executor.setConfig( key, value );
+                return null;
+            } );
         } catch ( ExecutorException e ) {
             log.error( "Exception while setting config \"" + key + "\"!", e );
-        } finally {
-            try {
-                PolyphenyDbJdbcExecutor.commitAndCloseJdbcExecutor( executor );
-            } catch ( ExecutorException e ) {
-                log.error( "Exception while closing JDBC executor", e );
-            }
         }
     }
 
@@ -294,17 +290,24 @@ public class PolyphenyDbRestExecutor implements PolyphenyDbExecutor {
 
     public static class PolyphenyDbRestExecutorFactory extends ExecutorFactory {
 
-        private final String host;
+        private final PolyphenyDbHttpClient httpClient;
+        private final PolyphenyDbJdbcExecutorPool jdbcPool;
 
 
         public PolyphenyDbRestExecutorFactory( String host ) {
-            this.host = host;
+            this( HttpClientSettings.forHost( host ), PolyphenyDbJdbcExecutorPool.DEFAULT_MAX_CONNECTIONS );
+        }
+
+
+        public PolyphenyDbRestExecutorFactory( HttpClientSettings settings, int jdbcPoolSize ) {
+            this.httpClient = new PolyphenyDbHttpClient( settings, DEFAULT_PORT );
+            this.jdbcPool = PolyphenyDbJdbcExecutorPool.getShared( settings.getHost(), jdbcPoolSize );
         }
 
 
         @Override
         public PolyphenyDbRestExecutor createExecutorInstance( CsvWriter csvWriter ) {
-            return new PolyphenyDbRestExecutor( host, csvWriter );
+            return new PolyphenyDbRestExecutor( httpClient, jdbcPool, csvWriter );
         }
 
 
@@ -313,6 +316,18 @@ public class PolyphenyDbRestExecutor implements PolyphenyDbExecutor {
             return 0;
         }
 
+
+        @Override
+        public void reportStatistics( Properties properties ) {
+            httpClient.reportStatistics( properties, "rest" );
+        }
+
+
+        @Override
+        public void close() {
+            httpClient.close();
+        }
+
     }
 
 }
@@ -25,18 +25,55 @@
 package org.polypheny.simpleclient.executor;
 
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Date;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.cli.ChronosCommand;
 import org.polypheny.simpleclient.main.CsvWriter;
+import org.polypheny.simpleclient.query.BatchableInsert;
+import org.polypheny.simpleclient.query.Query.DataTypes;
 import org.polypheny.simpleclient.query.RawQuery;
+import org.polypheny.simpleclient.scenario.AbstractConfig;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
 
 
+@Slf4j
 public class PostgresExecutor extends JdbcExecutor {
 
+    private static final Pattern INSERT_PATTERN = Pattern.compile( "^\\s*INSERT\\s+INTO\\s+(.+?)\\s*\\(([^)]*)\\)\\s*VALUES", Pattern.CASE_INSENSITIVE );
+
+    private static final byte[] BINARY_SIGNATURE = "PGCOPY\n\377\r\n\0".getBytes( StandardCharsets.ISO_8859_1 );
+    private static final LocalDateTime POSTGRES_EPOCH = LocalDateTime.of( 2000, 1, 1, 0, 0 );
+    private static final int INT4_OID = 23;
+    private static final int FLOAT4_OID = 700;
+
     public PostgresExecutor( String host, CsvWriter csvWriter, boolean prepareStatements ) {
-        super( csvWriter, prepareStatements );
+        this( host, csvWriter, prepareStatements, DEFAULT_STATEMENT_CACHE_SIZE, DEFAULT_FETCH_SIZE, ResultConsumption.COUNT );
+    }
+
+
+    public PostgresExecutor( String host, CsvWriter csvWriter, boolean prepareStatements, int statementCacheSize, int fetchSize, ResultConsumption resultConsumption ) {
+        super( csvWriter, prepareStatements, statementCacheSize, fetchSize, resultConsumption );
         try {
             Class.forName( "org.postgresql.Driver" );
         } catch ( ClassNotFoundException e ) {
@@ -48,7 +85,7 @@ public class PostgresExecutor extends JdbcExecutor {
             connection.setAutoCommit( false );
             //connection.setTransactionIsolation( Connection.TRANSACTION_SERIALIZABLE );
             executeStatement = connection.createStatement();
-            executeStatement.setFetchSize( 100 );
+            executeStatement.setFetchSize( fetchSize );
         } catch ( SQLException e ) {
             throw new RuntimeException( "Connection failed.", e );
         }
@@ -64,21 +101,203 @@ public class PostgresExecutor extends JdbcExecutor {
     }
 
 
+    @Override
+    public void executeInsertList( List<BatchableInsert> queryList, AbstractConfig config ) throws ExecutorException {
+        if ( !queryList.isEmpty() && config.copyFormat != CopyFormat.NONE ) {
+            executeInsertListAsCopy( queryList, config.copyFormat );
+        } else {
+            super.executeInsertList( queryList, config );
+        }
+    }
+
+
+    /**
+     * Streams the rows to the server using {@code COPY ... FROM STDIN}. Table and columns are taken from the
+     * parameterized insert statement, the values from its parameters. The binary format requires the Java types
+     * to match the column types exactly (e.g., INTEGER values for int4 columns).
+     */
+    protected void executeInsertListAsCopy( List<BatchableInsert> queryList, CopyFormat format ) throws ExecutorException {
+        String parameterizedSql = queryList.getFirst().getParameterizedSqlQuery();
+        Matcher matcher = parameterizedSql == null ? null : INSERT_PATTERN.matcher( parameterizedSql );
+        if ( matcher == null || !matcher.find() ) {
+            throw new ExecutorException( "Unable to derive the target of a COPY from: " + parameterizedSql );
+        }
+        String copySql = "COPY " + matcher.group( 1 ) + " (" + matcher.group( 2 ) + ") FROM STDIN WITH (FORMAT " + format.name().toLowerCase() + ")";
+
+        try ( PGCopyOutputStream copyStream = new PGCopyOutputStream( connection.unwrap( PGConnection.class ), copySql, 1 << 16 ) ) {
+            switch ( format ) {
+                case CSV:
+                    writeCsv( queryList, copyStream );
+                    break;
+                case BINARY:
+                    writeBinary( queryList, copyStream );
+                    break;
+                default:
+                    throw new RuntimeException( "Unsupported copy format: " + format );
+            }
+        } catch ( SQLException | IOException e ) {
+            log.error( "Error while executing: " + copySql );
+            throw new ExecutorException( e );
+        }
+    }
+
+
+    private void writeCsv( List<BatchableInsert> queryList, OutputStream out ) throws IOException {
+        Writer writer = new OutputStreamWriter( out, StandardCharsets.UTF_8 );
+        for ( BatchableInsert insert : queryList ) {
+            Map<Integer, ImmutablePair<DataTypes, Object>> values = insert.getParameterValues();
+            for ( int i = 1; i <= values.size(); i++ ) {
+                ImmutablePair<DataTypes, Object> value = values.get( i );
+                if ( i > 1 ) {
+                    writer.write( ',' );
+                }
+                if ( value.right == null ) {
+                    // An unquoted empty field is NULL in the CSV format
+                    continue;
+                }
+                switch ( value.left ) {
+                    case INTEGER:
+                    case TIMESTAMP:
+                    case DATE:
+                        writer.write( value.right.toString() );
+                        break;
+                    case VARCHAR:
+                        writeCsvString( writer, (String) value.right );
+                        break;
+                    case ARRAY_INT:
+                    case ARRAY_REAL:
+                        StringBuilder array = new StringBuilder( "{" );
+                        for ( Object element : (Object[]) value.right ) {
+                            if ( array.length() > 1 ) {
+                                array.append( ',' );
+                            }
+                            array.append( element );
+                        }
+                        writeCsvString( writer, array.append( '}' ).toString() );
+                        break;
+                    case BYTE_ARRAY:
+                    case FILE:
+                        writer.write( "\\x" );
+                        writer.write( HexFormat.of().formatHex( getBytes( value ) ) );
+                        break;
+                }
+            }
+            writer.write( '\n' );
+        }
+        writer.flush();
+    }
+
+
+    private void writeCsvString( Writer writer, String str ) throws IOException {
+        writer.write( '"' );
+        writer.write( str.replace( "\"", "\"\"" ) );
+        writer.write( '"' );
+    }
+
+
+    private void writeBinary( List<BatchableInsert> queryList, OutputStream out ) throws IOException {
+        DataOutputStream data = new DataOutputStream( new BufferedOutputStream( out, 1 << 16 ) );
+        data.write( BINARY_SIGNATURE );
+        data.writeInt( 0 ); // Flags
+        data.writeInt( 0 ); // Length of the header extension
+        for ( BatchableInsert insert : queryList ) {
+            Map<Integer, ImmutablePair<DataTypes, Object>> values = insert.getParameterValues();
+            data.writeShort( values.size() );
+            for ( int i = 1; i <= values.size(); i++ ) {
+                ImmutablePair<DataTypes, Object> value = values.get( i );
+                if ( value.right == null ) {
+                    data.writeInt( -1 );
+                    continue;
+                }
+                switch ( value.left ) {
+                    case INTEGER:
+                        data.writeInt( 4 );
+                        data.writeInt( (Integer) value.right );
+                        break;
+                    case VARCHAR:
+                        byte[] str = ((String) value.right).getBytes( StandardCharsets.UTF_8 );
+                        data.writeInt( str.length );
+                        data.write( str );
+                        break;
+                    case TIMESTAMP:
+                        data.writeInt( 8 );
+                        data.writeLong( ChronoUnit.MICROS.between( POSTGRES_EPOCH, ((Timestamp) value.right).toLocalDateTime() ) );
+                        break;
+                    case DATE:
+                        data.writeInt( 4 );
+                        data.writeInt( (int) ChronoUnit.DAYS.between( POSTGRES_EPOCH.toLocalDate(), ((Date) value.right).toLocalDate() ) );
+                        break;
+                    case ARRAY_INT:
+                    case ARRAY_REAL:
+                        Object[] elements = (Object[]) value.right;
+                        data.writeInt( 20 + 8 * elements.length );
+                        data.writeInt( 1 ); // Number of dimensions
+                        data.writeInt( 0 ); // No null elements
+                        data.writeInt( value.left == DataTypes.ARRAY_INT ? INT4_OID : FLOAT4_OID );
+                        data.writeInt( elements.length );
+                        data.writeInt( 1 ); // Lower bound
+                        for ( Object element : elements ) {
+                            data.writeInt( 4 );
+                            if ( value.left == DataTypes.ARRAY_INT ) {
+                                data.writeInt( ((Number) element).intValue() );
+                            } else {
+                                data.writeFloat( ((Number) element).floatValue() );
+                            }
+                        }
+                        break;
+                    case BYTE_ARRAY:
+                    case FILE:
+                        byte[] bytes = getBytes( value );
+                        data.writeInt( bytes.length );
+                        data.write( bytes );
+                        break;
+                }
+            }
+        }
+        data.writeShort( -1 ); // Trailer
+        data.flush();
+    }
+
+
+    private byte[] getBytes( ImmutablePair<DataTypes, Object> value ) throws IOException {
+        if ( value.left == DataTypes.FILE ) {
+            return Files.readAllBytes( ((File) value.right).toPath() );
+        }
+        return (byte[]) value.right;
+    }
+
+
+    public enum CopyFormat {
+        NONE, CSV, BINARY
+    }
+
+
     public static class PostgresExecutorFactory extends ExecutorFactory {
 
         private final String host;
         private final boolean prepareStatements;
+        private final int statementCacheSize;
+        private final int fetchSize;
+        private final ResultConsumption resultConsumption;
 
 
         public PostgresExecutorFactory( String host, boolean prepareStatements ) {
+            this( host, prepareStatements, DEFAULT_STATEMENT_CACHE_SIZE, DEFAULT_FETCH_SIZE, ResultConsumption.COUNT );
+        }
+
+
+        public PostgresExecutorFactory( String host, boolean prepareStatements, int statementCacheSize, int fetchSize, ResultConsumption resultConsumption ) {
             this.host = host;
             this.prepareStatements = prepareStatements;
+            this.statementCacheSize = statementCacheSize;
+            this.fetchSize = fetchSize;
+            this.resultConsumption = resultConsumption;
         }
 
 
         @Override
         public PostgresExecutor createExecutorInstance( CsvWriter csvWriter ) {
-            return new PostgresExecutor( host, csvWriter, prepareStatements );
+            return new PostgresExecutor( host, csvWriter, prepareStatements, statementCacheSize, fetchSize, resultConsumption );
         }
 
 
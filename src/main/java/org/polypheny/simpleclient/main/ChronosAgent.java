@@ -51,8 +51,12 @@ import org.polypheny.simpleclient.executor.CottontaildbExecutor.CottontailExecut
 import org.polypheny.simpleclient.executor.CottontaildbExecutor.CottontailInstance;
 import org.polypheny.simpleclient.executor.Executor;
 import org.polypheny.simpleclient.executor.Executor.DatabaseInstance;
+import org.polypheny.simpleclient.executor.HttpClientSettings;
+import org.polypheny.simpleclient.executor.JdbcExecutor;
+import org.polypheny.simpleclient.executor.JdbcExecutor.ResultConsumption;
 import org.polypheny.simpleclient.executor.MonetdbExecutor.MonetdbExecutorFactory;
 import org.polypheny.simpleclient.executor.MonetdbExecutor.MonetdbInstance;
+import org.polypheny.simpleclient.executor.OltpBenchExecutor.OltpBenchExecutorFactory;
 import org.polypheny.simpleclient.executor.OltpBenchPolyphenyDbExecutor.OltpBenchPolyphenyDbExecutorFactory;
 import org.polypheny.simpleclient.executor.OltpBenchPolyphenyDbExecutor.OltpBenchPolyphenyInstance;
 import org.polypheny.simpleclient.executor.OltpBenchPostgresExecutor.OltpBenchPostgresExecutorFactory;
@@ -63,6 +67,7 @@ import org.polypheny.simpleclient.executor.PolyphenyDbExecutor.StatusGatherer;
 import org.polypheny.simpleclient.executor.PolyphenyDbExecutor.StatusGatherer.PolyphenyFullStatus;
 import org.polypheny.simpleclient.executor.PolyphenyDbExecutor.StatusGatherer.PolyphenyStatus;
 import org.polypheny.simpleclient.executor.PolyphenyDbJdbcExecutor.PolyphenyDbJdbcExecutorFactory;
+import org.polypheny.simpleclient.executor.PolyphenyDbJdbcExecutorPool;
 import org.polypheny.simpleclient.executor.PolyphenyDbMongoQlExecutor.PolyphenyDbMongoQlExecutorFactory;
 import org.polypheny.simpleclient.executor.PolyphenyDbMultiExecutorFactory;
 import org.polypheny.simpleclient.executor.PolyphenyDbRestExecutor.PolyphenyDbRestExecutorFactory;
@@ -97,6 +102,8 @@ import org.polypheny.simpleclient.scenario.oltpbench.tpch.Tpch;
 import org.polypheny.simpleclient.scenario.oltpbench.tpch.TpchConfig;
 import org.polypheny.simpleclient.scenario.oltpbench.ycsb.Ycsb;
 import org.polypheny.simpleclient.scenario.oltpbench.ycsb.YcsbConfig;
+import org.polypheny.simpleclient.scenario.smallbank.SmallBankBench;
+import org.polypheny.simpleclient.scenario.ycsb.YcsbBench;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -104,8 +111,8 @@ import org.slf4j.LoggerFactory;
 @Slf4j
 public class ChronosAgent extends AbstractChronosAgent {
 
-    // Whether the individual execution time of every query should be stored in the result json
-    // This massively increases the amount of data stored in the Chronos Control database
+    // Whether the full latency histogram (compressed and Base64 encoded) of every query type should be stored in the result json
+    // This considerably increases the amount of data stored in the Chronos Control database
     public static final boolean STORE_INDIVIDUAL_QUERY_TIMES = false;
 
     public final String[] supports;
@@ -196,6 +203,14 @@ public class ChronosAgent extends AbstractChronosAgent {
                 throw new UnsupportedOperationException( "Unknown query mode: " + queryMode.name() );
         }
 
+        // Fetching and consumption of result sets by the JDBC executors
+        int fetchSize = Integer.parseInt( parsedConfig.getOrDefault( "fetchSize", String.valueOf( JdbcExecutor.DEFAULT_FETCH_SIZE ) ) );
+        ResultConsumption resultConsumption = JdbcExecutor.parseResultConsumption( parsedConfig.getOrDefault( "resultConsumption", "count" ) );
+        // Prepared statements kept open per connection if prepareStatements is enabled
+        int statementCacheSize = Integer.parseInt( parsedConfig.getOrDefault( "statementCacheSize", String.valueOf( JdbcExecutor.DEFAULT_STATEMENT_CACHE_SIZE ) ) );
+        // Connections of the JDBC pool used by the REST and HTTP executors for statements their interface cannot express
+        int jdbcPoolSize = Integer.parseInt( parsedConfig.getOrDefault( "jdbcPoolSize", String.valueOf( PolyphenyDbJdbcExecutorPool.DEFAULT_MAX_CONNECTIONS ) ) );
+
         // Create Executor Factory
         Executor.ExecutorFactory executorFactory;
         switch ( parsedConfig.get( "store" ) ) {
@@ -203,23 +218,23 @@ public class ChronosAgent extends AbstractChronosAgent {
                 executorFactory = new PolyphenyDbMultiExecutorFactory( ChronosCommand.hostname );
                 break;
             case "polypheny-jdbc":
-                executorFactory = new PolyphenyDbJdbcExecutorFactory( ChronosCommand.hostname, Boolean.parseBoolean( parsedConfig.get( "prepareStatements" ) ) );
+                executorFactory = new PolyphenyDbJdbcExecutorFactory( ChronosCommand.hostname, Boolean.parseBoolean( parsedConfig.get( "prepareStatements" ) ), statementCacheSize, fetchSize, resultConsumption );
                 break;
             case "polypheny-rest":
-                executorFactory = new PolyphenyDbRestExecutorFactory( ChronosCommand.hostname );
+                executorFactory = new PolyphenyDbRestExecutorFactory( HttpClientSettings.fromJob( ChronosCommand.hostname, parsedConfig ), jdbcPoolSize );
                 break;
             case "polypheny-mongoql":
-                executorFactory = new PolyphenyDbMongoQlExecutorFactory( ChronosCommand.hostname );
+                executorFactory = new PolyphenyDbMongoQlExecutorFactory( HttpClientSettings.fromJob( ChronosCommand.hostname, parsedConfig ), jdbcPoolSize );
                 break;
             case "polypheny-cypher":
-                executorFactory = new PolyphenyDbCypherExecutorFactory( ChronosCommand.hostname );
+                executorFactory = new PolyphenyDbCypherExecutorFactory( HttpClientSettings.fromJob( ChronosCommand.hostname, parsedConfig ), jdbcPoolSize );
                 break;
             case "surrealdb":
                 executorFactory = new SurrealDBExecutorFactory( ChronosCommand.hostname, "8989", true );
                 break;
             case "postgres":
                 dockerContainerName = DockerLauncher.launch( "postgres", "polypheny/postgres:latest", Map.of( "POSTGRES_PASSWORD", "postgres" ), List.of( 5432 ), () -> PostgresInstance.tryConnect( ChronosCommand.hostname ) );
-                executorFactory = new PostgresExecutorFactory( ChronosCommand.hostname, Boolean.parseBoolean( parsedConfig.get( "prepareStatements" ) ) );
+                executorFactory = new PostgresExecutorFactory( ChronosCommand.hostname, Boolean.parseBoolean( parsedConfig.get( "prepareStatements" ) ), statementCacheSize, fetchSize, resultConsumption );
                 break;
             case "monetdb":
                 executorFactory = new MonetdbExecutorFactory( ChronosCommand.hostname, Boolean.parseBoolean( parsedConfig.get( "prepareStatements" ) ) );
@@ -275,7 +290,11 @@ public class ChronosAgent extends AbstractChronosAgent {
                 break;
             case "smallbank":
                 config = new SmallBankConfig( parsedConfig );
-                scenario = new SmallBank( executorFactory, (SmallBankConfig) config, dumpQueryList, queryMode );
+                if ( executorFactory instanceof OltpBenchExecutorFactory ) {
+                    scenario = new SmallBank( executorFactory, (SmallBankConfig) config, dumpQueryList, queryMode );
+                } else {
+                    scenario = new SmallBankBench( executorFactory, (SmallBankConfig) config, true, dumpQueryList, queryMode );
+                }
                 break;
             case "tpcc":
                 config = new TpccConfig( parsedConfig );
@@ -287,7 +306,11 @@ public class ChronosAgent extends AbstractChronosAgent {
                 break;
             case "ycsb":
                 config = new YcsbConfig( parsedConfig );
-                scenario = new Ycsb( executorFactory, (YcsbConfig) config, dumpQueryList, queryMode );
+                if ( executorFactory instanceof OltpBenchExecutorFactory ) {
+                    scenario = new Ycsb( executorFactory, (YcsbConfig) config, dumpQueryList, queryMode );
+                } else {
+                    scenario = new YcsbBench( executorFactory, (YcsbConfig) config, true, dumpQueryList, queryMode );
+                }
                 break;
             default:
                 throw new RuntimeException( "Unknown scenario: " + parsedConfig.get( "scenario" ) );
@@ -375,9 +398,13 @@ public class ChronosAgent extends AbstractChronosAgent {
                 this,
                 scenario.getNumberOfInsertThreads(),
                 config.progressReportBase );
+        ClientProfiler profiler = new ClientProfiler( "generateData", outputDirectory, config );
         try {
+            profiler.start();
             scenario.generateData( databaseInstance, progressReporter );
+            profiler.stop( properties );
         } catch ( Exception e ) {
+            profiler.discard();
             databaseInstance.tearDown();
             throw e;
         }
@@ -398,6 +425,7 @@ public class ChronosAgent extends AbstractChronosAgent {
         AbstractConfig config = ((Triple<Scenario, AbstractConfig, DatabaseInstance>) o).getMiddle();
         @SuppressWarnings("unchecked")
         DatabaseInstance databaseInstance = ((Triple<Scenario, AbstractConfig, DatabaseInstance>) o).getRight();
+        ClientProfiler profiler = new ClientProfiler( "warmUp", outputDirectory, config );
         try {
             if ( databaseInstance instanceof PolyphenyDbInstance polyphenyDbInstance ) {
                 // Set workload monitoring
@@ -413,11 +441,14 @@ public class ChronosAgent extends AbstractChronosAgent {
                     polyphenyDbInstance.setPostCostAggregation( true );
                 }
 
-                // Wait a moment to give Polypheny-DB the chance to process all data points from data insertion
-                try {
-                    TimeUnit.MINUTES.sleep( 2 );
-                } catch ( InterruptedException e ) {
-                    throw new RuntimeException( "Unexpected interrupt", e );
+                // Wait a moment to give Polypheny-DB the chance to process all data points from data insertion. An adaptive
+                // warm-up runs until the latencies are stable anyway.
+                if ( !config.adaptiveWarmUp ) {
+                    try {
+                        TimeUnit.MINUTES.sleep( 2 );
+                    } catch ( InterruptedException e ) {
+                        throw new RuntimeException( "Unexpected interrupt", e );
+                    }
                 }
             }
 
@@ -426,14 +457,18 @@ public class ChronosAgent extends AbstractChronosAgent {
                     this,
                     1,
                     config.progressReportBase );
+            profiler.start();
             scenario.warmUp( progressReporter );
+            profiler.stop( properties );
 
             if ( databaseInstance instanceof PolyphenyDbInstance polyphenyDbInstance ) {
                 // Wait a moment to give Polypheny-DB the chance to process all data points from warmup
-                try {
-                    TimeUnit.MINUTES.sleep( 1 );
-                } catch ( InterruptedException e ) {
-                    throw new RuntimeException( "Unexpected interrupt", e );
+                if ( !config.adaptiveWarmUp ) {
+                    try {
+                        TimeUnit.MINUTES.sleep( 1 );
+                    } catch ( InterruptedException e ) {
+                        throw new RuntimeException( "Unexpected interrupt", e );
+                    }
                 }
 
                 // Disable Post Cost Aggregation
@@ -452,6 +487,7 @@ public class ChronosAgent extends AbstractChronosAgent {
                 properties.put( "pdbStatus_monitoringQueueSize_after_warmup", status.monitoringQueueSize() );
             }
         } catch ( Exception e ) {
+            profiler.discard();
             databaseInstance.tearDown();
             throw e;
         }
@@ -470,7 +506,7 @@ public class ChronosAgent extends AbstractChronosAgent {
 
         final CsvWriter csvWriter;
         if ( writeCsv ) {
-            csvWriter = new CsvWriter( outputDirectory.getPath() + File.separator + "results.csv" );
+            csvWriter = CsvWriter.create( outputDirectory, config.latencyLogFormat );
         } else {
             csvWriter = null;
         }
@@ -486,15 +522,29 @@ public class ChronosAgent extends AbstractChronosAgent {
             numberOfThreads = maxNumberOfThreads;
             log.warn( "Limiting number of executor threads to {} threads (instead of {} as specified by the job)", numberOfThreads, config.numberOfThreads );
         }
+        ClientProfiler profiler = new ClientProfiler( "execute", outputDirectory, config );
         try {
             ProgressReporter progressReporter = new ChronosProgressReporter(
                     chronosJob,
                     this,
                     numberOfThreads,
                     config.progressReportBase );
+            // Only count the prepared statements of the benchmark, not those of the data generation and the warm-up
+            JdbcExecutor.resetStatementCacheStatistics();
+            profiler.start();
             long runtime = scenario.execute( progressReporter, csvWriter, outputDirectory, numberOfThreads );
+            profiler.stop( properties );
             properties.put( "runtime", runtime );
+            JdbcExecutor.reportStatementCacheStatistics( properties );
+            if ( csvWriter != null ) {
+                try {
+                    csvWriter.close();
+                } catch ( IOException e ) {
+                    throw new RuntimeException( "Exception while closing csv file", e );
+                }
+            }
         } catch ( Exception e ) {
+            profiler.discard();
             databaseInstance.tearDown();
             throw e;
         }
@@ -518,6 +568,8 @@ public class ChronosAgent extends AbstractChronosAgent {
             databaseInstance.tearDown();
             throw e;
         }
+        // Time the JDBC fallback of the REST and HTTP executors waited for a pooled connection
+        PolyphenyDbJdbcExecutorPool.reportSharedStatistics( properties );
 
         if ( databaseInstance instanceof PolyphenyDbInstance polyphenyDbInstance && PolyphenyVersionSwitch.getInstance().hasStatusEndpoint ) {
             StatusGatherer statusGatherer = polyphenyDbInstance.getStatusGatherer();
@@ -576,6 +628,8 @@ public class ChronosAgent extends AbstractChronosAgent {
         @SuppressWarnings("unchecked")
         DatabaseInstance databaseInstance = ((Triple<Scenario, AbstractConfig, DatabaseInstance>) o).getRight();
 
+        PolyphenyDbJdbcExecutorPool.closeSharedPools();
+        scenario.getExecutorFactory().close();
         databaseInstance.tearDown();
         if ( dockerContainerName != null ) {
             DockerLauncher.remove( dockerContainerName );
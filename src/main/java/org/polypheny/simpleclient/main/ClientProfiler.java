@@ -0,0 +1,210 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.main;
+
+import com.sun.management.OperatingSystemMXBean;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+import org.polypheny.simpleclient.scenario.AbstractConfig;
+
+
+/**
+ * Measures the overhead of the benchmark client itself during a phase of a job (generateData, warmUp, execute). If
+ * enabled, a Java Flight Recorder session is recorded for the phase and dumped into the output directory; the client CPU
+ * time, allocation rate, GC pauses and safepoint time are reported in the results and appended to
+ * {@value #SUMMARY_FILE}. A phase is flagged if the client used more than the configured share of its CPUs or was paused
+ * for more than the configured share of the time, since the measured latencies are then likely inflated by the client.
+ */
+@Slf4j
+public class ClientProfiler {
+
+    public static final String SUMMARY_FILE = "clientProfile.csv";
+
+    private final String phase;
+    private final File outputDirectory;
+    private final boolean enabled;
+    private final double cpuThreshold;
+    private final double pauseThreshold;
+
+    private Recording recording;
+    private Path recordingFile;
+    private long startTime;
+    private long startCpuTime;
+
+
+    public ClientProfiler( String phase, File outputDirectory, AbstractConfig config ) {
+        this.phase = phase;
+        this.outputDirectory = outputDirectory;
+        this.enabled = config.clientProfiling;
+        this.cpuThreshold = config.clientOverheadCpuThreshold;
+        this.pauseThreshold = config.clientOverheadPauseThreshold;
+    }
+
+
+    public void start() {
+        if ( !enabled ) {
+            return;
+        }
+        recordingFile = new File( outputDirectory, phase + ".jfr" ).toPath();
+        recording = new Recording();
+        recording.setName( "client-" + phase );
+        recording.enable( "jdk.ObjectAllocationSample" ).with( "throttle", "150/s" );
+        recording.enable( "jdk.GarbageCollection" ).withoutThreshold();
+        recording.enable( "jdk.SafepointBegin" ).withoutThreshold();
+        recording.enable( "jdk.ExecuteVMOperation" ).withoutThreshold();
+        recording.enable( "jdk.CPULoad" ).withPeriod( Duration.ofSeconds( 1 ) );
+        recording.enable( "jdk.ExecutionSample" ).withPeriod( Duration.ofMillis( 20 ) );
+        try {
+            recording.setDestination( recordingFile );
+        } catch ( IOException e ) {
+            throw new RuntimeException( "Unable to record client profile to " + recordingFile, e );
+        }
+        startTime = System.nanoTime();
+        startCpuTime = getProcessCpuTime();
+        recording.start();
+        log.info( "Recording client profile of phase {}", phase );
+    }
+
+
+    /**
+     * Stops the recording and reports the overhead of the client during the phase.
+     */
+    public void stop( Properties properties ) {
+        if ( recording == null ) {
+            return;
+        }
+        long wallTime = System.nanoTime() - startTime;
+        long cpuTime = getProcessCpuTime() - startCpuTime;
+        recording.stop();
+        recording.close();
+        recording = null;
+
+        long allocatedBytes = 0;
+        long gcCount = 0;
+        long gcPauseTime = 0;
+        long gcMaxPause = 0;
+        long safepointTime = 0;
+        try ( RecordingFile file = new RecordingFile( recordingFile ) ) {
+            while ( file.hasMoreEvents() ) {
+                RecordedEvent event = file.readEvent();
+                switch ( event.getEventType().getName() ) {
+                    case "jdk.ObjectAllocationSample":
+                        allocatedBytes += event.getLong( "weight" );
+                        break;
+                    case "jdk.GarbageCollection":
+                        gcCount++;
+                        gcPauseTime += event.getDuration( "sumOfPauses" ).toNanos();
+                        gcMaxPause = Math.max( gcMaxPause, event.getDuration( "longestPause" ).toNanos() );
+                        break;
+                    case "jdk.SafepointBegin":
+                        // Time to reach the safepoint
+                        safepointTime += event.getDuration().toNanos();
+                        break;
+                    case "jdk.ExecuteVMOperation":
+                        // Includes the operations of stop-the-world GC pauses
+                        if ( event.getBoolean( "safepoint" ) ) {
+                            safepointTime += event.getDuration().toNanos();
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } catch ( IOException e ) {
+            log.error( "Exception while reading the client profile of phase {}", phase, e );
+            return;
+        }
+
+        double seconds = wallTime / 1_000_000_000.0;
+        double cpuUtilization = cpuTime / (double) (wallTime * Runtime.getRuntime().availableProcessors());
+        // GC pauses are executed at safepoints and are therefore already part of the safepoint time
+        double pauseShare = safepointTime / (double) wallTime;
+        boolean overhead = cpuUtilization > cpuThreshold || pauseShare > pauseThreshold;
+        if ( overhead ) {
+            log.warn( "Client overhead during phase {}: {}% of the client CPUs used, paused for {}% of the time. Measured latencies are likely inflated by the client.",
+                    phase, Math.round( cpuUtilization * 100 ), Math.round( pauseShare * 100 ) );
+        }
+
+        String prefix = "client_" + phase + "_";
+        properties.put( prefix + "cpuTime", cpuTime / 1_000_000_000.0 );
+        properties.put( prefix + "cpuUtilization", cpuUtilization );
+        properties.put( prefix + "allocationRate", allocatedBytes / seconds / (1024 * 1024) );
+        properties.put( prefix + "gcCount", gcCount );
+        properties.put( prefix + "gcPauseTime", gcPauseTime / 1_000_000.0 );
+        properties.put( prefix + "gcMaxPause", gcMaxPause / 1_000_000.0 );
+        properties.put( prefix + "safepointTime", safepointTime / 1_000_000.0 );
+        properties.put( prefix + "overhead", overhead );
+
+        File summary = new File( outputDirectory, SUMMARY_FILE );
+        boolean newFile = !summary.exists();
+        try ( BufferedWriter out = new BufferedWriter( new FileWriter( summary, true ) ) ) {
+            if ( newFile ) {
+                out.write( "Phase,Duration (s),CPU Time (s),CPU Utilization,Allocation Rate (MB/s),GC Count,GC Pause Time (ms),Max GC Pause (ms),Safepoint Time (ms),Overhead" );
+                out.newLine();
+            }
+            out.write( String.join( ",",
+                    phase,
+                    String.valueOf( seconds ),
+                    String.valueOf( cpuTime / 1_000_000_000.0 ),
+                    String.valueOf( cpuUtilization ),
+                    String.valueOf( allocatedBytes / seconds / (1024 * 1024) ),
+                    String.valueOf( gcCount ),
+                    String.valueOf( gcPauseTime / 1_000_000.0 ),
+                    String.valueOf( gcMaxPause / 1_000_000.0 ),
+                    String.valueOf( safepointTime / 1_000_000.0 ),
+                    String.valueOf( overhead ) ) );
+            out.newLine();
+        } catch ( IOException e ) {
+            log.error( "Exception while writing client profile summary", e );
+        }
+    }
+
+
+    /**
+     * Stops the recording without reporting (e.g., if the phase failed).
+     */
+    public void discard() {
+        if ( recording != null ) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+
+    private static long getProcessCpuTime() {
+        return ((OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean()).getProcessCpuTime();
+    }
+
+}
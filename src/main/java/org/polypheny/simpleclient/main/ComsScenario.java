@@ -48,7 +48,7 @@ public class ComsScenario {
 
         final CsvWriter csvWriter;
         if ( writeCsv ) {
-            csvWriter = new CsvWriter( "results.csv" );
+            csvWriter = CsvWriter.create( new File( "." ), config.latencyLogFormat );
         } else {
             csvWriter = null;
         }
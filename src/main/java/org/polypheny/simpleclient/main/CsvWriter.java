@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2019-2021 The Polypheny Project
+ * Copyright (c) 2019-2026 The Polypheny Project
  *
  * Permission is hereby granted, free of charge, to any person obtaining a
  * copy of this software and associated documentation files (the "Software"), to deal
@@ -24,50 +24,304 @@
 
 package org.polypheny.simpleclient.main;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 
 
+/**
+ * Records the execution time of every query. The query threads only claim a slot in a ring buffer; formatting and disk
+ * I/O happen on a single background thread. In the binary format every query is written as a fixed size record
+ * (sequence, template id, start, latency, thread id) instead of a line containing the full query.
+ */
 @Slf4j
 public class CsvWriter {
 
-    private AtomicInteger queryNumber;
-    private BufferedWriter writer;
+    private static final int RING_SIZE = 1 << 16;
+    private static final int RING_MASK = RING_SIZE - 1;
+
+    private static final int BINARY_MAGIC = 0x504C4C47; // "PLLG"
+    private static final int BINARY_VERSION = 1;
+
+    private static final long IDLE_PARK_NANOS = 100_000;
+
+    private static final ThreadLocal<Integer> currentTemplateId = ThreadLocal.withInitial( () -> -1 );
+
+    private final Format format;
+    private final long originNanos;
+    private final long originMillis;
+
+    // Ring buffer; a slot is readable by the writer thread as soon as published[slot] equals the sequence of the entry
+    private final String[] queries = new String[RING_SIZE];
+    private final long[] measuredTimes = new long[RING_SIZE];
+    private final long[] startTimes = new long[RING_SIZE];
+    private final int[] templateIds = new int[RING_SIZE];
+    private final long[] threadIds = new long[RING_SIZE];
+    private final AtomicLongArray published = new AtomicLongArray( RING_SIZE );
+
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final AtomicLong flushRequested = new AtomicLong();
+    private volatile long flushed = 0;
+    private volatile boolean closed = false;
+    private volatile IOException failure;
+
+    private BufferedWriter csvOut;
+    private DataOutputStream binaryOut;
+    private final Thread writerThread;
 
 
     CsvWriter( String path ) {
+        this( path, Format.CSV );
+    }
+
+
+    CsvWriter( String path, Format format ) {
+        this.format = format;
+        this.originNanos = System.nanoTime();
+        this.originMillis = System.currentTimeMillis();
+        for ( int i = 0; i < RING_SIZE; i++ ) {
+            published.set( i, -1 );
+        }
         try {
-            queryNumber = new AtomicInteger();
-            writer = new BufferedWriter( new FileWriter( path ) );
-            String[] entries = new String[]{ "Number", "Measured Time", "Query" };
-            writeLine( entries );
+            if ( format == Format.BINARY ) {
+                binaryOut = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( path ), 1 << 16 ) );
+                binaryOut.writeInt( BINARY_MAGIC );
+                binaryOut.writeInt( BINARY_VERSION );
+                binaryOut.writeLong( originMillis );
+            } else {
+                csvOut = new BufferedWriter( new FileWriter( path ), 1 << 16 );
+                writeLine( new String[]{ "Number", "Measured Time", "Query" } );
+            }
         } catch ( IOException e ) {
             log.error( "Exception while writing csv file", e );
+            failure = e;
         }
+        writerThread = new Thread( this::drain, "CsvWriter" );
+        writerThread.setDaemon( true );
+        writerThread.start();
     }
 
 
-    public void appendToCsv( String query, long measuredTime ) {
-        writeLine( new String[]{ queryNumber.incrementAndGet() + "", "" + measuredTime, query } );
+    /**
+     * Creates a writer for the results file of a run in the specified directory.
+     */
+    public static CsvWriter create( File directory, Format format ) {
+        String fileName = format == Format.BINARY ? "results.bin" : "results.csv";
+        return new CsvWriter( directory.getPath() + File.separator + fileName, format );
     }
 
 
-    private void writeLine( String[] entries ) {
+    /**
+     * Sets the template id recorded for the queries subsequently reported by the calling thread.
+     */
+    public static void setCurrentTemplateId( int templateId ) {
+        currentTemplateId.set( templateId );
+    }
+
+
+    /**
+     * Records a query executed by the calling thread, using the template id set for this thread.
+     *
+     * @param query Returns the query; only called if the query is written to the file (not in the binary format)
+     */
+    public void appendToCsv( Supplier<String> query, long measuredTime ) {
+        appendToCsv( query, currentTemplateId.get(), measuredTime );
+    }
+
+
+    public void appendToCsv( Supplier<String> query, int templateId, long measuredTime ) {
+        long now = System.nanoTime();
+        long sequence = claimed.getAndIncrement();
+        while ( sequence - consumed.get() >= RING_SIZE ) {
+            // Ring buffer is full; wait for the writer thread
+            if ( !writerThread.isAlive() ) {
+                return;
+            }
+            LockSupport.parkNanos( 1_000 );
+        }
+        int slot = (int) (sequence & RING_MASK);
+        if ( format == Format.CSV ) {
+            queries[slot] = query.get();
+        } else {
+            startTimes[slot] = now - measuredTime - originNanos;
+            templateIds[slot] = templateId;
+            threadIds[slot] = Thread.currentThread().threadId();
+        }
+        measuredTimes[slot] = measuredTime;
+        published.setRelease( slot, sequence );
+    }
+
+
+    private void drain() {
+        long next = 0;
+        while ( true ) {
+            int slot = (int) (next & RING_MASK);
+            if ( published.getAcquire( slot ) == next ) {
+                write( next, slot );
+                queries[slot] = null;
+                next++;
+                consumed.lazySet( next );
+                long requested = flushRequested.get();
+                if ( next >= requested && flushed < requested ) {
+                    flushOutput( next );
+                }
+            } else {
+                if ( flushed < next ) {
+                    flushOutput( next );
+                }
+                if ( closed && next == claimed.get() ) {
+                    break;
+                }
+                LockSupport.parkNanos( IDLE_PARK_NANOS );
+            }
+        }
         try {
-            String line = String.join( ",", entries );
-            writer.write( line );
-            writer.newLine();
+            if ( csvOut != null ) {
+                csvOut.close();
+            }
+            if ( binaryOut != null ) {
+                binaryOut.close();
+            }
+        } catch ( IOException e ) {
+            log.error( "Exception while closing csv file", e );
+            failure = e;
+        }
+    }
+
+
+    private void write( long sequence, int slot ) {
+        if ( failure != null ) {
+            return;
+        }
+        try {
+            if ( format == Format.CSV ) {
+                writeLine( new String[]{ (sequence + 1) + "", "" + measuredTimes[slot], queries[slot] } );
+            } else {
+                binaryOut.writeLong( sequence + 1 );
+                binaryOut.writeInt( templateIds[slot] );
+                binaryOut.writeLong( startTimes[slot] );
+                binaryOut.writeLong( measuredTimes[slot] );
+                binaryOut.writeLong( threadIds[slot] );
+            }
         } catch ( IOException e ) {
             log.error( "Exception while writing to csv file", e );
+            failure = e;
         }
     }
 
 
+    private void writeLine( String[] entries ) throws IOException {
+        String line = String.join( ",", entries );
+        csvOut.write( line );
+        csvOut.newLine();
+    }
+
+
+    private void flushOutput( long sequence ) {
+        if ( failure == null ) {
+            try {
+                if ( csvOut != null ) {
+                    csvOut.flush();
+                }
+                if ( binaryOut != null ) {
+                    binaryOut.flush();
+                }
+            } catch ( IOException e ) {
+                log.error( "Exception while writing to csv file", e );
+                failure = e;
+            }
+        }
+        flushed = sequence;
+    }
+
+
+    /**
+     * Blocks until all entries appended so far have been written to the file.
+     */
     public void flush() throws IOException {
-        writer.flush();
+        long target = claimed.get();
+        flushRequested.accumulateAndGet( target, Math::max );
+        while ( flushed < target && writerThread.isAlive() ) {
+            LockSupport.parkNanos( IDLE_PARK_NANOS );
+        }
+        if ( failure != null ) {
+            throw failure;
+        }
+    }
+
+
+    /**
+     * Writes all remaining entries, closes the file and stops the writer thread.
+     */
+    public void close() throws IOException {
+        closed = true;
+        try {
+            writerThread.join();
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new IOException( "Interrupted while closing csv file", e );
+        }
+        if ( failure != null ) {
+            throw failure;
+        }
+    }
+
+
+    /**
+     * Converts a binary latency log into a CSV file.
+     */
+    public static void convertToCsv( File binaryFile, File csvFile ) throws IOException {
+        try (
+                DataInputStream in = new DataInputStream( new BufferedInputStream( new FileInputStream( binaryFile ), 1 << 16 ) );
+                BufferedWriter out = new BufferedWriter( new FileWriter( csvFile ), 1 << 16 )
+        ) {
+            if ( in.readInt() != BINARY_MAGIC ) {
+                throw new IOException( "Not a binary latency log: " + binaryFile );
+            }
+            int version = in.readInt();
+            if ( version != BINARY_VERSION ) {
+                throw new IOException( "Unsupported binary latency log version " + version );
+            }
+            long originMillis = in.readLong();
+            out.write( "Number,Template,Start,Measured Time,Thread" );
+            out.newLine();
+            while ( true ) {
+                long sequence;
+                try {
+                    sequence = in.readLong();
+                } catch ( EOFException e ) {
+                    break;
+                }
+                int templateId = in.readInt();
+                long start = in.readLong();
+                long measuredTime = in.readLong();
+                long threadId = in.readLong();
+                // Start as nanoseconds since the epoch
+                long startEpochNanos = originMillis * 1_000_000 + start;
+                out.write( sequence + "," + templateId + "," + startEpochNanos + "," + measuredTime + "," + threadId );
+                out.newLine();
+            }
+        }
+    }
+
+
+    public enum Format {
+        CSV,
+        BINARY
     }
 
 }
@@ -60,7 +60,7 @@ public class GavelScenario {
 
         final CsvWriter csvWriter;
         if ( writeCsv ) {
-            csvWriter = new CsvWriter( "results.csv" );
+            csvWriter = CsvWriter.create( new File( "." ), config.latencyLogFormat );
         } else {
             csvWriter = null;
         }
@@ -59,7 +59,7 @@ public class GraphBenchScenario {
 
         final CsvWriter csvWriter;
         if ( writeCsv ) {
-            csvWriter = new CsvWriter( "results.csv" );
+            csvWriter = CsvWriter.create( new File( "." ), config.latencyLogFormat );
         } else {
             csvWriter = null;
         }
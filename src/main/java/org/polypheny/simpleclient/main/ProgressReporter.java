@@ -24,12 +24,15 @@
 
 package org.polypheny.simpleclient.main;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
 import org.polypheny.simpleclient.query.QueryListEntry;
+import org.polypheny.simpleclient.scenario.RunPhases;
 
 
 @Slf4j
@@ -104,6 +107,98 @@ public abstract class ProgressReporter {
     }
 
 
+    /**
+     * Reports the elapsed fraction of a duration-based run.
+     */
+    public static class ReportDurationProgress implements Runnable {
+
+        private final ProgressReporter theProgressReporter;
+        private final RunPhases runPhases;
+
+
+        public ReportDurationProgress( RunPhases runPhases, ProgressReporter progressReporter ) {
+            this.runPhases = runPhases;
+            this.theProgressReporter = progressReporter;
+        }
+
+
+        @Override
+        public void run() {
+            int total = (int) TimeUnit.NANOSECONDS.toSeconds( runPhases.getTotalNanos() );
+            while ( true ) {
+                long now = System.nanoTime();
+                if ( runPhases.isFinished( now ) ) {
+                    theProgressReporter.update( total, total );
+                    break;
+                }
+                theProgressReporter.update( (int) TimeUnit.NANOSECONDS.toSeconds( now - runPhases.getStartTime() ), total );
+                try {
+                    Thread.sleep( 1000 );
+                } catch ( InterruptedException e ) {
+                    log.error( "Unexpected interrupt", e );
+                }
+            }
+        }
+
+    }
+
+
+    /**
+     * Merges the progress of concurrently executed tasks into one report. Every task reports to its own part; the
+     * merged reporter reports the mean progress of all parts.
+     */
+    public static class MergedProgressReporter {
+
+        private final ProgressReporter theProgressReporter;
+        private final List<Part> parts = new ArrayList<>();
+
+
+        public MergedProgressReporter( ProgressReporter progressReporter ) {
+            this.theProgressReporter = progressReporter;
+        }
+
+
+        /**
+         * Creates the reporter of a task executed on the specified number of threads. All parts need to be created
+         * before the tasks are started.
+         */
+        public ProgressReporter createPart( int numberOfThreads ) {
+            Part part = new Part( numberOfThreads, theProgressReporter.base );
+            parts.add( part );
+            return part;
+        }
+
+
+        private synchronized void report() {
+            int sum = 0;
+            for ( Part part : parts ) {
+                sum += part.current;
+            }
+            theProgressReporter.update( sum / parts.size() );
+        }
+
+
+        private class Part extends ProgressReporter {
+
+            private volatile int current = 0;
+
+
+            Part( int numberOfThreads, int base ) {
+                super( Math.max( 1, numberOfThreads ), base );
+            }
+
+
+            @Override
+            public void update( int progress ) {
+                current = Math.min( 100, Math.max( 0, progress ) );
+                report();
+            }
+
+        }
+
+    }
+
+
     public static class ReportMultiQueryListProgress implements Runnable {
 
         private final int totalNumber;
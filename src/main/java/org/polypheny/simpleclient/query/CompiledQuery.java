@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.query;
+
+import java.util.Arrays;
+import java.util.Map;
+import lombok.Getter;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+
+
+/**
+ * A query read back from a {@link CompiledWorkload}. A workload is compiled for one query language; the compiled
+ * query string is therefore returned for all query languages. For parameterized SQL statements, the query string is
+ * not stored but rendered from the statement and its parameter values when it is requested.
+ */
+public class CompiledQuery extends Query {
+
+    private final String query;
+
+    @Getter
+    private final String parameterizedSqlQuery;
+
+    @Getter
+    private final Map<Integer, ImmutablePair<DataTypes, Object>> parameterValues;
+
+
+    public CompiledQuery( String query, String parameterizedSqlQuery, Map<Integer, ImmutablePair<DataTypes, Object>> parameterValues, boolean expectResultSet ) {
+        super( expectResultSet );
+        this.query = query;
+        this.parameterizedSqlQuery = parameterizedSqlQuery;
+        this.parameterValues = parameterValues;
+    }
+
+
+    @Override
+    public String getSql() {
+        if ( query == null && parameterizedSqlQuery != null ) {
+            return renderSql();
+        }
+        return query;
+    }
+
+
+    private String renderSql() {
+        StringBuilder sb = new StringBuilder( parameterizedSqlQuery.length() + 64 );
+        int parameterIndex = 1;
+        boolean inLiteral = false;
+        for ( int i = 0; i < parameterizedSqlQuery.length(); i++ ) {
+            char c = parameterizedSqlQuery.charAt( i );
+            if ( c == '\'' ) {
+                inLiteral = !inLiteral;
+            }
+            if ( c == '?' && !inLiteral ) {
+                appendValue( sb, parameterValues.get( parameterIndex++ ) );
+            } else {
+                sb.append( c );
+            }
+        }
+        return sb.toString();
+    }
+
+
+    private static void appendValue( StringBuilder sb, ImmutablePair<DataTypes, Object> value ) {
+        switch ( value.left ) {
+            case INTEGER:
+                sb.append( value.right );
+                break;
+            case VARCHAR:
+                sb.append( '\'' ).append( value.right.toString().replace( "'", "''" ) ).append( '\'' );
+                break;
+            case TIMESTAMP:
+                sb.append( "timestamp '" ).append( value.right ).append( '\'' );
+                break;
+            case DATE:
+                sb.append( "date '" ).append( value.right ).append( '\'' );
+                break;
+            case ARRAY_INT:
+            case ARRAY_REAL:
+                sb.append( "ARRAY" ).append( Arrays.toString( (Object[]) value.right ) );
+                break;
+            default:
+                throw new RuntimeException( "Parameters of type " + value.left + " cannot be rendered into a query string" );
+        }
+    }
+
+
+    @Override
+    public RestRequest getRest() {
+        return null;
+    }
+
+
+    @Override
+    public String getMongoQl() {
+        return query;
+    }
+
+
+    @Override
+    public String getCypher() {
+        return query;
+    }
+
+}
@@ -0,0 +1,412 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.query;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.polypheny.simpleclient.query.Query.DataTypes;
+
+
+/**
+ * A workload which has been compiled into a binary file: For every query, the template ids and either the parameterized
+ * statement and its parameter values or, if there is no parameterized statement (or the interface does not use SQL),
+ * the query string in the query language of the interface are stored. Parameterized statements are stored only once.
+ * <p>
+ * For execution, the file is read back through memory-mapped regions. Queries are decoded when they are polled; the
+ * heap usage is therefore independent of the number of queries. As the order of the queries is part of the file,
+ * runs using the same file are reproducible.
+ * <p>
+ * Layout: header (magic, version, number of queries, offset of the footer), the records (each prefixed by its length)
+ * and the footer (parameterized statements, interface, query types).
+ */
+@Slf4j
+public final class CompiledWorkload extends AbstractQueue<QueryListEntry> implements Closeable {
+
+    private static final int MAGIC = 0x50534357; // PSCW
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8;
+    private static final int MAX_MAPPED_REGION_SIZE = 1 << 30;
+
+    private final FileChannel channel;
+    private final long footerOffset;
+    private final String[] statements;
+
+    @Getter
+    private final String interfaceName;
+    @Getter
+    private final Map<Integer, String> queryTypes;
+    @Getter
+    private final long numberOfQueries;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private MappedByteBuffer region;
+    private long regionOffset;
+    private long position = HEADER_SIZE;
+    private volatile long remaining;
+
+
+    private CompiledWorkload( File file ) throws IOException {
+        channel = FileChannel.open( file.toPath(), StandardOpenOption.READ );
+
+        ByteBuffer header = channel.map( MapMode.READ_ONLY, 0, HEADER_SIZE );
+        if ( header.getInt() != MAGIC ) {
+            throw new IOException( "Not a compiled workload: " + file.getAbsolutePath() );
+        }
+        int version = header.getInt();
+        if ( version != VERSION ) {
+            throw new IOException( "Unsupported version of compiled workload: " + version );
+        }
+        numberOfQueries = header.getLong();
+        footerOffset = header.getLong();
+        remaining = numberOfQueries;
+
+        ByteBuffer footer = channel.map( MapMode.READ_ONLY, footerOffset, channel.size() - footerOffset );
+        statements = new String[footer.getInt()];
+        for ( int i = 0; i < statements.length; i++ ) {
+            statements[i] = readString( footer );
+        }
+        interfaceName = readString( footer );
+        int numberOfQueryTypes = footer.getInt();
+        queryTypes = new HashMap<>();
+        for ( int i = 0; i < numberOfQueryTypes; i++ ) {
+            int templateId = footer.getInt();
+            queryTypes.put( templateId, readString( footer ) );
+        }
+    }
+
+
+    public static CompiledWorkload open( File file ) {
+        try {
+            return new CompiledWorkload( file );
+        } catch ( IOException e ) {
+            throw new RuntimeException( "Unable to open compiled workload", e );
+        }
+    }
+
+
+    /**
+     * Writes the queries (in the given order) into the specified file.
+     *
+     * @param toString Returns the query string in the query language of the interface
+     * @param interfaceName Name of the interface the workload is compiled for
+     */
+    public static void compile( File file, List<QueryListEntry> queries, Function<Query, String> toString, Map<Integer, String> queryTypes, String interfaceName ) {
+        Map<String, Integer> statements = new LinkedHashMap<>();
+        long position = HEADER_SIZE;
+        try ( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( file.toPath() ), 1 << 16 ) ) ) {
+            out.writeInt( MAGIC );
+            out.writeInt( VERSION );
+            out.writeLong( queries.size() );
+            out.writeLong( 0 ); // Offset of the footer, written below
+
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            DataOutputStream record = new DataOutputStream( recordBytes );
+            for ( QueryListEntry entry : queries ) {
+                recordBytes.reset();
+                writeRecord( record, entry, toString, statements );
+                out.writeInt( recordBytes.size() );
+                recordBytes.writeTo( out );
+                position += 4 + recordBytes.size();
+            }
+
+            out.writeInt( statements.size() );
+            for ( String statement : statements.keySet() ) {
+                writeString( out, statement );
+            }
+            writeString( out, interfaceName );
+            out.writeInt( queryTypes.size() );
+            for ( Entry<Integer, String> entry : queryTypes.entrySet() ) {
+                out.writeInt( entry.getKey() );
+                writeString( out, entry.getValue() );
+            }
+        } catch ( IOException e ) {
+            throw new RuntimeException( "Unable to write compiled workload", e );
+        } catch ( RuntimeException e ) {
+            // Do not leave an incomplete workload file behind
+            file.delete();
+            throw e;
+        }
+
+        try ( FileChannel channel = FileChannel.open( file.toPath(), StandardOpenOption.WRITE ) ) {
+            ByteBuffer footerOffset = ByteBuffer.allocate( 8 ).putLong( 0, position );
+            channel.write( footerOffset, 16 );
+        } catch ( IOException e ) {
+            throw new RuntimeException( "Unable to write compiled workload", e );
+        }
+        log.info( "Compiled {} queries into {} ({} MB)", queries.size(), file.getAbsolutePath(), file.length() / (1024 * 1024) );
+    }
+
+
+    private static void writeRecord( DataOutputStream out, QueryListEntry entry, Function<Query, String> toString, Map<String, Integer> statements ) throws IOException {
+        Query query = entry.query;
+        if ( query instanceof MultipartInsert ) {
+            throw new RuntimeException( "Multipart inserts cannot be compiled" );
+        }
+        out.writeInt( entry.templateIds.size() );
+        for ( int templateId : entry.templateIds ) {
+            out.writeInt( templateId );
+        }
+        out.writeBoolean( query.isExpectResultSet() );
+
+        String parameterizedSql = query.getParameterizedSqlQuery();
+        String queryString = toString.apply( query );
+        if ( parameterizedSql == null || !queryString.equals( query.getSql() ) ) {
+            writeString( out, queryString );
+        } else {
+            // The query string can be rendered from the statement and its parameters if it is needed
+            writeString( out, null );
+        }
+        if ( parameterizedSql == null ) {
+            out.writeInt( -1 );
+            return;
+        }
+        Integer statementId = statements.get( parameterizedSql );
+        if ( statementId == null ) {
+            statementId = statements.size();
+            statements.put( parameterizedSql, statementId );
+        }
+        out.writeInt( statementId );
+        Map<Integer, ImmutablePair<DataTypes, Object>> values = query.getParameterValues();
+        out.writeInt( values.size() );
+        for ( Entry<Integer, ImmutablePair<DataTypes, Object>> value : values.entrySet() ) {
+            out.writeInt( value.getKey() );
+            out.writeByte( value.getValue().left.ordinal() );
+            switch ( value.getValue().left ) {
+                case INTEGER:
+                    out.writeInt( (Integer) value.getValue().right );
+                    break;
+                case VARCHAR:
+                    writeString( out, (String) value.getValue().right );
+                    break;
+                case TIMESTAMP:
+                    Timestamp timestamp = (Timestamp) value.getValue().right;
+                    out.writeLong( timestamp.getTime() );
+                    out.writeInt( timestamp.getNanos() );
+                    break;
+                case DATE:
+                    out.writeLong( ((Date) value.getValue().right).getTime() );
+                    break;
+                case ARRAY_INT:
+                    Object[] integers = (Object[]) value.getValue().right;
+                    out.writeInt( integers.length );
+                    for ( Object i : integers ) {
+                        out.writeInt( (Integer) i );
+                    }
+                    break;
+                case ARRAY_REAL:
+                    Object[] reals = (Object[]) value.getValue().right;
+                    out.writeInt( reals.length );
+                    for ( Object f : reals ) {
+                        out.writeFloat( (Float) f );
+                    }
+                    break;
+                case BYTE_ARRAY:
+                    // The query string could not be rendered from the statement for interfaces which do not prepare it
+                    throw new RuntimeException( "Queries with binary parameters cannot be compiled, execute the workload without workloadFile: " + parameterizedSql );
+                default:
+                    throw new RuntimeException( "Parameters of type " + value.getValue().left + " cannot be compiled" );
+            }
+        }
+    }
+
+
+    private QueryListEntry readRecord( ByteBuffer record ) {
+        int numberOfTemplateIds = record.getInt();
+        List<Integer> templateIds = new ArrayList<>( numberOfTemplateIds );
+        for ( int i = 0; i < numberOfTemplateIds; i++ ) {
+            templateIds.add( record.getInt() );
+        }
+        boolean expectResultSet = record.get() != 0;
+        String query = readString( record );
+
+        int statementId = record.getInt();
+        if ( statementId < 0 ) {
+            return new QueryListEntry( new CompiledQuery( query, null, null, expectResultSet ), templateIds );
+        }
+        int numberOfValues = record.getInt();
+        Map<Integer, ImmutablePair<DataTypes, Object>> values = new HashMap<>();
+        for ( int i = 0; i < numberOfValues; i++ ) {
+            int index = record.getInt();
+            DataTypes type = DataTypes.values()[record.get()];
+            Object value;
+            switch ( type ) {
+                case INTEGER:
+                    value = record.getInt();
+                    break;
+                case VARCHAR:
+                    value = readString( record );
+                    break;
+                case TIMESTAMP:
+                    Timestamp timestamp = new Timestamp( record.getLong() );
+                    timestamp.setNanos( record.getInt() );
+                    value = timestamp;
+                    break;
+                case DATE:
+                    value = new Date( record.getLong() );
+                    break;
+                case ARRAY_INT:
+                    Integer[] integers = new Integer[record.getInt()];
+                    for ( int j = 0; j < integers.length; j++ ) {
+                        integers[j] = record.getInt();
+                    }
+                    value = integers;
+                    break;
+                case ARRAY_REAL:
+                    Float[] reals = new Float[record.getInt()];
+                    for ( int j = 0; j < reals.length; j++ ) {
+                        reals[j] = record.getFloat();
+                    }
+                    value = reals;
+                    break;
+                default:
+                    throw new RuntimeException( "Unexpected parameter type in compiled workload: " + type );
+            }
+            values.put( index, new ImmutablePair<>( type, value ) );
+        }
+        return new QueryListEntry( new CompiledQuery( query, statements[statementId], values, expectResultSet ), templateIds );
+    }
+
+
+    /**
+     * Returns the next record. The returned buffer stays valid even if another region gets mapped in the meantime.
+     */
+    private ByteBuffer nextRecord() throws IOException {
+        map( position, 4 );
+        int length = region.getInt( (int) (position - regionOffset) );
+        map( position, 4 + length );
+        ByteBuffer record = region.slice( (int) (position - regionOffset) + 4, length );
+        position += 4 + length;
+        return record;
+    }
+
+
+    private void map( long offset, int length ) throws IOException {
+        if ( region != null && offset >= regionOffset && offset + length <= regionOffset + region.capacity() ) {
+            return;
+        }
+        long size = Math.min( Math.max( MAX_MAPPED_REGION_SIZE, length ), footerOffset - offset );
+        region = channel.map( MapMode.READ_ONLY, offset, size );
+        regionOffset = offset;
+    }
+
+
+    @Override
+    public QueryListEntry poll() {
+        ByteBuffer record;
+        lock.lock();
+        try {
+            if ( remaining == 0 ) {
+                return null;
+            }
+            record = nextRecord();
+            remaining--;
+        } catch ( IOException e ) {
+            throw new RuntimeException( "Unable to read compiled workload", e );
+        } finally {
+            lock.unlock();
+        }
+        // Decoding does not need to hold the lock
+        return readRecord( record );
+    }
+
+
+    @Override
+    public int size() {
+        return (int) Math.min( remaining, Integer.MAX_VALUE );
+    }
+
+
+    @Override
+    public boolean offer( QueryListEntry queryListEntry ) {
+        throw new UnsupportedOperationException( "A compiled workload is read-only" );
+    }
+
+
+    @Override
+    public QueryListEntry peek() {
+        throw new UnsupportedOperationException( "Queries of a compiled workload can only be polled" );
+    }
+
+
+    @Override
+    public Iterator<QueryListEntry> iterator() {
+        throw new UnsupportedOperationException( "Queries of a compiled workload can only be polled" );
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+
+    private static void writeString( DataOutputStream out, String str ) throws IOException {
+        byte[] bytes = str == null ? null : str.getBytes( StandardCharsets.UTF_8 );
+        if ( bytes == null ) {
+            out.writeInt( -1 );
+        } else {
+            out.writeInt( bytes.length );
+            out.write( bytes );
+        }
+    }
+
+
+    private static String readString( ByteBuffer buffer ) {
+        int length = buffer.getInt();
+        if ( length < 0 ) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get( bytes );
+        return new String( bytes, StandardCharsets.UTF_8 );
+    }
+
+}
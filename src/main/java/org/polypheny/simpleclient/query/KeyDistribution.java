@@ -0,0 +1,321 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.query;
+
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Picks the key (in the range 1 to numberOfKeys) of the entity a query accesses. Sampling is thread-safe and does not
+ * allocate; the distributions only keep constants derived from the number of keys.
+ * <p>
+ * Distributions are specified as {@code uniform}, {@code zipfian[:theta]} (scrambled, i.e., the popular keys are spread
+ * over the key range), {@code hotspot[:operationFraction:keyFraction]} (the fraction of the operations accessing the
+ * given fraction of the keys with the lowest ids) and {@code latest[:theta]} (Zipfian, the keys with the highest ids
+ * are the most popular). The latest distribution can follow a key range growing while the workload is executed; its
+ * keys then range from 1 to the current maximum key.
+ */
+@Slf4j
+public abstract class KeyDistribution {
+
+    private static final double DEFAULT_THETA = 0.99;
+    private static final double DEFAULT_HOT_OPERATION_FRACTION = 0.8;
+    private static final double DEFAULT_HOT_KEY_FRACTION = 0.2;
+
+    protected final int numberOfKeys;
+
+
+    protected KeyDistribution( int numberOfKeys ) {
+        this.numberOfKeys = numberOfKeys;
+    }
+
+
+    /**
+     * Returns the next key, in the range 1 to numberOfKeys.
+     */
+    public abstract int nextKey();
+
+
+    public static KeyDistribution uniform( int numberOfKeys ) {
+        return new Uniform( numberOfKeys );
+    }
+
+
+    public enum Type {
+        UNIFORM, ZIPFIAN, HOTSPOT, LATEST
+    }
+
+
+    /**
+     * A parsed distribution specification; creates the distribution once the number of keys is known.
+     */
+    public record Spec( Type type, double theta, double hotOperationFraction, double hotKeyFraction ) {
+
+        public static final Spec UNIFORM = new Spec( Type.UNIFORM, 0, 0, 0 );
+
+
+        public KeyDistribution create( int numberOfKeys ) {
+            return create( numberOfKeys, null );
+        }
+
+
+        /**
+         * Creates the distribution for a key range which grows while the workload is executed (e.g., by inserts). Only
+         * the latest distribution follows the current maximum key; the other distributions pick keys from 1 to
+         * numberOfKeys.
+         *
+         * @param maxKey Returns the currently highest key; {@code null} for a fixed key range
+         */
+        public KeyDistribution create( int numberOfKeys, IntSupplier maxKey ) {
+            switch ( type ) {
+                case UNIFORM:
+                    return new Uniform( numberOfKeys );
+                case ZIPFIAN:
+                    return new ScrambledZipfian( numberOfKeys, theta );
+                case HOTSPOT:
+                    return new Hotspot( numberOfKeys, hotOperationFraction, hotKeyFraction );
+                case LATEST:
+                    return new Latest( numberOfKeys, theta, maxKey );
+                default:
+                    throw new RuntimeException( "Unsupported key distribution: " + type );
+            }
+        }
+
+
+        public static Spec parse( String str ) {
+            String[] parts = str.trim().toLowerCase().split( ":" );
+            try {
+                switch ( parts[0].trim() ) {
+                    case "uniform":
+                        checkNumberOfParameters( str, parts, 0 );
+                        return UNIFORM;
+                    case "zipfian":
+                        checkNumberOfParameters( str, parts, 1 );
+                        return new Spec( Type.ZIPFIAN, checkTheta( str, parameter( parts, 1, DEFAULT_THETA ) ), 0, 0 );
+                    case "hotspot":
+                        checkNumberOfParameters( str, parts, 2 );
+                        return new Spec( Type.HOTSPOT, 0, checkFraction( str, parameter( parts, 1, DEFAULT_HOT_OPERATION_FRACTION ) ), checkFraction( str, parameter( parts, 2, DEFAULT_HOT_KEY_FRACTION ) ) );
+                    case "latest":
+                        checkNumberOfParameters( str, parts, 1 );
+                        return new Spec( Type.LATEST, checkTheta( str, parameter( parts, 1, DEFAULT_THETA ) ), 0, 0 );
+                    default:
+                        log.error( "Unknown key distribution '{}'. Supported values are 'uniform', 'zipfian', 'hotspot' and 'latest'.", str );
+                        throw new RuntimeException( "Unknown key distribution '" + str + "'. Supported values are 'uniform', 'zipfian', 'hotspot' and 'latest'." );
+                }
+            } catch ( NumberFormatException e ) {
+                log.error( "Invalid parameter of key distribution '{}'", str );
+                throw new RuntimeException( "Invalid parameter of key distribution '" + str + "'", e );
+            }
+        }
+
+
+        private static double parameter( String[] parts, int index, double defaultValue ) {
+            return parts.length > index ? Double.parseDouble( parts[index].trim() ) : defaultValue;
+        }
+
+
+        private static void checkNumberOfParameters( String str, String[] parts, int max ) {
+            if ( parts.length - 1 > max ) {
+                log.error( "Too many parameters for key distribution '{}'", str );
+                throw new RuntimeException( "Too many parameters for key distribution '" + str + "'" );
+            }
+        }
+
+
+        private static double checkTheta( String str, double theta ) {
+            if ( theta <= 0 || theta >= 1 ) {
+                log.error( "The theta of key distribution '{}' needs to be between 0 and 1 (exclusive)", str );
+                throw new RuntimeException( "The theta of key distribution '" + str + "' needs to be between 0 and 1 (exclusive)" );
+            }
+            return theta;
+        }
+
+
+        private static double checkFraction( String str, double fraction ) {
+            if ( fraction <= 0 || fraction > 1 ) {
+                log.error( "The fractions of key distribution '{}' need to be between 0 (exclusive) and 1", str );
+                throw new RuntimeException( "The fractions of key distribution '" + str + "' need to be between 0 (exclusive) and 1" );
+            }
+            return fraction;
+        }
+
+
+        @Override
+        public String toString() {
+            switch ( type ) {
+                case ZIPFIAN:
+                case LATEST:
+                    return type.name().toLowerCase() + ":" + theta;
+                case HOTSPOT:
+                    return type.name().toLowerCase() + ":" + hotOperationFraction + ":" + hotKeyFraction;
+                default:
+                    return type.name().toLowerCase();
+            }
+        }
+
+    }
+
+
+    private static final class Uniform extends KeyDistribution {
+
+        private Uniform( int numberOfKeys ) {
+            super( numberOfKeys );
+        }
+
+
+        @Override
+        public int nextKey() {
+            return ThreadLocalRandom.current().nextInt( 1, numberOfKeys + 1 );
+        }
+
+    }
+
+
+    private static final class Hotspot extends KeyDistribution {
+
+        private final double hotOperationFraction;
+        private final int hotKeys;
+
+
+        private Hotspot( int numberOfKeys, double hotOperationFraction, double hotKeyFraction ) {
+            super( numberOfKeys );
+            this.hotOperationFraction = hotOperationFraction;
+            this.hotKeys = Math.max( 1, Math.min( numberOfKeys, (int) (numberOfKeys * hotKeyFraction) ) );
+        }
+
+
+        @Override
+        public int nextKey() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if ( hotKeys == numberOfKeys || random.nextDouble() < hotOperationFraction ) {
+                return random.nextInt( 1, hotKeys + 1 );
+            }
+            return random.nextInt( hotKeys + 1, numberOfKeys + 1 );
+        }
+
+    }
+
+
+    /**
+     * Zipfian distribution of the ranks 0 (most popular) to numberOfKeys - 1, using the method of Gray et al. ("Quickly
+     * Generating Billion-Record Synthetic Databases", SIGMOD 1994) as in YCSB.
+     */
+    private abstract static class AbstractZipfian extends KeyDistribution {
+
+        private final double theta;
+        private final double alpha;
+        private final double zetaN;
+        private final double eta;
+        private final double secondRankThreshold;
+
+
+        protected AbstractZipfian( int numberOfKeys, double theta ) {
+            super( numberOfKeys );
+            this.theta = theta;
+            this.alpha = 1.0 / (1.0 - theta);
+            this.zetaN = zeta( numberOfKeys );
+            this.eta = (1.0 - Math.pow( 2.0 / numberOfKeys, 1.0 - theta )) / (1.0 - zeta( 2 ) / zetaN);
+            this.secondRankThreshold = 1.0 + Math.pow( 0.5, theta );
+        }
+
+
+        private double zeta( int n ) {
+            double sum = 0;
+            for ( int i = 1; i <= n; i++ ) {
+                sum += 1.0 / Math.pow( i, theta );
+            }
+            return sum;
+        }
+
+
+        protected int nextRank() {
+            double u = ThreadLocalRandom.current().nextDouble();
+            double uz = u * zetaN;
+            if ( uz < 1.0 ) {
+                return 0;
+            }
+            if ( uz < secondRankThreshold ) {
+                return 1;
+            }
+            return Math.min( numberOfKeys - 1, (int) (numberOfKeys * Math.pow( eta * u - eta + 1, alpha )) );
+        }
+
+    }
+
+
+    private static final class ScrambledZipfian extends AbstractZipfian {
+
+        private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+        private static final long FNV_PRIME = 1099511628211L;
+
+
+        private ScrambledZipfian( int numberOfKeys, double theta ) {
+            super( numberOfKeys, theta );
+        }
+
+
+        @Override
+        public int nextKey() {
+            return (int) Math.floorMod( fnvHash( nextRank() ), (long) numberOfKeys ) + 1;
+        }
+
+
+        // FNV-1a hash of the eight bytes of the value
+        private static long fnvHash( long value ) {
+            long hash = FNV_OFFSET_BASIS;
+            for ( int i = 0; i < 8; i++ ) {
+                hash ^= value & 0xFF;
+                hash *= FNV_PRIME;
+                value >>= 8;
+            }
+            return hash;
+        }
+
+    }
+
+
+    private static final class Latest extends AbstractZipfian {
+
+        private final IntSupplier maxKey;
+
+
+        private Latest( int numberOfKeys, double theta, IntSupplier maxKey ) {
+            super( numberOfKeys, theta );
+            this.maxKey = maxKey;
+        }
+
+
+        @Override
+        public int nextKey() {
+            int max = maxKey == null ? numberOfKeys : Math.max( numberOfKeys, maxKey.getAsInt() );
+            return max - nextRank();
+        }
+
+    }
+
+}
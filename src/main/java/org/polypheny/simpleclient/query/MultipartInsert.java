@@ -29,9 +29,6 @@ import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
-import kong.unirest.core.HttpRequest;
-import kong.unirest.core.MultipartBody;
-import kong.unirest.core.Unirest;
 
 
 public abstract class MultipartInsert extends BatchableInsert {
@@ -52,8 +49,8 @@ public abstract class MultipartInsert extends BatchableInsert {
     public abstract Map<String, String> getRestParameters();
 
 
-    public HttpRequest<?> buildMultipartInsert() {
-        MultipartBody body = Unirest.post( "{protocol}://{host}:{port}/restapi/v1/multipart" ).multiPartContent();
+    public RestRequest buildMultipartInsert() {
+        RestRequest body = RestRequest.post( "/restapi/v1/multipart" );
         body.field( "resName", getEntity() );
         if ( getRestRowExpression() != null ) {
             JsonArray jsonArray = new JsonArray();
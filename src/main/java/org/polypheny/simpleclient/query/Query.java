@@ -31,9 +31,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import kong.unirest.core.HttpRequest;
-import kong.unirest.core.RequestBodyEntity;
-import kong.unirest.core.Unirest;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -61,7 +58,7 @@ public abstract class Query {
 
     public abstract Map<Integer, ImmutablePair<DataTypes, Object>> getParameterValues();
 
-    public abstract HttpRequest<?> getRest();
+    public abstract RestRequest getRest();
 
     public abstract String getMongoQl();
 
@@ -86,25 +83,25 @@ public abstract class Query {
     }
 
 
-    public static HttpRequest<?> buildRestInsert( String table, List<JsonObject> rows ) {
+    public static RestRequest buildRestInsert( String table, List<JsonObject> rows ) {
         JsonArray array = new JsonArray();
         rows.forEach( array::add );
         JsonObject data = new JsonObject();
         data.add( "data", array );
 
-        return Unirest.post( "{protocol}://{host}:{port}/restapi/v1/res/" + table )
+        return RestRequest.post( "/restapi/v1/res/" + table )
                 .header( "Content-Type", "application/json" )
                 .body( data );
     }
 
 
-    public static HttpRequest<?> buildRestUpdate( String table, JsonObject set, Map<String, String> where ) {
+    public static RestRequest buildRestUpdate( String table, JsonObject set, Map<String, String> where ) {
         JsonArray array = new JsonArray();
         array.add( set );
         JsonObject data = new JsonObject();
         data.add( "data", array );
 
-        RequestBodyEntity request = Unirest.patch( "{protocol}://{host}:{port}/restapi/v1/res/" + table )
+        RestRequest request = RestRequest.patch( "/restapi/v1/res/" + table )
                 .header( "Content-Type", "application/json" )
                 .body( data );
 
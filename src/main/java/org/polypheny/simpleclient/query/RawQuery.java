@@ -27,7 +27,6 @@ package org.polypheny.simpleclient.query;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import kong.unirest.core.HttpRequest;
 import lombok.Builder;
 import lombok.Getter;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -40,7 +39,7 @@ public class RawQuery extends Query {
     private final String sql;
 
     @Getter
-    private final HttpRequest<?> rest;
+    private final RestRequest rest;
 
     @Getter
     private final String mongoQl;
@@ -55,13 +54,13 @@ public class RawQuery extends Query {
     private final List<QueryTypes> types;
 
 
-    public RawQuery( String sql, HttpRequest<?> rest, boolean expectResultSet ) {
+    public RawQuery( String sql, RestRequest rest, boolean expectResultSet ) {
         this( sql, rest, null, null, null, Collections.emptyList(), expectResultSet );
     }
 
 
     @Builder
-    public RawQuery( String sql, HttpRequest<?> rest, String mongoQl, String cypher, String surrealQl, List<QueryTypes> types, boolean expectResultSet ) {
+    public RawQuery( String sql, RestRequest rest, String mongoQl, String cypher, String surrealQl, List<QueryTypes> types, boolean expectResultSet ) {
         super( expectResultSet );
         this.sql = sql;
         this.rest = rest;
@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.query;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+
+
+/**
+ * A request to the REST interface of Polypheny, described by its method, path, query parameters and body. The HTTP
+ * request is built by the executor on the HTTP client of its factory, so that the settings and the connection pool of
+ * that client apply.
+ */
+public class RestRequest {
+
+    public enum Method {GET, POST, PATCH, DELETE}
+
+
+    @Getter
+    private final Method method;
+    // Path relative to the base URL of the REST interface, e.g. /restapi/v1/res/public.user
+    @Getter
+    private final String path;
+    @Getter
+    private final List<ImmutablePair<String, Object>> queryParameters = new ArrayList<>();
+    @Getter
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    @Getter
+    private Object body;
+    // Fields of a multipart body, either strings or files
+    private Map<String, Object> fields;
+
+
+    private RestRequest( Method method, String path ) {
+        this.method = method;
+        this.path = path;
+    }
+
+
+    public static RestRequest get( String path ) {
+        return new RestRequest( Method.GET, path );
+    }
+
+
+    public static RestRequest post( String path ) {
+        return new RestRequest( Method.POST, path );
+    }
+
+
+    public static RestRequest patch( String path ) {
+        return new RestRequest( Method.PATCH, path );
+    }
+
+
+    public static RestRequest delete( String path ) {
+        return new RestRequest( Method.DELETE, path );
+    }
+
+
+    public RestRequest queryString( String name, Object value ) {
+        queryParameters.add( new ImmutablePair<>( name, value ) );
+        return this;
+    }
+
+
+    public RestRequest header( String name, String value ) {
+        headers.put( name, value );
+        return this;
+    }
+
+
+    public RestRequest body( Object body ) {
+        if ( fields != null ) {
+            throw new IllegalStateException( "A request cannot have both a body and multipart fields" );
+        }
+        this.body = body;
+        return this;
+    }
+
+
+    public RestRequest field( String name, String value ) {
+        return addField( name, value );
+    }
+
+
+    public RestRequest field( String name, File file ) {
+        return addField( name, file );
+    }
+
+
+    private RestRequest addField( String name, Object value ) {
+        if ( body != null ) {
+            throw new IllegalStateException( "A request cannot have both a body and multipart fields" );
+        }
+        if ( fields == null ) {
+            fields = new LinkedHashMap<>();
+        }
+        fields.put( name, value );
+        return this;
+    }
+
+
+    public boolean isMultipart() {
+        return fields != null;
+    }
+
+
+    public Map<String, Object> getFields() {
+        return fields == null ? Collections.emptyMap() : fields;
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.query;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.polypheny.simpleclient.query.Workload.Template;
+
+
+/**
+ * Generates the queries of a {@link Workload} while it is executed. A generator thread draws the template of the next
+ * query with a probability proportional to the number of queries of that template which are still to be generated
+ * (i.e., sampling without replacement, which yields a uniformly shuffled sequence) and puts the query into a bounded
+ * buffer. The evaluation threads poll from this buffer without locking.
+ * <p>
+ * An unbounded workload never runs out of queries: the templates are drawn with replacement, weighted by their number
+ * of queries, until the workload is stopped.
+ */
+@Slf4j
+public final class StreamingWorkload extends AbstractQueue<QueryListEntry> {
+
+    private static final long WAIT_TIME = 50_000; // in nanoseconds
+
+    private final List<Template> templates;
+    private final long[] remainingPerTemplate;
+    private final Random random;
+    private final int bufferSize;
+    private final boolean unbounded;
+
+    private final Queue<QueryListEntry> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final AtomicLong remaining;
+    private final Thread generator;
+
+    @Getter
+    private volatile Throwable failure;
+    private volatile boolean stopped = false;
+
+
+    StreamingWorkload( Workload workload, long seed, int bufferSize, boolean unbounded ) {
+        if ( unbounded && workload.getNumberOfQueries() == 0 ) {
+            throw new RuntimeException( "An unbounded workload requires at least one query template" );
+        }
+        this.templates = List.copyOf( workload.templates );
+        this.remainingPerTemplate = templates.stream().mapToLong( Template::numberOfQueries ).toArray();
+        this.random = new Random( seed );
+        this.bufferSize = bufferSize;
+        this.unbounded = unbounded;
+        this.remaining = new AtomicLong( unbounded ? Long.MAX_VALUE : workload.getNumberOfQueries() );
+        this.generator = new Thread( this::generate, "WorkloadGenerator" );
+        this.generator.setDaemon( true );
+        this.generator.start();
+    }
+
+
+    private void generate() {
+        // Unbounded workloads keep the counts per template; these are then the weights of the templates
+        long toGenerate = unbounded ? Arrays.stream( remainingPerTemplate ).sum() : remaining.get();
+        try {
+            while ( (unbounded || toGenerate > 0) && !stopped ) {
+                if ( buffered.get() >= bufferSize ) {
+                    LockSupport.parkNanos( WAIT_TIME );
+                    continue;
+                }
+                Template template = nextTemplate( toGenerate );
+                buffer.add( new QueryListEntry( template.queryBuilder().getNewQuery(), template.templateId() ) );
+                buffered.incrementAndGet();
+                if ( !unbounded ) {
+                    toGenerate--;
+                }
+            }
+        } catch ( Throwable t ) {
+            log.error( "Exception while generating queries", t );
+            failure = t;
+        }
+    }
+
+
+    private Template nextTemplate( long toGenerate ) {
+        long r = (long) (random.nextDouble() * toGenerate);
+        for ( int i = 0; i < remainingPerTemplate.length; i++ ) {
+            if ( r < remainingPerTemplate[i] ) {
+                if ( !unbounded ) {
+                    remainingPerTemplate[i]--;
+                }
+                return templates.get( i );
+            }
+            r -= remainingPerTemplate[i];
+        }
+        throw new RuntimeException( "No query left to generate" );
+    }
+
+
+    /**
+     * Returns the next query. Waits if the generator has not caught up; returns {@code null} only if all queries have
+     * been polled.
+     */
+    @Override
+    public QueryListEntry poll() {
+        while ( true ) {
+            QueryListEntry entry = buffer.poll();
+            if ( entry != null ) {
+                buffered.decrementAndGet();
+                remaining.decrementAndGet();
+                return entry;
+            }
+            if ( failure != null ) {
+                throw new RuntimeException( "Exception while generating queries", failure );
+            }
+            if ( remaining.get() == 0 || stopped ) {
+                return null;
+            }
+            LockSupport.parkNanos( WAIT_TIME );
+        }
+    }
+
+
+    @Override
+    public int size() {
+        return (int) Math.min( remaining.get(), Integer.MAX_VALUE );
+    }
+
+
+    @Override
+    public boolean offer( QueryListEntry queryListEntry ) {
+        throw new UnsupportedOperationException( "Queries are generated by the workload" );
+    }
+
+
+    @Override
+    public QueryListEntry peek() {
+        throw new UnsupportedOperationException( "Queries of a streaming workload can only be polled" );
+    }
+
+
+    @Override
+    public Iterator<QueryListEntry> iterator() {
+        throw new UnsupportedOperationException( "Queries of a streaming workload can only be polled" );
+    }
+
+
+    public void stop() {
+        stopped = true;
+    }
+
+}
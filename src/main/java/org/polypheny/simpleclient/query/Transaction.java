@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.query;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.polypheny.simpleclient.executor.Executor;
+import org.polypheny.simpleclient.executor.ExecutorException;
+
+
+/**
+ * A fixed sequence of statements which is executed and measured as one query. The statements are executed on the
+ * same executor, the transaction is committed by the caller.
+ */
+public class Transaction extends Query {
+
+    @Getter
+    private final List<Query> statements;
+
+
+    public Transaction( List<Query> statements ) {
+        super( false );
+        this.statements = statements;
+    }
+
+
+    public long execute( Executor executor ) throws ExecutorException {
+        long time = 0;
+        for ( Query statement : statements ) {
+            time += executor.executeQuery( statement );
+        }
+        return time;
+    }
+
+
+    @Override
+    public String getSql() {
+        return statements.stream().map( Query::getSql ).collect( Collectors.joining( "; " ) );
+    }
+
+
+    @Override
+    public String getParameterizedSqlQuery() {
+        return null;
+    }
+
+
+    @Override
+    public Map<Integer, ImmutablePair<DataTypes, Object>> getParameterValues() {
+        return null;
+    }
+
+
+    @Override
+    public RestRequest getRest() {
+        return null;
+    }
+
+
+    @Override
+    public String getMongoQl() {
+        return null;
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The query templates of a benchmark run together with the number of queries to generate for each of them. The queries
+ * are either generated up front ({@link #toList()}) or on demand while the workload is executed ({@link #stream},
+ * {@link #streamContinuously}).
+ */
+public class Workload {
+
+    final List<Template> templates = new ArrayList<>();
+
+
+    public void add( QueryBuilder queryBuilder, int templateId, int numberOfQueries ) {
+        if ( numberOfQueries > 0 ) {
+            templates.add( new Template( queryBuilder, templateId, numberOfQueries ) );
+        }
+    }
+
+
+    public long getNumberOfQueries() {
+        return templates.stream().mapToLong( Template::numberOfQueries ).sum();
+    }
+
+
+    public List<QueryListEntry> toList() {
+        List<QueryListEntry> list = new ArrayList<>( (int) getNumberOfQueries() );
+        for ( Template template : templates ) {
+            for ( int i = 0; i < template.numberOfQueries(); i++ ) {
+                list.add( new QueryListEntry( template.queryBuilder().getNewQuery(), template.templateId() ) );
+            }
+        }
+        return list;
+    }
+
+
+    /**
+     * Returns a queue generating the queries on demand. The queries are drawn in a random order (determined by the seed)
+     * which is equivalent to shuffling the list returned by {@link #toList()}.
+     */
+    public StreamingWorkload stream( long seed, int bufferSize ) {
+        return new StreamingWorkload( this, seed, bufferSize, false );
+    }
+
+
+    /**
+     * Returns a queue generating queries until it is stopped. The templates are drawn in the ratio of their number of
+     * queries.
+     */
+    public StreamingWorkload streamContinuously( long seed, int bufferSize ) {
+        return new StreamingWorkload( this, seed, bufferSize, true );
+    }
+
+
+    record Template( QueryBuilder queryBuilder, int templateId, int numberOfQueries ) {
+
+    }
+
+}
@@ -32,6 +32,9 @@ import java.util.Map;
 import java.util.Properties;
 import lombok.extern.slf4j.Slf4j;
 import org.polypheny.simpleclient.executor.PolyphenyVersionSwitch;
+import org.polypheny.simpleclient.executor.PostgresExecutor.CopyFormat;
+import org.polypheny.simpleclient.main.CsvWriter.Format;
+import org.polypheny.simpleclient.scenario.ArrivalSchedule.ArrivalDistribution;
 
 
 @Slf4j
@@ -65,6 +68,69 @@ public abstract class AbstractConfig {
 
     public final int numberOfWarmUpIterations;
 
+    // Adaptive warm-up: executes the concurrent query mix until the coefficient of variation of the mean latency of
+    // every query template over the last warmUpWindows windows (of warmUpWindow seconds) is below warmUpCvThreshold
+    public final boolean adaptiveWarmUp;
+    public final long warmUpMaxDuration;
+    public final int warmUpWindow;
+    public final int warmUpWindows;
+    public final double warmUpCvThreshold;
+
+    // Duration-based execution (in seconds): queries are generated until the end of the cool-down, but only the queries
+    // started during the steady state are measured; a steady state of 0 executes the configured number of queries
+    public final long rampUpDuration;
+    public final long steadyStateDuration;
+    public final long coolDownDuration;
+
+    // Saturation search: executes duration-based steps at increasing load (number of threads or, for open-loop runs, the
+    // target rate) until the p99 latency exceeds latencySlo (ms; 0 = no SLO) or the throughput stops growing
+    public final boolean saturationSearch;
+    public final double saturationStep; // 0 = the initial load
+    public final int saturationMaxSteps;
+    public final int saturationBinarySearchSteps;
+    public final double latencySlo;
+    public final double saturationMinGain;
+
+    // Open-loop execution: queries per second over all threads; 0 executes the workload closed-loop
+    public final double targetRate;
+    public final ArrivalDistribution arrivalDistribution;
+
+    // Run every simulated client (numberOfThreads) on its own virtual thread
+    public final boolean useVirtualThreads;
+
+    // Number of outstanding queries per client for executors supporting asynchronous dispatch; 0 waits for every result
+    public final int asyncWindowSize;
+
+    // Compiled workload: written on the first run, replayed (instead of generating the queries) on later runs
+    public final String workloadFile;
+
+    // Generate the queries while executing the workload instead of up front
+    public final boolean streamWorkload;
+
+    // Pipelined data loading: number of insert workers draining the batches of the data generators; 0 inserts on the generator threads
+    public final int numberOfInsertWorkers;
+    // Batch latency (ms) the batch size of pipelined data loading is tuned for; 0 keeps the configured batch size
+    public final long targetBatchLatency;
+
+    // PostgreSQL: load the data using COPY in this format instead of INSERT statements
+    public final CopyFormat copyFormat;
+
+    // Format of the per-query results file written with --writeCSV: the full query as CSV or compact binary records
+    public final Format latencyLogFormat;
+
+    // Port of the Prometheus scrape endpoint exposing the live metrics while executing the workload; 0 disables it
+    public final int metricsPort;
+    // Address the scrape endpoint binds to; empty binds to the loopback address only
+    public final String metricsHost;
+    // Write the per-second windows of throughput and latency to the timeline file of the results
+    public final boolean writeTimeline;
+
+    // Record a JFR session of the client for every phase and flag phases in which the client used more than the given
+    // share of its CPUs or was paused (GC, safepoints) for more than the given share of the time
+    public final boolean clientProfiling;
+    public final double clientOverheadCpuThreshold;
+    public final double clientOverheadPauseThreshold;
+
     public final boolean workloadMonitoringExecutingWorkload;
     public final boolean workloadMonitoringLoadingData;
     public final boolean workloadMonitoringWarmup;
@@ -99,6 +165,39 @@ public abstract class AbstractConfig {
 
         numberOfThreads = getIntProperty( properties, "numberOfThreads" );
         numberOfWarmUpIterations = getIntProperty( properties, "numberOfWarmUpIterations" );
+        adaptiveWarmUp = getBooleanProperty( properties, "adaptiveWarmUp", false );
+        warmUpMaxDuration = getLongProperty( properties, "warmUpMaxDuration", 600 );
+        warmUpWindow = getIntProperty( properties, "warmUpWindow", 5 );
+        warmUpWindows = getIntProperty( properties, "warmUpWindows", 6 );
+        warmUpCvThreshold = getDoubleProperty( properties, "warmUpCvThreshold", 0.1 );
+
+        rampUpDuration = getLongProperty( properties, "rampUpDuration", 0 );
+        steadyStateDuration = getLongProperty( properties, "steadyStateDuration", 0 );
+        coolDownDuration = getLongProperty( properties, "coolDownDuration", 0 );
+
+        saturationSearch = getBooleanProperty( properties, "saturationSearch", false );
+        saturationStep = getDoubleProperty( properties, "saturationStep", 0 );
+        saturationMaxSteps = getIntProperty( properties, "saturationMaxSteps", 20 );
+        saturationBinarySearchSteps = getIntProperty( properties, "saturationBinarySearchSteps", 4 );
+        latencySlo = getDoubleProperty( properties, "latencySlo", 0 );
+        saturationMinGain = getDoubleProperty( properties, "saturationMinGain", 0.05 );
+
+        targetRate = getDoubleProperty( properties, "targetRate", 0 );
+        arrivalDistribution = parseArrivalDistribution( getStringProperty( properties, "arrivalDistribution", "poisson" ) );
+        useVirtualThreads = getBooleanProperty( properties, "useVirtualThreads", false );
+        asyncWindowSize = getIntProperty( properties, "asyncWindowSize", 0 );
+        workloadFile = getStringProperty( properties, "workloadFile", null );
+        streamWorkload = getBooleanProperty( properties, "streamWorkload", false );
+        numberOfInsertWorkers = getIntProperty( properties, "numberOfInsertWorkers", 0 );
+        targetBatchLatency = getLongProperty( properties, "targetBatchLatency", 0 );
+        copyFormat = parseCopyFormat( getStringProperty( properties, "copyFormat", "none" ) );
+        latencyLogFormat = parseLatencyLogFormat( getStringProperty( properties, "latencyLogFormat", "csv" ) );
+        metricsPort = getIntProperty( properties, "metricsPort", 0 );
+        metricsHost = getStringProperty( properties, "metricsHost", "" );
+        writeTimeline = getBooleanProperty( properties, "writeTimeline", false );
+        clientProfiling = getBooleanProperty( properties, "clientProfiling", false );
+        clientOverheadCpuThreshold = getDoubleProperty( properties, "clientOverheadCpuThreshold", 0.8 );
+        clientOverheadPauseThreshold = getDoubleProperty( properties, "clientOverheadPauseThreshold", 0.02 );
 
         workloadMonitoringExecutingWorkload = false;
         workloadMonitoringLoadingData = true;
@@ -129,6 +228,39 @@ public abstract class AbstractConfig {
 
         numberOfThreads = Integer.parseInt( cdl.get( "numberOfThreads" ) );
         numberOfWarmUpIterations = Integer.parseInt( cdlGetOrDefault( cdl, "numberOfWarmUpIterations", "4" ) );
+        adaptiveWarmUp = Boolean.parseBoolean( cdlGetOptional( cdl, "adaptiveWarmUp", "false" ) );
+        warmUpMaxDuration = Long.parseLong( cdlGetOptional( cdl, "warmUpMaxDuration", "600" ) );
+        warmUpWindow = Integer.parseInt( cdlGetOptional( cdl, "warmUpWindow", "5" ) );
+        warmUpWindows = Integer.parseInt( cdlGetOptional( cdl, "warmUpWindows", "6" ) );
+        warmUpCvThreshold = Double.parseDouble( cdlGetOptional( cdl, "warmUpCvThreshold", "0.1" ) );
+
+        rampUpDuration = Long.parseLong( cdlGetOptional( cdl, "rampUpDuration", "0" ) );
+        steadyStateDuration = Long.parseLong( cdlGetOptional( cdl, "steadyStateDuration", "0" ) );
+        coolDownDuration = Long.parseLong( cdlGetOptional( cdl, "coolDownDuration", "0" ) );
+
+        saturationSearch = Boolean.parseBoolean( cdlGetOptional( cdl, "saturationSearch", "false" ) );
+        saturationStep = Double.parseDouble( cdlGetOptional( cdl, "saturationStep", "0" ) );
+        saturationMaxSteps = Integer.parseInt( cdlGetOptional( cdl, "saturationMaxSteps", "20" ) );
+        saturationBinarySearchSteps = Integer.parseInt( cdlGetOptional( cdl, "saturationBinarySearchSteps", "4" ) );
+        latencySlo = Double.parseDouble( cdlGetOptional( cdl, "latencySlo", "0" ) );
+        saturationMinGain = Double.parseDouble( cdlGetOptional( cdl, "saturationMinGain", "0.05" ) );
+
+        targetRate = Double.parseDouble( cdlGetOptional( cdl, "targetRate", "0" ) );
+        arrivalDistribution = parseArrivalDistribution( cdlGetOptional( cdl, "arrivalDistribution", "poisson" ) );
+        useVirtualThreads = Boolean.parseBoolean( cdlGetOptional( cdl, "useVirtualThreads", "false" ) );
+        asyncWindowSize = Integer.parseInt( cdlGetOptional( cdl, "asyncWindowSize", "0" ) );
+        workloadFile = cdlGetOptional( cdl, "workloadFile", null );
+        streamWorkload = Boolean.parseBoolean( cdlGetOptional( cdl, "streamWorkload", "false" ) );
+        numberOfInsertWorkers = Integer.parseInt( cdlGetOptional( cdl, "numberOfInsertWorkers", "0" ) );
+        targetBatchLatency = Long.parseLong( cdlGetOptional( cdl, "targetBatchLatency", "0" ) );
+        copyFormat = parseCopyFormat( cdlGetOptional( cdl, "copyFormat", "none" ) );
+        latencyLogFormat = parseLatencyLogFormat( cdlGetOptional( cdl, "latencyLogFormat", "csv" ) );
+        metricsPort = Integer.parseInt( cdlGetOptional( cdl, "metricsPort", "0" ) );
+        metricsHost = cdlGetOptional( cdl, "metricsHost", "" );
+        writeTimeline = Boolean.parseBoolean( cdlGetOptional( cdl, "writeTimeline", "false" ) );
+        clientProfiling = Boolean.parseBoolean( cdlGetOptional( cdl, "clientProfiling", "false" ) );
+        clientOverheadCpuThreshold = Double.parseDouble( cdlGetOptional( cdl, "clientOverheadCpuThreshold", "0.8" ) );
+        clientOverheadPauseThreshold = Double.parseDouble( cdlGetOptional( cdl, "clientOverheadPauseThreshold", "0.02" ) );
 
         String dataStoresStr = cdlGetOrDefault( cdl, "dataStore", null );
         if ( dataStoresStr != null ) {
@@ -156,6 +288,57 @@ public abstract class AbstractConfig {
     public abstract boolean usePreparedBatchForDataInsertion();
 
 
+    public boolean isOpenLoop() {
+        return targetRate > 0;
+    }
+
+
+    public boolean isDurationBased() {
+        return steadyStateDuration > 0;
+    }
+
+
+    private ArrivalDistribution parseArrivalDistribution( String str ) {
+        switch ( str.trim().toLowerCase() ) {
+            case "constant":
+                return ArrivalDistribution.CONSTANT;
+            case "poisson":
+                return ArrivalDistribution.POISSON;
+            default:
+                log.error( "Unknown arrival distribution '{}'. Supported values are 'constant' and 'poisson'.", str );
+                throw new RuntimeException( "Unknown arrival distribution '" + str + "'. Supported values are 'constant' and 'poisson'." );
+        }
+    }
+
+
+    private CopyFormat parseCopyFormat( String str ) {
+        switch ( str.trim().toLowerCase() ) {
+            case "none":
+                return CopyFormat.NONE;
+            case "csv":
+                return CopyFormat.CSV;
+            case "binary":
+                return CopyFormat.BINARY;
+            default:
+                log.error( "Unknown copy format '{}'. Supported values are 'none', 'csv' and 'binary'.", str );
+                throw new RuntimeException( "Unknown copy format '" + str + "'. Supported values are 'none', 'csv' and 'binary'." );
+        }
+    }
+
+
+    private Format parseLatencyLogFormat( String str ) {
+        switch ( str.trim().toLowerCase() ) {
+            case "csv":
+                return Format.CSV;
+            case "binary":
+                return Format.BINARY;
+            default:
+                log.error( "Unknown latency log format '{}'. Supported values are 'csv' and 'binary'.", str );
+                throw new RuntimeException( "Unknown latency log format '" + str + "'. Supported values are 'csv' and 'binary'." );
+        }
+    }
+
+
     private String getProperty( Properties properties, String name ) {
         return properties.getProperty( name );
     }
@@ -202,7 +385,43 @@ public abstract class AbstractConfig {
 
 
     protected boolean getBooleanProperty( Properties properties, String name ) {
-        String str = getStringProperty( properties, name );
+        return parseBooleanProperty( name, getStringProperty( properties, name ) );
+    }
+
+
+    // Optional properties: the default value is used if the config does not contain the property
+
+    protected String getStringProperty( Properties properties, String name, String defaultValue ) {
+        String str = getProperty( properties, name );
+        return str == null ? defaultValue : str;
+    }
+
+
+    protected int getIntProperty( Properties properties, String name, int defaultValue ) {
+        String str = getProperty( properties, name );
+        return str == null ? defaultValue : Integer.parseInt( str.trim() );
+    }
+
+
+    protected long getLongProperty( Properties properties, String name, long defaultValue ) {
+        String str = getProperty( properties, name );
+        return str == null ? defaultValue : Long.parseLong( str.trim() );
+    }
+
+
+    protected double getDoubleProperty( Properties properties, String name, double defaultValue ) {
+        String str = getProperty( properties, name );
+        return str == null ? defaultValue : Double.parseDouble( str.trim() );
+    }
+
+
+    protected boolean getBooleanProperty( Properties properties, String name, boolean defaultValue ) {
+        String str = getProperty( properties, name );
+        return str == null ? defaultValue : parseBooleanProperty( name, str.trim() );
+    }
+
+
+    private boolean parseBooleanProperty( String name, String str ) {
         switch ( str ) {
             case "true":
                 return true;
@@ -224,4 +443,13 @@ public abstract class AbstractConfig {
         }
     }
 
+
+    /**
+     * Like {@link #cdlGetOrDefault} but without a warning if the job does not contain a value. Used for optional settings,
+     * which jobs defined before the setting has been introduced do not contain.
+     */
+    protected String cdlGetOptional( Map<String, String> cdl, String key, String defaultValue ) {
+        return cdl.getOrDefault( key, defaultValue );
+    }
+
 }
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario;
+
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Hands out the intended start times of an open-loop benchmark run. The start times are independent of how fast the
+ * system under test answers; latencies measured from these times therefore include the time a query had to wait
+ * because all evaluation threads were busy (no coordinated omission).
+ */
+public final class ArrivalSchedule {
+
+    public enum ArrivalDistribution {
+        CONSTANT, POISSON
+    }
+
+
+    private final ArrivalDistribution distribution;
+    private final double meanInterArrivalTime; // in nanoseconds
+    private final Random random;
+
+    // Not synchronized: blocking on a monitor pins the carrier thread of a virtual thread
+    private final ReentrantLock lock = new ReentrantLock();
+    private long nextArrival;
+
+
+    public ArrivalSchedule( double targetRate, ArrivalDistribution distribution, long seed ) {
+        if ( targetRate <= 0 ) {
+            throw new RuntimeException( "The target rate of an open-loop run needs to be positive" );
+        }
+        this.distribution = distribution;
+        this.meanInterArrivalTime = 1_000_000_000.0 / targetRate;
+        this.random = new Random( seed );
+    }
+
+
+    public void start( long startTime ) {
+        lock.lock();
+        try {
+            nextArrival = startTime;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the intended start time (in terms of {@link System#nanoTime()}) of the next query.
+     */
+    public long next() {
+        lock.lock();
+        try {
+            long arrival = nextArrival;
+            switch ( distribution ) {
+                case CONSTANT:
+                    nextArrival += Math.round( meanInterArrivalTime );
+                    break;
+                case POISSON:
+                    // Exponentially distributed inter-arrival times
+                    nextArrival += Math.round( -Math.log( 1.0 - random.nextDouble() ) * meanInterArrivalTime );
+                    break;
+                default:
+                    throw new RuntimeException( "Unsupported arrival distribution: " + distribution );
+            }
+            return arrival;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
@@ -0,0 +1,299 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.polypheny.simpleclient.executor.Executor;
+import org.polypheny.simpleclient.executor.ExecutorException;
+import org.polypheny.simpleclient.query.BatchableInsert;
+
+
+/**
+ * Pipelined data loading: data generators submit completed batches to a bounded queue, which is drained by a pool of
+ * insert workers, each with its own executor. This way, generating the data and inserting it overlap.
+ * <p>
+ * Batches submitted by one generator might be inserted in any order. Generators which depend on the insertion of a
+ * batch (e.g., because of foreign keys) have to wait for the future returned by {@link #submit(List)}.
+ */
+@Slf4j
+public class BulkLoader implements AutoCloseable {
+
+    private static final long REPORT_INTERVAL_NANOS = 10_000_000_000L;
+
+    // Auto-tuning keeps the batch size within this factor of the configured batch size
+    private static final int BATCH_SIZE_RANGE = 16;
+
+    private static final Batch END = new Batch( List.of() );
+
+    private final AbstractConfig config;
+    private final BlockingQueue<Batch> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final long targetBatchLatencyNanos;
+    private volatile int batchSize;
+    private double nanosPerRow = 0;
+
+    private final long startTime;
+    private final AtomicLong pendingBatches = new AtomicLong();
+    private final AtomicLong insertedRows = new AtomicLong();
+    private final AtomicLong lastReport;
+
+    private BatchListener batchListener = null;
+
+
+    /**
+     * @param batchSize Initial number of rows per batch
+     * @param targetBatchLatencyMillis Batch latency the batch size is tuned for, 0 to keep the batch size fixed
+     */
+    public BulkLoader( int numberOfWorkers, int queueCapacity, Supplier<Executor> executorSupplier, AbstractConfig config, int batchSize, long targetBatchLatencyMillis ) {
+        this.config = config;
+        this.queue = new ArrayBlockingQueue<>( Math.max( 1, queueCapacity ) );
+        this.batchSize = batchSize;
+        this.minBatchSize = Math.max( 1, batchSize / BATCH_SIZE_RANGE );
+        this.maxBatchSize = batchSize * BATCH_SIZE_RANGE;
+        this.targetBatchLatencyNanos = targetBatchLatencyMillis * 1_000_000L;
+
+        startTime = System.nanoTime();
+        lastReport = new AtomicLong( startTime );
+        for ( int i = 0; i < numberOfWorkers; i++ ) {
+            // Executors are created on this thread, since some factories are not thread-safe
+            Executor executor = executorSupplier.get();
+            Thread worker = new Thread( () -> work( executor ), "InsertWorker-" + i );
+            workers.add( worker );
+            worker.start();
+        }
+        log.info( "Loading data with {} insert workers (batch size {}{})", numberOfWorkers, batchSize, targetBatchLatencyNanos > 0 ? ", tuned for " + targetBatchLatencyMillis + " ms per batch" : "" );
+    }
+
+
+    /**
+     * Sets a listener which is called by the insert workers after every inserted batch.
+     */
+    public void setBatchListener( BatchListener batchListener ) {
+        this.batchListener = batchListener;
+    }
+
+
+    /**
+     * The number of rows the generators should put into a batch.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+
+    /**
+     * Enqueues the batch for insertion; blocks while the queue is full. The list is handed over to the loader and
+     * must not be modified afterward.
+     */
+    public CompletableFuture<Void> submit( List<BatchableInsert> inserts ) throws ExecutorException {
+        checkFailure();
+        Batch batch = new Batch( inserts );
+        pendingBatches.incrementAndGet();
+        batch.future.whenComplete( ( result, e ) -> pendingBatches.decrementAndGet() );
+        try {
+            queue.put( batch );
+        } catch ( InterruptedException e ) {
+            throw new RuntimeException( "Unexpected interrupt", e );
+        }
+        return batch.future;
+    }
+
+
+    /**
+     * Waits until all batches submitted so far have been inserted.
+     */
+    public void awaitCompletion() throws ExecutorException {
+        while ( pendingBatches.get() > 0 && failure.get() == null ) {
+            LockSupport.parkNanos( 1_000_000 );
+        }
+        checkFailure();
+    }
+
+
+    /**
+     * Waits until the batch has been inserted.
+     */
+    public static void await( CompletableFuture<Void> future ) throws ExecutorException {
+        try {
+            future.join();
+        } catch ( CompletionException e ) {
+            throw new ExecutorException( "Exception while inserting batch", e.getCause() instanceof Exception cause ? cause : e );
+        }
+    }
+
+
+    /**
+     * Whether inserting a batch has failed. Generators should stop once this happens.
+     */
+    public boolean isAborted() {
+        return failure.get() != null;
+    }
+
+
+    private void checkFailure() throws ExecutorException {
+        Exception e = failure.get();
+        if ( e != null ) {
+            throw new ExecutorException( "Exception while inserting data", e );
+        }
+    }
+
+
+    private void work( Executor executor ) {
+        try {
+            while ( true ) {
+                Batch batch = queue.take();
+                if ( batch == END ) {
+                    break;
+                }
+                if ( failure.get() != null ) {
+                    // Drain the queue so that blocked generators can observe the failure
+                    batch.future.completeExceptionally( failure.get() );
+                    continue;
+                }
+                try {
+                    long start = System.nanoTime();
+                    executor.executeInsertList( batch.inserts, config );
+                    executor.executeCommit();
+                    long nanos = System.nanoTime() - start;
+                    inserted( batch.inserts, nanos );
+                    batch.future.complete( null );
+                } catch ( Exception e ) {
+                    failure.compareAndSet( null, e );
+                    log.error( "Exception while inserting data", e );
+                    try {
+                        executor.executeRollback();
+                    } catch ( ExecutorException ex ) {
+                        log.error( "Error while rollback", ex );
+                    }
+                    batch.future.completeExceptionally( e );
+                }
+            }
+        } catch ( InterruptedException e ) {
+            throw new RuntimeException( "Unexpected interrupt", e );
+        } finally {
+            try {
+                executor.closeConnection();
+            } catch ( ExecutorException e ) {
+                log.error( "Error while closing connection", e );
+            }
+        }
+    }
+
+
+    private void inserted( List<BatchableInsert> inserts, long nanos ) {
+        long rows = insertedRows.addAndGet( inserts.size() );
+        if ( targetBatchLatencyNanos > 0 ) {
+            tuneBatchSize( inserts.size(), nanos );
+        }
+        if ( batchListener != null ) {
+            batchListener.inserted( inserts, nanos );
+        }
+
+        long now = System.nanoTime();
+        long last = lastReport.get();
+        if ( now - last > REPORT_INTERVAL_NANOS && lastReport.compareAndSet( last, now ) ) {
+            log.info( "Inserted {} rows ({} rows/s, batch size {})", rows, (long) getRowsPerSecond( rows, now ), batchSize );
+        }
+    }
+
+
+    /**
+     * Estimates the costs per row from the observed batch latencies (exponentially weighted) and sizes the batches
+     * such that inserting one takes about the target latency.
+     */
+    private synchronized void tuneBatchSize( int rows, long nanos ) {
+        double observed = (double) nanos / rows;
+        nanosPerRow = nanosPerRow == 0 ? observed : 0.8 * nanosPerRow + 0.2 * observed;
+        long size = Math.round( targetBatchLatencyNanos / nanosPerRow );
+        batchSize = (int) Math.max( minBatchSize, Math.min( maxBatchSize, size ) );
+    }
+
+
+    private double getRowsPerSecond( long rows, long now ) {
+        return rows / Math.max( 1e-9, (now - startTime) / 1e9 );
+    }
+
+
+    /**
+     * Waits until all submitted batches are inserted and stops the workers.
+     */
+    @Override
+    public void close() throws ExecutorException {
+        for ( int i = 0; i < workers.size(); i++ ) {
+            try {
+                queue.put( END );
+            } catch ( InterruptedException e ) {
+                throw new RuntimeException( "Unexpected interrupt", e );
+            }
+        }
+        for ( Thread worker : workers ) {
+            try {
+                worker.join();
+            } catch ( InterruptedException e ) {
+                throw new RuntimeException( "Unexpected interrupt", e );
+            }
+        }
+        long rows = insertedRows.get();
+        long now = System.nanoTime();
+        log.info( "Inserted {} rows in {} s ({} rows/s)", rows, (now - startTime) / 1_000_000_000L, (long) getRowsPerSecond( rows, now ) );
+        checkFailure();
+    }
+
+
+    @FunctionalInterface
+    public interface BatchListener {
+
+        void inserted( List<BatchableInsert> batch, long nanos );
+
+    }
+
+
+    private static class Batch {
+
+        private final List<BatchableInsert> inserts;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+
+        private Batch( List<BatchableInsert> inserts ) {
+            this.inserts = inserts;
+        }
+
+    }
+
+}
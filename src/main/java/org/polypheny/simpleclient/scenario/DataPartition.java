@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Getter;
+
+
+/**
+ * One of several disjoint slices of the data generated by parallel data generation threads.
+ */
+public class DataPartition {
+
+    // Golden ratio increment (as used by SplittableRandom) to spread the seeds of the partitions
+    private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+    @Getter
+    private final int index;
+    @Getter
+    private final int numberOfPartitions;
+
+    private final AtomicBoolean aborted;
+
+
+    public DataPartition( int index, int numberOfPartitions, AtomicBoolean aborted ) {
+        this.index = index;
+        this.numberOfPartitions = numberOfPartitions;
+        this.aborted = aborted;
+    }
+
+
+    /**
+     * Returns the first index (inclusive) of this partition when splitting {@code total} items.
+     */
+    public int getFirst( int total ) {
+        return (int) ((long) total * index / numberOfPartitions);
+    }
+
+
+    /**
+     * Returns the last index (exclusive) of this partition when splitting {@code total} items.
+     */
+    public int getEnd( int total ) {
+        return (int) ((long) total * (index + 1) / numberOfPartitions);
+    }
+
+
+    /**
+     * Derives a seed for this partition. The first partition uses the seed itself, so that generating the data on a
+     * single thread produces the same data as before.
+     */
+    public long getSeed( long seed ) {
+        return seed + index * SEED_INCREMENT;
+    }
+
+
+    /**
+     * Whether data generation has failed in another partition.
+     */
+    public boolean isAborted() {
+        return aborted.get();
+    }
+
+
+    void abort() {
+        aborted.set( true );
+    }
+
+}
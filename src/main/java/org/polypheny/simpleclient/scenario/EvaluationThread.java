@@ -24,44 +24,124 @@
 
 package org.polypheny.simpleclient.scenario;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.polypheny.simpleclient.executor.AsyncExecutor;
 import org.polypheny.simpleclient.executor.Executor;
 import org.polypheny.simpleclient.executor.ExecutorException;
+import org.polypheny.simpleclient.executor.JdbcExecutor;
+import org.polypheny.simpleclient.executor.JdbcExecutor.ResultConsumption;
+import org.polypheny.simpleclient.executor.PolyphenyDbJdbcExecutorPool;
+import org.polypheny.simpleclient.main.CsvWriter;
 import org.polypheny.simpleclient.query.QueryListEntry;
+import org.polypheny.simpleclient.query.Transaction;
 
 @Getter
 @Slf4j
-public class EvaluationThread extends Thread {
+public class EvaluationThread implements Runnable {
 
     private final Executor executor;
     private final Queue<QueryListEntry> queries;
-    private boolean abort = false;
+    private volatile boolean abort = false;
     @Setter
     private EvaluationThreadMonitor threadMonitor;
+    @Setter
+    private MetricsTimeline metricsTimeline;
+    // Only set for duration-based runs
+    @Setter
+    private RunPhases runPhases;
+
+    // Either owned by this thread and read after it has been joined, or concurrent histograms shared by all clients
+    private final Histogram measuredTimes;
 
-    private final List<Long> measuredTimes = Collections.synchronizedList( new LinkedList<>() );
+    private final Map<Integer, Histogram> measuredTimePerQueryType;
 
-    private final Map<Integer, List<Long>> measuredTimePerQueryType = new ConcurrentHashMap<>();
+    // Rows and bytes fetched per query type; only recorded for JDBC executors
+    private final Map<Integer, long[]> fetchedPerQueryType = new HashMap<>();
 
     final boolean commitAfterEveryQuery;
 
+    // Only set for open-loop runs
+    private final ArrivalSchedule arrivalSchedule;
+
+    // Only set if queries are dispatched asynchronously; limits the number of outstanding queries
+    private Semaphore asyncWindow;
+    private int asyncWindowSize;
+
+    private Thread thread;
+
 
     public EvaluationThread( Queue<QueryListEntry> queryList, Executor executor, Set<Integer> templateIds, boolean commitAfterEveryQuery ) {
-        super( "EvaluationThread" );
+        this( queryList, executor, templateIds, commitAfterEveryQuery, null );
+    }
+
+
+    public EvaluationThread( Queue<QueryListEntry> queryList, Executor executor, Set<Integer> templateIds, boolean commitAfterEveryQuery, ArrivalSchedule arrivalSchedule ) {
         this.executor = executor;
         this.queries = queryList;
-        templateIds.forEach( id -> measuredTimePerQueryType.put( id, new ArrayList<>() ) );
+        this.measuredTimes = Scenario.createLatencyHistogram();
+        this.measuredTimePerQueryType = new HashMap<>();
+        templateIds.forEach( id -> measuredTimePerQueryType.put( id, Scenario.createLatencyHistogram() ) );
         this.commitAfterEveryQuery = commitAfterEveryQuery;
+        this.arrivalSchedule = arrivalSchedule;
+    }
+
+
+    /**
+     * Creates an evaluation thread recording into histograms shared with other threads. The histograms need to be
+     * safe for concurrent recording and the map must not be modified while the threads are running.
+     */
+    public EvaluationThread( Queue<QueryListEntry> queryList, Executor executor, Histogram measuredTimes, Map<Integer, Histogram> measuredTimePerQueryType, boolean commitAfterEveryQuery, ArrivalSchedule arrivalSchedule ) {
+        this.executor = executor;
+        this.queries = queryList;
+        this.measuredTimes = measuredTimes;
+        this.measuredTimePerQueryType = measuredTimePerQueryType;
+        this.commitAfterEveryQuery = commitAfterEveryQuery;
+        this.arrivalSchedule = arrivalSchedule;
+    }
+
+
+    /**
+     * Lets this thread dispatch queries asynchronously, keeping up to {@code windowSize} queries outstanding.
+     * Requires an {@link AsyncExecutor} and histograms which are safe for concurrent recording, since latencies are
+     * recorded in the completion callbacks.
+     */
+    public void setAsyncWindowSize( int windowSize ) {
+        if ( !(executor instanceof AsyncExecutor) ) {
+            throw new RuntimeException( "The executor " + executor.getClass().getSimpleName() + " does not support asynchronous execution" );
+        }
+        if ( !(measuredTimes instanceof ConcurrentHistogram) ) {
+            throw new RuntimeException( "Asynchronous execution requires histograms which are safe for concurrent recording" );
+        }
+        this.asyncWindowSize = windowSize;
+        this.asyncWindow = new Semaphore( windowSize );
+    }
+
+
+    public void start() {
+        start( false );
+    }
+
+
+    public void start( boolean virtual ) {
+        thread = (virtual ? Thread.ofVirtual() : Thread.ofPlatform()).name( "EvaluationThread" ).unstarted( this );
+        thread.start();
+    }
+
+
+    public void join() throws InterruptedException {
+        thread.join();
     }
 
 
@@ -72,13 +152,50 @@ public class EvaluationThread extends Thread {
         QueryListEntry queryListEntry;
 
         while ( !queries.isEmpty() && !abort ) {
-            measuredTimeStart = System.nanoTime();
-            queryListEntry = queries.poll();
+            if ( runPhases != null && runPhases.isFinished( System.nanoTime() ) ) {
+                break;
+            }
+            try {
+                queryListEntry = queries.poll();
+            } catch ( RuntimeException e ) {
+                // A streaming workload fails if its generator failed; abort the other threads as well
+                log.error( "Caught exception while taking the next query", e );
+                threadMonitor.notifyAboutError( e );
+                throw e;
+            }
             if ( queryListEntry == null ) {
                 break;
             }
+            if ( arrivalSchedule != null ) {
+                // Open-loop: measure from the intended start time, not from the time this thread became available
+                measuredTimeStart = arrivalSchedule.next();
+            } else {
+                // Closed-loop: start measuring once the query is available, a streaming workload might still be generating it
+                measuredTimeStart = System.nanoTime();
+            }
+            if ( runPhases != null && runPhases.isFinished( measuredTimeStart ) ) {
+                break;
+            }
+            if ( arrivalSchedule != null ) {
+                waitUntil( measuredTimeStart );
+                if ( abort ) {
+                    break;
+                }
+            }
+            // Queries executed synchronously (also by the asynchronous dispatch) are logged with the template of this thread
+            CsvWriter.setCurrentTemplateId( queryListEntry.templateId );
+            if ( asyncWindow != null ) {
+                dispatchAsync( queryListEntry, measuredTimeStart );
+                continue;
+            }
+            // Discard waits of previous commits, only the wait of this query is excluded from its measured time
+            PolyphenyDbJdbcExecutorPool.takeThreadWaitNanos();
             try {
-                executor.executeQuery( queryListEntry.query );
+                if ( queryListEntry.query instanceof Transaction transaction ) {
+                    transaction.execute( executor );
+                } else {
+                    executor.executeQuery( queryListEntry.query );
+                }
             } catch ( ExecutorException e ) {
                 log.error( "Caught exception while executing queries", e );
                 threadMonitor.notifyAboutError( e );
@@ -89,13 +206,13 @@ public class EvaluationThread extends Thread {
                 }
                 throw new RuntimeException( e );
             }
-            measuredTime = System.nanoTime() - measuredTimeStart;
-            measuredTimes.add( measuredTime );
-            measuredTimePerQueryType.get( queryListEntry.templateId ).add( measuredTime );
-            for ( Integer id : queryListEntry.templateIds ) {
-                if ( id != queryListEntry.templateId ) {
-                    measuredTimePerQueryType.get( id ).add( measuredTime );
-                }
+            // Executors falling back to pooled JDBC connections may have waited for one; this is not part of the query
+            measuredTime = System.nanoTime() - measuredTimeStart - PolyphenyDbJdbcExecutorPool.takeThreadWaitNanos();
+            record( queryListEntry, measuredTimeStart, measuredTime );
+            if ( executor instanceof JdbcExecutor jdbcExecutor && isMeasured( measuredTimeStart ) ) {
+                // Values are not decoded when only counting the rows, so there are no bytes to report
+                boolean bytesMeasured = jdbcExecutor.getResultConsumption() != ResultConsumption.COUNT;
+                recordFetched( queryListEntry, jdbcExecutor.getLastFetchedRows(), bytesMeasured ? jdbcExecutor.getLastFetchedBytes() : -1 );
             }
             if ( commitAfterEveryQuery ) {
                 try {
@@ -113,6 +230,12 @@ public class EvaluationThread extends Thread {
             }
         }
 
+        if ( asyncWindow != null ) {
+            // Wait for all outstanding queries
+            asyncWindow.acquireUninterruptibly( asyncWindowSize );
+            asyncWindow.release( asyncWindowSize );
+        }
+
         try {
             executor.executeCommit();
         } catch ( ExecutorException e ) {
@@ -130,6 +253,88 @@ public class EvaluationThread extends Thread {
     }
 
 
+    private void record( QueryListEntry queryListEntry, long measuredTimeStart, long measuredTime ) {
+        if ( metricsTimeline != null ) {
+            metricsTimeline.record( queryListEntry, measuredTime );
+        }
+        if ( !isMeasured( measuredTimeStart ) ) {
+            // Ramp-up or cool-down of a duration-based run
+            return;
+        }
+        measuredTimes.recordValue( measuredTime );
+        measuredTimePerQueryType.get( queryListEntry.templateId ).recordValue( measuredTime );
+        for ( Integer id : queryListEntry.templateIds ) {
+            if ( id != queryListEntry.templateId ) {
+                measuredTimePerQueryType.get( id ).recordValue( measuredTime );
+            }
+        }
+    }
+
+
+    private boolean isMeasured( long measuredTimeStart ) {
+        return runPhases == null || runPhases.isSteadyState( measuredTimeStart );
+    }
+
+
+    /**
+     * Adds the fetched rows and bytes of a query. The bytes are negative if they have not been measured.
+     */
+    private void recordFetched( QueryListEntry queryListEntry, long rows, long bytes ) {
+        for ( Integer id : queryListEntry.templateIds ) {
+            // Rows, bytes, and number of queries for which the bytes have been measured
+            long[] fetched = fetchedPerQueryType.computeIfAbsent( id, k -> new long[3] );
+            fetched[0] += rows;
+            if ( bytes >= 0 ) {
+                fetched[1] += bytes;
+                fetched[2]++;
+            }
+        }
+    }
+
+
+    private void dispatchAsync( QueryListEntry queryListEntry, long intendedStartTime ) {
+        // Backpressure: block until one of the outstanding queries has completed
+        asyncWindow.acquireUninterruptibly();
+        // Closed-loop runs do not count the time spent waiting for a free slot in the window
+        long measuredTimeStart = arrivalSchedule != null ? intendedStartTime : System.nanoTime();
+        PolyphenyDbJdbcExecutorPool.takeThreadWaitNanos();
+        CompletableFuture<Long> future;
+        try {
+            if ( queryListEntry.query instanceof Transaction transaction ) {
+                // The statements of a transaction depend on each other and are executed synchronously
+                future = CompletableFuture.completedFuture( transaction.execute( executor ) );
+            } else {
+                future = ((AsyncExecutor) executor).executeQueryAsync( queryListEntry.query, queryListEntry.templateId );
+            }
+        } catch ( ExecutorException e ) {
+            asyncWindow.release();
+            log.error( "Caught exception while executing queries", e );
+            threadMonitor.notifyAboutError( e );
+            throw new RuntimeException( e );
+        }
+        // Queries falling back to pooled JDBC connections are executed synchronously by this thread
+        long poolWait = PolyphenyDbJdbcExecutorPool.takeThreadWaitNanos();
+        future.whenComplete( ( time, throwable ) -> {
+            if ( throwable == null ) {
+                record( queryListEntry, measuredTimeStart, System.nanoTime() - measuredTimeStart - poolWait );
+            } else {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                log.error( "Caught exception while executing queries", cause );
+                threadMonitor.notifyAboutError( cause instanceof Exception ? (Exception) cause : new RuntimeException( cause ) );
+            }
+            asyncWindow.release();
+        } );
+    }
+
+
+    private void waitUntil( long nanoTime ) {
+        long remaining;
+        while ( !abort && (remaining = nanoTime - System.nanoTime()) > 0 ) {
+            LockSupport.parkNanos( remaining );
+        }
+    }
+
+
     public void abort() {
         this.abort = true;
     }
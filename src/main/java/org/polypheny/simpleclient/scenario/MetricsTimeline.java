@@ -0,0 +1,310 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.polypheny.simpleclient.query.QueryListEntry;
+
+
+/**
+ * Per-second windows of throughput and latency per query template while a benchmark is executed. If requested, every
+ * window is appended to a timeline file (one row per metric: second, metric, template, value) and, if a port is
+ * configured, exposed in the Prometheus text format on {@code http://<host>:<port>/metrics}. Status readings of the system under
+ * test reported via {@link #recordStatus(String, double)} are written to the same timeline. A {@link WindowListener}
+ * can observe the windows while the benchmark is executed.
+ */
+@Slf4j
+public class MetricsTimeline implements AutoCloseable {
+
+    public static final String TIMELINE_FILE = "timeline.csv";
+
+    private static final long WINDOW_MILLIS = 1000;
+
+    // Timeline of the currently executing benchmark; receives the status readings
+    private static volatile MetricsTimeline active;
+
+    private final Recorder total = new Recorder( Scenario.LATENCY_HISTOGRAM_PRECISION );
+    private final Map<Integer, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, Double> pendingStatus = new ConcurrentHashMap<>();
+
+    // Only accessed by the sampling thread
+    private final Map<Integer, Histogram> intervalHistograms = new TreeMap<>();
+    private final Map<Integer, Long> queryCounts = new TreeMap<>();
+    // Sum of the execution times (ms) per template, exposed as the _sum of the latency summary
+    private final Map<Integer, Double> latencySums = new TreeMap<>();
+    private final Map<String, Double> lastStatus = new TreeMap<>();
+    private Histogram totalInterval;
+    private long totalCount = 0;
+    private double totalSum = 0;
+    private long second = 0;
+    private long lastSampleTime;
+
+    private final BufferedWriter timeline;
+    private final ScheduledExecutorService sampler;
+    private final HttpServer server;
+    private volatile String exposition = "";
+    @Setter
+    private WindowListener windowListener;
+
+
+    /**
+     * @param outputDirectory Directory of the timeline file; {@code null} to not write a timeline file
+     * @param host Address the scrape endpoint binds to; {@code null} or empty for the loopback address
+     * @param port Port of the scrape endpoint; 0 to not expose the metrics
+     */
+    public MetricsTimeline( File outputDirectory, String host, int port, Iterable<Integer> templateIds ) {
+        for ( Integer templateId : templateIds ) {
+            recorders.put( templateId, new Recorder( Scenario.LATENCY_HISTOGRAM_PRECISION ) );
+        }
+        if ( outputDirectory != null ) {
+            try {
+                timeline = new BufferedWriter( new FileWriter( new File( outputDirectory, TIMELINE_FILE ) ) );
+                timeline.write( "Second,Metric,Template,Value" );
+                timeline.newLine();
+            } catch ( IOException e ) {
+                throw new RuntimeException( "Exception while creating timeline file", e );
+            }
+        } else {
+            timeline = null;
+        }
+
+        if ( port > 0 ) {
+            try {
+                InetSocketAddress address = host == null || host.isBlank()
+                        ? new InetSocketAddress( InetAddress.getLoopbackAddress(), port )
+                        : new InetSocketAddress( host, port );
+                server = HttpServer.create( address, 0 );
+            } catch ( IOException e ) {
+                throw new RuntimeException( "Unable to start metrics endpoint on port " + port, e );
+            }
+            server.createContext( "/metrics", exchange -> {
+                byte[] body = exposition.getBytes( StandardCharsets.UTF_8 );
+                exchange.getResponseHeaders().set( "Content-Type", "text/plain; version=0.0.4; charset=utf-8" );
+                exchange.sendResponseHeaders( 200, body.length );
+                try ( OutputStream out = exchange.getResponseBody() ) {
+                    out.write( body );
+                }
+            } );
+            server.start();
+            log.info( "Exposing live metrics on {}", server.getAddress() );
+        } else {
+            server = null;
+        }
+
+        lastSampleTime = System.nanoTime();
+        sampler = Executors.newSingleThreadScheduledExecutor( r -> {
+            Thread thread = new Thread( r, "MetricsTimeline" );
+            thread.setDaemon( true );
+            return thread;
+        } );
+        sampler.scheduleAtFixedRate( this::sample, WINDOW_MILLIS, WINDOW_MILLIS, TimeUnit.MILLISECONDS );
+        active = this;
+    }
+
+
+    /**
+     * Creates a timeline if the configuration requests the timeline file or the given port exposes the metrics.
+     *
+     * @return {@code null} if neither is requested
+     */
+    public static MetricsTimeline forConfig( AbstractConfig config, File outputDirectory, int port, Iterable<Integer> templateIds ) {
+        if ( !config.writeTimeline && port <= 0 ) {
+            return null;
+        }
+        return new MetricsTimeline( config.writeTimeline ? outputDirectory : null, config.metricsHost, port, templateIds );
+    }
+
+
+    /**
+     * Records the execution time (in nanoseconds) of a query. Wait-free; called on the query threads.
+     */
+    public void record( QueryListEntry queryListEntry, long measuredTime ) {
+        total.recordValue( measuredTime );
+        for ( Integer templateId : queryListEntry.templateIds ) {
+            recorders.computeIfAbsent( templateId, id -> new Recorder( Scenario.LATENCY_HISTOGRAM_PRECISION ) ).recordValue( measuredTime );
+        }
+    }
+
+
+    /**
+     * Adds a status reading of the system under test to the timeline of the currently executing benchmark (if any).
+     */
+    public static void recordStatus( String name, double value ) {
+        MetricsTimeline timeline = active;
+        if ( timeline != null ) {
+            timeline.pendingStatus.put( name, value );
+        }
+    }
+
+
+    private synchronized void sample() {
+        long now = System.nanoTime();
+        double windowSeconds = (now - lastSampleTime) / 1e9;
+        lastSampleTime = now;
+        second++;
+
+        StringBuilder queries = new StringBuilder( "# TYPE polypheny_client_queries_total counter\n" );
+        StringBuilder throughput = new StringBuilder( "# TYPE polypheny_client_throughput gauge\n" );
+        StringBuilder latency = new StringBuilder( "# TYPE polypheny_client_latency_ms summary\n" );
+        try {
+            totalInterval = total.getIntervalHistogram( totalInterval );
+            totalCount += totalInterval.getTotalCount();
+            totalSum += intervalSum( totalInterval );
+            writeWindow( "all", totalInterval, totalCount, totalSum, windowSeconds, queries, throughput, latency );
+            for ( Map.Entry<Integer, Recorder> entry : new TreeMap<>( recorders ).entrySet() ) {
+                Histogram interval = entry.getValue().getIntervalHistogram( intervalHistograms.get( entry.getKey() ) );
+                intervalHistograms.put( entry.getKey(), interval );
+                long count = queryCounts.merge( entry.getKey(), interval.getTotalCount(), Long::sum );
+                double sum = latencySums.merge( entry.getKey(), intervalSum( interval ), Double::sum );
+                writeWindow( entry.getKey().toString(), interval, count, sum, windowSeconds, queries, throughput, latency );
+            }
+            for ( String name : pendingStatus.keySet() ) {
+                Double value = pendingStatus.remove( name );
+                lastStatus.put( name, value );
+                writeRow( "status_" + name, "", value );
+            }
+            if ( timeline != null ) {
+                timeline.flush();
+            }
+            if ( windowListener != null ) {
+                windowListener.onWindow( second, intervalHistograms );
+            }
+        } catch ( IOException e ) {
+            log.error( "Exception while writing timeline file", e );
+        } catch ( Exception e ) {
+            // Do not kill the sampler; a failing window must not end the timeline
+            log.error( "Exception while sampling metrics", e );
+        }
+
+        StringBuilder status = new StringBuilder( "# TYPE polypheny_status gauge\n" );
+        lastStatus.forEach( ( name, value ) -> status.append( "polypheny_status{name=\"" ).append( name ).append( "\"} " ).append( value ).append( '\n' ) );
+        exposition = queries.toString() + throughput + latency + status;
+    }
+
+
+    private void writeWindow( String template, Histogram interval, long count, double sum, double windowSeconds, StringBuilder queries, StringBuilder throughput, StringBuilder latency ) throws IOException {
+        double queriesPerSecond = interval.getTotalCount() / windowSeconds;
+        writeRow( "throughput", template, queriesPerSecond );
+        queries.append( "polypheny_client_queries_total{template=\"" ).append( template ).append( "\"} " ).append( count ).append( '\n' );
+        throughput.append( "polypheny_client_throughput{template=\"" ).append( template ).append( "\"} " ).append( queriesPerSecond ).append( '\n' );
+        // The quantiles cover the last window, count and sum all windows so far
+        latency.append( "polypheny_client_latency_ms_count{template=\"" ).append( template ).append( "\"} " ).append( count ).append( '\n' );
+        latency.append( "polypheny_client_latency_ms_sum{template=\"" ).append( template ).append( "\"} " ).append( sum ).append( '\n' );
+        if ( interval.getTotalCount() == 0 ) {
+            return;
+        }
+        double mean = interval.getMean() / 1e6;
+        double p50 = interval.getValueAtPercentile( 50.0 ) / 1e6;
+        double p90 = interval.getValueAtPercentile( 90.0 ) / 1e6;
+        double p99 = interval.getValueAtPercentile( 99.0 ) / 1e6;
+        double max = interval.getMaxValue() / 1e6;
+        writeRow( "mean", template, mean );
+        writeRow( "p50", template, p50 );
+        writeRow( "p90", template, p90 );
+        writeRow( "p99", template, p99 );
+        writeRow( "max", template, max );
+        appendQuantile( latency, template, "0.5", p50 );
+        appendQuantile( latency, template, "0.9", p90 );
+        appendQuantile( latency, template, "0.99", p99 );
+        appendQuantile( latency, template, "1", max );
+    }
+
+
+    private static double intervalSum( Histogram interval ) {
+        return interval.getMean() * interval.getTotalCount() / 1e6;
+    }
+
+
+    private void appendQuantile( StringBuilder latency, String template, String quantile, double value ) {
+        latency.append( "polypheny_client_latency_ms{template=\"" ).append( template ).append( "\",quantile=\"" ).append( quantile ).append( "\"} " ).append( value ).append( '\n' );
+    }
+
+
+    private void writeRow( String metric, String template, double value ) throws IOException {
+        if ( timeline == null ) {
+            return;
+        }
+        timeline.write( second + "," + metric + "," + template + "," + value );
+        timeline.newLine();
+    }
+
+
+    /**
+     * Writes the last (partial) window, stops the endpoint and closes the timeline file.
+     */
+    @Override
+    public void close() {
+        if ( active == this ) {
+            active = null;
+        }
+        sampler.shutdown();
+        try {
+            sampler.awaitTermination( 10, TimeUnit.SECONDS );
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+        sample();
+        if ( server != null ) {
+            server.stop( 0 );
+        }
+        if ( timeline != null ) {
+            try {
+                timeline.close();
+            } catch ( IOException e ) {
+                log.error( "Exception while closing timeline file", e );
+            }
+        }
+    }
+
+
+    @FunctionalInterface
+    public interface WindowListener {
+
+        /**
+         * Called on the sampling thread after each window. The histograms are reused for the next window.
+         */
+        void onWindow( long second, Map<Integer, Histogram> intervalsPerTemplate );
+
+    }
+
+}
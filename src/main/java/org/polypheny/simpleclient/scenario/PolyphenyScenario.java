@@ -30,7 +30,6 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -38,23 +37,48 @@ import java.util.Queue;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
 import org.polypheny.simpleclient.QueryMode;
 import org.polypheny.simpleclient.executor.Executor;
+import org.polypheny.simpleclient.executor.ExecutorException;
 import org.polypheny.simpleclient.executor.JdbcExecutor;
+import org.polypheny.simpleclient.executor.PolyphenyDbRestExecutor.PolyphenyDbRestExecutorFactory;
 import org.polypheny.simpleclient.main.ProgressReporter;
+import org.polypheny.simpleclient.query.CompiledWorkload;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryListEntry;
+import org.polypheny.simpleclient.query.StreamingWorkload;
+import org.polypheny.simpleclient.query.Workload;
+import org.polypheny.simpleclient.scenario.SaturationSearch.Measurement;
 
 @Slf4j
 public abstract class PolyphenyScenario extends Scenario {
 
+    // Minimal number of queries generated ahead when streaming the workload
+    private static final int STREAMING_BUFFER_SIZE = 1024;
+
     protected long executeRuntime;
+    protected double targetRate = 0; // Only set for open-loop runs
     protected final Map<Integer, String> queryTypes;
-    protected final List<Long> measuredTimes = Collections.synchronizedList( new LinkedList<>() );
-    protected final Map<Integer, List<Long>> measuredTimePerQueryType = new ConcurrentHashMap<>();
+    @Getter
+    protected final Histogram measuredTimes = createLatencyHistogram();
+    protected final Map<Integer, Histogram> measuredTimePerQueryType = new ConcurrentHashMap<>();
+    // Total rows and bytes fetched per query type, if reported by the executor
+    protected final Map<Integer, long[]> fetchedPerQueryType = new ConcurrentHashMap<>();
+    // Only set if the maximum sustainable load has been searched
+    private SaturationSearch saturationSearch;
+    // Only set if the warm-up has been adaptive
+    private WarmUpMonitor warmUpMonitor;
+    // Only set if this benchmark is executed concurrently with other benchmarks on the same timeline (see MultiBench)
+    @Setter
+    private RunPhases sharedRunPhases;
 
 
     public PolyphenyScenario( JdbcExecutor.ExecutorFactory executorFactory, boolean commitAfterEveryQuery, boolean dumpQueryList, QueryMode queryMode ) {
@@ -63,58 +87,422 @@ public abstract class PolyphenyScenario extends Scenario {
     }
 
 
-    protected long commonExecute( List<QueryListEntry> queries, ProgressReporter progressReporter, File outputDirectory, int numberOfThreads, Function<Query, String> toString, Supplier<Executor> executor, Random random ) {
-        Collections.shuffle( queries, random );
+    protected long commonExecute( Workload workload, ProgressReporter progressReporter, File outputDirectory, int numberOfThreads, Function<Query, String> toString, Supplier<Executor> executor, Random random, AbstractConfig config ) {
+        // Concurrently executed benchmarks would compete for the port of the scrape endpoint
+        int metricsPort = sharedRunPhases == null ? config.metricsPort : 0;
+        MetricsTimeline metricsTimeline = MetricsTimeline.forConfig( config, outputDirectory, metricsPort, queryTypes.keySet() );
+        try {
+            if ( config.saturationSearch ) {
+                if ( sharedRunPhases != null ) {
+                    throw new RuntimeException( "The saturation search is not supported for concurrently executed benchmarks" );
+                }
+                return searchSaturation( workload, progressReporter, outputDirectory, numberOfThreads, toString, executor, random, config, metricsTimeline );
+            }
+            return executeWorkload( workload, progressReporter, outputDirectory, numberOfThreads, config.targetRate, toString, executor, random, config, metricsTimeline, createRunPhases( config ) );
+        } finally {
+            if ( metricsTimeline != null ) {
+                metricsTimeline.close();
+            }
+        }
+    }
+
+
+    /**
+     * Executes the workload at increasing load to find the maximum sustainable load (see {@link SaturationSearch}). The
+     * load is the number of clients or, for open-loop runs, the target rate. Each step is a duration-based run; the
+     * results of the step with the maximum sustainable load are kept for {@link #analyze}.
+     */
+    private long searchSaturation( Workload workload, ProgressReporter progressReporter, File outputDirectory, int numberOfThreads, Function<Query, String> toString, Supplier<Executor> executor, Random random, AbstractConfig config, MetricsTimeline metricsTimeline ) {
+        if ( !config.isDurationBased() ) {
+            throw new RuntimeException( "The saturation search requires a steady state duration (steadyStateDuration)" );
+        }
+        boolean offeredLoad = config.isOpenLoop();
+        saturationSearch = new SaturationSearch(
+                offeredLoad ? "rate" : "threads",
+                offeredLoad ? config.targetRate : numberOfThreads,
+                config.saturationStep,
+                offeredLoad || config.useVirtualThreads ? 0 : executorFactory.getMaxNumberOfThreads(),
+                !offeredLoad,
+                config.latencySlo,
+                config.saturationMinGain,
+                config.saturationMaxSteps,
+                config.saturationBinarySearchSteps );
+
+        Map<Double, StepResults> resultsPerLoad = new HashMap<>();
+        saturationSearch.run( load -> {
+            measuredTimes.reset();
+            measuredTimePerQueryType.clear();
+            fetchedPerQueryType.clear();
+            long runtime;
+            if ( offeredLoad ) {
+                runtime = executeWorkload( workload, progressReporter, outputDirectory, numberOfThreads, load, toString, executor, random, config, metricsTimeline, createRunPhases( config ) );
+            } else {
+                runtime = executeWorkload( workload, progressReporter, outputDirectory, (int) load, config.targetRate, toString, executor, random, config, metricsTimeline, createRunPhases( config ) );
+            }
+            resultsPerLoad.put( load, new StepResults( measuredTimes.copy(), new HashMap<>( measuredTimePerQueryType ), new HashMap<>( fetchedPerQueryType ), runtime, targetRate ) );
+            return new Measurement( measuredTimes.getTotalCount() / (runtime / 1_000_000_000.0), measuredTimes.getValueAtPercentile( 99.0 ) / 1_000_000.0 );
+        } );
+        saturationSearch.writeCurve( outputDirectory );
+
+        // Keep the results of the maximum sustainable load
+        measuredTimes.reset();
+        measuredTimePerQueryType.clear();
+        fetchedPerQueryType.clear();
+        executeRuntime = 0;
+        if ( saturationSearch.getMaxSustainable() != null ) {
+            StepResults results = resultsPerLoad.get( saturationSearch.getMaxSustainable().load() );
+            measuredTimes.add( results.measuredTimes() );
+            measuredTimePerQueryType.putAll( results.measuredTimePerQueryType() );
+            fetchedPerQueryType.putAll( results.fetchedPerQueryType() );
+            executeRuntime = results.runtime();
+            targetRate = results.targetRate();
+        }
+        return executeRuntime;
+    }
+
+
+    /**
+     * Executes the concurrent query mix of the workload until the latency of every query template has stabilized (see
+     * {@link WarmUpMonitor}) or the maximum warm-up duration is reached. The warm-up is not part of the results; its
+     * curve is written by {@link #analyze}.
+     */
+    protected void adaptiveWarmUp( Workload workload, Supplier<Executor> executor, ProgressReporter progressReporter, AbstractConfig config ) {
+        int numberOfThreads = config.numberOfThreads;
+        if ( executorFactory.getMaxNumberOfThreads() > 0 && numberOfThreads > executorFactory.getMaxNumberOfThreads() ) {
+            numberOfThreads = executorFactory.getMaxNumberOfThreads();
+        }
+        log.info( "Adaptive warm-up with {} threads for at most {} s...", numberOfThreads, config.warmUpMaxDuration );
+        RunPhases runPhases = new RunPhases( 0, config.warmUpMaxDuration, 0 );
+        warmUpMonitor = new WarmUpMonitor( runPhases, config.warmUpWindow, config.warmUpWindows, config.warmUpCvThreshold );
+        MetricsTimeline metricsTimeline = new MetricsTimeline( null, null, 0, queryTypes.keySet() );
+        metricsTimeline.setWindowListener( warmUpMonitor );
+        try {
+            executeWorkload( workload, progressReporter, null, numberOfThreads, 0, null, executor, new Random(), config, metricsTimeline, runPhases );
+        } finally {
+            metricsTimeline.close();
+        }
+        if ( !warmUpMonitor.isConverged() ) {
+            log.warn( "Warm-up did not converge within {} s", config.warmUpMaxDuration );
+        }
+
+        resetResults();
+    }
+
 
-        // This dumps the queries independent of the selected interface
-        dumpQueryList( outputDirectory, queries, toString );
+    /**
+     * Discards the results of the previous execution. The query types are registered again when the workload of the
+     * benchmark is created.
+     */
+    public void resetResults() {
+        queryTypes.clear();
+        measuredTimes.reset();
+        measuredTimePerQueryType.clear();
+        fetchedPerQueryType.clear();
+        executeRuntime = 0;
+        targetRate = 0;
+    }
+
+
+    private RunPhases createRunPhases( AbstractConfig config ) {
+        if ( sharedRunPhases != null ) {
+            return sharedRunPhases;
+        }
+        if ( !config.isDurationBased() ) {
+            return null;
+        }
+        if ( config.workloadFile != null ) {
+            throw new RuntimeException( "Compiled workloads cannot be executed for a fixed duration" );
+        }
+        log.info( "Executing the benchmark for {} s ramp-up, {} s steady state and {} s cool-down", config.rampUpDuration, config.steadyStateDuration, config.coolDownDuration );
+        if ( dumpQueryList ) {
+            log.warn( "The query list is not dumped if the benchmark is executed for a fixed duration" );
+        }
+        return new RunPhases( config.rampUpDuration, config.steadyStateDuration, config.coolDownDuration );
+    }
 
-        Queue<QueryListEntry> queryList = new ConcurrentLinkedQueue<>( queries );
+
+    /**
+     * Executes the workload. If {@code runPhases} is set, the queries are generated continuously until the run is finished.
+     */
+    private long executeWorkload( Workload workload, ProgressReporter progressReporter, File outputDirectory, int numberOfThreads, double rate, Function<Query, String> toString, Supplier<Executor> executor, Random random, AbstractConfig config, MetricsTimeline metricsTimeline, RunPhases runPhases ) {
+        Queue<QueryListEntry> queryList;
+        if ( runPhases != null ) {
+            queryList = workload.streamContinuously( random.nextLong(), Math.max( STREAMING_BUFFER_SIZE, numberOfThreads * 16 ) );
+        } else if ( hasCompiledWorkload( config ) ) {
+            queryList = openCompiledWorkload( new File( config.workloadFile ) );
+        } else if ( config.streamWorkload && config.workloadFile == null ) {
+            log.info( "Generating {} queries while executing the benchmark", workload.getNumberOfQueries() );
+            if ( dumpQueryList ) {
+                log.warn( "The query list is not dumped if the queries are generated while executing the benchmark" );
+            }
+            queryList = workload.stream( random.nextLong(), Math.max( STREAMING_BUFFER_SIZE, numberOfThreads * 16 ) );
+        } else {
+            List<QueryListEntry> queries = workload.toList();
+            Collections.shuffle( queries, random );
+
+            // This dumps the queries independent of the selected interface
+            dumpQueryList( outputDirectory, queries, toString );
+
+            if ( config.workloadFile != null ) {
+                File workloadFile = new File( config.workloadFile );
+                if ( executorFactory instanceof PolyphenyDbRestExecutorFactory ) {
+                    throw new RuntimeException( "Compiled workloads are not supported for the REST interface" );
+                }
+                log.info( "Compiling workload into {}...", workloadFile.getAbsolutePath() );
+                CompiledWorkload.compile( workloadFile, queries, toString, queryTypes, executorFactory.getClass().getSimpleName() );
+                // The queries are read back from the file; do not keep them on the heap during the run
+                queries.clear();
+                queryList = openCompiledWorkload( workloadFile );
+            } else {
+                queryList = new ConcurrentLinkedQueue<>( queries );
+            }
+        }
+
+        ArrivalSchedule arrivalSchedule = null;
+        if ( rate > 0 ) {
+            log.info( "Open-loop execution with a target rate of {} queries/s ({} arrivals)", rate, config.arrivalDistribution );
+            arrivalSchedule = new ArrivalSchedule( rate, config.arrivalDistribution, random.nextLong() );
+            targetRate = rate;
+        }
 
         log.info( "Executing benchmark..." );
-        (new Thread( new ProgressReporter.ReportQueryListProgress( queryList, progressReporter ) )).start();
+        if ( runPhases == null ) {
+            (new Thread( new ProgressReporter.ReportQueryListProgress( queryList, progressReporter ) )).start();
+        }
         long startTime = System.nanoTime();
 
+        // With virtual threads, the number of threads is the number of simulated clients. These can be far too many
+        // for per-client histograms. With asynchronous dispatch, latencies are recorded in completion callbacks. In both
+        // cases, all clients record into shared concurrent histograms.
+        boolean sharedHistograms = config.useVirtualThreads || config.asyncWindowSize > 0;
+        Histogram sharedMeasuredTimes = null;
+        Map<Integer, Histogram> sharedMeasuredTimePerQueryType = null;
+        if ( config.useVirtualThreads ) {
+            log.info( "Simulating {} clients on virtual threads", numberOfThreads );
+            if ( executorFactory.getMaxNumberOfThreads() > 0 && numberOfThreads > executorFactory.getMaxNumberOfThreads() ) {
+                log.warn( "The number of clients ({}) exceeds the maximum number of threads supported by the executor ({})", numberOfThreads, executorFactory.getMaxNumberOfThreads() );
+            }
+        }
+        if ( config.asyncWindowSize > 0 ) {
+            log.info( "Dispatching queries asynchronously with up to {} outstanding queries per client", config.asyncWindowSize );
+        }
+        if ( sharedHistograms ) {
+            sharedMeasuredTimes = createConcurrentLatencyHistogram();
+            sharedMeasuredTimePerQueryType = new HashMap<>();
+            for ( Integer templateId : queryTypes.keySet() ) {
+                sharedMeasuredTimePerQueryType.put( templateId, createConcurrentLatencyHistogram() );
+            }
+        }
+
         List<EvaluationThread> threads = new ArrayList<>();
         for ( int i = 0; i < numberOfThreads; i++ ) {
-            threads.add( new EvaluationThread( queryList, executor.get(), queryTypes.keySet(), commitAfterEveryQuery ) );
+            EvaluationThread thread;
+            if ( sharedHistograms ) {
+                thread = new EvaluationThread( queryList, executor.get(), sharedMeasuredTimes, sharedMeasuredTimePerQueryType, commitAfterEveryQuery, arrivalSchedule );
+            } else {
+                thread = new EvaluationThread( queryList, executor.get(), queryTypes.keySet(), commitAfterEveryQuery, arrivalSchedule );
+            }
+            if ( config.asyncWindowSize > 0 ) {
+                thread.setAsyncWindowSize( config.asyncWindowSize );
+            }
+            threads.add( thread );
         }
 
         EvaluationThreadMonitor threadMonitor = new EvaluationThreadMonitor( threads );
         threads.forEach( t -> t.setThreadMonitor( threadMonitor ) );
+        threads.forEach( t -> t.setMetricsTimeline( metricsTimeline ) );
+
+        try {
+            if ( runPhases != null ) {
+                // Waits for the other benchmarks if the phases are shared
+                runPhases.start();
+                for ( EvaluationThread thread : threads ) {
+                    thread.setRunPhases( runPhases );
+                }
+                (new Thread( new ProgressReporter.ReportDurationProgress( runPhases, progressReporter ) )).start();
+            }
+            if ( arrivalSchedule != null ) {
+                arrivalSchedule.start( System.nanoTime() );
+            }
+            for ( EvaluationThread thread : threads ) {
+                thread.start( config.useVirtualThreads );
+            }
+
+            for ( EvaluationThread thread : threads ) {
+                try {
+                    thread.join();
+                    if ( !sharedHistograms ) {
+                        collectResultsOfThread( thread );
+                    }
+                    collectFetchedOfThread( thread );
+                } catch ( InterruptedException e ) {
+                    throw new RuntimeException( "Unexpected interrupt", e );
+                }
+            }
+            if ( sharedHistograms ) {
+                collectResults( sharedMeasuredTimes, sharedMeasuredTimePerQueryType );
+            }
 
-        for ( EvaluationThread thread : threads ) {
+            if ( runPhases != null ) {
+                // Only the steady state is measured
+                executeRuntime = runPhases.getSteadyStateNanos();
+            } else {
+                executeRuntime = System.nanoTime() - startTime;
+            }
+        } finally {
+            // Also release the workload and the connections if the run failed
+            if ( queryList instanceof CompiledWorkload compiledWorkload ) {
+                try {
+                    compiledWorkload.close();
+                } catch ( IOException e ) {
+                    log.warn( "Exception while closing compiled workload", e );
+                }
+            } else if ( queryList instanceof StreamingWorkload streamingWorkload ) {
+                streamingWorkload.stop();
+            }
+            for ( EvaluationThread thread : threads ) {
+                thread.closeExecutor();
+            }
+        }
+
+        if ( queryList instanceof StreamingWorkload streamingWorkload && streamingWorkload.getFailure() != null ) {
+            throw new RuntimeException( "Exception while generating queries", streamingWorkload.getFailure() );
+        }
+
+        if ( threadMonitor.isAborted() ) {
+            throw new RuntimeException( "Exception while executing benchmark", threadMonitor.getException() );
+        }
+
+        log.info( "run time: {} s", executeRuntime / 1000000000 );
+
+        return executeRuntime;
+    }
+
+
+    /**
+     * Generates data on {@code numberOfThreads} threads (limited to what the executor supports), each with its own
+     * executor and its own {@link DataPartition}. If one of the threads fails, the others are aborted.
+     */
+    protected void generateDataInParallel( int numberOfThreads, Supplier<Executor> executorSupplier, DataGenerationTask task ) {
+        int numberOfPartitions = Math.max( 1, numberOfThreads );
+        if ( executorFactory.getMaxNumberOfThreads() > 0 && numberOfPartitions > executorFactory.getMaxNumberOfThreads() ) {
+            numberOfPartitions = executorFactory.getMaxNumberOfThreads();
+            log.warn( "Limiting number of data generation threads to {} threads (instead of {} as specified by the job)", numberOfPartitions, numberOfThreads );
+        }
+
+        AtomicBoolean aborted = new AtomicBoolean( false );
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for ( int i = 0; i < numberOfPartitions; i++ ) {
+            DataPartition partition = new DataPartition( i, numberOfPartitions, aborted );
+            // Executors are created on this thread, since some factories are not thread-safe
+            Executor executor = executorSupplier.get();
+            Thread thread = new Thread( () -> {
+                try {
+                    task.generate( executor, partition );
+                    executor.executeCommit();
+                } catch ( Throwable e ) {
+                    failure.compareAndSet( null, e );
+                    partition.abort();
+                    log.error( "Exception while generating data", e );
+                    try {
+                        executor.executeRollback();
+                    } catch ( ExecutorException ex ) {
+                        log.error( "Error while rollback", ex );
+                    }
+                } finally {
+                    try {
+                        executor.closeConnection();
+                    } catch ( ExecutorException e ) {
+                        log.error( "Error while closing connection", e );
+                    }
+                }
+            }, "DataGenerator-" + i );
+            threads.add( thread );
             thread.start();
         }
 
-        for ( EvaluationThread thread : threads ) {
+        for ( Thread thread : threads ) {
             try {
                 thread.join();
-                this.measuredTimes.addAll( thread.getMeasuredTimes() );
-                thread.getMeasuredTimePerQueryType().forEach( ( k, v ) -> {
-                    if ( !this.measuredTimePerQueryType.containsKey( k ) ) {
-                        this.measuredTimePerQueryType.put( k, new ArrayList<>() );
-                    }
-                    this.measuredTimePerQueryType.get( k ).addAll( v );
-                } );
             } catch ( InterruptedException e ) {
                 throw new RuntimeException( "Unexpected interrupt", e );
             }
         }
+        if ( failure.get() != null ) {
+            throw new RuntimeException( "Exception while generating data", failure.get() );
+        }
+    }
 
-        executeRuntime = System.nanoTime() - startTime;
 
-        for ( EvaluationThread thread : threads ) {
-            thread.closeExecutor();
+    /**
+     * Creates the loader for pipelined data loading, or returns null if the data generators insert the data themselves.
+     */
+    protected BulkLoader createBulkLoader( AbstractConfig config, int batchSize, Supplier<Executor> executorSupplier ) {
+        if ( config.numberOfInsertWorkers <= 0 ) {
+            return null;
+        }
+        int numberOfWorkers = config.numberOfInsertWorkers;
+        if ( executorFactory.getMaxNumberOfThreads() > 0 && numberOfWorkers > executorFactory.getMaxNumberOfThreads() ) {
+            numberOfWorkers = executorFactory.getMaxNumberOfThreads();
+            log.warn( "Limiting number of insert workers to {} threads (instead of {} as specified by the job)", numberOfWorkers, config.numberOfInsertWorkers );
         }
+        return new BulkLoader( numberOfWorkers, numberOfWorkers * 2, executorSupplier, config, batchSize, config.targetBatchLatency );
+    }
 
-        if ( threadMonitor.isAborted() ) {
-            throw new RuntimeException( "Exception while executing benchmark", threadMonitor.getException() );
+
+    protected static void closeBulkLoader( BulkLoader bulkLoader ) {
+        if ( bulkLoader != null ) {
+            try {
+                bulkLoader.close();
+            } catch ( ExecutorException e ) {
+                throw new RuntimeException( "Exception while generating data", e );
+            }
         }
+    }
 
-        log.info( "run time: {} s", executeRuntime / 1000000000 );
 
-        return executeRuntime;
+    /**
+     * Whether the workload of this run is replayed from a previously compiled workload file. In this case, the
+     * queries do not need to be generated; {@link #commonExecute} can be called with an empty workload.
+     */
+    protected boolean hasCompiledWorkload( AbstractConfig config ) {
+        return config.workloadFile != null && new File( config.workloadFile ).exists();
+    }
+
+
+    private CompiledWorkload openCompiledWorkload( File workloadFile ) {
+        CompiledWorkload compiledWorkload = CompiledWorkload.open( workloadFile );
+        if ( !compiledWorkload.getInterfaceName().equals( executorFactory.getClass().getSimpleName() ) ) {
+            throw new RuntimeException( "The workload has been compiled for " + compiledWorkload.getInterfaceName() + " and cannot be executed using " + executorFactory.getClass().getSimpleName() );
+        }
+        compiledWorkload.getQueryTypes().forEach( queryTypes::putIfAbsent );
+        log.info( "Replaying {} queries from compiled workload {}", compiledWorkload.getNumberOfQueries(), workloadFile.getAbsolutePath() );
+        return compiledWorkload;
+    }
+
+
+    /**
+     * Merges the latency histograms of a finished (joined) evaluation thread into the histograms of this scenario.
+     */
+    protected void collectResultsOfThread( EvaluationThread thread ) {
+        collectResults( thread.getMeasuredTimes(), thread.getMeasuredTimePerQueryType() );
+    }
+
+
+    protected void collectFetchedOfThread( EvaluationThread thread ) {
+        thread.getFetchedPerQueryType().forEach( ( templateId, fetched ) -> {
+            long[] total = fetchedPerQueryType.computeIfAbsent( templateId, id -> new long[3] );
+            total[0] += fetched[0];
+            total[1] += fetched[1];
+            total[2] += fetched[2];
+        } );
+    }
+
+
+    protected void collectResults( Histogram times, Map<Integer, Histogram> timesPerQueryType ) {
+        measuredTimes.add( times );
+        timesPerQueryType.forEach( ( k, v ) -> measuredTimePerQueryType.computeIfAbsent( k, id -> createLatencyHistogram() ).add( v ) );
     }
 
 
@@ -123,10 +511,26 @@ public abstract class PolyphenyScenario extends Scenario {
         properties.put( "measuredTime", calculateMean( measuredTimes ) );
 
         measuredTimePerQueryType.forEach( ( templateId, time ) -> calculateResults( queryTypes, properties, templateId, time ) );
+        fetchedPerQueryType.forEach( ( templateId, fetched ) -> {
+            properties.put( "queryTypes_" + templateId + "_fetchedRows", fetched[0] );
+            if ( fetched[2] > 0 ) {
+                // Only known if the values have been decoded (see ResultConsumption)
+                properties.put( "queryTypes_" + templateId + "_fetchedBytes", fetched[1] );
+            }
+        } );
         properties.put( "queryTypes_maxId", queryTypes.size() );
         properties.put( "executeRuntime", executeRuntime / 1000000000.0 );
-        properties.put( "numberOfQueries", measuredTimes.size() );
-        properties.put( "throughput", measuredTimes.size() / (executeRuntime / 1000000000.0) );
+        properties.put( "numberOfQueries", measuredTimes.getTotalCount() );
+        properties.put( "throughput", measuredTimes.getTotalCount() / (executeRuntime / 1000000000.0) );
+        properties.put( "targetRate", targetRate );
+        if ( saturationSearch != null ) {
+            saturationSearch.report( properties );
+        }
+        if ( warmUpMonitor != null ) {
+            warmUpMonitor.report( properties );
+            warmUpMonitor.writeCurve( outputDirectory );
+        }
+        executorFactory.reportStatistics( properties );
     }
 
 
@@ -150,4 +554,17 @@ public abstract class PolyphenyScenario extends Scenario {
 
     }
 
+
+    private record StepResults( Histogram measuredTimes, Map<Integer, Histogram> measuredTimePerQueryType, Map<Integer, long[]> fetchedPerQueryType, long runtime, double targetRate ) {
+
+    }
+
+
+    @FunctionalInterface
+    protected interface DataGenerationTask {
+
+        void generate( Executor executor, DataPartition partition ) throws ExecutorException;
+
+    }
+
 }
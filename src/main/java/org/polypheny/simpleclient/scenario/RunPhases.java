@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario;
+
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+
+
+/**
+ * Phases of a duration-based benchmark run: ramp-up, steady state and cool-down. The workload is executed until the end
+ * of the cool-down phase, but only queries started during the steady state are included in the results.
+ */
+@Getter
+public final class RunPhases {
+
+    private final long rampUpNanos;
+    private final long steadyStateNanos;
+    private final long coolDownNanos;
+    // Number of benchmarks sharing these phases; the run starts once all of them are ready
+    private final int parties;
+
+    private volatile long startTime;
+    private volatile boolean stopped = false;
+    private boolean started = false;
+    private int ready = 0;
+
+
+    public RunPhases( long rampUpSeconds, long steadyStateSeconds, long coolDownSeconds ) {
+        this( rampUpSeconds, steadyStateSeconds, coolDownSeconds, 1 );
+    }
+
+
+    public RunPhases( long rampUpSeconds, long steadyStateSeconds, long coolDownSeconds, int parties ) {
+        if ( steadyStateSeconds <= 0 ) {
+            throw new RuntimeException( "The steady state of a duration-based run needs to be positive" );
+        }
+        this.rampUpNanos = TimeUnit.SECONDS.toNanos( Math.max( 0, rampUpSeconds ) );
+        this.steadyStateNanos = TimeUnit.SECONDS.toNanos( steadyStateSeconds );
+        this.coolDownNanos = TimeUnit.SECONDS.toNanos( Math.max( 0, coolDownSeconds ) );
+        this.parties = parties;
+    }
+
+
+    /**
+     * Called by every benchmark sharing these phases once it has created its threads. Blocks until all benchmarks are
+     * ready (or the run has been stopped); the run starts when the last of them is ready.
+     */
+    public synchronized void start() {
+        ready++;
+        if ( ready >= parties && !started ) {
+            startTime = System.nanoTime();
+            started = true;
+            notifyAll();
+        }
+        while ( !started && !stopped ) {
+            try {
+                wait();
+            } catch ( InterruptedException e ) {
+                throw new RuntimeException( "Unexpected interrupt", e );
+            }
+        }
+        if ( !started ) {
+            // Stopped before all benchmarks were ready; the run is finished right away
+            startTime = System.nanoTime();
+            started = true;
+        }
+    }
+
+
+    /**
+     * Returns whether a query started at the specified time (in terms of {@link System#nanoTime()}) is measured.
+     */
+    public boolean isSteadyState( long time ) {
+        long elapsed = time - startTime;
+        return elapsed >= rampUpNanos && elapsed < rampUpNanos + steadyStateNanos;
+    }
+
+
+    public boolean isFinished( long time ) {
+        return stopped || time - startTime >= getTotalNanos();
+    }
+
+
+    /**
+     * Ends the run before its configured duration.
+     */
+    public synchronized void stop() {
+        stopped = true;
+        notifyAll();
+    }
+
+
+    public long getTotalNanos() {
+        return rampUpNanos + steadyStateNanos + coolDownNanos;
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Searches the maximum sustainable load of the system under test. The load (number of clients or, for open-loop runs,
+ * the offered rate) is increased in linear steps until the p99 latency exceeds the SLO or the throughput stops growing
+ * (the knee). The knee is then narrowed down by a binary search between the last sustainable and the first
+ * unsustainable load.
+ */
+@Slf4j
+public class SaturationSearch {
+
+    public static final String CURVE_FILE = "saturation.csv";
+
+    private final String loadType;
+    private final double initialLoad;
+    private final double stepSize;
+    private final double maxLoad;
+    private final boolean integral;
+    private final double latencySlo;
+    private final double minGain;
+    private final int maxSteps;
+    private final int binarySearchSteps;
+
+    @Getter
+    private final List<LoadPoint> curve = new ArrayList<>();
+    @Getter
+    private LoadPoint maxSustainable;
+
+
+    /**
+     * @param loadType Name of the load ("threads" or "rate")
+     * @param maxLoad Upper bound of the load; 0 for no bound
+     * @param integral Whether the load has to be a whole number
+     * @param latencySlo Maximal p99 latency in milliseconds; 0 for no SLO
+     * @param minGain Minimal relative throughput gain per step for the throughput to be considered growing
+     */
+    public SaturationSearch( String loadType, double initialLoad, double stepSize, double maxLoad, boolean integral, double latencySlo, double minGain, int maxSteps, int binarySearchSteps ) {
+        if ( initialLoad <= 0 ) {
+            throw new RuntimeException( "The initial load of the saturation search needs to be positive" );
+        }
+        this.loadType = loadType;
+        this.initialLoad = initialLoad;
+        this.stepSize = stepSize > 0 ? stepSize : initialLoad;
+        this.maxLoad = maxLoad;
+        this.integral = integral;
+        this.latencySlo = latencySlo;
+        this.minGain = minGain;
+        this.maxSteps = maxSteps;
+        this.binarySearchSteps = binarySearchSteps;
+    }
+
+
+    public void run( LoadStep step ) {
+        LoadPoint lastSustainable = null;
+        double unsustainableLoad = 0;
+
+        // Linear steps up to the knee
+        double load = initialLoad;
+        for ( int i = 0; i < maxSteps; i++ ) {
+            if ( maxLoad > 0 && load > maxLoad ) {
+                log.warn( "Saturation search reached the maximum load of {} {} without finding the knee", maxLoad, loadType );
+                break;
+            }
+            LoadPoint point = measure( step, load, lastSustainable );
+            if ( !point.sustainable() ) {
+                unsustainableLoad = load;
+                break;
+            }
+            lastSustainable = point;
+            load += stepSize;
+        }
+
+        // Binary search between the last sustainable and the first unsustainable load
+        if ( unsustainableLoad > 0 ) {
+            double low = lastSustainable != null ? lastSustainable.load() : 0;
+            double high = unsustainableLoad;
+            for ( int i = 0; i < binarySearchSteps; i++ ) {
+                double mid = integral ? Math.floor( (low + high) / 2 ) : (low + high) / 2;
+                if ( mid <= low || mid >= high ) {
+                    break;
+                }
+                LoadPoint point = measure( step, mid, lastSustainable );
+                if ( point.sustainable() ) {
+                    low = mid;
+                    lastSustainable = point;
+                } else {
+                    high = mid;
+                }
+            }
+        }
+
+        maxSustainable = lastSustainable;
+        if ( maxSustainable != null ) {
+            log.info( "Maximum sustainable load: {} {} ({} queries/s, p99 {} ms)", maxSustainable.load(), loadType, maxSustainable.throughput(), maxSustainable.p99() );
+        } else {
+            log.warn( "Saturation search did not find a sustainable load" );
+        }
+    }
+
+
+    private LoadPoint measure( LoadStep step, double load, LoadPoint reference ) {
+        log.info( "Saturation search: executing the workload with {} {}", load, loadType );
+        Measurement measurement = step.execute( load );
+        boolean withinSlo = latencySlo <= 0 || measurement.p99() <= latencySlo;
+        // The throughput has to grow with the load; the expected gain is proportional to the added load
+        boolean growing = reference == null || measurement.throughput() >= reference.throughput() * (1 + minGain * (load - reference.load()) / stepSize);
+        LoadPoint point = new LoadPoint( load, measurement.throughput(), measurement.p99(), withinSlo && growing );
+        log.info( "Saturation search: {} {} -> {} queries/s, p99 {} ms ({})", load, loadType, measurement.throughput(), measurement.p99(), point.sustainable() ? "sustainable" : "saturated" );
+        curve.add( point );
+        return point;
+    }
+
+
+    public void writeCurve( File outputDirectory ) {
+        try ( BufferedWriter out = new BufferedWriter( new FileWriter( new File( outputDirectory, CURVE_FILE ) ) ) ) {
+            out.write( "Load,Throughput,P99,Sustainable" );
+            out.newLine();
+            for ( LoadPoint point : getSortedCurve() ) {
+                out.write( point.load() + "," + point.throughput() + "," + point.p99() + "," + point.sustainable() );
+                out.newLine();
+            }
+        } catch ( IOException e ) {
+            log.error( "Exception while writing the load-latency curve", e );
+        }
+    }
+
+
+    public void report( Properties properties ) {
+        List<LoadPoint> sorted = getSortedCurve();
+        properties.put( "saturation_loadType", loadType );
+        properties.put( "saturation_load", sorted.stream().map( LoadPoint::load ).collect( Collectors.toList() ) );
+        properties.put( "saturation_throughput", sorted.stream().map( LoadPoint::throughput ).collect( Collectors.toList() ) );
+        properties.put( "saturation_p99", sorted.stream().map( LoadPoint::p99 ).collect( Collectors.toList() ) );
+        properties.put( "saturation_maxSustainableLoad", maxSustainable != null ? maxSustainable.load() : 0 );
+        properties.put( "saturation_maxSustainableThroughput", maxSustainable != null ? maxSustainable.throughput() : 0 );
+    }
+
+
+    private List<LoadPoint> getSortedCurve() {
+        return curve.stream().sorted( Comparator.comparingDouble( LoadPoint::load ) ).collect( Collectors.toList() );
+    }
+
+
+    @FunctionalInterface
+    public interface LoadStep {
+
+        /**
+         * Executes the workload at the specified load and returns the throughput (queries/s) and p99 latency (ms).
+         */
+        Measurement execute( double load );
+
+    }
+
+
+    public record Measurement( double throughput, double p99 ) {
+
+    }
+
+
+    public record LoadPoint( double load, double throughput, double p99, boolean sustainable ) {
+
+    }
+
+}
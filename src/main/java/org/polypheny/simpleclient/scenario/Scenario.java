@@ -24,15 +24,16 @@
 
 package org.polypheny.simpleclient.scenario;
 
-import com.google.common.base.Joiner;
 import java.io.File;
-import java.util.List;
-import java.util.LongSummaryStatistics;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Map;
-import java.util.OptionalDouble;
 import java.util.Properties;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
 import org.polypheny.simpleclient.QueryMode;
 import org.polypheny.simpleclient.executor.Executor;
 import org.polypheny.simpleclient.executor.Executor.DatabaseInstance;
@@ -47,6 +48,9 @@ import org.polypheny.simpleclient.main.ProgressReporter;
 @Slf4j
 public abstract class Scenario {
 
+    // Number of significant decimal digits kept by the latency histograms
+    public static final int LATENCY_HISTOGRAM_PRECISION = 3;
+
     @Getter
     protected final ExecutorFactory executorFactory;
     protected final boolean commitAfterEveryQuery;
@@ -73,44 +77,76 @@ public abstract class Scenario {
     public abstract void analyze( Properties properties, File outputDirectory );
 
 
-    protected void calculateResults( Map<Integer, String> queryTypes, Properties properties, int templateId, List<Long> time ) {
-        if ( !time.isEmpty() ) {
-            LongSummaryStatistics summaryStatistics = time.stream().mapToLong( Long::longValue ).summaryStatistics();
-            double mean = summaryStatistics.getAverage();
-            long max = summaryStatistics.getMax();
-            long min = summaryStatistics.getMin();
-            double stddev = calculateSampleStandardDeviation( time, mean );
-
-            properties.put( "queryTypes_" + templateId + "_mean", processDoubleValue( mean ) );
+    protected void calculateResults( Map<Integer, String> queryTypes, Properties properties, int templateId, Histogram time ) {
+        if ( time.getTotalCount() > 0 ) {
+            properties.put( "queryTypes_" + templateId + "_mean", processDoubleValue( time.getMean() ) );
+            // The individual times are no longer kept, hence there is no "_all" list; the histogram contains all of them
             if ( ChronosAgent.STORE_INDIVIDUAL_QUERY_TIMES ) {
-                properties.put( "queryTypes_" + templateId + "_all", Joiner.on( ',' ).join( time ) );
+                properties.put( "queryTypes_" + templateId + "_histogram", encodeHistogram( time ) );
             }
-            properties.put( "queryTypes_" + templateId + "_stddev", processDoubleValue( stddev ) );
-            properties.put( "queryTypes_" + templateId + "_min", min / 1_000_000L );
-            properties.put( "queryTypes_" + templateId + "_max", max / 1_000_000L );
+            properties.put( "queryTypes_" + templateId + "_stddev", processDoubleValue( calculateSampleStandardDeviation( time ) ) );
+            properties.put( "queryTypes_" + templateId + "_min", time.getMinValue() / 1_000_000L );
+            properties.put( "queryTypes_" + templateId + "_max", time.getMaxValue() / 1_000_000L );
+            properties.put( "queryTypes_" + templateId + "_p50", processDoubleValue( time.getValueAtPercentile( 50.0 ) ) );
+            properties.put( "queryTypes_" + templateId + "_p90", processDoubleValue( time.getValueAtPercentile( 90.0 ) ) );
+            properties.put( "queryTypes_" + templateId + "_p99", processDoubleValue( time.getValueAtPercentile( 99.0 ) ) );
+            properties.put( "queryTypes_" + templateId + "_p999", processDoubleValue( time.getValueAtPercentile( 99.9 ) ) );
         } else {
             properties.put( "queryTypes_" + templateId + "_mean", 0 );
             properties.put( "queryTypes_" + templateId + "_stddev", 0 );
             properties.put( "queryTypes_" + templateId + "_min", 0 );
             properties.put( "queryTypes_" + templateId + "_max", 0 );
+            properties.put( "queryTypes_" + templateId + "_p50", 0 );
+            properties.put( "queryTypes_" + templateId + "_p90", 0 );
+            properties.put( "queryTypes_" + templateId + "_p99", 0 );
+            properties.put( "queryTypes_" + templateId + "_p999", 0 );
         }
         properties.put( "queryTypes_" + templateId + "_example", queryTypes.get( templateId ) );
     }
 
 
-    protected double calculateMean( List<Long> times ) {
-        OptionalDouble meanOptional = times.stream().mapToLong( Long::longValue ).average();
-        if ( meanOptional.isPresent() ) {
-            return Math.round( meanOptional.getAsDouble() / 1_000 ) / 1_000.0;
+    /**
+     * Creates an empty, auto-resizing histogram for latencies recorded in nanoseconds.
+     * Recording into it does not allocate unless a value exceeds the currently covered range.
+     */
+    public static Histogram createLatencyHistogram() {
+        return new Histogram( LATENCY_HISTOGRAM_PRECISION );
+    }
+
+
+    /**
+     * Like {@link #createLatencyHistogram()} but safe for recording from many threads at once.
+     */
+    public static Histogram createConcurrentLatencyHistogram() {
+        return new ConcurrentHistogram( LATENCY_HISTOGRAM_PRECISION );
+    }
+
+
+    protected static String encodeHistogram( Histogram histogram ) {
+        ByteBuffer buffer = ByteBuffer.allocate( histogram.getNeededByteBufferCapacity() );
+        int length = histogram.encodeIntoCompressedByteBuffer( buffer );
+        return Base64.getEncoder().encodeToString( Arrays.copyOf( buffer.array(), length ) );
+    }
+
+
+    /**
+     * Returns the sample standard deviation (n - 1) of the recorded times. The histogram only provides the population
+     * standard deviation.
+     */
+    protected static double calculateSampleStandardDeviation( Histogram times ) {
+        long count = times.getTotalCount();
+        if ( count < 2 ) {
+            return 0;
         }
-        return -1;
+        return times.getStdDeviation() * Math.sqrt( count / (count - 1.0) );
     }
 
 
-    protected double calculateSampleStandardDeviation( List<Long> times, double mean ) {
-        double preVariance = times.stream().mapToDouble( it -> Math.pow( (it - mean), 2 ) ).sum();
-        double variance = preVariance / (times.size() - 1.0);
-        return Math.sqrt( variance );
+    protected double calculateMean( Histogram times ) {
+        if ( times.getTotalCount() > 0 ) {
+            return Math.round( times.getMean() / 1_000 ) / 1_000.0;
+        }
+        return -1;
     }
 
 
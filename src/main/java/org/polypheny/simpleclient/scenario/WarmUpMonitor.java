@@ -0,0 +1,160 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+
+/**
+ * Decides when an adaptive warm-up has converged. The latencies of every query template are aggregated into windows;
+ * once the coefficient of variation of the mean latency over the last windows is below the threshold for every template
+ * executed often enough to judge, the warm-up is stopped. The windows are kept as the warm-up curve.
+ */
+@Slf4j
+public class WarmUpMonitor implements MetricsTimeline.WindowListener {
+
+    public static final String CURVE_FILE = "warmup.csv";
+
+    // Templates with fewer queries in a window are too rare to judge and do not delay the convergence
+    private static final int MIN_QUERIES_PER_WINDOW = 5;
+
+    private final RunPhases runPhases;
+    private final int windowSeconds;
+    private final int numberOfWindows;
+    private final double cvThreshold;
+
+    private final Map<Integer, Histogram> windowHistograms = new HashMap<>();
+    private final Map<Integer, Deque<Double>> windowMeans = new HashMap<>();
+
+    @Getter
+    private final List<WarmUpPoint> curve = new ArrayList<>();
+    @Getter
+    private volatile boolean converged = false;
+    @Getter
+    private volatile long duration = 0;
+
+
+    /**
+     * @param windowSeconds Length of a window in seconds
+     * @param numberOfWindows Number of windows the coefficient of variation is computed over
+     * @param cvThreshold Coefficient of variation below which the latency of a template is considered stable
+     */
+    public WarmUpMonitor( RunPhases runPhases, int windowSeconds, int numberOfWindows, double cvThreshold ) {
+        this.runPhases = runPhases;
+        this.windowSeconds = Math.max( 1, windowSeconds );
+        this.numberOfWindows = Math.max( 2, numberOfWindows );
+        this.cvThreshold = cvThreshold;
+    }
+
+
+    @Override
+    public void onWindow( long second, Map<Integer, Histogram> intervalsPerTemplate ) {
+        intervalsPerTemplate.forEach( ( templateId, interval ) -> windowHistograms.computeIfAbsent( templateId, id -> Scenario.createLatencyHistogram() ).add( interval ) );
+        duration = second;
+        if ( converged || second % windowSeconds != 0 ) {
+            return;
+        }
+
+        boolean stable = true;
+        boolean judged = false;
+        for ( Map.Entry<Integer, Histogram> entry : windowHistograms.entrySet() ) {
+            Histogram window = entry.getValue();
+            if ( window.getTotalCount() < MIN_QUERIES_PER_WINDOW ) {
+                window.reset();
+                continue;
+            }
+            Deque<Double> means = windowMeans.computeIfAbsent( entry.getKey(), id -> new ArrayDeque<>() );
+            means.addLast( window.getMean() );
+            if ( means.size() > numberOfWindows ) {
+                means.removeFirst();
+            }
+            double cv = coefficientOfVariation( means );
+            curve.add( new WarmUpPoint( second, entry.getKey(), window.getTotalCount(), window.getMean() / 1_000_000.0, window.getValueAtPercentile( 99.0 ) / 1_000_000.0, cv ) );
+            judged = true;
+            if ( means.size() < numberOfWindows || cv > cvThreshold ) {
+                stable = false;
+            }
+            window.reset();
+        }
+
+        if ( judged && stable ) {
+            log.info( "Warm-up converged after {} s", second );
+            converged = true;
+            runPhases.stop();
+        }
+    }
+
+
+    private static double coefficientOfVariation( Deque<Double> values ) {
+        if ( values.size() < 2 ) {
+            return Double.NaN;
+        }
+        double mean = values.stream().mapToDouble( Double::doubleValue ).average().orElse( 0 );
+        if ( mean == 0 ) {
+            return 0;
+        }
+        double variance = values.stream().mapToDouble( v -> (v - mean) * (v - mean) ).sum() / (values.size() - 1);
+        return Math.sqrt( variance ) / mean;
+    }
+
+
+    public void writeCurve( File outputDirectory ) {
+        try ( BufferedWriter out = new BufferedWriter( new FileWriter( new File( outputDirectory, CURVE_FILE ) ) ) ) {
+            out.write( "Second,Template,Queries,Mean,P99,CV" );
+            out.newLine();
+            for ( WarmUpPoint point : curve ) {
+                out.write( point.second() + "," + point.templateId() + "," + point.queries() + "," + point.mean() + "," + point.p99() + "," + point.cv() );
+                out.newLine();
+            }
+        } catch ( IOException e ) {
+            log.error( "Exception while writing the warm-up curve", e );
+        }
+    }
+
+
+    public void report( Properties properties ) {
+        properties.put( "warmUp_duration", duration );
+        properties.put( "warmUp_converged", converged );
+    }
+
+
+    public record WarmUpPoint( long second, int templateId, long queries, double mean, double p99, double cv ) {
+
+    }
+
+}
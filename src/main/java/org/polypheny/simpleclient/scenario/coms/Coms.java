@@ -29,12 +29,8 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -54,6 +50,7 @@ import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryListEntry;
 import org.polypheny.simpleclient.scenario.EvaluationThread;
 import org.polypheny.simpleclient.scenario.EvaluationThreadMonitor;
+import org.polypheny.simpleclient.scenario.MetricsTimeline;
 import org.polypheny.simpleclient.scenario.PolyphenyScenario;
 
 @Slf4j
@@ -65,12 +62,8 @@ public class Coms extends PolyphenyScenario {
     private final Random random;
     private final ComsConfig config;
 
-    private final List<Long> measuredTimes;
-    private final HashMap<Integer, String> queryTypes;
-    private final ConcurrentHashMap<Integer, List<Long>> measuredTimePerQueryType;
     private final Mode mode;
     private final int multiplier;
-    private long executeRuntime = 0;
     private PolyphenyAdapters adapters;
 
 
@@ -80,10 +73,6 @@ public class Coms extends PolyphenyScenario {
         this.config = config;
         this.mode = config.mode;
         this.multiplier = multiplier == -1 ? config.cycles : multiplier;
-
-        this.measuredTimes = Collections.synchronizedList( new LinkedList<>() );
-        this.queryTypes = new HashMap<>();
-        this.measuredTimePerQueryType = new ConcurrentHashMap<>();
     }
 
 
@@ -175,28 +164,35 @@ public class Coms extends PolyphenyScenario {
         }
 
         log.warn( "Start Configuration:\n" + generator.generator.network );
-        for ( int i = 0; i < multiplier; i++ ) {
-            List<Query> queries = generator.generateWorkload();
+        MetricsTimeline metricsTimeline = MetricsTimeline.forConfig( config, outputDirectory, config.metricsPort, queryTypes.keySet() );
+        try {
+            for ( int i = 0; i < multiplier; i++ ) {
+                List<Query> queries = generator.generateWorkload();
 
-            log.info( "Preparing query list for the benchmark..." );
+                log.info( "Preparing query list for the benchmark..." );
 
-            Function<Query, List<Integer>> toInter = q -> q.getTypes().stream().map( QueryTypes::getI ).collect( Collectors.toList() );
+                Function<Query, List<Integer>> toInter = q -> q.getTypes().stream().map( QueryTypes::getI ).collect( Collectors.toList() );
 
-            queries.forEach( q -> q.getTypes().forEach( l -> queryTypes.put( l.getI(), l.toString() ) ) );
+                queries.forEach( q -> q.getTypes().forEach( l -> queryTypes.put( l.getI(), l.toString() ) ) );
 
-            List<QueryListEntry> relQueries = getRelQueries( queries, toInter );
-            List<QueryListEntry> docQueries = getDocQueries( queries, toInter );
-            List<QueryListEntry> graphQueries = getGraphQueries( queries, toInter );
+                List<QueryListEntry> relQueries = getRelQueries( queries, toInter );
+                List<QueryListEntry> docQueries = getDocQueries( queries, toInter );
+                List<QueryListEntry> graphQueries = getGraphQueries( queries, toInter );
 
-            dumpQueries( outputDirectory, relQueries, q -> q.query.getSql() );
-            dumpQueries( outputDirectory, docQueries, q -> q.query.getMongoQl() );
-            dumpQueries( outputDirectory, graphQueries, q -> q.query.getCypher() );
+                dumpQueries( outputDirectory, relQueries, q -> q.query.getSql() );
+                dumpQueries( outputDirectory, docQueries, q -> q.query.getMongoQl() );
+                dumpQueries( outputDirectory, graphQueries, q -> q.query.getCypher() );
 
-            // this could be extended to allow observations of changes over a single run
+                // this could be extended to allow observations of changes over a single run
 
-            log.info( String.format( "Starting benchmark cycle %d of %d...", i, multiplier ) );
-            startEvaluation( progressReporter, csvWriter, numberOfThreads, config.threadDistribution, relQueries, docQueries, graphQueries );
+                log.info( String.format( "Starting benchmark cycle %d of %d...", i, multiplier ) );
+                startEvaluation( progressReporter, csvWriter, metricsTimeline, numberOfThreads, config.threadDistribution, relQueries, docQueries, graphQueries );
 
+            }
+        } finally {
+            if ( metricsTimeline != null ) {
+                metricsTimeline.close();
+            }
         }
 
         log.warn( "End Configuration:\n" + generator.generator.network );
@@ -241,7 +237,7 @@ public class Coms extends PolyphenyScenario {
 
 
     @SafeVarargs
-    private void startEvaluation( ProgressReporter progressReporter, CsvWriter csvWriter, int numberOfThreads, List<Integer> threadDistribution, List<QueryListEntry>... queryLists ) {
+    private void startEvaluation( ProgressReporter progressReporter, CsvWriter csvWriter, MetricsTimeline metricsTimeline, int numberOfThreads, List<Integer> threadDistribution, List<QueryListEntry>... queryLists ) {
         log.info( "Executing benchmark..." );
         if ( threadDistribution.size() != queryLists.length ) {
             throw new RuntimeException( "ThreadDistribution needs to define an number for each data model" );
@@ -282,12 +278,13 @@ public class Coms extends PolyphenyScenario {
 
         EvaluationThreadMonitor threadMonitor = new EvaluationThreadMonitor( threads );
         threads.forEach( t -> t.setThreadMonitor( threadMonitor ) );
+        threads.forEach( t -> t.setMetricsTimeline( metricsTimeline ) );
 
         for ( EvaluationThread thread : threads ) {
             thread.start();
         }
 
-        for ( Thread thread : threads ) {
+        for ( EvaluationThread thread : threads ) {
             try {
                 thread.join();
             } catch ( InterruptedException e ) {
@@ -311,13 +308,8 @@ public class Coms extends PolyphenyScenario {
 
     private void collectResultsOfThreads( ArrayList<EvaluationThread> threads ) {
         for ( EvaluationThread thread : threads ) {
-            thread.getMeasuredTimePerQueryType().forEach( ( k, v ) -> {
-                if ( !measuredTimePerQueryType.containsKey( k ) ) {
-                    measuredTimePerQueryType.put( k, new ArrayList<>() );
-                }
-                measuredTimePerQueryType.get( k ).addAll( v );
-            } );
-            measuredTimes.addAll( thread.getMeasuredTimes() );
+            collectResultsOfThread( thread );
+            collectFetchedOfThread( thread );
         }
     }
 
@@ -32,6 +32,8 @@ import org.polypheny.simpleclient.executor.Executor;
 import org.polypheny.simpleclient.executor.ExecutorException;
 import org.polypheny.simpleclient.main.ProgressReporter;
 import org.polypheny.simpleclient.query.BatchableInsert;
+import org.polypheny.simpleclient.scenario.BulkLoader;
+import org.polypheny.simpleclient.scenario.DataPartition;
 import org.polypheny.simpleclient.scenario.docbench.queryBuilder.PutProductQueryBuilder;
 
 
@@ -41,7 +43,8 @@ public class DataGenerator {
     private final Executor theExecutor;
     private final DocBenchConfig config;
 
-    private final List<BatchableInsert> batchList;
+    private final BulkLoader bulkLoader;
+    private List<BatchableInsert> batchList;
 
     private boolean aborted;
 
@@ -52,7 +55,7 @@ public class DataGenerator {
     private final List<String> valuesPool;
 
 
-    DataGenerator( Random random, Executor executor, DocBenchConfig config, ProgressReporter progressReporter, List<String> valuesPool ) {
+    DataGenerator( Random random, Executor executor, DocBenchConfig config, ProgressReporter progressReporter, List<String> valuesPool, BulkLoader bulkLoader ) {
         theExecutor = executor;
         this.config = config;
         batchList = new LinkedList<>();
@@ -60,6 +63,7 @@ public class DataGenerator {
         this.valuesPool = valuesPool;
         this.progressReporter = progressReporter;
         this.random = random;
+        this.bulkLoader = bulkLoader;
     }
 
 
@@ -76,13 +80,20 @@ public class DataGenerator {
 
     private void addToInsertList( BatchableInsert query ) throws ExecutorException {
         batchList.add( query );
-        if ( batchList.size() >= config.batchSize ) {
+        if ( batchList.size() >= (bulkLoader == null ? config.batchSize : bulkLoader.getBatchSize()) ) {
             executeInsertList();
         }
     }
 
 
     private void executeInsertList() throws ExecutorException {
+        if ( bulkLoader != null ) {
+            if ( !batchList.isEmpty() ) {
+                bulkLoader.submit( batchList );
+                batchList = new LinkedList<>();
+            }
+            return;
+        }
         theExecutor.executeInsertList( batchList, config );
         theExecutor.executeCommit();
         batchList.clear();
@@ -94,11 +105,12 @@ public class DataGenerator {
     }
 
 
-    void generateData() throws ExecutorException {
+    void generateData( DataPartition partition ) throws ExecutorException {
         int mod = config.numberOfDocuments / (progressReporter.base * config.numberOfThreads);
         PutProductQueryBuilder queryBuilder = new PutProductQueryBuilder( random, valuesPool, config );
-        for ( int i = 0; i < config.numberOfDocuments; i++ ) {
-            if ( aborted ) {
+        int end = partition.getEnd( config.numberOfDocuments );
+        for ( int i = partition.getFirst( config.numberOfDocuments ); i < end; i++ ) {
+            if ( aborted || partition.isAborted() ) {
                 break;
             }
             addToInsertList( queryBuilder.getNewQuery() );
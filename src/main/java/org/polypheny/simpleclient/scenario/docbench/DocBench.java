@@ -26,15 +26,9 @@ package org.polypheny.simpleclient.scenario.docbench;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Properties;
 import java.util.Random;
-import java.util.Vector;
-import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.polypheny.simpleclient.QueryMode;
 import org.polypheny.simpleclient.executor.Executor;
@@ -45,8 +39,9 @@ import org.polypheny.simpleclient.main.CsvWriter;
 import org.polypheny.simpleclient.main.ProgressReporter;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
-import org.polypheny.simpleclient.query.QueryListEntry;
 import org.polypheny.simpleclient.query.RawQuery;
+import org.polypheny.simpleclient.query.Workload;
+import org.polypheny.simpleclient.scenario.BulkLoader;
 import org.polypheny.simpleclient.scenario.PolyphenyScenario;
 import org.polypheny.simpleclient.scenario.docbench.queryBuilder.PutProductQueryBuilder;
 import org.polypheny.simpleclient.scenario.docbench.queryBuilder.SearchProductQueryBuilder;
@@ -57,10 +52,6 @@ import org.polypheny.simpleclient.scenario.docbench.queryBuilder.UpdateProductQu
 public class DocBench extends PolyphenyScenario {
 
     private final DocBenchConfig config;
-    private final List<Long> measuredTimes;
-    private long executeRuntime;
-    private final Map<Integer, String> queryTypes;
-    private final Map<Integer, List<Long>> measuredTimePerQueryType;
     private final Random random;
     public final List<String> valuesPool = new ArrayList<>();
 
@@ -70,9 +61,6 @@ public class DocBench extends PolyphenyScenario {
     public DocBench( Executor.ExecutorFactory executorFactory, DocBenchConfig config, boolean commitAfterEveryQuery, boolean dumpQueryList ) {
         super( executorFactory, commitAfterEveryQuery, dumpQueryList, QueryMode.TABLE );
         this.config = config;
-        measuredTimes = Collections.synchronizedList( new LinkedList<>() );
-        queryTypes = new HashMap<>();
-        measuredTimePerQueryType = new ConcurrentHashMap<>();
         random = new Random( config.seed );
 
         // Build attribute values pool
@@ -118,31 +106,48 @@ public class DocBench extends PolyphenyScenario {
     @Override
     public void generateData( DatabaseInstance databaseInstance, ProgressReporter progressReporter ) {
         log.info( "Generating data..." );
-        Executor executor = executorFactory.createExecutorInstance( null, NAMESPACE );
-        DataGenerator dataGenerator = new DataGenerator( random, executor, config, progressReporter, valuesPool );
+        BulkLoader bulkLoader = createBulkLoader( config, config.batchSize, () -> executorFactory.createExecutorInstance( null, NAMESPACE ) );
         try {
-            dataGenerator.generateData();
-        } catch ( ExecutorException e ) {
-            throw new RuntimeException( "Exception while generating data", e );
+            generateDataInParallel( config.numberOfDataGenerationThreads, () -> executorFactory.createExecutorInstance( null, NAMESPACE ), ( executor, partition ) -> {
+                // The values pool is only read, but every partition needs its own random number generator
+                Random partitionRandom = new Random( partition.getSeed( config.seed ) );
+                DataGenerator dataGenerator = new DataGenerator( partitionRandom, executor, config, progressReporter, valuesPool, bulkLoader );
+                dataGenerator.generateData( partition );
+            } );
         } finally {
-            commitAndCloseExecutor( executor );
+            closeBulkLoader( bulkLoader );
         }
     }
 
 
     @Override
     public long execute( ProgressReporter progressReporter, CsvWriter csvWriter, File outputDirectory, int numberOfThreads ) {
+        if ( hasCompiledWorkload( config ) ) {
+            return commonExecute( new Workload(), progressReporter, outputDirectory, numberOfThreads, Query::getMongoQl, () -> executorFactory.createExecutorInstance( csvWriter, NAMESPACE ), random, config );
+        }
+
         log.info( "Preparing query list for the benchmark..." );
-        List<QueryListEntry> queryList = new Vector<>();
-        addNumberOfTimes( queryList, new SearchProductQueryBuilder( random, valuesPool, config ), config.numberOfFindQueries );
-        addNumberOfTimes( queryList, new UpdateProductQueryBuilder( random, valuesPool, config ), config.numberOfUpdateQueries );
-        addNumberOfTimes( queryList, new PutProductQueryBuilder( random, valuesPool, config ), config.numberOfPutQueries );
-        return commonExecute( queryList, progressReporter, outputDirectory, numberOfThreads, Query::getMongoQl, () -> executorFactory.createExecutorInstance( csvWriter, NAMESPACE ), random );
+        Workload workload = createWorkload();
+        return commonExecute( workload, progressReporter, outputDirectory, numberOfThreads, Query::getMongoQl, () -> executorFactory.createExecutorInstance( csvWriter, NAMESPACE ), random, config );
+    }
+
+
+    private Workload createWorkload() {
+        Workload workload = new Workload();
+        addNumberOfTimes( workload, new SearchProductQueryBuilder( random, valuesPool, config ), config.numberOfFindQueries );
+        addNumberOfTimes( workload, new UpdateProductQueryBuilder( random, valuesPool, config ), config.numberOfUpdateQueries );
+        addNumberOfTimes( workload, new PutProductQueryBuilder( random, valuesPool, config ), config.numberOfPutQueries );
+        return workload;
     }
 
 
     @Override
     public void warmUp( ProgressReporter progressReporter ) {
+        if ( config.adaptiveWarmUp ) {
+            adaptiveWarmUp( createWorkload(), () -> executorFactory.createExecutorInstance( null, NAMESPACE ), progressReporter, config );
+            return;
+        }
+
         log.info( "Warm-up..." );
         Executor executor = null;
         SearchProductQueryBuilder searchProduct = new SearchProductQueryBuilder( random, valuesPool, config );
@@ -177,25 +182,23 @@ public class DocBench extends PolyphenyScenario {
     @Override
     public void analyze( Properties properties, File outputDirectory ) {
         super.analyze( properties, outputDirectory );
-        properties.put( "numberOfFindQueries", measuredTimePerQueryType.get( 1 ).size() );
-        properties.put( "numberOfUpdateQueries", measuredTimePerQueryType.get( 2 ).size() );
-        properties.put( "numberOfPutQueries", measuredTimePerQueryType.get( 3 ).size() );
+        properties.put( "numberOfFindQueries", measuredTimePerQueryType.get( 1 ).getTotalCount() );
+        properties.put( "numberOfUpdateQueries", measuredTimePerQueryType.get( 2 ).getTotalCount() );
+        properties.put( "numberOfPutQueries", measuredTimePerQueryType.get( 3 ).getTotalCount() );
     }
 
 
     @Override
     public int getNumberOfInsertThreads() {
-        return 1;
+        return config.numberOfDataGenerationThreads;
     }
 
 
-    private void addNumberOfTimes( List<QueryListEntry> list, QueryBuilder queryBuilder, int numberOfTimes ) {
+    private void addNumberOfTimes( Workload workload, QueryBuilder queryBuilder, int numberOfTimes ) {
         int id = queryTypes.size() + 1;
         queryTypes.put( id, queryBuilder.getNewQuery().getMongoQl() );
-        measuredTimePerQueryType.put( id, Collections.synchronizedList( new LinkedList<>() ) );
-        for ( int i = 0; i < numberOfTimes; i++ ) {
-            list.add( new QueryListEntry( queryBuilder.getNewQuery(), id ) );
-        }
+        measuredTimePerQueryType.put( id, createLatencyHistogram() );
+        workload.add( queryBuilder, id, numberOfTimes );
     }
 
 
@@ -34,6 +34,7 @@ public class DocBenchConfig extends AbstractConfig {
     public long seed;
 
     public int batchSize;
+    public int numberOfDataGenerationThreads;
 
     // Data
     public int numberOfDocuments;
@@ -55,6 +56,7 @@ public class DocBenchConfig extends AbstractConfig {
 
         seed = getLongProperty( properties, "seed" );
         batchSize = getIntProperty( properties, "batchSize" );
+        numberOfDataGenerationThreads = getIntProperty( properties, "numberOfDataGenerationThreads", 1 );
 
         numberOfFindQueries = getIntProperty( properties, "numberOfFindQueries" );
         numberOfUpdateQueries = getIntProperty( properties, "numberOfUpdateQueries" );
@@ -75,6 +77,7 @@ public class DocBenchConfig extends AbstractConfig {
 
         seed = Integer.parseInt( cdl.get( "seed" ) );
         batchSize = Integer.parseInt( cdl.get( "batchSize" ) );
+        numberOfDataGenerationThreads = Integer.parseInt( cdlGetOptional( cdl, "numberOfDataGenerationThreads", "1" ) );
 
         numberOfFindQueries = Integer.parseInt( cdl.get( "numberOfFindQueries" ) );
         numberOfUpdateQueries = Integer.parseInt( cdl.get( "numberOfUpdateQueries" ) );
@@ -26,11 +26,11 @@ package org.polypheny.simpleclient.scenario.docbench;
 
 import com.google.gson.JsonObject;
 import java.util.Map;
-import kong.unirest.core.HttpRequest;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.BatchableInsert;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 @Slf4j
@@ -93,7 +93,7 @@ public class MongoQlInsertQuery extends BatchableInsert {
 
 
     @Override
-    public HttpRequest<?> getRest() {
+    public RestRequest getRest() {
         throw new UnsupportedOperationException();
     }
 
@@ -32,6 +32,7 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.Getter;
@@ -40,6 +41,7 @@ import org.polypheny.simpleclient.executor.Executor;
 import org.polypheny.simpleclient.executor.ExecutorException;
 import org.polypheny.simpleclient.main.ProgressReporter;
 import org.polypheny.simpleclient.query.BatchableInsert;
+import org.polypheny.simpleclient.scenario.BulkLoader;
 import org.polypheny.simpleclient.scenario.gavel.Gavel.DataGenerationThreadMonitor;
 import org.polypheny.simpleclient.scenario.gavel.queryBuilder.InsertAuction;
 import org.polypheny.simpleclient.scenario.gavel.queryBuilder.InsertBid;
@@ -62,17 +64,19 @@ class DataGenerator {
     private final GavelConfig config;
     private final ProgressReporter progressReporter;
 
-    private final List<BatchableInsert> batchList;
+    private final BulkLoader bulkLoader;
+    private List<BatchableInsert> batchList;
 
     @Getter
     private final DataGenerationThreadMonitor threadMonitor;
     private boolean aborted;
 
 
-    DataGenerator( Executor executor, GavelConfig config, ProgressReporter progressReporter, DataGenerationThreadMonitor threadMonitor ) {
+    DataGenerator( Executor executor, GavelConfig config, ProgressReporter progressReporter, DataGenerationThreadMonitor threadMonitor, BulkLoader bulkLoader ) {
         theExecutor = executor;
         this.config = config;
         this.progressReporter = progressReporter;
+        this.bulkLoader = bulkLoader;
         batchList = new LinkedList<>();
         this.threadMonitor = threadMonitor;
         threadMonitor.registerDataGenerator( this );
@@ -169,7 +173,8 @@ class DataGenerator {
             description = text.paragraph( ThreadLocalRandom.current().nextInt( auctionDescriptionMinLength, auctionDescriptionMaxLength + 1 ) );
             int auctionId = nextAuctionId.getAndIncrement();
             addToInsertList( new InsertAuction( auctionId, user, category, startDate, endDate, title, description ).getNewQuery() );
-            executeInsertList();
+            // The bids and pictures reference the auction
+            BulkLoader.await( executeInsertList() );
 
             // create bids for that auction
             numberOfBids = ThreadLocalRandom.current().nextInt( minNumberOfBidsPerAuction, maxNumberOfBidsPerAuction );
@@ -217,16 +222,25 @@ class DataGenerator {
 
     private void addToInsertList( BatchableInsert query ) throws ExecutorException {
         batchList.add( query );
-        if ( batchList.size() >= config.maxBatchSize ) {
+        if ( batchList.size() >= (bulkLoader == null ? config.maxBatchSize : bulkLoader.getBatchSize()) ) {
             executeInsertList();
         }
     }
 
 
-    private void executeInsertList() throws ExecutorException {
+    private CompletableFuture<Void> executeInsertList() throws ExecutorException {
+        if ( bulkLoader != null ) {
+            if ( batchList.isEmpty() ) {
+                return CompletableFuture.completedFuture( null );
+            }
+            CompletableFuture<Void> future = bulkLoader.submit( batchList );
+            batchList = new LinkedList<>();
+            return future;
+        }
         theExecutor.executeInsertList( batchList, config );
         theExecutor.executeCommit();
         batchList.clear();
+        return CompletableFuture.completedFuture( null );
     }
 
 
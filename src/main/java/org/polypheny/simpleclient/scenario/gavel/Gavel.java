@@ -30,13 +30,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.Vector;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.polypheny.simpleclient.QueryMode;
@@ -53,8 +51,9 @@ import org.polypheny.simpleclient.main.CsvWriter;
 import org.polypheny.simpleclient.main.ProgressReporter;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
-import org.polypheny.simpleclient.query.QueryListEntry;
 import org.polypheny.simpleclient.query.RawQuery;
+import org.polypheny.simpleclient.query.Workload;
+import org.polypheny.simpleclient.scenario.BulkLoader;
 import org.polypheny.simpleclient.scenario.PolyphenyScenario;
 import org.polypheny.simpleclient.scenario.gavel.queryBuilder.ChangePasswordOfRandomUser;
 import org.polypheny.simpleclient.scenario.gavel.queryBuilder.ChangeRandomAuction;
@@ -93,6 +92,10 @@ public class Gavel extends PolyphenyScenario {
 
     @Override
     public long execute( ProgressReporter progressReporter, CsvWriter csvWriter, File outputDirectory, int numberOfThreads ) {
+        if ( hasCompiledWorkload( config ) ) {
+            return commonExecute( new Workload(), progressReporter, outputDirectory, numberOfThreads, Query::getSql, () -> executorFactory.createExecutorInstance( csvWriter ), new Random(), config );
+        }
+
         log.info( "Analyzing currently stored data..." );
         Map<String, Integer> numbers = getNumbers();
 
@@ -100,27 +103,33 @@ public class Gavel extends PolyphenyScenario {
         InsertRandomBid.setNextId( numbers.get( "bids" ) + 1 );
 
         log.info( "Preparing query list for the benchmark..." );
-        List<QueryListEntry> queryList = new Vector<>();
-        addNumberOfTimes( queryList, new InsertUser(), config.numberOfAddUserQueries );
-        addNumberOfTimes( queryList, new ChangePasswordOfRandomUser( numbers.get( "users" ) ), config.numberOfChangePasswordQueries );
-        addNumberOfTimes( queryList, new InsertRandomAuction( numbers.get( "users" ), numbers.get( "categories" ), config ), config.numberOfAddAuctionQueries );
-        addNumberOfTimes( queryList, new InsertRandomBid( numbers.get( "auctions" ), numbers.get( "users" ) ), config.numberOfAddBidQueries );
-        addNumberOfTimes( queryList, new ChangeRandomAuction( numbers.get( "auctions" ), config ), config.numberOfChangeAuctionQueries );
-        addNumberOfTimes( queryList, new SelectRandomAuction( numbers.get( "auctions" ), queryMode ), config.numberOfGetAuctionQueries );
-        addNumberOfTimes( queryList, new SelectTheHundredNextEndingAuctionsOfRandomCategory( numbers.get( "categories" ), config, queryMode ), config.numberOfGetTheNextHundredEndingAuctionsOfACategoryQueries );
-        addNumberOfTimes( queryList, new SearchAuction( queryMode ), config.numberOfSearchAuctionQueries );
-        addNumberOfTimes( queryList, new CountAuction( queryMode ), config.numberOfCountAuctionsQueries );
-        addNumberOfTimes( queryList, new SelectTopTenCitiesByNumberOfCustomers( queryMode ), config.numberOfTopTenCitiesByNumberOfCustomersQueries );
-        addNumberOfTimes( queryList, new CountBid( queryMode ), config.numberOfCountBidsQueries );
-        addNumberOfTimes( queryList, new SelectRandomBid( numbers.get( "bids" ), queryMode ), config.numberOfGetBidQueries );
-        addNumberOfTimes( queryList, new SelectRandomUser( numbers.get( "users" ), queryMode ), config.numberOfGetUserQueries );
-        addNumberOfTimes( queryList, new SelectAllBidsOnRandomAuction( numbers.get( "auctions" ), queryMode ), config.numberOfGetAllBidsOnAuctionQueries );
-        addNumberOfTimes( queryList, new SelectHighestBidOnRandomAuction( numbers.get( "auctions" ), queryMode ), config.numberOfGetCurrentlyHighestBidOnAuctionQueries );
-        addNumberOfTimes( queryList, new SelectHighestOverallBid( queryMode ), config.totalNumOfHighestOverallBidQueries );
-        addNumberOfTimes( queryList, new SelectTopHundredSellerByNumberOfAuctions( queryMode ), config.totalNumOfTopHundredSellerByNumberOfAuctionsQueries );
-        addNumberOfTimes( queryList, new SelectPriceBetweenAndNotInCategory( queryMode ), config.totalNumOfPriceBetweenAndNotInCategoryQueries );
-
-        return commonExecute( queryList, progressReporter, outputDirectory, numberOfThreads, Query::getSql, () -> executorFactory.createExecutorInstance( csvWriter ), new Random() );
+        Workload workload = createWorkload( numbers );
+
+        return commonExecute( workload, progressReporter, outputDirectory, numberOfThreads, Query::getSql, () -> executorFactory.createExecutorInstance( csvWriter ), new Random(), config );
+    }
+
+
+    private Workload createWorkload( Map<String, Integer> numbers ) {
+        Workload workload = new Workload();
+        addNumberOfTimes( workload, new InsertUser(), config.numberOfAddUserQueries );
+        addNumberOfTimes( workload, new ChangePasswordOfRandomUser( config.changePasswordKeyDistribution.create( numbers.get( "users" ) ) ), config.numberOfChangePasswordQueries );
+        addNumberOfTimes( workload, new InsertRandomAuction( numbers.get( "users" ), numbers.get( "categories" ), config ), config.numberOfAddAuctionQueries );
+        addNumberOfTimes( workload, new InsertRandomBid( config.addBidKeyDistribution.create( numbers.get( "auctions" ) ), numbers.get( "users" ) ), config.numberOfAddBidQueries );
+        addNumberOfTimes( workload, new ChangeRandomAuction( config.changeAuctionKeyDistribution.create( numbers.get( "auctions" ) ), config ), config.numberOfChangeAuctionQueries );
+        addNumberOfTimes( workload, new SelectRandomAuction( config.getAuctionKeyDistribution.create( numbers.get( "auctions" ) ), queryMode ), config.numberOfGetAuctionQueries );
+        addNumberOfTimes( workload, new SelectTheHundredNextEndingAuctionsOfRandomCategory( numbers.get( "categories" ), config, queryMode ), config.numberOfGetTheNextHundredEndingAuctionsOfACategoryQueries );
+        addNumberOfTimes( workload, new SearchAuction( queryMode ), config.numberOfSearchAuctionQueries );
+        addNumberOfTimes( workload, new CountAuction( queryMode ), config.numberOfCountAuctionsQueries );
+        addNumberOfTimes( workload, new SelectTopTenCitiesByNumberOfCustomers( queryMode ), config.numberOfTopTenCitiesByNumberOfCustomersQueries );
+        addNumberOfTimes( workload, new CountBid( queryMode ), config.numberOfCountBidsQueries );
+        addNumberOfTimes( workload, new SelectRandomBid( config.getBidKeyDistribution.create( numbers.get( "bids" ) ), queryMode ), config.numberOfGetBidQueries );
+        addNumberOfTimes( workload, new SelectRandomUser( config.getUserKeyDistribution.create( numbers.get( "users" ) ), queryMode ), config.numberOfGetUserQueries );
+        addNumberOfTimes( workload, new SelectAllBidsOnRandomAuction( config.getAllBidsOnAuctionKeyDistribution.create( numbers.get( "auctions" ) ), queryMode ), config.numberOfGetAllBidsOnAuctionQueries );
+        addNumberOfTimes( workload, new SelectHighestBidOnRandomAuction( config.getCurrentlyHighestBidOnAuctionKeyDistribution.create( numbers.get( "auctions" ) ), queryMode ), config.numberOfGetCurrentlyHighestBidOnAuctionQueries );
+        addNumberOfTimes( workload, new SelectHighestOverallBid( queryMode ), config.totalNumOfHighestOverallBidQueries );
+        addNumberOfTimes( workload, new SelectTopHundredSellerByNumberOfAuctions( queryMode ), config.totalNumOfTopHundredSellerByNumberOfAuctionsQueries );
+        addNumberOfTimes( workload, new SelectPriceBetweenAndNotInCategory( queryMode ), config.totalNumOfPriceBetweenAndNotInCategoryQueries );
+        return workload;
     }
 
 
@@ -132,6 +141,11 @@ public class Gavel extends PolyphenyScenario {
         InsertRandomAuction.setNextId( numbers.get( "auctions" ) + 2 );
         InsertRandomBid.setNextId( numbers.get( "bids" ) + 2 );
 
+        if ( config.adaptiveWarmUp ) {
+            adaptiveWarmUp( createWorkload( numbers ), () -> executorFactory.createExecutorInstance(), progressReporter, config );
+            return;
+        }
+
         log.info( "Warm-up..." );
         Executor executor = null;
         for ( int i = 0; i < config.numberOfWarmUpIterations; i++ ) {
@@ -332,7 +346,8 @@ public class Gavel extends PolyphenyScenario {
         DataGenerationThreadMonitor threadMonitor = new DataGenerationThreadMonitor();
 
         Executor executor1 = executorFactory.createExecutorInstance();
-        DataGenerator dataGenerator = new DataGenerator( executor1, config, progressReporter, threadMonitor );
+        // The auctions reference the categories, hence these are inserted directly
+        DataGenerator dataGenerator = new DataGenerator( executor1, config, progressReporter, threadMonitor, null );
         try {
             //dataGenerator.truncateTables();
             dataGenerator.generateCategories();
@@ -342,6 +357,7 @@ public class Gavel extends PolyphenyScenario {
             commitAndCloseExecutor( executor1 );
         }
 
+        BulkLoader bulkLoader = createBulkLoader( config, config.maxBatchSize, executorFactory::createExecutorInstance );
         ArrayList<Thread> threads = new ArrayList<>();
         int numberOfUserGenerationThreads;
         if ( executorFactory.getMaxNumberOfThreads() > 0 && config.numberOfUserGenerationThreads > executorFactory.getMaxNumberOfThreads() ) {
@@ -354,7 +370,7 @@ public class Gavel extends PolyphenyScenario {
             Runnable task = () -> {
                 Executor executor = executorFactory.createExecutorInstance();
                 try {
-                    DataGenerator dg = new DataGenerator( executor, config, progressReporter, threadMonitor );
+                    DataGenerator dg = new DataGenerator( executor, config, progressReporter, threadMonitor, bulkLoader );
                     dg.generateUsers( config.numberOfUsers / numberOfUserGenerationThreads );
                 } catch ( ExecutorException e ) {
                     threadMonitor.notifyAboutError( e );
@@ -387,6 +403,13 @@ public class Gavel extends PolyphenyScenario {
                     throw new RuntimeException( "Unexpected interrupt", e );
                 }
             }
+            if ( bulkLoader != null ) {
+                try {
+                    bulkLoader.awaitCompletion();
+                } catch ( ExecutorException e ) {
+                    threadMonitor.notifyAboutError( e );
+                }
+            }
         }
 
         int numberOfAuctionGenerationThreads = config.numberOfAuctionGenerationThreads;
@@ -401,7 +424,7 @@ public class Gavel extends PolyphenyScenario {
             Runnable task = () -> {
                 Executor executor = executorFactory.createExecutorInstance();
                 try {
-                    DataGenerator dg = new DataGenerator( executor, config, progressReporter, threadMonitor );
+                    DataGenerator dg = new DataGenerator( executor, config, progressReporter, threadMonitor, bulkLoader );
                     dg.generateAuctions( start, end );
                 } catch ( ExecutorException e ) {
                     threadMonitor.notifyAboutError( e );
@@ -433,6 +456,7 @@ public class Gavel extends PolyphenyScenario {
                 throw new RuntimeException( "Unexpected interrupt", e );
             }
         }
+        closeBulkLoader( bulkLoader );
 
         if ( queryMode == QueryMode.MATERIALIZED ) {
             updateMaterializedView();
@@ -511,13 +535,11 @@ public class Gavel extends PolyphenyScenario {
     }
 
 
-    private void addNumberOfTimes( List<QueryListEntry> list, QueryBuilder queryBuilder, int numberOfTimes ) {
+    private void addNumberOfTimes( Workload workload, QueryBuilder queryBuilder, int numberOfTimes ) {
         int id = queryTypes.size() + 1;
         queryTypes.put( id, queryBuilder.getNewQuery().getSql() );
-        measuredTimePerQueryType.put( id, Collections.synchronizedList( new LinkedList<>() ) );
-        for ( int i = 0; i < numberOfTimes; i++ ) {
-            list.add( new QueryListEntry( queryBuilder.getNewQuery(), id ) );
-        }
+        measuredTimePerQueryType.put( id, createLatencyHistogram() );
+        workload.add( queryBuilder, id, numberOfTimes );
     }
 
 
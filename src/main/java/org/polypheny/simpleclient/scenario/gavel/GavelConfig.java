@@ -27,6 +27,7 @@ package org.polypheny.simpleclient.scenario.gavel;
 import java.util.Map;
 import java.util.Properties;
 import lombok.extern.slf4j.Slf4j;
+import org.polypheny.simpleclient.query.KeyDistribution;
 import org.polypheny.simpleclient.scenario.AbstractConfig;
 
 
@@ -52,6 +53,16 @@ public class GavelConfig extends AbstractConfig {
     public int totalNumOfHighestOverallBidQueries;
     public int totalNumOfTopHundredSellerByNumberOfAuctionsQueries;
 
+    // Distribution of the accessed keys per query template
+    public KeyDistribution.Spec changePasswordKeyDistribution;
+    public KeyDistribution.Spec addBidKeyDistribution;
+    public KeyDistribution.Spec changeAuctionKeyDistribution;
+    public KeyDistribution.Spec getAuctionKeyDistribution;
+    public KeyDistribution.Spec getBidKeyDistribution;
+    public KeyDistribution.Spec getUserKeyDistribution;
+    public KeyDistribution.Spec getAllBidsOnAuctionKeyDistribution;
+    public KeyDistribution.Spec getCurrentlyHighestBidOnAuctionKeyDistribution;
+
     public int numberOfUsers;
     public int numberOfAuctions;
     public int numberOfCategories;
@@ -96,6 +107,16 @@ public class GavelConfig extends AbstractConfig {
         totalNumOfHighestOverallBidQueries = getIntProperty( properties, "totalNumOfHighestOverallBidQueries" ) * multiplier;
         totalNumOfTopHundredSellerByNumberOfAuctionsQueries = getIntProperty( properties, "totalNumOfTopHundredSellerByNumberOfAuctionsQueries" ) * multiplier;
 
+        KeyDistribution.Spec keyDistribution = KeyDistribution.Spec.parse( getStringProperty( properties, "keyDistribution", "uniform" ) );
+        changePasswordKeyDistribution = getKeyDistribution( getStringProperty( properties, "changePasswordKeyDistribution", null ), keyDistribution );
+        addBidKeyDistribution = getKeyDistribution( getStringProperty( properties, "addBidKeyDistribution", null ), keyDistribution );
+        changeAuctionKeyDistribution = getKeyDistribution( getStringProperty( properties, "changeAuctionKeyDistribution", null ), keyDistribution );
+        getAuctionKeyDistribution = getKeyDistribution( getStringProperty( properties, "getAuctionKeyDistribution", null ), keyDistribution );
+        getBidKeyDistribution = getKeyDistribution( getStringProperty( properties, "getBidKeyDistribution", null ), keyDistribution );
+        getUserKeyDistribution = getKeyDistribution( getStringProperty( properties, "getUserKeyDistribution", null ), keyDistribution );
+        getAllBidsOnAuctionKeyDistribution = getKeyDistribution( getStringProperty( properties, "getAllBidsOnAuctionKeyDistribution", null ), keyDistribution );
+        getCurrentlyHighestBidOnAuctionKeyDistribution = getKeyDistribution( getStringProperty( properties, "getCurrentlyHighestBidOnAuctionKeyDistribution", null ), keyDistribution );
+
         numberOfUsers = getIntProperty( properties, "numberOfUsers" ) * multiplier;
         numberOfAuctions = getIntProperty( properties, "numberOfAuctions" ) * multiplier;
         numberOfCategories = getIntProperty( properties, "numberOfCategories" );
@@ -146,6 +167,16 @@ public class GavelConfig extends AbstractConfig {
         totalNumOfHighestOverallBidQueries = Integer.parseInt( cdl.get( "totalNumOfHighestOverallBidQueries" ) );
         totalNumOfTopHundredSellerByNumberOfAuctionsQueries = Integer.parseInt( cdl.get( "totalNumOfTopHundredSellerByNumberOfAuctionsQueries" ) );
 
+        KeyDistribution.Spec keyDistribution = KeyDistribution.Spec.parse( cdlGetOptional( cdl, "keyDistribution", "uniform" ) );
+        changePasswordKeyDistribution = getKeyDistribution( cdlGetOptional( cdl, "changePasswordKeyDistribution", null ), keyDistribution );
+        addBidKeyDistribution = getKeyDistribution( cdlGetOptional( cdl, "addBidKeyDistribution", null ), keyDistribution );
+        changeAuctionKeyDistribution = getKeyDistribution( cdlGetOptional( cdl, "changeAuctionKeyDistribution", null ), keyDistribution );
+        getAuctionKeyDistribution = getKeyDistribution( cdlGetOptional( cdl, "getAuctionKeyDistribution", null ), keyDistribution );
+        getBidKeyDistribution = getKeyDistribution( cdlGetOptional( cdl, "getBidKeyDistribution", null ), keyDistribution );
+        getUserKeyDistribution = getKeyDistribution( cdlGetOptional( cdl, "getUserKeyDistribution", null ), keyDistribution );
+        getAllBidsOnAuctionKeyDistribution = getKeyDistribution( cdlGetOptional( cdl, "getAllBidsOnAuctionKeyDistribution", null ), keyDistribution );
+        getCurrentlyHighestBidOnAuctionKeyDistribution = getKeyDistribution( cdlGetOptional( cdl, "getCurrentlyHighestBidOnAuctionKeyDistribution", null ), keyDistribution );
+
         // Data Generation
         numberOfUsers = Integer.parseInt( cdl.get( "numberOfUsers" ) );
         numberOfAuctions = Integer.parseInt( cdl.get( "numberOfAuctions" ) );
@@ -183,6 +214,17 @@ public class GavelConfig extends AbstractConfig {
     }
 
 
+    /**
+     * Returns the key distribution of a query template, or the distribution of all templates if none is specified.
+     */
+    private KeyDistribution.Spec getKeyDistribution( String str, KeyDistribution.Spec defaultSpec ) {
+        if ( str == null || str.isBlank() ) {
+            return defaultSpec;
+        }
+        return KeyDistribution.Spec.parse( str );
+    }
+
+
     @Override
     public boolean usePreparedBatchForDataInsertion() {
         return this.usePreparedBatchForDataInsertion;
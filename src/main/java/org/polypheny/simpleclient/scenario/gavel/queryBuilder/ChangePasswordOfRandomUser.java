@@ -33,22 +33,27 @@ import com.google.gson.JsonPrimitive;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ThreadLocalRandom;
-import kong.unirest.core.HttpRequest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.polypheny.simpleclient.query.KeyDistribution;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class ChangePasswordOfRandomUser extends QueryBuilder {
 
     private static final boolean EXPECT_RESULT = false;
 
-    private final int numberOfUsers;
+    private final KeyDistribution userIds;
 
 
     public ChangePasswordOfRandomUser( int numberOfUsers ) {
-        this.numberOfUsers = numberOfUsers;
+        this( KeyDistribution.uniform( numberOfUsers ) );
+    }
+
+
+    public ChangePasswordOfRandomUser( KeyDistribution userIds ) {
+        this.userIds = userIds;
     }
 
 
@@ -57,7 +62,7 @@ public class ChangePasswordOfRandomUser extends QueryBuilder {
         Fairy fairy = Fairy.create();
         Person person = fairy.person();
         return new ChangePasswordOfRandomUserQuery(
-                ThreadLocalRandom.current().nextInt( 1, numberOfUsers + 1 ),
+                userIds.nextKey(),
                 person.getPassword()
         );
     }
@@ -101,7 +106,7 @@ public class ChangePasswordOfRandomUser extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             JsonObject set = new JsonObject();
             set.add( "public.user.password", new JsonPrimitive( password ) );
 
@@ -34,10 +34,11 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
-import kong.unirest.core.HttpRequest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.polypheny.simpleclient.query.KeyDistribution;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 import org.polypheny.simpleclient.scenario.gavel.GavelConfig;
 
 
@@ -45,7 +46,7 @@ public class ChangeRandomAuction extends QueryBuilder {
 
     private static final boolean EXPECT_RESULT = false;
 
-    private final int numberOfAuctions;
+    private final KeyDistribution auctionIds;
     private final int auctionTitleMinLength;
     private final int auctionTitleMaxLength;
     private final int auctionDescriptionMinLength;
@@ -55,7 +56,12 @@ public class ChangeRandomAuction extends QueryBuilder {
 
 
     public ChangeRandomAuction( int numberOfAuctions, GavelConfig config ) {
-        this.numberOfAuctions = numberOfAuctions;
+        this( KeyDistribution.uniform( numberOfAuctions ), config );
+    }
+
+
+    public ChangeRandomAuction( KeyDistribution auctionIds, GavelConfig config ) {
+        this.auctionIds = auctionIds;
         this.auctionTitleMinLength = config.auctionTitleMinLength;
         this.auctionTitleMaxLength = config.auctionTitleMaxLength;
         this.auctionDescriptionMinLength = config.auctionDescriptionMinLength;
@@ -67,7 +73,7 @@ public class ChangeRandomAuction extends QueryBuilder {
     @Override
     public Query getNewQuery() {
         return new ChangeRandomAuctionQuery(
-                ThreadLocalRandom.current().nextInt( 1, numberOfAuctions + 1 ),
+                auctionIds.nextKey(),
                 text.latinWord( ThreadLocalRandom.current().nextInt( auctionTitleMinLength, auctionTitleMaxLength + 1 ) ),
                 text.paragraph( ThreadLocalRandom.current().nextInt( auctionDescriptionMinLength, auctionDescriptionMaxLength + 1 ) )
         );
@@ -116,7 +122,7 @@ public class ChangeRandomAuction extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             JsonObject set = new JsonObject();
             set.add( "public.auction.title", new JsonPrimitive( title ) );
             set.add( "public.auction.description", new JsonPrimitive( description ) );
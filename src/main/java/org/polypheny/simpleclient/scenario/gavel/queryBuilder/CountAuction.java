@@ -28,12 +28,11 @@ package org.polypheny.simpleclient.scenario.gavel.queryBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import kong.unirest.core.HttpRequest;
-import kong.unirest.core.Unirest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.QueryMode;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class CountAuction extends QueryBuilder {
@@ -89,13 +88,13 @@ public class CountAuction extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             if ( queryMode.equals( QueryMode.VIEW ) ) {
-                return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.countAuction" );
+                return RestRequest.get( "/restapi/v1/res/public.countAuction" );
             } else if ( queryMode.equals( QueryMode.MATERIALIZED ) ) {
-                return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.countAuction_materialized" );
+                return RestRequest.get( "/restapi/v1/res/public.countAuction_materialized" );
             } else {
-                return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.auction" )
+                return RestRequest.get( "/restapi/v1/res/public.auction" )
                         .queryString( "_project", "public.auction.id@num(COUNT)" );
             }
         }
@@ -28,12 +28,11 @@ package org.polypheny.simpleclient.scenario.gavel.queryBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import kong.unirest.core.HttpRequest;
-import kong.unirest.core.Unirest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.QueryMode;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class CountBid extends QueryBuilder {
@@ -89,14 +88,14 @@ public class CountBid extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             if ( queryMode.equals( QueryMode.VIEW ) ) {
-                return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.countBid" );
+                return RestRequest.get( "/restapi/v1/res/public.countBid" );
                 // .queryString( "public.countBid", "*");
             } else if ( queryMode.equals( QueryMode.MATERIALIZED ) ) {
-                return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.countBid_materialized" );
+                return RestRequest.get( "/restapi/v1/res/public.countBid_materialized" );
             } else {
-                return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.bid" )
+                return RestRequest.get( "/restapi/v1/res/public.bid" )
                         .queryString( "_project", "public.bid.id@num(COUNT)" );
             }
         }
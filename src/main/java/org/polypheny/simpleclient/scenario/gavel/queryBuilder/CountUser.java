@@ -28,11 +28,10 @@ package org.polypheny.simpleclient.scenario.gavel.queryBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import kong.unirest.core.HttpRequest;
-import kong.unirest.core.Unirest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class CountUser extends QueryBuilder {
@@ -72,8 +71,8 @@ public class CountUser extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
-            return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.user" )
+        public RestRequest getRest() {
+            return RestRequest.get( "/restapi/v1/res/public.user" )
                     .queryString( "_project", "public.user.id@num(COUNT)" );
         }
 
@@ -34,11 +34,11 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
-import kong.unirest.core.HttpRequest;
 import lombok.Getter;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.BatchableInsert;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class InsertAuction extends QueryBuilder {
@@ -145,7 +145,7 @@ public class InsertAuction extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             return buildRestInsert( "public.auction", ImmutableList.of( getRestRowExpression() ) );
         }
 
@@ -31,6 +31,7 @@ import com.devskiller.jfairy.producer.DateProducer;
 import java.time.LocalDateTime;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.polypheny.simpleclient.query.KeyDistribution;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
 import org.polypheny.simpleclient.scenario.gavel.queryBuilder.InsertBid.InsertBidQuery;
@@ -40,14 +41,19 @@ public class InsertRandomBid extends QueryBuilder {
 
     private static final boolean EXPECT_RESULT = false;
 
-    private final int numberOfAuctions;
+    private final KeyDistribution auctionIds;
     private final int numberOfUsers;
 
     private static final AtomicInteger nextBidId = new AtomicInteger( 1 );
 
 
     public InsertRandomBid( int numberOfAuctions, int numberOfUsers ) {
-        this.numberOfAuctions = numberOfAuctions;
+        this( KeyDistribution.uniform( numberOfAuctions ), numberOfUsers );
+    }
+
+
+    public InsertRandomBid( KeyDistribution auctionIds, int numberOfUsers ) {
+        this.auctionIds = auctionIds;
         this.numberOfUsers = numberOfUsers;
     }
 
@@ -65,7 +71,7 @@ public class InsertRandomBid extends QueryBuilder {
                 ThreadLocalRandom.current().nextInt( 1, 1000 ),
                 dateProducer.randomDateInThePast( 5 ),
                 ThreadLocalRandom.current().nextInt( 1, numberOfUsers + 1 ),
-                ThreadLocalRandom.current().nextInt( 1, numberOfAuctions + 1 )
+                auctionIds.nextKey()
         );
     }
 
@@ -30,12 +30,11 @@ import com.devskiller.jfairy.Fairy;
 import com.devskiller.jfairy.producer.text.TextProducer;
 import java.util.HashMap;
 import java.util.Map;
-import kong.unirest.core.HttpRequest;
-import kong.unirest.core.Unirest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.QueryMode;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class SearchAuction extends QueryBuilder {
@@ -105,8 +104,8 @@ public class SearchAuction extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
-            return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.auction" )
+        public RestRequest getRest() {
+            return RestRequest.get( "/restapi/v1/res/public.auction" )
                     .queryString( "_project", "public." + tableName + ".title,public." + tableName + ".start_date,public." + tableName + ".end_date" )
                     .queryString( "public." + tableName + ".title", "%%" + searchString + "%" )
                     .queryString( "_sort", "public." + tableName + ".end_date@DESC" )
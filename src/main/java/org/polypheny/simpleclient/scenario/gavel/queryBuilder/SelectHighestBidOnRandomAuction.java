@@ -28,32 +28,36 @@ package org.polypheny.simpleclient.scenario.gavel.queryBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ThreadLocalRandom;
-import kong.unirest.core.HttpRequest;
-import kong.unirest.core.Unirest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.QueryMode;
+import org.polypheny.simpleclient.query.KeyDistribution;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class SelectHighestBidOnRandomAuction extends QueryBuilder {
 
     private static final boolean EXPECT_RESULT = true;
 
-    private final int numberOfAuctions;
+    private final KeyDistribution auctionIds;
     private final QueryMode queryMode;
 
 
     public SelectHighestBidOnRandomAuction( int numberOfAuctions, QueryMode queryMode ) {
-        this.numberOfAuctions = numberOfAuctions;
+        this( KeyDistribution.uniform( numberOfAuctions ), queryMode );
+    }
+
+
+    public SelectHighestBidOnRandomAuction( KeyDistribution auctionIds, QueryMode queryMode ) {
+        this.auctionIds = auctionIds;
         this.queryMode = queryMode;
     }
 
 
     @Override
     public Query getNewQuery() {
-        int auctionId = ThreadLocalRandom.current().nextInt( 1, numberOfAuctions + 1 );
+        int auctionId = auctionIds.nextKey();
         return new SelectHighestBidOnRandomAuctionQuery( auctionId, queryMode );
     }
 
@@ -99,8 +103,8 @@ public class SelectHighestBidOnRandomAuction extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
-            return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public." + tableName )
+        public RestRequest getRest() {
+            return RestRequest.get( "/restapi/v1/res/public." + tableName )
                     .queryString( "public." + tableName + ".auction", "=" + auctionId )
                     .queryString( "_sort", "public." + tableName + ".amount@DESC" )
                     .queryString( "_limit", "1" );
@@ -27,11 +27,11 @@ package org.polypheny.simpleclient.scenario.gavel.queryBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import kong.unirest.core.HttpRequest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.QueryMode;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class SelectHighestOverallBid extends QueryBuilder {
@@ -92,18 +92,18 @@ public class SelectHighestOverallBid extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             return null;
 
             /*
             if ( queryMode.equals( QueryMode.VIEW ) ) {
-                return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.highestBid_view" )
+                return RestRequest.get( "/restapi/v1/res/public.highestBid_view" )
                         .queryString( "_limit", 100 );
             } else if ( queryMode.equals( QueryMode.MATERIALIZED ) ) {
-                return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.highestBid_materialized" )
+                return RestRequest.get( "/restapi/v1/res/public.highestBid_materialized" )
                         .queryString( "_limit", 100 );
             } else {
-                return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.user" )
+                return RestRequest.get( "/restapi/v1/res/public.user" )
                         .queryString( "_project", "public.user.last_name,public.user.first_name")
                         .queryString( "public.bid.user", "=" + "public.user.id" )
                         .queryString( "public.bid.auction", "=" + "public.auction.id" )
@@ -28,32 +28,36 @@ package org.polypheny.simpleclient.scenario.gavel.queryBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ThreadLocalRandom;
-import kong.unirest.core.HttpRequest;
-import kong.unirest.core.Unirest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.QueryMode;
+import org.polypheny.simpleclient.query.KeyDistribution;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class SelectRandomBid extends QueryBuilder {
 
     private static final boolean EXPECT_RESULT = true;
 
-    private final int numberOfBids;
+    private final KeyDistribution bidIds;
     private final QueryMode queryMode;
 
 
     public SelectRandomBid( int numberOfBids, QueryMode queryMode ) {
-        this.numberOfBids = numberOfBids;
+        this( KeyDistribution.uniform( numberOfBids ), queryMode );
+    }
+
+
+    public SelectRandomBid( KeyDistribution bidIds, QueryMode queryMode ) {
+        this.bidIds = bidIds;
         this.queryMode = queryMode;
     }
 
 
     @Override
     public Query getNewQuery() {
-        int bidId = ThreadLocalRandom.current().nextInt( 1, numberOfBids + 1 );
+        int bidId = bidIds.nextKey();
         return new SelectRandomBidQuery( bidId, queryMode );
     }
 
@@ -99,8 +103,8 @@ public class SelectRandomBid extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
-            return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public." + tableName )
+        public RestRequest getRest() {
+            return RestRequest.get( "/restapi/v1/res/public." + tableName )
                     .queryString( "public." + tableName + ".id", "=" + bidId );
         }
 
@@ -28,32 +28,36 @@ package org.polypheny.simpleclient.scenario.gavel.queryBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ThreadLocalRandom;
-import kong.unirest.core.HttpRequest;
-import kong.unirest.core.Unirest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.QueryMode;
+import org.polypheny.simpleclient.query.KeyDistribution;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class SelectRandomUser extends QueryBuilder {
 
     private static final boolean EXPECT_RESULT = true;
 
-    private final int numberOfUsers;
+    private final KeyDistribution userIds;
     private final QueryMode queryMode;
 
 
     public SelectRandomUser( int numberOfUsers, QueryMode queryMode ) {
-        this.numberOfUsers = numberOfUsers;
+        this( KeyDistribution.uniform( numberOfUsers ), queryMode );
+    }
+
+
+    public SelectRandomUser( KeyDistribution userIds, QueryMode queryMode ) {
+        this.userIds = userIds;
         this.queryMode = queryMode;
     }
 
 
     @Override
     public Query getNewQuery() {
-        int userId = ThreadLocalRandom.current().nextInt( 1, numberOfUsers + 1 );
+        int userId = userIds.nextKey();
         return new SelectRandomUserQuery( userId, queryMode );
     }
 
@@ -99,8 +103,8 @@ public class SelectRandomUser extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
-            return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public." + tableName )
+        public RestRequest getRest() {
+            return RestRequest.get( "/restapi/v1/res/public." + tableName )
                     .queryString( "public." + tableName + ".id", "=" + userId );
         }
 
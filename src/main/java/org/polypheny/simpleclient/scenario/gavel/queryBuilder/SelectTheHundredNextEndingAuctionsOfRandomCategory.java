@@ -33,12 +33,11 @@ import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
-import kong.unirest.core.HttpRequest;
-import kong.unirest.core.Unirest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.QueryMode;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 import org.polypheny.simpleclient.scenario.gavel.GavelConfig;
 
 
@@ -124,23 +123,23 @@ public class SelectTheHundredNextEndingAuctionsOfRandomCategory extends QueryBui
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             if ( queryMode.equals( QueryMode.VIEW ) ) {
-                return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.auctionCategory_view" )
+                return RestRequest.get( "/restapi/v1/res/public.auctionCategory_view" )
                         .queryString( "_project", "public.auctionCategory_view.id,public.auctionCategory_view.title,public.auctionCategory_view.end_date" )
                         .queryString( "public.auctionCategory_view.category", "=" + categoryId )
                         .queryString( "public.auctionCategory_view.end_date", ">" + date.format( DateTimeFormatter.ISO_LOCAL_DATE_TIME ) )
                         .queryString( "_sort", "public.auctionCategory_view.end_date@DESC" )
                         .queryString( "_limit", 100 );
             } else if ( queryMode.equals( QueryMode.MATERIALIZED ) ) {
-                return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.auctionCategory_materialized" )
+                return RestRequest.get( "/restapi/v1/res/public.auctionCategory_materialized" )
                         .queryString( "_project", "public.auctionCategory_materialized.id,public.auctionCategory_materialized.title,public.auctionCategory_materialized.end_date" )
                         .queryString( "public.auctionCategory_materialized.category", "=" + categoryId )
                         .queryString( "public.auctionCategory_materialized.end_date", ">" + date.format( DateTimeFormatter.ISO_LOCAL_DATE_TIME ) )
                         .queryString( "_sort", "public.auctionCategory_materialized.end_date@DESC" )
                         .queryString( "_limit", 100 );
             } else {
-                return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.auction" )
+                return RestRequest.get( "/restapi/v1/res/public.auction" )
                         .queryString( "_project", "public.auction.id,public.auction.title,public.auction.end_date" )
                         .queryString( "public.auction.category", "=" + categoryId )
                         .queryString( "public.auction.end_date", ">" + date.format( DateTimeFormatter.ISO_LOCAL_DATE_TIME ) )
@@ -28,12 +28,11 @@ package org.polypheny.simpleclient.scenario.gavel.queryBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import kong.unirest.core.HttpRequest;
-import kong.unirest.core.Unirest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.QueryMode;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class SelectTopTenCitiesByNumberOfCustomers extends QueryBuilder {
@@ -90,8 +89,8 @@ public class SelectTopTenCitiesByNumberOfCustomers extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
-            return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.user" )
+        public RestRequest getRest() {
+            return RestRequest.get( "/restapi/v1/res/public.user" )
                     .queryString( "_project", "public." + tableName + ".city@city,public." + tableName + ".city@number(COUNT)" )
                     .queryString( "_groupby", "city" )
                     .queryString( "_sort", "number@DESC" )
@@ -27,10 +27,10 @@ package org.polypheny.simpleclient.scenario.gavel.queryBuilder;
 
 
 import java.util.Map;
-import kong.unirest.core.HttpRequest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class TruncatePicture extends QueryBuilder {
@@ -70,7 +70,7 @@ public class TruncatePicture extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             return null;
         }
 
@@ -28,10 +28,10 @@ package org.polypheny.simpleclient.scenario.gavel.queryBuilder.not_used;
 
 import java.util.HashMap;
 import java.util.Map;
-import kong.unirest.core.HttpRequest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class DeleteBidsWithIdLargerThan extends QueryBuilder {
@@ -84,7 +84,7 @@ public class DeleteBidsWithIdLargerThan extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             return null;
         }
 
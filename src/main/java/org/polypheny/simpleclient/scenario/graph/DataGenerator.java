@@ -35,6 +35,8 @@ import org.polypheny.simpleclient.executor.Executor;
 import org.polypheny.simpleclient.executor.ExecutorException;
 import org.polypheny.simpleclient.main.ProgressReporter;
 import org.polypheny.simpleclient.query.BatchableInsert;
+import org.polypheny.simpleclient.scenario.BulkLoader;
+import org.polypheny.simpleclient.scenario.DataPartition;
 
 
 @Slf4j
@@ -44,15 +46,17 @@ public class DataGenerator {
     private final GraphBenchConfig config;
     private final ProgressReporter progressReporter;
 
-    private final List<BatchableInsert> batchList;
+    private final BulkLoader bulkLoader;
+    private List<BatchableInsert> batchList;
 
     private boolean aborted;
 
 
-    DataGenerator( Executor executor, GraphBenchConfig config, ProgressReporter progressReporter ) {
+    DataGenerator( Executor executor, GraphBenchConfig config, ProgressReporter progressReporter, BulkLoader bulkLoader ) {
         theExecutor = executor;
         this.config = config;
         this.progressReporter = progressReporter;
+        this.bulkLoader = bulkLoader;
         batchList = new LinkedList<>();
 
         aborted = false;
@@ -61,13 +65,20 @@ public class DataGenerator {
 
     private void addToInsertList( BatchableInsert query ) throws ExecutorException {
         batchList.add( query );
-        if ( batchList.size() >= config.batchSizeCreates ) {
+        if ( batchList.size() >= (bulkLoader == null ? config.batchSizeCreates : bulkLoader.getBatchSize()) ) {
             executeInsertList();
         }
     }
 
 
     private void executeInsertList() throws ExecutorException {
+        if ( bulkLoader != null ) {
+            if ( !batchList.isEmpty() ) {
+                bulkLoader.submit( batchList );
+                batchList = new LinkedList<>();
+            }
+            return;
+        }
         theExecutor.executeInsertList( batchList, config );
         theExecutor.executeCommit();
         batchList.clear();
@@ -128,10 +139,11 @@ public class DataGenerator {
     }
 
 
-    public void generatePaths( int paths, int minPathLength, int maxPathLength ) throws ExecutorException {
+    public void generatePaths( int paths, int minPathLength, int maxPathLength, DataPartition partition ) throws ExecutorException {
         int diff = maxPathLength - minPathLength;
-        for ( int i = 0; i < paths; i++ ) {
-            if ( aborted ) {
+        int end = partition.getEnd( paths );
+        for ( int i = partition.getFirst( paths ); i < end; i++ ) {
+            if ( aborted || partition.isAborted() ) {
                 break;
             }
 
@@ -141,13 +153,14 @@ public class DataGenerator {
     }
 
 
-    public void generateClusters( int clusters, int minClusterSize, int maxClusterSize ) throws ExecutorException {
+    public void generateClusters( int clusters, int minClusterSize, int maxClusterSize, DataPartition partition ) throws ExecutorException {
         int diff = maxClusterSize - minClusterSize;
 
-        Random random = new Random( config.seed );
+        Random random = new Random( partition.getSeed( config.seed ) );
 
-        for ( int i = 0; i < clusters; i++ ) {
-            if ( aborted ) {
+        int end = partition.getEnd( clusters );
+        for ( int i = partition.getFirst( clusters ); i < end; i++ ) {
+            if ( aborted || partition.isAborted() ) {
                 break;
             }
 
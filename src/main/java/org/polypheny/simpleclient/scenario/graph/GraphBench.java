@@ -25,14 +25,7 @@
 package org.polypheny.simpleclient.scenario.graph;
 
 import java.io.File;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
 import java.util.Random;
-import java.util.Vector;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
 import org.polypheny.simpleclient.QueryMode;
@@ -46,7 +39,8 @@ import org.polypheny.simpleclient.main.CsvWriter;
 import org.polypheny.simpleclient.main.ProgressReporter;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
-import org.polypheny.simpleclient.query.QueryListEntry;
+import org.polypheny.simpleclient.query.Workload;
+import org.polypheny.simpleclient.scenario.BulkLoader;
 import org.polypheny.simpleclient.scenario.PolyphenyScenario;
 import org.polypheny.simpleclient.scenario.graph.queryBuilder.CountNodePropertyBuilder;
 import org.polypheny.simpleclient.scenario.graph.queryBuilder.CreateGraphDatabase;
@@ -70,13 +64,6 @@ public class GraphBench extends PolyphenyScenario {
 
     private final GraphBenchConfig config;
 
-    private long executeRuntime;
-    private final Map<Integer, String> queryTypes;
-
-    private final List<Long> measuredTimes = Collections.synchronizedList( new LinkedList<>() );
-
-    private final Map<Integer, List<Long>> measuredTimePerQueryType = new ConcurrentHashMap<>();
-
 
     public GraphBench( Executor.ExecutorFactory executorFactory, GraphBenchConfig config, boolean commitAfterEveryQuery, boolean dumpQueryList ) {
         super( executorFactory, commitAfterEveryQuery, dumpQueryList, QueryMode.TABLE );
@@ -86,8 +73,6 @@ public class GraphBench extends PolyphenyScenario {
         }
 
         this.config = config;
-
-        queryTypes = new HashMap<>();
     }
 
 
@@ -126,42 +111,56 @@ public class GraphBench extends PolyphenyScenario {
     @Override
     public void generateData( DatabaseInstance databaseInstance, ProgressReporter progressReporter ) {
         log.info( "Generating data..." );
-        Executor executor1 = executorFactory.createExecutorInstance( null, GRAPH_NAMESPACE );
-        assert executor1 instanceof PolyphenyDbCypherExecutor;
-        DataGenerator dataGenerator = new DataGenerator( executor1, config, progressReporter );
-
+        BulkLoader bulkLoader = createBulkLoader( config, config.batchSizeCreates, () -> executorFactory.createExecutorInstance( null, GRAPH_NAMESPACE ) );
         try {
-            dataGenerator.generatePaths( config.paths, config.minPathLength, config.maxPathLength );
-            dataGenerator.generateClusters( config.clusters, config.minClusterSize, config.maxClusterSize );
-        } catch ( ExecutorException e ) {
-            throw new RuntimeException( "Exception while generating data", e );
+            generateDataInParallel( config.numberOfDataGenerationThreads, () -> executorFactory.createExecutorInstance( null, GRAPH_NAMESPACE ), ( executor, partition ) -> {
+                assert executor instanceof PolyphenyDbCypherExecutor;
+                DataGenerator dataGenerator = new DataGenerator( executor, config, progressReporter, bulkLoader );
+                dataGenerator.generatePaths( config.paths, config.minPathLength, config.maxPathLength, partition );
+                dataGenerator.generateClusters( config.clusters, config.minClusterSize, config.maxClusterSize, partition );
+            } );
         } finally {
-            commitAndCloseExecutor( executor1 );
+            closeBulkLoader( bulkLoader );
         }
     }
 
 
     @Override
     public long execute( ProgressReporter progressReporter, CsvWriter csvWriter, File outputDirectory, int numberOfThreads ) {
+        if ( hasCompiledWorkload( config ) ) {
+            return commonExecute( new Workload(), progressReporter, outputDirectory, numberOfThreads, Query::getCypher, () -> executorFactory.createExecutorInstance( csvWriter, GRAPH_NAMESPACE ), new Random( config.seed ), config );
+        }
+
         log.info( "Preparing query list for the benchmark..." );
-        List<QueryListEntry> queryList = new Vector<>();
-        addNumberOfTimes( queryList, new CountNodePropertyBuilder( config ), config.numberOfPropertyCountQueries );
-        addNumberOfTimes( queryList, new EdgeLabelMatchBuilder( config ), config.numberOfEdgeMatchQueries );
-        addNumberOfTimes( queryList, new FindNeighborsBuilder( config ), config.numberOfFindNeighborsQueries );
-        addNumberOfTimes( queryList, new UnwindBuilder( config ), config.numberOfUnwindQueries );
-        addNumberOfTimes( queryList, new NodeFilterBuilder( config ), config.numberOfNodeFilterQueries );
-        addNumberOfTimes( queryList, new DifferentPathsBuilder( config ), config.numberOfDifferentLengthQueries );
-        addNumberOfTimes( queryList, new ShortestPathBuilder( config ), config.numberOfShortestPathQueries );
-        addNumberOfTimes( queryList, new SetPropertyBuilder( config ), config.numberOfSetPropertyQueries );
-        addNumberOfTimes( queryList, new RelatedInsertBuilder( config ), config.numberOfInsertQueries );
-        addNumberOfTimes( queryList, new DeleteNodeBuilder( config ), config.numberOfDeleteQueries );
-
-        return commonExecute( queryList, progressReporter, outputDirectory, numberOfThreads, Query::getCypher, () -> executorFactory.createExecutorInstance( csvWriter, GRAPH_NAMESPACE ), new Random( config.seed ) );
+        Workload workload = createWorkload();
+
+        return commonExecute( workload, progressReporter, outputDirectory, numberOfThreads, Query::getCypher, () -> executorFactory.createExecutorInstance( csvWriter, GRAPH_NAMESPACE ), new Random( config.seed ), config );
+    }
+
+
+    private Workload createWorkload() {
+        Workload workload = new Workload();
+        addNumberOfTimes( workload, new CountNodePropertyBuilder( config ), config.numberOfPropertyCountQueries );
+        addNumberOfTimes( workload, new EdgeLabelMatchBuilder( config ), config.numberOfEdgeMatchQueries );
+        addNumberOfTimes( workload, new FindNeighborsBuilder( config ), config.numberOfFindNeighborsQueries );
+        addNumberOfTimes( workload, new UnwindBuilder( config ), config.numberOfUnwindQueries );
+        addNumberOfTimes( workload, new NodeFilterBuilder( config ), config.numberOfNodeFilterQueries );
+        addNumberOfTimes( workload, new DifferentPathsBuilder( config ), config.numberOfDifferentLengthQueries );
+        addNumberOfTimes( workload, new ShortestPathBuilder( config ), config.numberOfShortestPathQueries );
+        addNumberOfTimes( workload, new SetPropertyBuilder( config ), config.numberOfSetPropertyQueries );
+        addNumberOfTimes( workload, new RelatedInsertBuilder( config ), config.numberOfInsertQueries );
+        addNumberOfTimes( workload, new DeleteNodeBuilder( config ), config.numberOfDeleteQueries );
+        return workload;
     }
 
 
     @Override
     public void warmUp( ProgressReporter progressReporter ) {
+        if ( config.adaptiveWarmUp ) {
+            adaptiveWarmUp( createWorkload(), () -> executorFactory.createExecutorInstance( null, GRAPH_NAMESPACE ), progressReporter, config );
+            return;
+        }
+
         log.info( "Warm-up..." );
 
         Executor executor = null;
@@ -226,17 +225,15 @@ public class GraphBench extends PolyphenyScenario {
 
     @Override
     public int getNumberOfInsertThreads() {
-        return 1;
+        return config.numberOfDataGenerationThreads;
     }
 
 
-    private void addNumberOfTimes( List<QueryListEntry> list, QueryBuilder queryBuilder, int numberOfTimes ) {
+    private void addNumberOfTimes( Workload workload, QueryBuilder queryBuilder, int numberOfTimes ) {
         int id = queryTypes.size() + 1;
         queryTypes.put( id, queryBuilder.getNewQuery().getCypher() );
-        measuredTimePerQueryType.put( id, Collections.synchronizedList( new LinkedList<>() ) );
-        for ( int i = 0; i < numberOfTimes; i++ ) {
-            list.add( new QueryListEntry( queryBuilder.getNewQuery(), id ) );
-        }
+        measuredTimePerQueryType.put( id, createLatencyHistogram() );
+        workload.add( queryBuilder, id, numberOfTimes );
     }
 
 
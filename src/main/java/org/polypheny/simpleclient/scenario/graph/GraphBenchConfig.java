@@ -44,6 +44,7 @@ public class GraphBenchConfig extends AbstractConfig {
     public int properties;
     public int paths;
     public int batchSizeCreates;
+    public int numberOfDataGenerationThreads;
     public int minClusterConnections;
     public int maxClusterConnections;
     public long clusterSeed;
@@ -78,6 +79,7 @@ public class GraphBenchConfig extends AbstractConfig {
 
         paths = getIntProperty( properties, "amountPaths" );
         batchSizeCreates = getIntProperty( properties, "batchSizeCreates" );
+        numberOfDataGenerationThreads = getIntProperty( properties, "numberOfDataGenerationThreads", 1 );
         minClusterConnections = getIntProperty( properties, "minClusterConnections" );
         maxClusterConnections = getIntProperty( properties, "maxClusterConnections" );
 
@@ -120,6 +122,7 @@ public class GraphBenchConfig extends AbstractConfig {
         maxPathLength = Integer.parseInt( cdl.get( "maxPathLength" ) );
         paths = Integer.parseInt( cdl.get( "amountPaths" ) );
         batchSizeCreates = Integer.parseInt( cdl.get( "batchSizeCreates" ) );
+        numberOfDataGenerationThreads = Integer.parseInt( cdlGetOptional( cdl, "numberOfDataGenerationThreads", "1" ) );
         minClusterConnections = Integer.parseInt( cdl.get( "minClusterConnections" ) );
         maxClusterConnections = Integer.parseInt( cdl.get( "maxClusterConnections" ) );
 
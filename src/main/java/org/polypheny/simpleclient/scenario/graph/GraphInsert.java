@@ -26,11 +26,11 @@ package org.polypheny.simpleclient.scenario.graph;
 
 import com.google.gson.JsonObject;
 import java.util.Map;
-import kong.unirest.core.HttpRequest;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.BatchableInsert;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 @Slf4j
@@ -89,7 +89,7 @@ public class GraphInsert extends BatchableInsert {
 
 
     @Override
-    public HttpRequest<?> getRest() {
+    public RestRequest getRest() {
         throw new RuntimeException( "REST is not supported for graph queries!" );
     }
 
@@ -25,11 +25,11 @@
 package org.polypheny.simpleclient.scenario.graph;
 
 import java.util.Map;
-import kong.unirest.core.HttpRequest;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.Query;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 @Slf4j
@@ -67,7 +67,7 @@ public class GraphQuery extends Query {
 
 
     @Override
-    public HttpRequest<?> getRest() {
+    public RestRequest getRest() {
         throw new RuntimeException( "REST is not supported for graph queries!" );
     }
 
@@ -32,6 +32,8 @@ import org.polypheny.simpleclient.executor.Executor;
 import org.polypheny.simpleclient.executor.ExecutorException;
 import org.polypheny.simpleclient.main.ProgressReporter;
 import org.polypheny.simpleclient.query.BatchableInsert;
+import org.polypheny.simpleclient.scenario.BulkLoader;
+import org.polypheny.simpleclient.scenario.DataPartition;
 import org.polypheny.simpleclient.scenario.knnbench.queryBuilder.InsertIntFeature;
 import org.polypheny.simpleclient.scenario.knnbench.queryBuilder.InsertMetadata;
 import org.polypheny.simpleclient.scenario.knnbench.queryBuilder.InsertRealFeature;
@@ -44,25 +46,28 @@ public class DataGenerator {
     private final KnnBenchConfig config;
     private final ProgressReporter progressReporter;
 
-    private final List<BatchableInsert> batchList;
+    private final BulkLoader bulkLoader;
+    private List<BatchableInsert> batchList;
 
     private boolean aborted;
 
 
-    DataGenerator( Executor executor, KnnBenchConfig config, ProgressReporter progressReporter ) {
+    DataGenerator( Executor executor, KnnBenchConfig config, ProgressReporter progressReporter, BulkLoader bulkLoader ) {
         theExecutor = executor;
         this.config = config;
         this.progressReporter = progressReporter;
+        this.bulkLoader = bulkLoader;
         batchList = new LinkedList<>();
 
         aborted = false;
     }
 
 
-    void generateMetadata() throws ExecutorException {
-        InsertMetadata queryBuilder = new InsertMetadata();
-        for ( int i = 0; i < config.numberOfEntries; i++ ) {
-            if ( aborted ) {
+    void generateMetadata( DataPartition partition ) throws ExecutorException {
+        InsertMetadata queryBuilder = new InsertMetadata( partition.getFirst( config.numberOfEntries ) + 1 );
+        int end = partition.getEnd( config.numberOfEntries );
+        for ( int i = partition.getFirst( config.numberOfEntries ); i < end; i++ ) {
+            if ( aborted || partition.isAborted() ) {
                 break;
             }
 
@@ -72,10 +77,11 @@ public class DataGenerator {
     }
 
 
-    void generateIntFeatures() throws ExecutorException {
-        InsertIntFeature queryBuilder = new InsertIntFeature( config.randomSeedInsert, config.dimensionFeatureVectors );
-        for ( int i = 0; i < config.numberOfEntries; i++ ) {
-            if ( aborted ) {
+    void generateIntFeatures( DataPartition partition ) throws ExecutorException {
+        InsertIntFeature queryBuilder = new InsertIntFeature( partition.getSeed( config.randomSeedInsert ), config.dimensionFeatureVectors, partition.getFirst( config.numberOfEntries ) + 1 );
+        int end = partition.getEnd( config.numberOfEntries );
+        for ( int i = partition.getFirst( config.numberOfEntries ); i < end; i++ ) {
+            if ( aborted || partition.isAborted() ) {
                 break;
             }
 
@@ -85,10 +91,11 @@ public class DataGenerator {
     }
 
 
-    void generateRealFeatures() throws ExecutorException {
-        InsertRealFeature queryBuilder = new InsertRealFeature( config.randomSeedInsert, config.dimensionFeatureVectors );
-        for ( int i = 0; i < config.numberOfEntries; i++ ) {
-            if ( aborted ) {
+    void generateRealFeatures( DataPartition partition ) throws ExecutorException {
+        InsertRealFeature queryBuilder = new InsertRealFeature( partition.getSeed( config.randomSeedInsert ), config.dimensionFeatureVectors, partition.getFirst( config.numberOfEntries ) + 1 );
+        int end = partition.getEnd( config.numberOfEntries );
+        for ( int i = partition.getFirst( config.numberOfEntries ); i < end; i++ ) {
+            if ( aborted || partition.isAborted() ) {
                 break;
             }
 
@@ -100,13 +107,20 @@ public class DataGenerator {
 
     private void addToInsertList( BatchableInsert query ) throws ExecutorException {
         batchList.add( query );
-        if ( batchList.size() >= config.batchSizeInserts ) {
+        if ( batchList.size() >= (bulkLoader == null ? config.batchSizeInserts : bulkLoader.getBatchSize()) ) {
             executeInsertList();
         }
     }
 
 
     private void executeInsertList() throws ExecutorException {
+        if ( bulkLoader != null ) {
+            if ( !batchList.isEmpty() ) {
+                bulkLoader.submit( batchList );
+                batchList = new LinkedList<>();
+            }
+            return;
+        }
         theExecutor.executeInsertList( batchList, config );
         theExecutor.executeCommit();
         batchList.clear();
@@ -26,14 +26,7 @@
 package org.polypheny.simpleclient.scenario.knnbench;
 
 import java.io.File;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
 import java.util.Random;
-import java.util.Vector;
-import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.polypheny.simpleclient.QueryMode;
 import org.polypheny.simpleclient.executor.Executor;
@@ -43,7 +36,8 @@ import org.polypheny.simpleclient.main.CsvWriter;
 import org.polypheny.simpleclient.main.ProgressReporter;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
-import org.polypheny.simpleclient.query.QueryListEntry;
+import org.polypheny.simpleclient.query.Workload;
+import org.polypheny.simpleclient.scenario.BulkLoader;
 import org.polypheny.simpleclient.scenario.PolyphenyScenario;
 import org.polypheny.simpleclient.scenario.knnbench.queryBuilder.CreateIntFeature;
 import org.polypheny.simpleclient.scenario.knnbench.queryBuilder.CreateMetadata;
@@ -61,19 +55,10 @@ public class KnnBench extends PolyphenyScenario {
 
     private final KnnBenchConfig config;
 
-    private final List<Long> measuredTimes;
-    private long executeRuntime;
-    private final Map<Integer, String> queryTypes;
-    private final Map<Integer, List<Long>> measuredTimePerQueryType;
-
 
     public KnnBench( Executor.ExecutorFactory executorFactory, KnnBenchConfig config, boolean commitAfterEveryQuery, boolean dumpQueryList ) {
         super( executorFactory, commitAfterEveryQuery, dumpQueryList, QueryMode.TABLE );
         this.config = config;
-
-        measuredTimes = Collections.synchronizedList( new LinkedList<>() );
-        queryTypes = new HashMap<>();
-        measuredTimePerQueryType = new ConcurrentHashMap<>();
     }
 
 
@@ -110,39 +95,53 @@ public class KnnBench extends PolyphenyScenario {
     @Override
     public void generateData( DatabaseInstance databaseInstance, ProgressReporter progressReporter ) {
         log.info( "Generating data..." );
-        Executor executor1 = executorFactory.createExecutorInstance();
-        DataGenerator dataGenerator = new DataGenerator( executor1, config, progressReporter );
-
+        BulkLoader bulkLoader = createBulkLoader( config, config.batchSizeInserts, executorFactory::createExecutorInstance );
         try {
-            dataGenerator.generateMetadata();
-            dataGenerator.generateIntFeatures();
-            dataGenerator.generateRealFeatures();
-        } catch ( ExecutorException e ) {
-            throw new RuntimeException( "Exception while generating data", e );
+            generateDataInParallel( config.numberOfDataGenerationThreads, executorFactory::createExecutorInstance, ( executor, partition ) -> {
+                DataGenerator dataGenerator = new DataGenerator( executor, config, progressReporter, bulkLoader );
+                dataGenerator.generateMetadata( partition );
+                dataGenerator.generateIntFeatures( partition );
+                dataGenerator.generateRealFeatures( partition );
+            } );
         } finally {
-            commitAndCloseExecutor( executor1 );
+            closeBulkLoader( bulkLoader );
         }
     }
 
 
     @Override
     public long execute( ProgressReporter progressReporter, CsvWriter csvWriter, File outputDirectory, int numberOfThreads ) {
+        if ( hasCompiledWorkload( config ) ) {
+            return commonExecute( new Workload(), progressReporter, outputDirectory, numberOfThreads, Query::getSql, () -> executorFactory.createExecutorInstance( csvWriter ), new Random(), config );
+        }
+
         log.info( "Preparing query list for the benchmark..." );
-        List<QueryListEntry> queryList = new Vector<>();
-        addNumberOfTimes( queryList, new SimpleKnnIntFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm ), config.numberOfSimpleKnnIntFeatureQueries );
-        addNumberOfTimes( queryList, new SimpleKnnRealFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm ), config.numberOfSimpleKnnRealFeatureQueries );
-        addNumberOfTimes( queryList, new SimpleMetadata( config.randomSeedQuery, config.numberOfEntries ), config.numberOfSimpleMetadataQueries );
-//        addNumberOfTimes( queryList, new SimpleKnnIdIntFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm ), config.numberOfSimpleKnnIdIntFeatureQueries );
-        addNumberOfTimes( queryList, new SimpleKnnIdRealFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm ), config.numberOfSimpleKnnIdRealFeatureQueries );
-        addNumberOfTimes( queryList, new MetadataKnnIntFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm ), config.numberOfMetadataKnnIntFeatureQueries );
-        addNumberOfTimes( queryList, new MetadataKnnRealFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm ), config.numberOfMetadataKnnRealFeatureQueries );
-
-        return commonExecute( queryList, progressReporter, outputDirectory, numberOfThreads, Query::getSql, () -> executorFactory.createExecutorInstance( csvWriter ), new Random() );
+        Workload workload = createWorkload();
+
+        return commonExecute( workload, progressReporter, outputDirectory, numberOfThreads, Query::getSql, () -> executorFactory.createExecutorInstance( csvWriter ), new Random(), config );
+    }
+
+
+    private Workload createWorkload() {
+        Workload workload = new Workload();
+        addNumberOfTimes( workload, new SimpleKnnIntFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm ), config.numberOfSimpleKnnIntFeatureQueries );
+        addNumberOfTimes( workload, new SimpleKnnRealFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm ), config.numberOfSimpleKnnRealFeatureQueries );
+        addNumberOfTimes( workload, new SimpleMetadata( config.randomSeedQuery, config.numberOfEntries ), config.numberOfSimpleMetadataQueries );
+//        addNumberOfTimes( workload, new SimpleKnnIdIntFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm ), config.numberOfSimpleKnnIdIntFeatureQueries );
+        addNumberOfTimes( workload, new SimpleKnnIdRealFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm ), config.numberOfSimpleKnnIdRealFeatureQueries );
+        addNumberOfTimes( workload, new MetadataKnnIntFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm ), config.numberOfMetadataKnnIntFeatureQueries );
+        addNumberOfTimes( workload, new MetadataKnnRealFeature( config.randomSeedQuery, config.dimensionFeatureVectors, config.limitKnnQueries, config.distanceNorm ), config.numberOfMetadataKnnRealFeatureQueries );
+        return workload;
     }
 
 
     @Override
     public void warmUp( ProgressReporter progressReporter ) {
+        if ( config.adaptiveWarmUp ) {
+            adaptiveWarmUp( createWorkload(), () -> executorFactory.createExecutorInstance(), progressReporter, config );
+            return;
+        }
+
         log.info( "Warm-up..." );
 
         Executor executor = null;
@@ -196,17 +195,15 @@ public class KnnBench extends PolyphenyScenario {
 
     @Override
     public int getNumberOfInsertThreads() {
-        return 1;
+        return config.numberOfDataGenerationThreads;
     }
 
 
-    private void addNumberOfTimes( List<QueryListEntry> list, QueryBuilder queryBuilder, int numberOfTimes ) {
+    private void addNumberOfTimes( Workload workload, QueryBuilder queryBuilder, int numberOfTimes ) {
         int id = queryTypes.size() + 1;
         queryTypes.put( id, queryBuilder.getNewQuery().getSql() );
-        measuredTimePerQueryType.put( id, Collections.synchronizedList( new LinkedList<>() ) );
-        for ( int i = 0; i < numberOfTimes; i++ ) {
-            list.add( new QueryListEntry( queryBuilder.getNewQuery(), id ) );
-        }
+        measuredTimePerQueryType.put( id, createLatencyHistogram() );
+        workload.add( queryBuilder, id, numberOfTimes );
     }
 
 }
@@ -43,6 +43,7 @@ public class KnnBenchConfig extends AbstractConfig {
 
     public int dimensionFeatureVectors;
     public int batchSizeInserts;
+    public int numberOfDataGenerationThreads;
     public int batchSizeQueries;
 
     public int numberOfEntries;
@@ -77,6 +78,7 @@ public class KnnBenchConfig extends AbstractConfig {
 
         dimensionFeatureVectors = getIntProperty( properties, "dimensionFeatureVectors" );
         batchSizeInserts = getIntProperty( properties, "batchSizeInserts" );
+        numberOfDataGenerationThreads = getIntProperty( properties, "numberOfDataGenerationThreads", 1 );
         numberOfEntries = getIntProperty( properties, "numberOfEntries" ) * multiplier;
 
         batchSizeQueries = getIntProperty( properties, "batchSizeQueries" );
@@ -115,6 +117,7 @@ public class KnnBenchConfig extends AbstractConfig {
 
         dimensionFeatureVectors = Integer.parseInt( cdl.get( "dimensionFeatureVectors" ) );
         batchSizeInserts = Integer.parseInt( cdl.get( "batchSizeInserts" ) );
+        numberOfDataGenerationThreads = Integer.parseInt( cdlGetOptional( cdl, "numberOfDataGenerationThreads", "1" ) );
         numberOfEntries = Integer.parseInt( cdl.get( "numberOfEntries" ) );
 
         batchSizeQueries = Integer.parseInt( cdl.get( "batchSizeQueries" ) );
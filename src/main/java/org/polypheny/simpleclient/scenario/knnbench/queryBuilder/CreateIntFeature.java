@@ -28,12 +28,12 @@ package org.polypheny.simpleclient.scenario.knnbench.queryBuilder;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import kong.unirest.core.HttpRequest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.CottontailQuery;
 import org.polypheny.simpleclient.query.CottontailQuery.QueryType;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 import org.vitrivr.cottontail.grpc.CottontailGrpc.ColumnDefinition;
 import org.vitrivr.cottontail.grpc.CottontailGrpc.Entity;
 import org.vitrivr.cottontail.grpc.CottontailGrpc.EntityDefinition;
@@ -95,7 +95,7 @@ public class CreateIntFeature extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             return null;
         }
 
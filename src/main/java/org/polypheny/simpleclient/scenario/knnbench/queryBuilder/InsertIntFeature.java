@@ -31,12 +31,12 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
-import kong.unirest.core.HttpRequest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.BatchableInsert;
 import org.polypheny.simpleclient.query.CottontailQuery;
 import org.polypheny.simpleclient.query.CottontailQuery.QueryType;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 import org.vitrivr.cottontail.grpc.CottontailGrpc.Data;
 import org.vitrivr.cottontail.grpc.CottontailGrpc.Entity;
 import org.vitrivr.cottontail.grpc.CottontailGrpc.From;
@@ -51,7 +51,7 @@ public class InsertIntFeature extends QueryBuilder {
 
     private static final boolean EXPECT_RESULT = false;
 
-    private static final AtomicInteger nextId = new AtomicInteger( 1 );
+    private final AtomicInteger nextId;
     private final long randomSeed;
     private final int dimension;
 
@@ -59,8 +59,14 @@ public class InsertIntFeature extends QueryBuilder {
 
 
     public InsertIntFeature( long randomSeed, int dimension ) {
+        this( randomSeed, dimension, 1 );
+    }
+
+
+    public InsertIntFeature( long randomSeed, int dimension, int firstId ) {
         this.randomSeed = randomSeed;
         this.dimension = dimension;
+        this.nextId = new AtomicInteger( firstId );
 
         this.random = new Random( randomSeed );
     }
@@ -139,7 +145,7 @@ public class InsertIntFeature extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             return null;
         }
 
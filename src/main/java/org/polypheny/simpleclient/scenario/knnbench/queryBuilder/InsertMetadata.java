@@ -29,12 +29,12 @@ import com.google.gson.JsonObject;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
-import kong.unirest.core.HttpRequest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.BatchableInsert;
 import org.polypheny.simpleclient.query.CottontailQuery;
 import org.polypheny.simpleclient.query.CottontailQuery.QueryType;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 import org.vitrivr.cottontail.grpc.CottontailGrpc.Data;
 import org.vitrivr.cottontail.grpc.CottontailGrpc.Entity;
 import org.vitrivr.cottontail.grpc.CottontailGrpc.From;
@@ -47,7 +47,17 @@ public class InsertMetadata extends QueryBuilder {
 
     private static final boolean EXPECT_RESULT = false;
 
-    private static final AtomicInteger nextId = new AtomicInteger( 1 );
+    private final AtomicInteger nextId;
+
+
+    public InsertMetadata() {
+        this( 1 );
+    }
+
+
+    public InsertMetadata( int firstId ) {
+        this.nextId = new AtomicInteger( firstId );
+    }
 
 
     @Override
@@ -111,7 +121,7 @@ public class InsertMetadata extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             return null;
         }
 
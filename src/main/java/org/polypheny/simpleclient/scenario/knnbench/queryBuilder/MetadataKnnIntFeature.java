@@ -29,11 +29,11 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
-import kong.unirest.core.HttpRequest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.CottontailQuery;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class MetadataKnnIntFeature extends QueryBuilder {
@@ -106,8 +106,7 @@ public class MetadataKnnIntFeature extends QueryBuilder {
 
         @Override
         public String getParameterizedSqlQuery() {
-            return null;
-            //return SQL_1 + "?" + SQL_2 + "'" + norm + "'" + SQL_3 + limit + SQL_4;
+            return SQL_1 + "?" + SQL_2 + " '" + norm + "' " + SQL_3 + limit + SQL_4;
         }
 
 
@@ -120,7 +119,7 @@ public class MetadataKnnIntFeature extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             return null;
         }
 
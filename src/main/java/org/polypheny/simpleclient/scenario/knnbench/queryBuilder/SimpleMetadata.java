@@ -27,10 +27,10 @@ package org.polypheny.simpleclient.scenario.knnbench.queryBuilder;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
-import kong.unirest.core.HttpRequest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class SimpleMetadata extends QueryBuilder {
@@ -96,7 +96,7 @@ public class SimpleMetadata extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             throw new UnsupportedOperationException( "kNN benchmarking is not supported for the REST interface." );
         }
 
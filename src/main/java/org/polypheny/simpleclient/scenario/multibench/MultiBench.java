@@ -25,15 +25,25 @@
 package org.polypheny.simpleclient.scenario.multibench;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
 import org.polypheny.simpleclient.QueryMode;
 import org.polypheny.simpleclient.executor.Executor;
 import org.polypheny.simpleclient.executor.Executor.DatabaseInstance;
 import org.polypheny.simpleclient.executor.PolyphenyDbMultiExecutorFactory;
 import org.polypheny.simpleclient.main.CsvWriter;
 import org.polypheny.simpleclient.main.ProgressReporter;
+import org.polypheny.simpleclient.main.ProgressReporter.MergedProgressReporter;
+import org.polypheny.simpleclient.scenario.PolyphenyScenario;
+import org.polypheny.simpleclient.scenario.RunPhases;
 import org.polypheny.simpleclient.scenario.Scenario;
 import org.polypheny.simpleclient.scenario.docbench.DocBench;
 import org.polypheny.simpleclient.scenario.gavel.Gavel;
@@ -49,6 +59,11 @@ public class MultiBench extends Scenario {
     private final DocBench docBench;
     private final KnnBench knnBench;
 
+    private final MultiBenchConfig config;
+    // Only set if the benchmarks have been executed concurrently
+    private final Map<String, IsolatedResults> isolatedResults = new HashMap<>();
+    private long concurrentRuntime;
+
 
     public MultiBench( Executor.ExecutorFactory multiExecutorFactory, MultiBenchConfig config, boolean commitAfterEveryQuery, boolean dumpQueryList ) {
         super( multiExecutorFactory, commitAfterEveryQuery, dumpQueryList, QueryMode.TABLE );
@@ -56,6 +71,7 @@ public class MultiBench extends Scenario {
         if ( !(multiExecutorFactory instanceof PolyphenyDbMultiExecutorFactory polyphenyDbMultiExecutorFactory) ) {
             throw new RuntimeException( "This benchmark requires a multi executor" );
         }
+        this.config = config;
 
         // Initialize underlying benchmarks
         if ( config.numberOfGavelQueries > 0 ) {
@@ -122,6 +138,10 @@ public class MultiBench extends Scenario {
 
     @Override
     public void generateData( DatabaseInstance databaseInstance, ProgressReporter progressReporter ) {
+        if ( config.parallelDataGeneration ) {
+            generateDataConcurrently( databaseInstance, progressReporter );
+            return;
+        }
         if ( docBench != null ) {
             progressReporter.update( 0 );
             log.info( "Generating DocBench data..." );
@@ -148,6 +168,68 @@ public class MultiBench extends Scenario {
     }
 
 
+    /**
+     * Generates the data of the benchmarks at the same time; they are written to separate namespaces. A benchmark is
+     * only started once the threads it uses for loading are available within the limit of the total number of loading
+     * threads. The progress of all benchmarks is reported as one.
+     */
+    private void generateDataConcurrently( DatabaseInstance databaseInstance, ProgressReporter progressReporter ) {
+        Map<String, PolyphenyScenario> benchmarks = getBenchmarks();
+        int maxThreads = config.maxDataGenerationThreads > 0 ? config.maxDataGenerationThreads : Integer.MAX_VALUE;
+        Semaphore availableThreads = new Semaphore( maxThreads, true );
+        MergedProgressReporter mergedProgressReporter = new MergedProgressReporter( progressReporter );
+        Map<String, ProgressReporter> progressReporters = new HashMap<>();
+        for ( Map.Entry<String, PolyphenyScenario> entry : benchmarks.entrySet() ) {
+            progressReporters.put( entry.getKey(), mergedProgressReporter.createPart( entry.getValue().getNumberOfInsertThreads() ) );
+        }
+        progressReporter.update( 0 );
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for ( Map.Entry<String, PolyphenyScenario> entry : benchmarks.entrySet() ) {
+            String name = entry.getKey();
+            PolyphenyScenario benchmark = entry.getValue();
+            // A benchmark requiring more threads than allowed in total is executed alone
+            int requiredThreads = Math.min( maxThreads, Math.max( 1, benchmark.getNumberOfInsertThreads() ) + Math.max( 0, config.numberOfInsertWorkers ) );
+            Thread thread = new Thread( () -> {
+                try {
+                    availableThreads.acquire( requiredThreads );
+                } catch ( InterruptedException e ) {
+                    failure.compareAndSet( null, e );
+                    return;
+                }
+                try {
+                    if ( failure.get() != null ) {
+                        return;
+                    }
+                    log.info( "Generating {} data on {} threads...", name, requiredThreads );
+                    benchmark.generateData( databaseInstance, progressReporters.get( name ) );
+                    progressReporters.get( name ).update( 100 );
+                    log.info( "Generating {} data finished", name );
+                } catch ( Throwable e ) {
+                    failure.compareAndSet( null, e );
+                    log.error( "Exception while generating {} data", name, e );
+                } finally {
+                    availableThreads.release( requiredThreads );
+                }
+            }, "MultiBench-DataGenerator-" + name );
+            threads.add( thread );
+            thread.start();
+        }
+
+        for ( Thread thread : threads ) {
+            try {
+                thread.join();
+            } catch ( InterruptedException e ) {
+                throw new RuntimeException( "Unexpected interrupt", e );
+            }
+        }
+        if ( failure.get() != null ) {
+            throw new RuntimeException( "Exception while generating data", failure.get() );
+        }
+    }
+
+
     @Override
     public void warmUp( ProgressReporter progressReporter ) {
         if ( docBench != null ) {
@@ -174,36 +256,167 @@ public class MultiBench extends Scenario {
 
     @Override
     public long execute( ProgressReporter progressReporter, CsvWriter csvWriter, File outputDirectory, int numberOfThreads ) {
+        if ( config.concurrent ) {
+            return executeConcurrently( progressReporter, csvWriter, outputDirectory, numberOfThreads );
+        }
         long runtime = 0;
 
+        // Every benchmark writes its timeline (if enabled) and curves into its own directory, as in the concurrent execution
         if ( gavel != null ) {
             progressReporter.update( 0 );
             log.info( "Executing Gavel..." );
-            runtime += gavel.execute( progressReporter, csvWriter, outputDirectory, numberOfThreads );
+            runtime += gavel.execute( progressReporter, csvWriter, createDirectory( new File( outputDirectory, "gavel" ) ), numberOfThreads );
         }
 
         if ( docBench != null ) {
             progressReporter.update( 0 );
             log.info( "Executing DocBench..." );
-            runtime += docBench.execute( progressReporter, csvWriter, outputDirectory, numberOfThreads );
+            runtime += docBench.execute( progressReporter, csvWriter, createDirectory( new File( outputDirectory, "docbench" ) ), numberOfThreads );
         }
 
         if ( knnBench != null ) {
             progressReporter.update( 0 );
             log.info( "Executing KnnBench..." );
-            runtime += knnBench.execute( progressReporter, csvWriter, outputDirectory, numberOfThreads );
+            runtime += knnBench.execute( progressReporter, csvWriter, createDirectory( new File( outputDirectory, "knnbench" ) ), numberOfThreads );
         }
 
         if ( graphBench != null ) {
             progressReporter.update( 0 );
             log.info( "Executing GraphBench..." );
-            runtime += graphBench.execute( progressReporter, csvWriter, outputDirectory, numberOfThreads );
+            runtime += graphBench.execute( progressReporter, csvWriter, createDirectory( new File( outputDirectory, "graphbench" ) ), numberOfThreads );
         }
 
         return runtime;
     }
 
 
+    /**
+     * Executes the benchmarks at the same time on a shared timeline (ramp-up, steady state and cool-down), each with
+     * its share of the threads. If enabled, every benchmark is executed alone with the same number of threads before,
+     * so that its latencies under interference of the other data models can be compared to the latencies without.
+     */
+    private long executeConcurrently( ProgressReporter progressReporter, CsvWriter csvWriter, File outputDirectory, int numberOfThreads ) {
+        if ( !config.isDurationBased() ) {
+            throw new RuntimeException( "The concurrent execution requires a steady state duration (steadyStateDuration)" );
+        }
+        if ( config.metricsPort > 0 ) {
+            log.warn( "Live metrics are not exposed if the benchmarks are executed concurrently; see the timeline of each benchmark" );
+        }
+        Map<String, PolyphenyScenario> benchmarks = getBenchmarks();
+        Map<String, Integer> threadsPerBenchmark = distributeThreads( benchmarks, numberOfThreads );
+
+        if ( config.isolatedBaseline ) {
+            for ( Map.Entry<String, PolyphenyScenario> entry : benchmarks.entrySet() ) {
+                progressReporter.update( 0 );
+                log.info( "Executing {} alone with {} threads...", entry.getKey(), threadsPerBenchmark.get( entry.getKey() ) );
+                // The queries of the baseline are not written to the latency log
+                long runtime = entry.getValue().execute( progressReporter, null, createDirectory( new File( createDirectory( new File( outputDirectory, entry.getKey() ) ), "isolated" ) ), threadsPerBenchmark.get( entry.getKey() ) );
+                isolatedResults.put( entry.getKey(), new IsolatedResults( entry.getValue().getMeasuredTimes().copy(), runtime ) );
+                entry.getValue().resetResults();
+            }
+        }
+
+        progressReporter.update( 0 );
+        // The run starts once every benchmark has created its threads
+        RunPhases runPhases = new RunPhases( config.rampUpDuration, config.steadyStateDuration, config.coolDownDuration, benchmarks.size() );
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for ( Map.Entry<String, PolyphenyScenario> entry : benchmarks.entrySet() ) {
+            String name = entry.getKey();
+            PolyphenyScenario benchmark = entry.getValue();
+            int benchmarkThreads = threadsPerBenchmark.get( name );
+            File benchmarkDirectory = createDirectory( new File( outputDirectory, name ) );
+            benchmark.setSharedRunPhases( runPhases );
+            log.info( "Executing {} concurrently with {} threads...", name, benchmarkThreads );
+            Thread thread = new Thread( () -> {
+                try {
+                    benchmark.execute( progressReporter, csvWriter, benchmarkDirectory, benchmarkThreads );
+                } catch ( Throwable e ) {
+                    failure.compareAndSet( null, e );
+                    // End the run of the other benchmarks
+                    runPhases.stop();
+                    log.error( "Exception while executing {}", name, e );
+                }
+            }, "MultiBench-" + name );
+            threads.add( thread );
+            thread.start();
+        }
+
+        for ( Thread thread : threads ) {
+            try {
+                thread.join();
+            } catch ( InterruptedException e ) {
+                throw new RuntimeException( "Unexpected interrupt", e );
+            }
+        }
+        benchmarks.values().forEach( benchmark -> benchmark.setSharedRunPhases( null ) );
+        if ( failure.get() != null ) {
+            throw new RuntimeException( "Exception while executing benchmark", failure.get() );
+        }
+
+        concurrentRuntime = runPhases.getSteadyStateNanos();
+        return concurrentRuntime;
+    }
+
+
+    private Map<String, PolyphenyScenario> getBenchmarks() {
+        Map<String, PolyphenyScenario> benchmarks = new LinkedHashMap<>();
+        if ( gavel != null ) {
+            benchmarks.put( "gavel", gavel );
+        }
+        if ( docBench != null ) {
+            benchmarks.put( "docbench", docBench );
+        }
+        if ( knnBench != null ) {
+            benchmarks.put( "knnbench", knnBench );
+        }
+        if ( graphBench != null ) {
+            benchmarks.put( "graphbench", graphBench );
+        }
+        return benchmarks;
+    }
+
+
+    /**
+     * Distributes the threads according to the configured shares. Every benchmark gets at least one thread.
+     */
+    private Map<String, Integer> distributeThreads( Map<String, PolyphenyScenario> benchmarks, int numberOfThreads ) {
+        int totalShares = 0;
+        for ( String name : benchmarks.keySet() ) {
+            totalShares += getThreadShare( name );
+        }
+        Map<String, Integer> threadsPerBenchmark = new HashMap<>();
+        for ( String name : benchmarks.keySet() ) {
+            threadsPerBenchmark.put( name, Math.max( 1, (int) Math.round( (double) numberOfThreads * getThreadShare( name ) / Math.max( 1, totalShares ) ) ) );
+        }
+        return threadsPerBenchmark;
+    }
+
+
+    private int getThreadShare( String name ) {
+        switch ( name ) {
+            case "gavel":
+                return Math.max( 0, config.gavelThreadShare );
+            case "docbench":
+                return Math.max( 0, config.docBenchThreadShare );
+            case "knnbench":
+                return Math.max( 0, config.knnBenchThreadShare );
+            case "graphbench":
+                return Math.max( 0, config.graphBenchThreadShare );
+            default:
+                throw new RuntimeException( "Unknown benchmark: " + name );
+        }
+    }
+
+
+    private static File createDirectory( File directory ) {
+        if ( !directory.exists() && !directory.mkdirs() ) {
+            throw new RuntimeException( "Unable to create directory " + directory.getAbsolutePath() );
+        }
+        return directory;
+    }
+
+
     @Override
     public void analyze( Properties properties, File outputDirectory ) {
         log.info( "MultiBench Analyze..." );
@@ -254,6 +467,12 @@ public class MultiBench extends Scenario {
             totalNumberOfQueries += Long.parseLong( gavelResults.get( "numberOfQueries" ).toString() );
         }
 
+        if ( config.concurrent ) {
+            // The benchmarks have been executed on the same timeline
+            totalExecuteRuntime = concurrentRuntime / 1_000_000_000.0;
+            getBenchmarks().forEach( ( name, benchmark ) -> reportInterference( properties, name, benchmark.getMeasuredTimes() ) );
+        }
+
         // Calculate mean throughput
         properties.put( "executeRuntime", totalExecuteRuntime );
         properties.put( "numberOfQueries", totalNumberOfQueries );
@@ -261,6 +480,39 @@ public class MultiBench extends Scenario {
     }
 
 
+    /**
+     * Reports the latencies of a benchmark executed concurrently with the other benchmarks and, if available, the
+     * latencies of the same benchmark executed alone as well as the ratio of both (the slowdown due to interference).
+     */
+    private void reportInterference( Properties properties, String name, Histogram concurrentTimes ) {
+        reportLatencies( properties, name + ".concurrent", concurrentTimes, concurrentRuntime );
+        IsolatedResults isolated = isolatedResults.get( name );
+        if ( isolated == null ) {
+            return;
+        }
+        reportLatencies( properties, name + ".isolated", isolated.times(), isolated.runtime() );
+        if ( isolated.times().getTotalCount() > 0 && concurrentTimes.getTotalCount() > 0 ) {
+            properties.put( name + ".interference_mean", concurrentTimes.getMean() / isolated.times().getMean() );
+            properties.put( name + ".interference_p50", (double) concurrentTimes.getValueAtPercentile( 50.0 ) / isolated.times().getValueAtPercentile( 50.0 ) );
+            properties.put( name + ".interference_p99", (double) concurrentTimes.getValueAtPercentile( 99.0 ) / isolated.times().getValueAtPercentile( 99.0 ) );
+        }
+    }
+
+
+    private void reportLatencies( Properties properties, String prefix, Histogram times, long runtime ) {
+        properties.put( prefix + "_numberOfQueries", times.getTotalCount() );
+        properties.put( prefix + "_throughput", times.getTotalCount() / (runtime / 1_000_000_000.0) );
+        properties.put( prefix + "_mean", calculateMean( times ) );
+        properties.put( prefix + "_p50", processDoubleValue( times.getValueAtPercentile( 50.0 ) ) );
+        properties.put( prefix + "_p99", processDoubleValue( times.getValueAtPercentile( 99.0 ) ) );
+    }
+
+
+    private record IsolatedResults( Histogram times, long runtime ) {
+
+    }
+
+
     @Override
     public int getNumberOfInsertThreads() {
         return 1;
@@ -27,6 +27,7 @@ package org.polypheny.simpleclient.scenario.multibench;
 import java.util.Map;
 import java.util.Properties;
 import lombok.Getter;
+import org.polypheny.simpleclient.query.KeyDistribution;
 import org.polypheny.simpleclient.scenario.AbstractConfig;
 import org.polypheny.simpleclient.scenario.docbench.DocBenchConfig;
 import org.polypheny.simpleclient.scenario.gavel.GavelConfig;
@@ -57,6 +58,18 @@ public class MultiBenchConfig extends AbstractConfig {
     public final int numberOfGraphBenchQueries;
     public final int numberOfGavelQueries;
 
+    // Loading the data of the benchmarks concurrently; 0 = no limit of the total number of loading threads
+    public final boolean parallelDataGeneration;
+    public final int maxDataGenerationThreads;
+
+    // Concurrent execution of the benchmarks on a shared timeline
+    public final boolean concurrent;
+    public final boolean isolatedBaseline;
+    public final int docBenchThreadShare;
+    public final int knnBenchThreadShare;
+    public final int graphBenchThreadShare;
+    public final int gavelThreadShare;
+
 
     public MultiBenchConfig( Properties properties, int multiplier ) {
         super( "multibench", "polypheny", properties );
@@ -71,6 +84,16 @@ public class MultiBenchConfig extends AbstractConfig {
         numberOfKnnBenchQueries = getIntProperty( properties, "numberOfKnnBenchQueries" );
         numberOfGavelQueries = getIntProperty( properties, "numberOfGavelQueries" );
 
+        parallelDataGeneration = getBooleanProperty( properties, "parallelDataGeneration", false );
+        maxDataGenerationThreads = getIntProperty( properties, "maxDataGenerationThreads", 0 );
+
+        concurrent = getBooleanProperty( properties, "concurrent", false );
+        isolatedBaseline = getBooleanProperty( properties, "isolatedBaseline", true );
+        docBenchThreadShare = getIntProperty( properties, "docBenchThreadShare", 1 );
+        knnBenchThreadShare = getIntProperty( properties, "knnBenchThreadShare", 1 );
+        graphBenchThreadShare = getIntProperty( properties, "graphBenchThreadShare", 1 );
+        gavelThreadShare = getIntProperty( properties, "gavelThreadShare", 1 );
+
         if ( numberOfDocBenchQueries > 0 ) {
             docBenchConfig = new MultiBenchDocBenchConfig( properties, multiplier );
         } else {
@@ -107,6 +130,16 @@ public class MultiBenchConfig extends AbstractConfig {
         numberOfKnnBenchQueries = Integer.parseInt( cdl.get( "numberOfKnnBenchQueries" ) );
         numberOfGavelQueries = Integer.parseInt( cdl.get( "numberOfGavelQueries" ) );
 
+        parallelDataGeneration = Boolean.parseBoolean( cdlGetOptional( cdl, "parallelDataGeneration", "false" ) );
+        maxDataGenerationThreads = Integer.parseInt( cdlGetOptional( cdl, "maxDataGenerationThreads", "0" ) );
+
+        concurrent = Boolean.parseBoolean( cdlGetOptional( cdl, "concurrent", "false" ) );
+        isolatedBaseline = Boolean.parseBoolean( cdlGetOptional( cdl, "isolatedBaseline", "true" ) );
+        docBenchThreadShare = Integer.parseInt( cdlGetOptional( cdl, "docBenchThreadShare", "1" ) );
+        knnBenchThreadShare = Integer.parseInt( cdlGetOptional( cdl, "knnBenchThreadShare", "1" ) );
+        graphBenchThreadShare = Integer.parseInt( cdlGetOptional( cdl, "graphBenchThreadShare", "1" ) );
+        gavelThreadShare = Integer.parseInt( cdlGetOptional( cdl, "gavelThreadShare", "1" ) );
+
         if ( numberOfDocBenchQueries > 0 ) {
             docBenchConfig = new MultiBenchDocBenchConfig( cdl );
         } else {
@@ -335,6 +368,15 @@ public class MultiBenchConfig extends AbstractConfig {
             numberOfChangeAuctionQueries = remaining / 4;
             numberOfAddUserQueries = remaining - (numberOfChangePasswordQueries + numberOfChangeAuctionQueries + numberOfAddUserQueries);
 
+            changePasswordKeyDistribution = KeyDistribution.Spec.UNIFORM;
+            addBidKeyDistribution = KeyDistribution.Spec.UNIFORM;
+            changeAuctionKeyDistribution = KeyDistribution.Spec.UNIFORM;
+            getAuctionKeyDistribution = KeyDistribution.Spec.UNIFORM;
+            getBidKeyDistribution = KeyDistribution.Spec.UNIFORM;
+            getUserKeyDistribution = KeyDistribution.Spec.UNIFORM;
+            getAllBidsOnAuctionKeyDistribution = KeyDistribution.Spec.UNIFORM;
+            getCurrentlyHighestBidOnAuctionKeyDistribution = KeyDistribution.Spec.UNIFORM;
+
             // Data Generation
             numberOfUsers = 1_000;
             numberOfAuctions = 1_000;
@@ -26,18 +26,21 @@
 package org.polypheny.simpleclient.scenario.multimedia;
 
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
 import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
 import org.polypheny.simpleclient.executor.Executor;
 import org.polypheny.simpleclient.executor.ExecutorException;
 import org.polypheny.simpleclient.main.ProgressReporter;
 import org.polypheny.simpleclient.query.BatchableInsert;
+import org.polypheny.simpleclient.scenario.BulkLoader;
+import org.polypheny.simpleclient.scenario.Scenario;
 import org.polypheny.simpleclient.scenario.multimedia.queryBuilder.InsertAlbum;
 import org.polypheny.simpleclient.scenario.multimedia.queryBuilder.InsertAlbum.InsertAlbumQuery;
 import org.polypheny.simpleclient.scenario.multimedia.queryBuilder.InsertFriends;
@@ -54,23 +57,29 @@ public class DataGenerator {
     private final MultimediaConfig config;
     private final ProgressReporter progressReporter;
 
-    private final List<BatchableInsert> batchList;
-    Map<String, List<Long>> queryTimes = new HashMap<>();
+    private final BulkLoader bulkLoader;
+    private List<BatchableInsert> batchList;
+    Map<String, Histogram> queryTimes = new HashMap<>();
 
     private boolean aborted;
 
 
-    DataGenerator( Executor executor, MultimediaConfig config, ProgressReporter progressReporter ) {
+    DataGenerator( Executor executor, MultimediaConfig config, ProgressReporter progressReporter, BulkLoader bulkLoader ) {
         theExecutor = executor;
         this.config = config;
         this.progressReporter = progressReporter;
+        this.bulkLoader = bulkLoader;
         batchList = new LinkedList<>();
+        if ( bulkLoader != null ) {
+            // With pipelined loading, the insert workers measure the execution times
+            bulkLoader.setBatchListener( this::recordExecutionTime );
+        }
 
         aborted = false;
     }
 
 
-    Map<String, List<Long>> generateUsers() throws ExecutorException {
+    Map<String, Histogram> generateUsers() throws ExecutorException {
         int numberOfUsers = config.numberOfUsers;
         int mod = numberOfUsers / progressReporter.base;
         InsertUser insertUser = new InsertUser( config.imgSize );
@@ -83,13 +92,15 @@ public class DataGenerator {
             }
             InsertUserQuery insertUserQuery = insertUser.getNewQuery();
             addToInsertList( insertUserQuery );
-            executeInsertList();
+            // Albums and posts reference the user
+            BulkLoader.await( executeInsertList() );
 
             //add 1 album per user
             InsertAlbum insertAlbum = new InsertAlbum( insertUserQuery.id );
             InsertAlbumQuery insertAlbumQuery = insertAlbum.getNewQuery();
             addToInsertList( insertAlbumQuery );
-            executeInsertList();
+            // Media reference the album
+            BulkLoader.await( executeInsertList() );
 
             //add media data to the album
             for ( int j = 0; j < config.albumSize; j++ ) {
@@ -126,36 +137,39 @@ public class DataGenerator {
 
     private void addToInsertList( BatchableInsert query ) throws ExecutorException {
         batchList.add( query );
-        if ( batchList.size() >= config.maxBatchSize ) {
+        if ( batchList.size() >= (bulkLoader == null ? config.maxBatchSize : bulkLoader.getBatchSize()) ) {
             executeInsertList();
         }
     }
 
 
-    private void executeInsertList() throws ExecutorException {
+    private CompletableFuture<Void> executeInsertList() throws ExecutorException {
         if ( batchList.isEmpty() ) {
-            return;
+            return CompletableFuture.completedFuture( null );
+        }
+        if ( bulkLoader != null ) {
+            CompletableFuture<Void> future = bulkLoader.submit( batchList );
+            batchList = new LinkedList<>();
+            return future;
         }
         long startTime = System.nanoTime();
         theExecutor.executeInsertList( batchList, config );
         theExecutor.executeCommit();
-        long executionTime = System.nanoTime() - startTime;
-        ArrayList<Long> executionTimes = new ArrayList<>();
-        //add execution n times to get the right average later on
-        for ( int i = 0; i < batchList.size(); i++ ) {
-            executionTimes.add( executionTime );
-        }
+        recordExecutionTime( batchList, System.nanoTime() - startTime );
+        batchList.clear();
+        return CompletableFuture.completedFuture( null );
+    }
+
+
+    private synchronized void recordExecutionTime( List<BatchableInsert> batch, long executionTime ) {
         //the batchList contains only queries of one type
-        String sql = batchList.getFirst().getParameterizedSqlQuery();
+        String sql = batch.getFirst().getParameterizedSqlQuery();
         if ( sql == null ) {
-            sql = batchList.getFirst().getSql();
+            sql = batch.getFirst().getSql();
             sql = sql.substring( 0, Math.min( 500, sql.length() ) );
         }
-        if ( !queryTimes.containsKey( sql ) ) {
-            queryTimes.put( batchList.getFirst().getParameterizedSqlQuery(), new ArrayList<>() );
-        }
-        queryTimes.get( batchList.getFirst().getParameterizedSqlQuery() ).addAll( executionTimes );
-        batchList.clear();
+        //add execution n times to get the right average later on
+        queryTimes.computeIfAbsent( sql, k -> Scenario.createLatencyHistogram() ).recordValueWithCount( executionTime, batch.size() );
     }
 
 
@@ -27,16 +27,11 @@ package org.polypheny.simpleclient.scenario.multimedia;
 
 
 import java.io.File;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.Vector;
-import java.util.concurrent.ConcurrentHashMap;
 import kong.unirest.core.Unirest;
 import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
 import org.polypheny.simpleclient.QueryMode;
 import org.polypheny.simpleclient.executor.Executor;
 import org.polypheny.simpleclient.executor.Executor.DatabaseInstance;
@@ -45,7 +40,8 @@ import org.polypheny.simpleclient.main.CsvWriter;
 import org.polypheny.simpleclient.main.ProgressReporter;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
-import org.polypheny.simpleclient.query.QueryListEntry;
+import org.polypheny.simpleclient.query.Workload;
+import org.polypheny.simpleclient.scenario.BulkLoader;
 import org.polypheny.simpleclient.scenario.PolyphenyScenario;
 import org.polypheny.simpleclient.scenario.multimedia.queryBuilder.CreateTable;
 import org.polypheny.simpleclient.scenario.multimedia.queryBuilder.DeleteRandomTimeline;
@@ -62,10 +58,6 @@ public class MultimediaBench extends PolyphenyScenario {
 
     private final MultimediaConfig config;
 
-    private final List<Long> measuredTimes;
-    private final Map<Integer, String> queryTypes;
-    private final Map<Integer, List<Long>> measuredTimePerQueryType;
-
 
     static {
         Unirest.config().reset();
@@ -81,10 +73,6 @@ public class MultimediaBench extends PolyphenyScenario {
         }
         this.config = config;
 
-        measuredTimes = Collections.synchronizedList( new LinkedList<>() );
-        queryTypes = new HashMap<>();
-        measuredTimePerQueryType = new ConcurrentHashMap<>();
-
         // Make sure the tmp folder exists
         new File( System.getProperty( "user.home" ), ".polypheny/tmp/" ).mkdirs();
     }
@@ -144,19 +132,24 @@ public class MultimediaBench extends PolyphenyScenario {
     public void generateData( DatabaseInstance databaseInstance, ProgressReporter progressReporter ) {
         log.info( "Generating data..." );
         Executor executor1 = executorFactory.createExecutorInstance();
-        DataGenerator dataGenerator = new DataGenerator( executor1, config, progressReporter );
+        BulkLoader bulkLoader = createBulkLoader( config, config.maxBatchSize, executorFactory::createExecutorInstance );
+        DataGenerator dataGenerator = new DataGenerator( executor1, config, progressReporter, bulkLoader );
 
         try {
-            Map<String, List<Long>> executionTimes = dataGenerator.generateUsers();
-            executionTimes.forEach( ( s, l ) -> {
-                measuredTimes.addAll( l );
+            Map<String, Histogram> executionTimes = dataGenerator.generateUsers();
+            // Wait for the outstanding batches, their execution times are recorded by the insert workers
+            closeBulkLoader( bulkLoader );
+            bulkLoader = null;
+            executionTimes.forEach( ( s, h ) -> {
+                measuredTimes.add( h );
                 int id = queryTypes.size() + 1;
                 queryTypes.put( id, s );
-                measuredTimePerQueryType.put( id, l );
+                measuredTimePerQueryType.put( id, h );
             } );
         } catch ( ExecutorException e ) {
             throw new RuntimeException( "Exception while generating data", e );
         } finally {
+            closeBulkLoader( bulkLoader );
             commitAndCloseExecutor( executor1 );
         }
     }
@@ -165,21 +158,32 @@ public class MultimediaBench extends PolyphenyScenario {
     @Override
     public long execute( ProgressReporter progressReporter, CsvWriter csvWriter, File outputDirectory, int numberOfThreads ) {
         log.info( "Preparing query list for the benchmark..." );
-        List<QueryListEntry> queryList = new Vector<>();
-        addNumberOfTimes( queryList, new SelectRandomUser( config.numberOfUsers ), config.numberOfSelectUserQueries );
-        addNumberOfTimes( queryList, new SelectRandomProfilePic( config.numberOfUsers ), config.numberOfSelectProfilePicQueries );
-        addNumberOfTimes( queryList, new SelectMultipleProfilePics( config.numberOfUsers ), config.numberOfSelectProfilePicsQueries );
-        addNumberOfTimes( queryList, new SelectMediaWhereAlbum( config.numberOfUsers ), config.numberOfSelectMediaQueries );//numberOfAlbums = numberOfUsers (1 album per user)
-        addNumberOfTimes( queryList, new SelectRandomTimeline( config.numberOfUsers * config.postsPerUser ), config.numberOfSelectTimelineQueries );
-        addNumberOfTimes( queryList, new DeleteRandomTimeline( config.numberOfUsers * config.postsPerUser ), config.numberOfDeleteTimelineQueries );
-        addNumberOfTimes( queryList, new InsertRandomTimeline( config.numberOfUsers, config.postsPerUser, config.imgSize, config.numberOfFrames, config.fileSizeKB, false ), config.numberOfInsertTimelineQueries );
-
-        return commonExecute( queryList, progressReporter, outputDirectory, numberOfThreads, Query::getSql, () -> executorFactory.createExecutorInstance( csvWriter ), new Random() );
+        Workload workload = createWorkload();
+
+        return commonExecute( workload, progressReporter, outputDirectory, numberOfThreads, Query::getSql, () -> executorFactory.createExecutorInstance( csvWriter ), new Random(), config );
+    }
+
+
+    private Workload createWorkload() {
+        Workload workload = new Workload();
+        addNumberOfTimes( workload, new SelectRandomUser( config.numberOfUsers ), config.numberOfSelectUserQueries );
+        addNumberOfTimes( workload, new SelectRandomProfilePic( config.numberOfUsers ), config.numberOfSelectProfilePicQueries );
+        addNumberOfTimes( workload, new SelectMultipleProfilePics( config.numberOfUsers ), config.numberOfSelectProfilePicsQueries );
+        addNumberOfTimes( workload, new SelectMediaWhereAlbum( config.numberOfUsers ), config.numberOfSelectMediaQueries );//numberOfAlbums = numberOfUsers (1 album per user)
+        addNumberOfTimes( workload, new SelectRandomTimeline( config.numberOfUsers * config.postsPerUser ), config.numberOfSelectTimelineQueries );
+        addNumberOfTimes( workload, new DeleteRandomTimeline( config.numberOfUsers * config.postsPerUser ), config.numberOfDeleteTimelineQueries );
+        addNumberOfTimes( workload, new InsertRandomTimeline( config.numberOfUsers, config.postsPerUser, config.imgSize, config.numberOfFrames, config.fileSizeKB, false ), config.numberOfInsertTimelineQueries );
+        return workload;
     }
 
 
     @Override
     public void warmUp( ProgressReporter progressReporter ) {
+        if ( config.adaptiveWarmUp ) {
+            adaptiveWarmUp( createWorkload(), () -> executorFactory.createExecutorInstance(), progressReporter, config );
+            return;
+        }
+
         log.info( "Warm-up..." );
 
         Executor executor = null;
@@ -216,15 +220,13 @@ public class MultimediaBench extends PolyphenyScenario {
     }
 
 
-    private void addNumberOfTimes( List<QueryListEntry> list, QueryBuilder queryBuilder, int numberOfTimes ) {
+    private void addNumberOfTimes( Workload workload, QueryBuilder queryBuilder, int numberOfTimes ) {
         int id = queryTypes.size() + 1;
         String sql = queryBuilder.getNewQuery().getSql();
         // Cut long queries with binary data
         queryTypes.put( id, sql.substring( 0, Math.min( 500, sql.length() ) ) );
-        measuredTimePerQueryType.put( id, Collections.synchronizedList( new LinkedList<>() ) );
-        for ( int i = 0; i < numberOfTimes; i++ ) {
-            list.add( new QueryListEntry( queryBuilder.getNewQuery(), id ) );
-        }
+        measuredTimePerQueryType.put( id, createLatencyHistogram() );
+        workload.add( queryBuilder, id, numberOfTimes );
     }
 
 }
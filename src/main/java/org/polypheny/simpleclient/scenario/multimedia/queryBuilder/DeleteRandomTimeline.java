@@ -30,11 +30,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
-import kong.unirest.core.HttpRequest;
-import kong.unirest.core.Unirest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class DeleteRandomTimeline extends QueryBuilder {
@@ -94,8 +93,8 @@ public class DeleteRandomTimeline extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
-            return Unirest.delete( "{protocol}://{host}:{port}/restapi/v1/res/public.timeline" )
+        public RestRequest getRest() {
+            return RestRequest.delete( "/restapi/v1/res/public.timeline" )
                     .queryString( "public.timeline.id", "=" + userId );
         }
 
@@ -30,11 +30,10 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.StringJoiner;
 import java.util.concurrent.ThreadLocalRandom;
-import kong.unirest.core.HttpRequest;
-import kong.unirest.core.Unirest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class SelectMediaWhereAlbum extends QueryBuilder {
@@ -89,14 +88,14 @@ public class SelectMediaWhereAlbum extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             String table = "public.media.";
             StringJoiner joiner = new StringJoiner( "," );
             joiner.add( table + "timestamp" );
             joiner.add( table + "img" );
             joiner.add( table + "video" );
             joiner.add( table + "audio" );
-            return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.media" )
+            return RestRequest.get( "/restapi/v1/res/public.media" )
                     .queryString( "public.media.album_id", "=" + albumId )
                     .queryString( "_project", joiner.toString() )
                     .queryString( "_limit", LIMIT );
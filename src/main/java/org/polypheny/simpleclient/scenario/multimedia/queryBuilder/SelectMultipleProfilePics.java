@@ -29,11 +29,10 @@ package org.polypheny.simpleclient.scenario.multimedia.queryBuilder;
 import java.util.Map;
 import java.util.StringJoiner;
 import java.util.concurrent.ThreadLocalRandom;
-import kong.unirest.core.HttpRequest;
-import kong.unirest.core.Unirest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class SelectMultipleProfilePics extends QueryBuilder {
@@ -93,12 +92,12 @@ public class SelectMultipleProfilePics extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             String table = "public.users.";
             StringJoiner joiner = new StringJoiner( "," );
             joiner.add( table + "firstname" );
             joiner.add( table + "profile_pic" );
-            return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.users" )
+            return RestRequest.get( "/restapi/v1/res/public.users" )
                     .queryString( "_project", joiner.toString() )
                     .queryString( "_limit", LIMIT )
                     .queryString( "_offset", offset );
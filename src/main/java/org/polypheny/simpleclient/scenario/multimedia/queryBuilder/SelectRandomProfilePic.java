@@ -29,11 +29,10 @@ package org.polypheny.simpleclient.scenario.multimedia.queryBuilder;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
-import kong.unirest.core.HttpRequest;
-import kong.unirest.core.Unirest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class SelectRandomProfilePic extends QueryBuilder {
@@ -87,8 +86,8 @@ public class SelectRandomProfilePic extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
-            return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.users" )
+        public RestRequest getRest() {
+            return RestRequest.get( "/restapi/v1/res/public.users" )
                     .queryString( "public.users.id", "=" + userId )
                     .queryString( "_project", "public.users.profile_pic" );
         }
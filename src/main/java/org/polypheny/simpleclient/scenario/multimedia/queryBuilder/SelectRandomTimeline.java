@@ -30,11 +30,10 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.StringJoiner;
 import java.util.concurrent.ThreadLocalRandom;
-import kong.unirest.core.HttpRequest;
-import kong.unirest.core.Unirest;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.polypheny.simpleclient.query.Query;
 import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
 
 
 public class SelectRandomTimeline extends QueryBuilder {
@@ -88,14 +87,14 @@ public class SelectRandomTimeline extends QueryBuilder {
 
 
         @Override
-        public HttpRequest<?> getRest() {
+        public RestRequest getRest() {
             String table = "public.timeline.";
             StringJoiner joiner = new StringJoiner( "," );
             joiner.add( table + "message" );
             joiner.add( table + "img" );
             joiner.add( table + "video" );
             joiner.add( table + "audio" );
-            return Unirest.get( "{protocol}://{host}:{port}/restapi/v1/res/public.timeline" )
+            return RestRequest.get( "/restapi/v1/res/public.timeline" )
                     .queryString( "public.timeline.id", "=" + id )
                     .queryString( "_project", joiner.toString() );
         }
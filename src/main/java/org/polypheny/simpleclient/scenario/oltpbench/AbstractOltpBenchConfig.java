@@ -37,6 +37,11 @@ public abstract class AbstractOltpBenchConfig extends AbstractConfig {
     public int scaleFactor;
     public int warmupTime;
 
+    // Native execution of the workload (for executors other than OLTPBench): number of transactions if the workload is
+    // not executed for a fixed duration and number of threads loading the data
+    public int numberOfTransactions;
+    public int numberOfDataGenerationThreads;
+
 
     public AbstractOltpBenchConfig( Properties properties, int multiplier, String scenario, String system ) {
         super( scenario, system, properties );
@@ -45,6 +50,9 @@ public abstract class AbstractOltpBenchConfig extends AbstractConfig {
         scaleFactor = multiplier;
         warmupTime = 0;
         //loaderThreads
+
+        numberOfTransactions = getIntProperty( properties, "numberOfTransactions", 10000 );
+        numberOfDataGenerationThreads = getIntProperty( properties, "numberOfDataGenerationThreads", 1 );
     }
 
 
@@ -53,6 +61,9 @@ public abstract class AbstractOltpBenchConfig extends AbstractConfig {
 
         warmupTime = Integer.parseInt( cdl.get( "warmupTime" ) );
         scaleFactor = Integer.parseInt( cdl.get( "scaleFactor" ) );
+
+        numberOfTransactions = Integer.parseInt( cdlGetOptional( cdl, "numberOfTransactions", "10000" ) );
+        numberOfDataGenerationThreads = Integer.parseInt( cdlGetOptional( cdl, "numberOfDataGenerationThreads", "1" ) );
     }
 
 
@@ -60,6 +71,13 @@ public abstract class AbstractOltpBenchConfig extends AbstractConfig {
         if ( !cdl.containsKey( "numberOfWarmUpIterations" ) ) {
             cdl.put( "numberOfWarmUpIterations", "1" );
         }
+        // Native executions of the workload run for as long as OLTPBench would
+        if ( !cdl.containsKey( "steadyStateDuration" ) && cdl.containsKey( "time" ) ) {
+            cdl.put( "steadyStateDuration", cdl.get( "time" ) );
+        }
+        if ( !cdl.containsKey( "rampUpDuration" ) && cdl.containsKey( "warmupTime" ) ) {
+            cdl.put( "rampUpDuration", cdl.get( "warmupTime" ) );
+        }
         return cdl;
     }
 
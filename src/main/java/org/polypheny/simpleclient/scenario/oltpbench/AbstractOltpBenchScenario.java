@@ -24,16 +24,12 @@
 
 package org.polypheny.simpleclient.scenario.oltpbench;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
 import org.polypheny.simpleclient.QueryMode;
 import org.polypheny.simpleclient.executor.Executor.DatabaseInstance;
 import org.polypheny.simpleclient.executor.Executor.ExecutorFactory;
@@ -171,34 +167,77 @@ public abstract class AbstractOltpBenchScenario extends Scenario {
             throw new RuntimeException( "Something went wrong, there should be an oltpbench.csv file!" );
         }
 
-        Map<String, List<Long>> latencyPerTransactionType = new HashMap<>();
-        List<Long> latency = new ArrayList<>();
-        try ( BufferedReader br = new BufferedReader( new FileReader( csvFile ) ) ) {
-            String line;
-            br.readLine(); // Skip the header line
-            while ( (line = br.readLine()) != null ) {
-                String[] values = line.split( "," );
-
-                // Assuming values[1] is the transaction type and values[3] is the latency
-                if ( !latencyPerTransactionType.containsKey( values[1] ) ) {
-                    latencyPerTransactionType.put( values[1], new ArrayList<>() );
-                }
-                latencyPerTransactionType.get( values[1] ).add( Long.parseLong( values[3] ) );
-                latency.add( Long.parseLong( values[3] ) );
-            }
+        OltpBenchResults results;
+        Map<String, Long> aborts;
+        try {
+            results = OltpBenchResults.read( csvFile );
+            results.writeTimeline( outputDirectory );
+            aborts = OltpBenchResults.readAborts( new File( outputDirectory, "oltpbench.log" ) );
         } catch ( IOException e ) {
             throw new RuntimeException( "Error while reading csv file", e );
         }
 
-        properties.put( "MeanLatency", calculateMean( latency ) );
-        for ( Map.Entry<String, List<Long>> entry : latencyPerTransactionType.entrySet() ) {
-            properties.put( entry.getKey() + "MeanLatency", calculateMean( entry.getValue() ) );
+        Histogram latency = results.getLatency();
+        Map<String, Histogram> latencyPerTransactionType = results.getLatencyPerTransactionType();
+        putLatencies( properties, "", latency );
+        for ( Map.Entry<String, Histogram> entry : latencyPerTransactionType.entrySet() ) {
+            putLatencies( properties, entry.getKey(), entry.getValue() );
         }
 
-        properties.put( "NumberOfTransactions", latency.size() );
+        properties.put( "NumberOfTransactions", latency.getTotalCount() );
         double runtimeSeconds = Long.parseLong( properties.get( "runtime" ).toString() ) / 1000000000.0;
-        double throughput = latency.size() / runtimeSeconds;
+        double throughput = latency.getTotalCount() / runtimeSeconds;
         properties.put( "Throughput", throughput );
+
+        // Throughput over time, based on the transactions started in every second of the run
+        long[] transactionsPerSecond = results.getTransactionsPerSecond();
+        if ( transactionsPerSecond.length > 0 ) {
+            long min = Long.MAX_VALUE;
+            long max = 0;
+            double sum = 0;
+            for ( long count : transactionsPerSecond ) {
+                min = Math.min( min, count );
+                max = Math.max( max, count );
+                sum += count;
+            }
+            double mean = sum / transactionsPerSecond.length;
+            double squaredDeviations = 0;
+            for ( long count : transactionsPerSecond ) {
+                squaredDeviations += (count - mean) * (count - mean);
+            }
+            properties.put( "ThroughputMin", min );
+            properties.put( "ThroughputMax", max );
+            properties.put( "ThroughputStddev", Math.sqrt( squaredDeviations / transactionsPerSecond.length ) );
+        }
+
+        if ( aborts != null ) {
+            long totalAborts = 0;
+            for ( Map.Entry<String, Histogram> entry : latencyPerTransactionType.entrySet() ) {
+                long aborted = aborts.getOrDefault( entry.getKey(), 0L );
+                totalAborts += aborted;
+                properties.put( entry.getKey() + "Aborts", aborted );
+                properties.put( entry.getKey() + "AbortRate", (double) aborted / (aborted + entry.getValue().getTotalCount()) );
+            }
+            properties.put( "NumberOfAborts", totalAborts );
+            properties.put( "AbortRate", totalAborts + latency.getTotalCount() > 0 ? (double) totalAborts / (totalAborts + latency.getTotalCount()) : 0 );
+        } else {
+            log.warn( "No transaction summary found in the OLTPBench log, not reporting abort rates" );
+        }
+    }
+
+
+    /**
+     * Latencies are in microseconds, as written by OLTPBench.
+     */
+    private void putLatencies( Properties properties, String prefix, Histogram latency ) {
+        properties.put( prefix + "MeanLatency", calculateMean( latency ) );
+        if ( latency.getTotalCount() > 0 ) {
+            properties.put( prefix + "P50Latency", processDoubleValue( latency.getValueAtPercentile( 50.0 ) ) );
+            properties.put( prefix + "P90Latency", processDoubleValue( latency.getValueAtPercentile( 90.0 ) ) );
+            properties.put( prefix + "P99Latency", processDoubleValue( latency.getValueAtPercentile( 99.0 ) ) );
+            properties.put( prefix + "P999Latency", processDoubleValue( latency.getValueAtPercentile( 99.9 ) ) );
+            properties.put( prefix + "MaxLatency", processDoubleValue( latency.getMaxValue() ) );
+        }
     }
 
 
@@ -0,0 +1,280 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario.oltpbench;
+
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+import org.polypheny.simpleclient.scenario.MetricsTimeline;
+import org.polypheny.simpleclient.scenario.Scenario;
+
+
+/**
+ * Aggregates the raw results of an OLTPBench run (one line per completed transaction: type index, name, start time
+ * in seconds, latency in microseconds, worker and phase) into latency histograms and per-second transaction counts.
+ * The file is parsed as a stream of bytes, so memory does not grow with the number of transactions and no objects
+ * are allocated per line.
+ */
+public class OltpBenchResults {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int LATENCY_COLUMN = 3;
+
+    // Histogram lines of the summary OLTPBench logs at the end of a run, e.g. "NewOrder/01   [ 1234] ****"
+    private static final Pattern LOG_HISTOGRAM_LINE = Pattern.compile( "^\\s*(\\S+)/\\d+\\s+\\[\\s*(\\d+)\\]" );
+
+    @Getter
+    private final Histogram latency = Scenario.createLatencyHistogram();
+    private final List<String> transactionNames = new ArrayList<>();
+    private final List<Histogram> latencyPerType = new ArrayList<>();
+    private final List<long[]> transactionsPerSecondPerType = new ArrayList<>();
+    private long[] transactionsPerSecond = new long[64];
+    private int numberOfSeconds = 0;
+
+    private final byte[] nameBuffer = new byte[256];
+    private int nameLength;
+    private long firstStartSecond = -1;
+
+
+    public static OltpBenchResults read( File csvFile ) throws IOException {
+        OltpBenchResults results = new OltpBenchResults();
+        try ( InputStream in = new FileInputStream( csvFile ) ) {
+            results.parse( in );
+        }
+        return results;
+    }
+
+
+    /**
+     * Parses the CSV (including its header line) from the given stream.
+     */
+    public void parse( InputStream in ) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        boolean header = true;
+        int column = 0;
+        int typeIndex = 0;
+        long startSecond = 0;
+        boolean startFraction = false;
+        boolean startFractionSeen = false;
+        long latencyValue = 0;
+        boolean latencySeen = false;
+
+        int read;
+        while ( (read = in.read( buffer )) > 0 ) {
+            for ( int i = 0; i < read; i++ ) {
+                byte b = buffer[i];
+                if ( b == '\n' ) {
+                    if ( !header && latencySeen ) {
+                        // Without a decimal point, the start time is given in microseconds
+                        record( typeIndex, startFractionSeen ? startSecond : startSecond / 1_000_000L, latencyValue );
+                    }
+                    header = false;
+                    column = 0;
+                    typeIndex = 0;
+                    startSecond = 0;
+                    startFraction = false;
+                    startFractionSeen = false;
+                    latencyValue = 0;
+                    latencySeen = false;
+                    nameLength = 0;
+                } else if ( header ) {
+                    // Skip the header line
+                } else if ( b == ',' ) {
+                    column++;
+                } else {
+                    switch ( column ) {
+                        case 0:
+                            if ( b >= '0' && b <= '9' ) {
+                                typeIndex = typeIndex * 10 + (b - '0');
+                            }
+                            break;
+                        case 1:
+                            if ( nameLength < nameBuffer.length && b != '\r' ) {
+                                nameBuffer[nameLength++] = b;
+                            }
+                            break;
+                        case 2:
+                            if ( b == '.' ) {
+                                startFraction = true;
+                                startFractionSeen = true;
+                            } else if ( !startFraction && b >= '0' && b <= '9' ) {
+                                startSecond = startSecond * 10 + (b - '0');
+                            }
+                            break;
+                        case LATENCY_COLUMN:
+                            if ( b >= '0' && b <= '9' ) {
+                                latencyValue = latencyValue * 10 + (b - '0');
+                                latencySeen = true;
+                            }
+                            break;
+                        default:
+                            // Worker and phase are not needed
+                    }
+                }
+            }
+        }
+        if ( !header && latencySeen ) {
+            // Last line without a trailing line break
+            record( typeIndex, startFractionSeen ? startSecond : startSecond / 1_000_000L, latencyValue );
+        }
+    }
+
+
+    private void record( int typeIndex, long startSecond, long latencyMicros ) {
+        while ( latencyPerType.size() <= typeIndex ) {
+            transactionNames.add( null );
+            latencyPerType.add( null );
+            transactionsPerSecondPerType.add( null );
+        }
+        if ( latencyPerType.get( typeIndex ) == null ) {
+            // The name is only materialized the first time a transaction type is seen
+            transactionNames.set( typeIndex, new String( nameBuffer, 0, nameLength ).trim() );
+            latencyPerType.set( typeIndex, Scenario.createLatencyHistogram() );
+            transactionsPerSecondPerType.set( typeIndex, new long[transactionsPerSecond.length] );
+        }
+        latency.recordValue( latencyMicros );
+        latencyPerType.get( typeIndex ).recordValue( latencyMicros );
+
+        if ( firstStartSecond < 0 ) {
+            firstStartSecond = startSecond;
+        }
+        int second = (int) Math.max( 0, startSecond - firstStartSecond );
+        transactionsPerSecond = increment( transactionsPerSecond, second );
+        transactionsPerSecondPerType.set( typeIndex, increment( transactionsPerSecondPerType.get( typeIndex ), second ) );
+        numberOfSeconds = Math.max( numberOfSeconds, second + 1 );
+    }
+
+
+    private static long[] increment( long[] counts, int index ) {
+        if ( index >= counts.length ) {
+            counts = Arrays.copyOf( counts, Math.max( counts.length * 2, index + 1 ) );
+        }
+        counts[index]++;
+        return counts;
+    }
+
+
+    /**
+     * @return The latency histogram (in microseconds) of every transaction type that occurred, by name
+     */
+    public Map<String, Histogram> getLatencyPerTransactionType() {
+        Map<String, Histogram> map = new HashMap<>();
+        for ( int i = 0; i < latencyPerType.size(); i++ ) {
+            if ( latencyPerType.get( i ) != null ) {
+                map.merge( transactionNames.get( i ), latencyPerType.get( i ), ( a, b ) -> {
+                    Histogram merged = a.copy();
+                    merged.add( b );
+                    return merged;
+                } );
+            }
+        }
+        return map;
+    }
+
+
+    /**
+     * @return The number of transactions started in every full second of the run; the last, partial second is
+     * left out unless it is the only one.
+     */
+    public long[] getTransactionsPerSecond() {
+        return Arrays.copyOf( transactionsPerSecond, numberOfSeconds > 1 ? numberOfSeconds - 1 : numberOfSeconds );
+    }
+
+
+    /**
+     * Writes the transactions per second (overall and per transaction type) in the format of the
+     * {@link MetricsTimeline} file.
+     */
+    public void writeTimeline( File outputDirectory ) throws IOException {
+        try ( BufferedWriter writer = new BufferedWriter( new FileWriter( new File( outputDirectory, MetricsTimeline.TIMELINE_FILE ) ) ) ) {
+            writer.write( "Second,Metric,Template,Value" );
+            writer.newLine();
+            for ( int second = 0; second < numberOfSeconds; second++ ) {
+                writer.write( (second + 1) + ",throughput,all," + transactionsPerSecond[second] );
+                writer.newLine();
+                for ( int i = 0; i < transactionsPerSecondPerType.size(); i++ ) {
+                    long[] counts = transactionsPerSecondPerType.get( i );
+                    if ( counts != null ) {
+                        writer.write( (second + 1) + ",throughput," + transactionNames.get( i ) + "," + (second < counts.length ? counts[second] : 0) );
+                        writer.newLine();
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Reads the number of aborted transactions per transaction type from the summary OLTPBench writes to its log.
+     * The raw results only contain completed transactions.
+     *
+     * @return The number of aborts by transaction name or {@code null} if there is no log or it contains no summary
+     */
+    public static Map<String, Long> readAborts( File logFile ) throws IOException {
+        if ( !logFile.exists() ) {
+            return null;
+        }
+        Map<String, Long> aborts = new HashMap<>();
+        try ( BufferedReader br = new BufferedReader( new FileReader( logFile ) ) ) {
+            boolean inAbortSection = false;
+            boolean summaryFound = false;
+            String line;
+            while ( (line = br.readLine()) != null ) {
+                if ( line.contains( "Aborted Transactions:" ) ) {
+                    inAbortSection = true;
+                    summaryFound = true;
+                } else if ( line.trim().endsWith( ":" ) ) {
+                    // Start of another section (completed, rejected, errors, ...)
+                    inAbortSection = false;
+                } else if ( inAbortSection ) {
+                    Matcher matcher = LOG_HISTOGRAM_LINE.matcher( line );
+                    if ( matcher.find() ) {
+                        aborts.merge( matcher.group( 1 ), Long.parseLong( matcher.group( 2 ) ), Long::sum );
+                    }
+                }
+            }
+            if ( !summaryFound ) {
+                return null;
+            }
+        }
+        return aborts;
+    }
+
+}
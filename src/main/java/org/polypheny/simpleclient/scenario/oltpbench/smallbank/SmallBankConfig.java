@@ -35,6 +35,7 @@ import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import lombok.SneakyThrows;
+import org.polypheny.simpleclient.query.KeyDistribution;
 import org.polypheny.simpleclient.scenario.oltpbench.AbstractOltpBenchConfig;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -54,6 +55,9 @@ public class SmallBankConfig extends AbstractOltpBenchConfig {
     public int transactSavingsWeight;
     public int writeCheckWeight;
 
+    // Native execution of the workload (for executors other than OLTPBench): accounts accessed by the transactions
+    public KeyDistribution.Spec customerDistribution;
+
 
     public SmallBankConfig( Properties properties, int multiplier ) {
         super( properties, multiplier, "smallbank", "oltpbench-polypheny" );
@@ -68,6 +72,8 @@ public class SmallBankConfig extends AbstractOltpBenchConfig {
         sendPaymentWeight = getIntProperty( properties, "sendPaymentWeight" );
         transactSavingsWeight = getIntProperty( properties, "transactSavingsWeight" );
         writeCheckWeight = getIntProperty( properties, "writeCheckWeight" );
+
+        customerDistribution = KeyDistribution.Spec.parse( getStringProperty( properties, "customerDistribution", "hotspot:0.9:0.25" ) );
     }
 
 
@@ -84,6 +90,16 @@ public class SmallBankConfig extends AbstractOltpBenchConfig {
         sendPaymentWeight = Integer.parseInt( cdl.get( "sendPaymentWeight" ) );
         transactSavingsWeight = Integer.parseInt( cdl.get( "transactSavingsWeight" ) );
         writeCheckWeight = Integer.parseInt( cdl.get( "writeCheckWeight" ) );
+
+        customerDistribution = KeyDistribution.Spec.parse( cdlGetOptional( cdl, "customerDistribution", "hotspot:0.9:0.25" ) );
+    }
+
+
+    /**
+     * Number of customers; OLTPBench loads one million accounts per scale factor.
+     */
+    public int getNumberOfAccounts() {
+        return scaleFactor * 1_000_000;
     }
 
 
@@ -35,11 +35,14 @@ import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.polypheny.simpleclient.query.KeyDistribution;
 import org.polypheny.simpleclient.scenario.oltpbench.AbstractOltpBenchConfig;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
 
+@Slf4j
 public class YcsbConfig extends AbstractOltpBenchConfig {
 
     public long time;
@@ -55,6 +58,14 @@ public class YcsbConfig extends AbstractOltpBenchConfig {
 
     public boolean partitionTable;
 
+    // One of the YCSB core workloads (a-f) replacing the weights above or 'custom'
+    public String workload;
+    // Native execution of the workload (for executors other than OLTPBench)
+    public KeyDistribution.Spec requestDistribution;
+    public int fieldCount;
+    public int fieldLength;
+    public int maxScanLength;
+
 
     public YcsbConfig( Properties properties, int multiplier ) {
         super( properties, multiplier, "ycsb", "oltpbench-polypheny" );
@@ -71,6 +82,13 @@ public class YcsbConfig extends AbstractOltpBenchConfig {
         readModifyWriteRecordWeight = getIntProperty( properties, "readModifyWriteRecordWeight" );
 
         partitionTable = getBooleanProperty( properties, "partitionTable" );
+
+        workload = getStringProperty( properties, "workload", "custom" ).trim().toLowerCase();
+        applyWorkload( workload );
+        requestDistribution = KeyDistribution.Spec.parse( getStringProperty( properties, "requestDistribution", getDefaultRequestDistribution( workload ) ) );
+        fieldCount = getIntProperty( properties, "fieldCount", 10 );
+        fieldLength = getIntProperty( properties, "fieldLength", 100 );
+        maxScanLength = getIntProperty( properties, "maxScanLength", 100 );
     }
 
 
@@ -93,6 +111,72 @@ public class YcsbConfig extends AbstractOltpBenchConfig {
         readModifyWriteRecordWeight = Integer.parseInt( cdl.get( "readModifyWriteRecordWeight" ) );
 
         partitionTable = Boolean.parseBoolean( cdl.get( "partitionTable" ) );
+
+        workload = cdlGetOptional( cdl, "workload", "custom" ).trim().toLowerCase();
+        applyWorkload( workload );
+        requestDistribution = KeyDistribution.Spec.parse( cdlGetOptional( cdl, "requestDistribution", getDefaultRequestDistribution( workload ) ) );
+        fieldCount = Integer.parseInt( cdlGetOptional( cdl, "fieldCount", "10" ) );
+        fieldLength = Integer.parseInt( cdlGetOptional( cdl, "fieldLength", "100" ) );
+        maxScanLength = Integer.parseInt( cdlGetOptional( cdl, "maxScanLength", "100" ) );
+    }
+
+
+    /**
+     * Number of records in the usertable; OLTPBench loads 1000 records per scale factor.
+     */
+    public int getNumberOfRecords() {
+        return scaleFactor * 1000;
+    }
+
+
+    private void applyWorkload( String workload ) {
+        switch ( workload ) {
+            case "custom":
+                return;
+            case "a": // Update heavy
+                setWeights( 50, 0, 0, 50, 0, 0 );
+                break;
+            case "b": // Read mostly
+                setWeights( 95, 0, 0, 5, 0, 0 );
+                break;
+            case "c": // Read only
+                setWeights( 100, 0, 0, 0, 0, 0 );
+                break;
+            case "d": // Read latest
+                setWeights( 95, 5, 0, 0, 0, 0 );
+                break;
+            case "e": // Short ranges
+                setWeights( 0, 5, 95, 0, 0, 0 );
+                break;
+            case "f": // Read-modify-write
+                setWeights( 50, 0, 0, 0, 0, 50 );
+                break;
+            default:
+                log.error( "Unknown YCSB workload '{}'. Supported values are 'a' to 'f' and 'custom'.", workload );
+                throw new RuntimeException( "Unknown YCSB workload '" + workload + "'. Supported values are 'a' to 'f' and 'custom'." );
+        }
+    }
+
+
+    private void setWeights( int read, int insert, int scan, int update, int delete, int readModifyWrite ) {
+        readRecordWeight = read;
+        insertRecordWeight = insert;
+        scanRecordWeight = scan;
+        updateRecordWeight = update;
+        deleteRecordWeight = delete;
+        readModifyWriteRecordWeight = readModifyWrite;
+    }
+
+
+    private static String getDefaultRequestDistribution( String workload ) {
+        switch ( workload ) {
+            case "custom":
+                return "uniform";
+            case "d":
+                return "latest";
+            default:
+                return "zipfian";
+        }
     }
 
 
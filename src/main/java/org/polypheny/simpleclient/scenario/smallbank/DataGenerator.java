@@ -0,0 +1,125 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario.smallbank;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import org.polypheny.simpleclient.executor.Executor;
+import org.polypheny.simpleclient.executor.ExecutorException;
+import org.polypheny.simpleclient.main.ProgressReporter;
+import org.polypheny.simpleclient.query.BatchableInsert;
+import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.scenario.BulkLoader;
+import org.polypheny.simpleclient.scenario.DataPartition;
+import org.polypheny.simpleclient.scenario.oltpbench.smallbank.SmallBankConfig;
+import org.polypheny.simpleclient.scenario.smallbank.queryBuilder.InsertAccount;
+import org.polypheny.simpleclient.scenario.smallbank.queryBuilder.InsertBalance;
+
+
+@Slf4j
+public class DataGenerator {
+
+    private static final long RANDOM_SEED = 42;
+
+    private final Executor theExecutor;
+    private final SmallBankConfig config;
+    private final ProgressReporter progressReporter;
+
+    private final BulkLoader bulkLoader;
+    private List<BatchableInsert> batchList;
+
+    private boolean aborted;
+
+
+    DataGenerator( Executor executor, SmallBankConfig config, ProgressReporter progressReporter, BulkLoader bulkLoader ) {
+        theExecutor = executor;
+        this.config = config;
+        this.progressReporter = progressReporter;
+        this.bulkLoader = bulkLoader;
+        batchList = new LinkedList<>();
+
+        aborted = false;
+    }
+
+
+    void generateAccounts( DataPartition partition ) throws ExecutorException {
+        generate( partition, new InsertAccount( partition.getFirst( config.getNumberOfAccounts() ) + 1 ) );
+    }
+
+
+    void generateBalances( DataPartition partition, boolean savings ) throws ExecutorException {
+        Random random = new Random( partition.getSeed( savings ? RANDOM_SEED : RANDOM_SEED + 1 ) );
+        generate( partition, new InsertBalance( savings, partition.getFirst( config.getNumberOfAccounts() ) + 1, random ) );
+    }
+
+
+    private void generate( DataPartition partition, QueryBuilder queryBuilder ) throws ExecutorException {
+        int numberOfAccounts = config.getNumberOfAccounts();
+        // Three tables are loaded per partition
+        int mod = (int) Math.max( 1, 3L * numberOfAccounts / (progressReporter.base * Math.max( 1, config.numberOfDataGenerationThreads )) );
+        int end = partition.getEnd( numberOfAccounts );
+        for ( int i = partition.getFirst( numberOfAccounts ); i < end; i++ ) {
+            if ( aborted || partition.isAborted() ) {
+                break;
+            }
+
+            addToInsertList( (BatchableInsert) queryBuilder.getNewQuery() );
+            if ( (i % mod) == 0 ) {
+                progressReporter.updateProgress();
+            }
+        }
+        executeInsertList();
+    }
+
+
+    private void addToInsertList( BatchableInsert query ) throws ExecutorException {
+        batchList.add( query );
+        if ( batchList.size() >= (bulkLoader == null ? config.batchSize : bulkLoader.getBatchSize()) ) {
+            executeInsertList();
+        }
+    }
+
+
+    private void executeInsertList() throws ExecutorException {
+        if ( bulkLoader != null ) {
+            if ( !batchList.isEmpty() ) {
+                bulkLoader.submit( batchList );
+                batchList = new LinkedList<>();
+            }
+            return;
+        }
+        theExecutor.executeInsertList( batchList, config );
+        theExecutor.executeCommit();
+        batchList.clear();
+    }
+
+
+    public void abort() {
+        aborted = true;
+    }
+
+}
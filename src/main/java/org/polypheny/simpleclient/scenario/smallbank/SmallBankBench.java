@@ -0,0 +1,222 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario.smallbank;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import org.polypheny.simpleclient.QueryMode;
+import org.polypheny.simpleclient.executor.Executor;
+import org.polypheny.simpleclient.executor.Executor.DatabaseInstance;
+import org.polypheny.simpleclient.executor.ExecutorException;
+import org.polypheny.simpleclient.executor.MonetdbExecutor.MonetdbExecutorFactory;
+import org.polypheny.simpleclient.executor.PolyphenyDbJdbcExecutor.PolyphenyDbJdbcExecutorFactory;
+import org.polypheny.simpleclient.executor.PolyphenyDbMongoQlExecutor.PolyphenyDbMongoQlExecutorFactory;
+import org.polypheny.simpleclient.executor.PolyphenyDbRestExecutor.PolyphenyDbRestExecutorFactory;
+import org.polypheny.simpleclient.executor.PostgresExecutor.PostgresExecutorFactory;
+import org.polypheny.simpleclient.main.CsvWriter;
+import org.polypheny.simpleclient.main.ProgressReporter;
+import org.polypheny.simpleclient.query.Query;
+import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RawQuery;
+import org.polypheny.simpleclient.query.Transaction;
+import org.polypheny.simpleclient.query.Workload;
+import org.polypheny.simpleclient.scenario.BulkLoader;
+import org.polypheny.simpleclient.scenario.PolyphenyScenario;
+import org.polypheny.simpleclient.scenario.oltpbench.smallbank.SmallBankConfig;
+import org.polypheny.simpleclient.scenario.smallbank.queryBuilder.Amalgamate;
+import org.polypheny.simpleclient.scenario.smallbank.queryBuilder.Balance;
+import org.polypheny.simpleclient.scenario.smallbank.queryBuilder.DepositChecking;
+import org.polypheny.simpleclient.scenario.smallbank.queryBuilder.SendPayment;
+import org.polypheny.simpleclient.scenario.smallbank.queryBuilder.TransactSavings;
+import org.polypheny.simpleclient.scenario.smallbank.queryBuilder.WriteCheck;
+
+
+/**
+ * SmallBank executed by this client instead of OLTPBench. Uses the same configuration as the OLTPBench scenario, but
+ * works with every executor supporting the relational or document model except for REST. Every transaction is
+ * executed as a fixed sequence of statements (see {@link Transaction}).
+ */
+@Slf4j
+public class SmallBankBench extends PolyphenyScenario {
+
+    private final SmallBankConfig config;
+
+
+    public SmallBankBench( Executor.ExecutorFactory executorFactory, SmallBankConfig config, boolean commitAfterEveryQuery, boolean dumpQueryList, QueryMode queryMode ) {
+        super( executorFactory, commitAfterEveryQuery, dumpQueryList, queryMode );
+        this.config = config;
+        if ( executorFactory instanceof PolyphenyDbRestExecutorFactory ) {
+            // The REST executor commits every statement it cannot express on its own pooled JDBC connection
+            throw new RuntimeException( "SmallBank is not supported for the REST interface: its transactions would not be executed atomically" );
+        }
+    }
+
+
+    @Override
+    public void createSchema( DatabaseInstance databaseInstance, boolean includingKeys ) {
+        if ( queryMode != QueryMode.TABLE ) {
+            throw new UnsupportedOperationException( "Unsupported query mode: " + queryMode.name() );
+        }
+        if ( !(executorFactory instanceof PolyphenyDbJdbcExecutorFactory || executorFactory instanceof PostgresExecutorFactory || executorFactory instanceof MonetdbExecutorFactory
+                || executorFactory instanceof PolyphenyDbMongoQlExecutorFactory) ) {
+            throw new RuntimeException( "Unsupported executor factory: " + executorFactory.getClass().getName() );
+        }
+
+        log.info( "Creating schema..." );
+        String primaryKey = includingKeys ? ", PRIMARY KEY (custid)" : "";
+        Executor executor = null;
+        try {
+            executor = executorFactory.createExecutorInstance();
+            executor.executeQuery( RawQuery.builder()
+                    .sql( "CREATE TABLE accounts (custid INTEGER NOT NULL, name VARCHAR(64) NOT NULL" + primaryKey + ")" )
+                    .mongoQl( "db.createCollection(\"accounts\")" )
+                    .expectResultSet( false )
+                    .build() );
+            executor.executeQuery( RawQuery.builder()
+                    .sql( "CREATE TABLE savings (custid INTEGER NOT NULL, bal INTEGER NOT NULL" + primaryKey + ")" )
+                    .mongoQl( "db.createCollection(\"savings\")" )
+                    .expectResultSet( false )
+                    .build() );
+            executor.executeQuery( RawQuery.builder()
+                    .sql( "CREATE TABLE checking (custid INTEGER NOT NULL, bal INTEGER NOT NULL" + primaryKey + ")" )
+                    .mongoQl( "db.createCollection(\"checking\")" )
+                    .expectResultSet( false )
+                    .build() );
+        } catch ( ExecutorException e ) {
+            throw new RuntimeException( "Exception while creating schema", e );
+        } finally {
+            commitAndCloseExecutor( executor );
+        }
+    }
+
+
+    @Override
+    public void generateData( DatabaseInstance databaseInstance, ProgressReporter progressReporter ) {
+        log.info( "Generating data..." );
+        BulkLoader bulkLoader = createBulkLoader( config, config.batchSize, executorFactory::createExecutorInstance );
+        try {
+            generateDataInParallel( config.numberOfDataGenerationThreads, executorFactory::createExecutorInstance, ( executor, partition ) -> {
+                DataGenerator dataGenerator = new DataGenerator( executor, config, progressReporter, bulkLoader );
+                dataGenerator.generateAccounts( partition );
+                dataGenerator.generateBalances( partition, true );
+                dataGenerator.generateBalances( partition, false );
+            } );
+        } finally {
+            closeBulkLoader( bulkLoader );
+        }
+    }
+
+
+    @Override
+    public long execute( ProgressReporter progressReporter, CsvWriter csvWriter, File outputDirectory, int numberOfThreads ) {
+        if ( config.workloadFile != null ) {
+            throw new RuntimeException( "Compiled workloads are not supported for SmallBank" );
+        }
+
+        log.info( "Preparing query list for the benchmark..." );
+        Workload workload = createWorkload();
+
+        return commonExecute( workload, progressReporter, outputDirectory, numberOfThreads, Query::getSql, () -> executorFactory.createExecutorInstance( csvWriter ), new Random(), config );
+    }
+
+
+    /**
+     * Returns the builders of the transactions with their weights.
+     */
+    private Map<QueryBuilder, Integer> createQueryBuilders() {
+        int numberOfAccounts = config.getNumberOfAccounts();
+        Map<QueryBuilder, Integer> builders = new LinkedHashMap<>();
+        builders.put( new Amalgamate( config.customerDistribution.create( numberOfAccounts ) ), config.amalgamateWeight );
+        builders.put( new Balance( config.customerDistribution.create( numberOfAccounts ) ), config.balanceWeight );
+        builders.put( new DepositChecking( config.customerDistribution.create( numberOfAccounts ) ), config.depositCheckingWeight );
+        builders.put( new SendPayment( config.customerDistribution.create( numberOfAccounts ) ), config.sendPaymentWeight );
+        builders.put( new TransactSavings( config.customerDistribution.create( numberOfAccounts ) ), config.transactSavingsWeight );
+        builders.put( new WriteCheck( config.customerDistribution.create( numberOfAccounts ) ), config.writeCheckWeight );
+        return builders;
+    }
+
+
+    private Workload createWorkload() {
+        Map<QueryBuilder, Integer> builders = createQueryBuilders();
+        int totalWeight = builders.values().stream().mapToInt( Integer::intValue ).sum();
+        if ( totalWeight <= 0 ) {
+            throw new RuntimeException( "The weights of the SmallBank transactions sum up to zero" );
+        }
+
+        Workload workload = new Workload();
+        builders.forEach( ( queryBuilder, weight ) -> addWeighted( workload, queryBuilder, weight, totalWeight ) );
+        return workload;
+    }
+
+
+    @Override
+    public void warmUp( ProgressReporter progressReporter ) {
+        if ( config.adaptiveWarmUp ) {
+            adaptiveWarmUp( createWorkload(), () -> executorFactory.createExecutorInstance(), progressReporter, config );
+            return;
+        }
+
+        log.info( "Warm-up..." );
+        Map<QueryBuilder, Integer> builders = createQueryBuilders();
+        Executor executor = null;
+        for ( int i = 0; i < config.numberOfWarmUpIterations; i++ ) {
+            try {
+                executor = executorFactory.createExecutorInstance();
+                // One transaction of every type
+                for ( Map.Entry<QueryBuilder, Integer> entry : builders.entrySet() ) {
+                    if ( entry.getValue() > 0 ) {
+                        ((Transaction) entry.getKey().getNewQuery()).execute( executor );
+                        executor.executeCommit();
+                    }
+                }
+            } catch ( ExecutorException e ) {
+                throw new RuntimeException( "Error while executing warm-up queries", e );
+            } finally {
+                commitAndCloseExecutor( executor );
+            }
+        }
+    }
+
+
+    @Override
+    public int getNumberOfInsertThreads() {
+        return config.numberOfDataGenerationThreads;
+    }
+
+
+    private void addWeighted( Workload workload, QueryBuilder queryBuilder, int weight, int totalWeight ) {
+        if ( weight <= 0 ) {
+            return;
+        }
+        int id = queryTypes.size() + 1;
+        queryTypes.put( id, queryBuilder.getNewQuery().getSql() );
+        measuredTimePerQueryType.put( id, createLatencyHistogram() );
+        workload.add( queryBuilder, id, Math.max( 1, (int) ((long) config.numberOfTransactions * weight / totalWeight) ) );
+    }
+
+}
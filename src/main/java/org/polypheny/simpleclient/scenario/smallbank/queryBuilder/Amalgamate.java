@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario.smallbank.queryBuilder;
+
+import static org.polypheny.simpleclient.scenario.smallbank.queryBuilder.Statements.CHECKING;
+import static org.polypheny.simpleclient.scenario.smallbank.queryBuilder.Statements.SAVINGS;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.polypheny.simpleclient.query.KeyDistribution;
+import org.polypheny.simpleclient.query.Query;
+import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.Transaction;
+
+
+/**
+ * Moves the balances of a customer to the checking account of another customer. The statements are fixed when the
+ * transaction is generated, thus the amount credited is drawn from the range of the balances instead of being read.
+ */
+public class Amalgamate extends QueryBuilder {
+
+    private final KeyDistribution customers;
+
+
+    public Amalgamate( KeyDistribution customers ) {
+        this.customers = customers;
+    }
+
+
+    @Override
+    public Query getNewQuery() {
+        int customerId = customers.nextKey();
+        int otherId = Statements.nextOtherCustomer( customers, customerId );
+        int amount = ThreadLocalRandom.current().nextInt( 2 * InsertBalance.MIN_BALANCE, 2 * InsertBalance.MAX_BALANCE );
+        return new Transaction( List.of(
+                Statements.selectAccount( customerId ),
+                Statements.selectAccount( otherId ),
+                Statements.selectBalance( SAVINGS, customerId ),
+                Statements.selectBalance( CHECKING, customerId ),
+                Statements.setBalance( CHECKING, customerId, 0 ),
+                Statements.setBalance( SAVINGS, customerId, 0 ),
+                Statements.addToBalance( CHECKING, otherId, amount ) ) );
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario.smallbank.queryBuilder;
+
+import com.google.common.collect.ImmutableList;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.polypheny.simpleclient.query.BatchableInsert;
+import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
+
+
+public class InsertAccount extends QueryBuilder {
+
+    private static final boolean EXPECT_RESULT = false;
+
+    private int nextCustomerId;
+
+
+    public InsertAccount( int firstCustomerId ) {
+        this.nextCustomerId = firstCustomerId;
+    }
+
+
+    @Override
+    public BatchableInsert getNewQuery() {
+        int customerId = nextCustomerId++;
+        return new InsertAccountQuery( customerId, "customer" + customerId );
+    }
+
+
+    private static class InsertAccountQuery extends BatchableInsert {
+
+        private static final String SQL = "INSERT INTO accounts(custid, name) VALUES ";
+
+        private final int customerId;
+        private final String name;
+
+
+        InsertAccountQuery( int customerId, String name ) {
+            super( EXPECT_RESULT );
+            this.customerId = customerId;
+            this.name = name;
+        }
+
+
+        @Override
+        public String getSql() {
+            return SQL + getSqlRowExpression();
+        }
+
+
+        @Override
+        public String getSqlRowExpression() {
+            return "(" + customerId + ",'" + name + "')";
+        }
+
+
+        @Override
+        public String getParameterizedSqlQuery() {
+            return SQL + "(?, ?)";
+        }
+
+
+        @Override
+        public Map<Integer, ImmutablePair<DataTypes, Object>> getParameterValues() {
+            Map<Integer, ImmutablePair<DataTypes, Object>> map = new HashMap<>();
+            map.put( 1, new ImmutablePair<>( DataTypes.INTEGER, customerId ) );
+            map.put( 2, new ImmutablePair<>( DataTypes.VARCHAR, name ) );
+            return map;
+        }
+
+
+        @Override
+        public RestRequest getRest() {
+            return buildRestInsert( "public.accounts", ImmutableList.of( getRestRowExpression() ) );
+        }
+
+
+        @Override
+        public String getMongoQl() {
+            return "db.accounts.insert(" + getMongoQlRowExpression() + ")";
+        }
+
+
+        @Override
+        public JsonObject getRestRowExpression() {
+            JsonObject row = new JsonObject();
+            row.add( "public.accounts.custid", new JsonPrimitive( customerId ) );
+            row.add( "public.accounts.name", new JsonPrimitive( name ) );
+            return row;
+        }
+
+
+        @Override
+        public String getEntity() {
+            return "public.accounts";
+        }
+
+    }
+
+}
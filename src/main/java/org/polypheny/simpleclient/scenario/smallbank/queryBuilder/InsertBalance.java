@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario.smallbank.queryBuilder;
+
+import com.google.common.collect.ImmutableList;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.polypheny.simpleclient.query.BatchableInsert;
+import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
+
+
+/**
+ * Inserts the balance (in cents) of the savings or checking account of a customer.
+ */
+public class InsertBalance extends QueryBuilder {
+
+    static final int MIN_BALANCE = 1_000_000;
+    static final int MAX_BALANCE = 5_000_000;
+
+    private static final boolean EXPECT_RESULT = false;
+
+    private final String table;
+    private final Random random;
+    private int nextCustomerId;
+
+
+    public InsertBalance( boolean savings, int firstCustomerId, Random random ) {
+        this.table = savings ? Statements.SAVINGS : Statements.CHECKING;
+        this.nextCustomerId = firstCustomerId;
+        this.random = random;
+    }
+
+
+    @Override
+    public BatchableInsert getNewQuery() {
+        return new InsertBalanceQuery( table, nextCustomerId++, MIN_BALANCE + random.nextInt( MAX_BALANCE - MIN_BALANCE ) );
+    }
+
+
+    private static class InsertBalanceQuery extends BatchableInsert {
+
+        private final String table;
+        private final int customerId;
+        private final int balance;
+
+
+        InsertBalanceQuery( String table, int customerId, int balance ) {
+            super( EXPECT_RESULT );
+            this.table = table;
+            this.customerId = customerId;
+            this.balance = balance;
+        }
+
+
+        @Override
+        public String getSql() {
+            return "INSERT INTO " + table + "(custid, bal) VALUES " + getSqlRowExpression();
+        }
+
+
+        @Override
+        public String getSqlRowExpression() {
+            return "(" + customerId + "," + balance + ")";
+        }
+
+
+        @Override
+        public String getParameterizedSqlQuery() {
+            return "INSERT INTO " + table + "(custid, bal) VALUES (?, ?)";
+        }
+
+
+        @Override
+        public Map<Integer, ImmutablePair<DataTypes, Object>> getParameterValues() {
+            Map<Integer, ImmutablePair<DataTypes, Object>> map = new HashMap<>();
+            map.put( 1, new ImmutablePair<>( DataTypes.INTEGER, customerId ) );
+            map.put( 2, new ImmutablePair<>( DataTypes.INTEGER, balance ) );
+            return map;
+        }
+
+
+        @Override
+        public RestRequest getRest() {
+            return buildRestInsert( "public." + table, ImmutableList.of( getRestRowExpression() ) );
+        }
+
+
+        @Override
+        public String getMongoQl() {
+            return "db." + table + ".insert(" + getMongoQlRowExpression() + ")";
+        }
+
+
+        @Override
+        public JsonObject getRestRowExpression() {
+            JsonObject row = new JsonObject();
+            row.add( "public." + table + ".custid", new JsonPrimitive( customerId ) );
+            row.add( "public." + table + ".bal", new JsonPrimitive( balance ) );
+            return row;
+        }
+
+
+        @Override
+        public String getEntity() {
+            return "public." + table;
+        }
+
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario.smallbank.queryBuilder;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.polypheny.simpleclient.query.KeyDistribution;
+import org.polypheny.simpleclient.query.Query;
+import org.polypheny.simpleclient.query.RestRequest;
+
+
+/**
+ * The statements the SmallBank transactions are composed of. Balances are stored in cents.
+ */
+final class Statements {
+
+    static final String SAVINGS = "savings";
+    static final String CHECKING = "checking";
+
+
+    private Statements() {
+    }
+
+
+    /**
+     * Draws a customer other than the given one.
+     */
+    static int nextOtherCustomer( KeyDistribution customers, int customerId ) {
+        int otherId = customers.nextKey();
+        while ( otherId == customerId ) {
+            otherId = customers.nextKey();
+        }
+        return otherId;
+    }
+
+
+    static Query selectAccount( int customerId ) {
+        return new SelectQuery( "accounts", customerId );
+    }
+
+
+    static Query selectBalance( String table, int customerId ) {
+        return new SelectQuery( table, customerId );
+    }
+
+
+    static Query addToBalance( String table, int customerId, int amount ) {
+        return new AddToBalanceQuery( table, customerId, amount );
+    }
+
+
+    static Query setBalance( String table, int customerId, int balance ) {
+        return new SetBalanceQuery( table, customerId, balance );
+    }
+
+
+    private static class SelectQuery extends Query {
+
+        private final String table;
+        private final int customerId;
+
+
+        SelectQuery( String table, int customerId ) {
+            super( true );
+            this.table = table;
+            this.customerId = customerId;
+        }
+
+
+        @Override
+        public String getSql() {
+            return "SELECT * FROM " + table + " WHERE custid=" + customerId;
+        }
+
+
+        @Override
+        public String getParameterizedSqlQuery() {
+            return "SELECT * FROM " + table + " WHERE custid=?";
+        }
+
+
+        @Override
+        public Map<Integer, ImmutablePair<DataTypes, Object>> getParameterValues() {
+            Map<Integer, ImmutablePair<DataTypes, Object>> map = new HashMap<>();
+            map.put( 1, new ImmutablePair<>( DataTypes.INTEGER, customerId ) );
+            return map;
+        }
+
+
+        @Override
+        public RestRequest getRest() {
+            return RestRequest.get( "/restapi/v1/res/public." + table )
+                    .queryString( "public." + table + ".custid", "=" + customerId );
+        }
+
+
+        @Override
+        public String getMongoQl() {
+            return "db." + table + ".find({\"custid\":" + customerId + "})";
+        }
+
+    }
+
+
+    private static class AddToBalanceQuery extends Query {
+
+        private final String table;
+        private final int customerId;
+        private final int amount;
+
+
+        AddToBalanceQuery( String table, int customerId, int amount ) {
+            super( false );
+            this.table = table;
+            this.customerId = customerId;
+            this.amount = amount;
+        }
+
+
+        @Override
+        public String getSql() {
+            return "UPDATE " + table + " SET bal=bal+" + amount + " WHERE custid=" + customerId;
+        }
+
+
+        @Override
+        public String getParameterizedSqlQuery() {
+            return "UPDATE " + table + " SET bal=bal+? WHERE custid=?";
+        }
+
+
+        @Override
+        public Map<Integer, ImmutablePair<DataTypes, Object>> getParameterValues() {
+            Map<Integer, ImmutablePair<DataTypes, Object>> map = new HashMap<>();
+            map.put( 1, new ImmutablePair<>( DataTypes.INTEGER, amount ) );
+            map.put( 2, new ImmutablePair<>( DataTypes.INTEGER, customerId ) );
+            return map;
+        }
+
+
+        @Override
+        public RestRequest getRest() {
+            // The REST interface only supports setting values
+            return null;
+        }
+
+
+        @Override
+        public String getMongoQl() {
+            return "db." + table + ".update({\"custid\":" + customerId + "},{\"$inc\":{\"bal\":" + amount + "}})";
+        }
+
+    }
+
+
+    private static class SetBalanceQuery extends Query {
+
+        private final String table;
+        private final int customerId;
+        private final int balance;
+
+
+        SetBalanceQuery( String table, int customerId, int balance ) {
+            super( false );
+            this.table = table;
+            this.customerId = customerId;
+            this.balance = balance;
+        }
+
+
+        @Override
+        public String getSql() {
+            return "UPDATE " + table + " SET bal=" + balance + " WHERE custid=" + customerId;
+        }
+
+
+        @Override
+        public String getParameterizedSqlQuery() {
+            return "UPDATE " + table + " SET bal=? WHERE custid=?";
+        }
+
+
+        @Override
+        public Map<Integer, ImmutablePair<DataTypes, Object>> getParameterValues() {
+            Map<Integer, ImmutablePair<DataTypes, Object>> map = new HashMap<>();
+            map.put( 1, new ImmutablePair<>( DataTypes.INTEGER, balance ) );
+            map.put( 2, new ImmutablePair<>( DataTypes.INTEGER, customerId ) );
+            return map;
+        }
+
+
+        @Override
+        public RestRequest getRest() {
+            JsonObject set = new JsonObject();
+            set.add( "public." + table + ".bal", new JsonPrimitive( balance ) );
+
+            Map<String, String> where = new LinkedHashMap<>();
+            where.put( "public." + table + ".custid", "=" + customerId );
+
+            return buildRestUpdate( "public." + table, set, where );
+        }
+
+
+        @Override
+        public String getMongoQl() {
+            return "db." + table + ".update({\"custid\":" + customerId + "},{\"$set\":{\"bal\":" + balance + "}})";
+        }
+
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario.ycsb;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.polypheny.simpleclient.executor.Executor;
+import org.polypheny.simpleclient.executor.ExecutorException;
+import org.polypheny.simpleclient.main.ProgressReporter;
+import org.polypheny.simpleclient.query.BatchableInsert;
+import org.polypheny.simpleclient.scenario.BulkLoader;
+import org.polypheny.simpleclient.scenario.DataPartition;
+import org.polypheny.simpleclient.scenario.oltpbench.ycsb.YcsbConfig;
+import org.polypheny.simpleclient.scenario.ycsb.queryBuilder.InsertRecord;
+
+
+@Slf4j
+public class DataGenerator {
+
+    private static final long RANDOM_SEED = 42;
+
+    private final Executor theExecutor;
+    private final YcsbConfig config;
+    private final ProgressReporter progressReporter;
+
+    private final BulkLoader bulkLoader;
+    private List<BatchableInsert> batchList;
+
+    private boolean aborted;
+
+
+    DataGenerator( Executor executor, YcsbConfig config, ProgressReporter progressReporter, BulkLoader bulkLoader ) {
+        theExecutor = executor;
+        this.config = config;
+        this.progressReporter = progressReporter;
+        this.bulkLoader = bulkLoader;
+        batchList = new LinkedList<>();
+
+        aborted = false;
+    }
+
+
+    void generateRecords( DataPartition partition ) throws ExecutorException {
+        int numberOfRecords = config.getNumberOfRecords();
+        int mod = Math.max( 1, numberOfRecords / (progressReporter.base * Math.max( 1, config.numberOfDataGenerationThreads )) );
+        InsertRecord queryBuilder = new InsertRecord(
+                new AtomicInteger( partition.getFirst( numberOfRecords ) + 1 ),
+                config.fieldCount,
+                config.fieldLength,
+                new Random( partition.getSeed( RANDOM_SEED ) ) );
+        int end = partition.getEnd( numberOfRecords );
+        for ( int i = partition.getFirst( numberOfRecords ); i < end; i++ ) {
+            if ( aborted || partition.isAborted() ) {
+                break;
+            }
+
+            addToInsertList( queryBuilder.getNewQuery() );
+            if ( (i % mod) == 0 ) {
+                progressReporter.updateProgress();
+            }
+        }
+        executeInsertList();
+    }
+
+
+    private void addToInsertList( BatchableInsert query ) throws ExecutorException {
+        batchList.add( query );
+        if ( batchList.size() >= (bulkLoader == null ? config.batchSize : bulkLoader.getBatchSize()) ) {
+            executeInsertList();
+        }
+    }
+
+
+    private void executeInsertList() throws ExecutorException {
+        if ( bulkLoader != null ) {
+            if ( !batchList.isEmpty() ) {
+                bulkLoader.submit( batchList );
+                batchList = new LinkedList<>();
+            }
+            return;
+        }
+        theExecutor.executeInsertList( batchList, config );
+        theExecutor.executeCommit();
+        batchList.clear();
+    }
+
+
+    public void abort() {
+        aborted = true;
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario.ycsb;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.polypheny.simpleclient.QueryMode;
+import org.polypheny.simpleclient.executor.Executor;
+import org.polypheny.simpleclient.executor.Executor.DatabaseInstance;
+import org.polypheny.simpleclient.executor.ExecutorException;
+import org.polypheny.simpleclient.executor.MonetdbExecutor.MonetdbExecutorFactory;
+import org.polypheny.simpleclient.executor.PolyphenyDbJdbcExecutor.PolyphenyDbJdbcExecutorFactory;
+import org.polypheny.simpleclient.executor.PolyphenyDbMongoQlExecutor.PolyphenyDbMongoQlExecutorFactory;
+import org.polypheny.simpleclient.executor.PolyphenyDbRestExecutor.PolyphenyDbRestExecutorFactory;
+import org.polypheny.simpleclient.executor.PostgresExecutor.PostgresExecutorFactory;
+import org.polypheny.simpleclient.main.CsvWriter;
+import org.polypheny.simpleclient.main.ProgressReporter;
+import org.polypheny.simpleclient.query.KeyDistribution;
+import org.polypheny.simpleclient.query.Query;
+import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.Transaction;
+import org.polypheny.simpleclient.query.Workload;
+import org.polypheny.simpleclient.scenario.BulkLoader;
+import org.polypheny.simpleclient.scenario.PolyphenyScenario;
+import org.polypheny.simpleclient.scenario.oltpbench.ycsb.YcsbConfig;
+import org.polypheny.simpleclient.scenario.ycsb.queryBuilder.CreateUserTable;
+import org.polypheny.simpleclient.scenario.ycsb.queryBuilder.DeleteRecord;
+import org.polypheny.simpleclient.scenario.ycsb.queryBuilder.InsertRecord;
+import org.polypheny.simpleclient.scenario.ycsb.queryBuilder.ReadModifyWriteRecord;
+import org.polypheny.simpleclient.scenario.ycsb.queryBuilder.ReadRecord;
+import org.polypheny.simpleclient.scenario.ycsb.queryBuilder.ScanRecord;
+import org.polypheny.simpleclient.scenario.ycsb.queryBuilder.UpdateRecord;
+
+
+/**
+ * YCSB executed by this client instead of OLTPBench. Uses the same configuration and the same schema as the OLTPBench
+ * scenario, but works with every executor supporting the relational or document model.
+ */
+@Slf4j
+public class YcsbBench extends PolyphenyScenario {
+
+    private final YcsbConfig config;
+    // Inserted records continue after the loaded ones, across the warm-up and the execution of the workload
+    private final AtomicInteger nextInsertKey;
+
+
+    public YcsbBench( Executor.ExecutorFactory executorFactory, YcsbConfig config, boolean commitAfterEveryQuery, boolean dumpQueryList, QueryMode queryMode ) {
+        super( executorFactory, commitAfterEveryQuery, dumpQueryList, queryMode );
+        this.config = config;
+        this.nextInsertKey = new AtomicInteger( config.getNumberOfRecords() + 1 );
+    }
+
+
+    @Override
+    public void createSchema( DatabaseInstance databaseInstance, boolean includingKeys ) {
+        if ( queryMode != QueryMode.TABLE ) {
+            throw new UnsupportedOperationException( "Unsupported query mode: " + queryMode.name() );
+        }
+        if ( !(executorFactory instanceof PolyphenyDbJdbcExecutorFactory || executorFactory instanceof PostgresExecutorFactory || executorFactory instanceof MonetdbExecutorFactory
+                || executorFactory instanceof PolyphenyDbRestExecutorFactory || executorFactory instanceof PolyphenyDbMongoQlExecutorFactory) ) {
+            throw new RuntimeException( "Unsupported executor factory: " + executorFactory.getClass().getName() );
+        }
+
+        log.info( "Creating schema..." );
+        Executor executor = null;
+        try {
+            executor = executorFactory.createExecutorInstance();
+            executor.executeQuery( new CreateUserTable( config.fieldCount, config.fieldLength, includingKeys ).getNewQuery() );
+        } catch ( ExecutorException e ) {
+            throw new RuntimeException( "Exception while creating schema", e );
+        } finally {
+            commitAndCloseExecutor( executor );
+        }
+    }
+
+
+    @Override
+    public void generateData( DatabaseInstance databaseInstance, ProgressReporter progressReporter ) {
+        log.info( "Generating data..." );
+        BulkLoader bulkLoader = createBulkLoader( config, config.batchSize, executorFactory::createExecutorInstance );
+        try {
+            generateDataInParallel( config.numberOfDataGenerationThreads, executorFactory::createExecutorInstance, ( executor, partition ) -> {
+                DataGenerator dataGenerator = new DataGenerator( executor, config, progressReporter, bulkLoader );
+                dataGenerator.generateRecords( partition );
+            } );
+        } finally {
+            closeBulkLoader( bulkLoader );
+        }
+    }
+
+
+    @Override
+    public long execute( ProgressReporter progressReporter, CsvWriter csvWriter, File outputDirectory, int numberOfThreads ) {
+        if ( config.workloadFile != null && config.readModifyWriteRecordWeight > 0 ) {
+            throw new RuntimeException( "Compiled workloads are not supported for workloads containing read-modify-write transactions" );
+        }
+        if ( hasCompiledWorkload( config ) ) {
+            return commonExecute( new Workload(), progressReporter, outputDirectory, numberOfThreads, Query::getSql, () -> executorFactory.createExecutorInstance( csvWriter ), new Random(), config );
+        }
+
+        log.info( "Preparing query list for the benchmark..." );
+        Workload workload = createWorkload();
+
+        return commonExecute( workload, progressReporter, outputDirectory, numberOfThreads, Query::getSql, () -> executorFactory.createExecutorInstance( csvWriter ), new Random(), config );
+    }
+
+
+    /**
+     * Returns the builders of the operations with their weights.
+     */
+    private Map<QueryBuilder, Integer> createQueryBuilders() {
+        Random random = new Random();
+        Map<QueryBuilder, Integer> builders = new LinkedHashMap<>();
+        builders.put( new ReadRecord( createRequestDistribution() ), config.readRecordWeight );
+        builders.put( new InsertRecord( nextInsertKey, config.fieldCount, config.fieldLength, random ), config.insertRecordWeight );
+        builders.put( new ScanRecord( createRequestDistribution(), config.maxScanLength, random ), config.scanRecordWeight );
+        builders.put( new UpdateRecord( createRequestDistribution(), config.fieldCount, config.fieldLength, random ), config.updateRecordWeight );
+        builders.put( new DeleteRecord( createRequestDistribution() ), config.deleteRecordWeight );
+        builders.put( new ReadModifyWriteRecord( createRequestDistribution(), config.fieldCount, config.fieldLength, random ), config.readModifyWriteRecordWeight );
+        return builders;
+    }
+
+
+    /**
+     * The latest distribution (workload D) follows the records inserted while executing the workload.
+     */
+    private KeyDistribution createRequestDistribution() {
+        return config.requestDistribution.create( config.getNumberOfRecords(), () -> nextInsertKey.get() - 1 );
+    }
+
+
+    private Workload createWorkload() {
+        Map<QueryBuilder, Integer> builders = createQueryBuilders();
+        int totalWeight = builders.values().stream().mapToInt( Integer::intValue ).sum();
+        if ( totalWeight <= 0 ) {
+            throw new RuntimeException( "The weights of the YCSB transactions sum up to zero" );
+        }
+
+        Workload workload = new Workload();
+        builders.forEach( ( queryBuilder, weight ) -> addWeighted( workload, queryBuilder, weight, totalWeight ) );
+        return workload;
+    }
+
+
+    @Override
+    public void warmUp( ProgressReporter progressReporter ) {
+        if ( config.adaptiveWarmUp ) {
+            adaptiveWarmUp( createWorkload(), () -> executorFactory.createExecutorInstance(), progressReporter, config );
+            return;
+        }
+
+        log.info( "Warm-up..." );
+        Map<QueryBuilder, Integer> builders = createQueryBuilders();
+        Executor executor = null;
+        for ( int i = 0; i < config.numberOfWarmUpIterations; i++ ) {
+            try {
+                executor = executorFactory.createExecutorInstance();
+                // One query of every operation
+                for ( Map.Entry<QueryBuilder, Integer> entry : builders.entrySet() ) {
+                    if ( entry.getValue() <= 0 ) {
+                        continue;
+                    }
+                    Query query = entry.getKey().getNewQuery();
+                    if ( query instanceof Transaction transaction ) {
+                        transaction.execute( executor );
+                    } else {
+                        executor.executeQuery( query );
+                    }
+                    executor.executeCommit();
+                }
+            } catch ( ExecutorException e ) {
+                throw new RuntimeException( "Error while executing warm-up queries", e );
+            } finally {
+                commitAndCloseExecutor( executor );
+            }
+        }
+    }
+
+
+    @Override
+    public int getNumberOfInsertThreads() {
+        return config.numberOfDataGenerationThreads;
+    }
+
+
+    private void addWeighted( Workload workload, QueryBuilder queryBuilder, int weight, int totalWeight ) {
+        if ( weight <= 0 ) {
+            return;
+        }
+        int id = queryTypes.size() + 1;
+        queryTypes.put( id, queryBuilder.getNewQuery().getSql() );
+        measuredTimePerQueryType.put( id, createLatencyHistogram() );
+        workload.add( queryBuilder, id, Math.max( 1, (int) ((long) config.numberOfTransactions * weight / totalWeight) ) );
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario.ycsb.queryBuilder;
+
+import java.util.Map;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.polypheny.simpleclient.query.Query;
+import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
+
+
+public class CreateUserTable extends QueryBuilder {
+
+    private final int fieldCount;
+    private final int fieldLength;
+    private final boolean includingKeys;
+
+
+    public CreateUserTable( int fieldCount, int fieldLength, boolean includingKeys ) {
+        this.fieldCount = fieldCount;
+        this.fieldLength = fieldLength;
+        this.includingKeys = includingKeys;
+    }
+
+
+    @Override
+    public Query getNewQuery() {
+        return new CreateUserTableQuery( fieldCount, fieldLength, includingKeys );
+    }
+
+
+    private static class CreateUserTableQuery extends Query {
+
+        private final int fieldCount;
+        private final int fieldLength;
+        private final boolean includingKeys;
+
+
+        CreateUserTableQuery( int fieldCount, int fieldLength, boolean includingKeys ) {
+            super( false );
+            this.fieldCount = fieldCount;
+            this.fieldLength = fieldLength;
+            this.includingKeys = includingKeys;
+        }
+
+
+        @Override
+        public String getSql() {
+            StringBuilder sql = new StringBuilder( "CREATE TABLE usertable (ycsb_key INTEGER NOT NULL" );
+            for ( int i = 1; i <= fieldCount; i++ ) {
+                sql.append( ", field" ).append( i ).append( " VARCHAR(" ).append( fieldLength ).append( ")" );
+            }
+            if ( includingKeys ) {
+                sql.append( ", PRIMARY KEY (ycsb_key)" );
+            }
+            return sql.append( ")" ).toString();
+        }
+
+
+        @Override
+        public String getParameterizedSqlQuery() {
+            return null;
+        }
+
+
+        @Override
+        public Map<Integer, ImmutablePair<DataTypes, Object>> getParameterValues() {
+            return null;
+        }
+
+
+        @Override
+        public RestRequest getRest() {
+            return null;
+        }
+
+
+        @Override
+        public String getMongoQl() {
+            return "db.createCollection(\"usertable\")";
+        }
+
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario.ycsb.queryBuilder;
+
+import com.google.common.collect.ImmutableList;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.polypheny.simpleclient.query.BatchableInsert;
+import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
+
+
+public class InsertRecord extends QueryBuilder {
+
+    private static final boolean EXPECT_RESULT = false;
+
+    private final AtomicInteger nextKey;
+    private final int fieldCount;
+    private final int fieldLength;
+    private final Random random;
+
+
+    /**
+     * @param nextKey the key of the next record; shared by all builders inserting into the same key range
+     */
+    public InsertRecord( AtomicInteger nextKey, int fieldCount, int fieldLength, Random random ) {
+        this.nextKey = nextKey;
+        this.fieldCount = fieldCount;
+        this.fieldLength = fieldLength;
+        this.random = random;
+    }
+
+
+    @Override
+    public BatchableInsert getNewQuery() {
+        String[] fields = new String[fieldCount];
+        for ( int i = 0; i < fieldCount; i++ ) {
+            fields[i] = randomValue( random, fieldLength );
+        }
+        return new InsertRecordQuery( nextKey.getAndIncrement(), fields );
+    }
+
+
+    public static String randomValue( Random random, int length ) {
+        int leftLimit = 97; // letter 'a'
+        int rightLimit = 122; // letter 'z'
+        return random.ints( leftLimit, rightLimit + 1 )
+                .limit( length )
+                .collect( StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append )
+                .toString();
+    }
+
+
+    static class InsertRecordQuery extends BatchableInsert {
+
+        private static final String SQL = "INSERT INTO usertable VALUES ";
+
+        private final int key;
+        private final String[] fields;
+
+
+        InsertRecordQuery( int key, String[] fields ) {
+            super( EXPECT_RESULT );
+            this.key = key;
+            this.fields = fields;
+        }
+
+
+        @Override
+        public String getSql() {
+            return SQL + getSqlRowExpression();
+        }
+
+
+        @Override
+        public String getSqlRowExpression() {
+            StringBuilder row = new StringBuilder( "(" ).append( key );
+            for ( String field : fields ) {
+                row.append( ",'" ).append( field ).append( "'" );
+            }
+            return row.append( ")" ).toString();
+        }
+
+
+        @Override
+        public String getParameterizedSqlQuery() {
+            return SQL + "(?" + ",?".repeat( fields.length ) + ")";
+        }
+
+
+        @Override
+        public Map<Integer, ImmutablePair<DataTypes, Object>> getParameterValues() {
+            Map<Integer, ImmutablePair<DataTypes, Object>> map = new HashMap<>();
+            map.put( 1, new ImmutablePair<>( DataTypes.INTEGER, key ) );
+            for ( int i = 0; i < fields.length; i++ ) {
+                map.put( i + 2, new ImmutablePair<>( DataTypes.VARCHAR, fields[i] ) );
+            }
+            return map;
+        }
+
+
+        @Override
+        public RestRequest getRest() {
+            return buildRestInsert( "public.usertable", ImmutableList.of( getRestRowExpression() ) );
+        }
+
+
+        @Override
+        public String getMongoQl() {
+            return "db.usertable.insert(" + getMongoQlRowExpression() + ")";
+        }
+
+
+        @Override
+        public JsonObject getRestRowExpression() {
+            JsonObject row = new JsonObject();
+            row.add( "public.usertable.ycsb_key", new JsonPrimitive( key ) );
+            for ( int i = 0; i < fields.length; i++ ) {
+                row.add( "public.usertable.field" + (i + 1), new JsonPrimitive( fields[i] ) );
+            }
+            return row;
+        }
+
+
+        @Override
+        public String getEntity() {
+            return "public.usertable";
+        }
+
+    }
+
+}
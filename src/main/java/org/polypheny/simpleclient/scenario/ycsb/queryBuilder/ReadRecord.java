@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario.ycsb.queryBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.polypheny.simpleclient.query.KeyDistribution;
+import org.polypheny.simpleclient.query.Query;
+import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
+
+
+public class ReadRecord extends QueryBuilder {
+
+    private static final boolean EXPECT_RESULT = true;
+
+    private final KeyDistribution keys;
+
+
+    public ReadRecord( KeyDistribution keys ) {
+        this.keys = keys;
+    }
+
+
+    @Override
+    public Query getNewQuery() {
+        return new ReadRecordQuery( keys.nextKey() );
+    }
+
+
+    static class ReadRecordQuery extends Query {
+
+        private final int key;
+
+
+        ReadRecordQuery( int key ) {
+            super( EXPECT_RESULT );
+            this.key = key;
+        }
+
+
+        @Override
+        public String getSql() {
+            return "SELECT * FROM usertable WHERE ycsb_key=" + key;
+        }
+
+
+        @Override
+        public String getParameterizedSqlQuery() {
+            return "SELECT * FROM usertable WHERE ycsb_key=?";
+        }
+
+
+        @Override
+        public Map<Integer, ImmutablePair<DataTypes, Object>> getParameterValues() {
+            Map<Integer, ImmutablePair<DataTypes, Object>> map = new HashMap<>();
+            map.put( 1, new ImmutablePair<>( DataTypes.INTEGER, key ) );
+            return map;
+        }
+
+
+        @Override
+        public RestRequest getRest() {
+            return RestRequest.get( "/restapi/v1/res/public.usertable" )
+                    .queryString( "public.usertable.ycsb_key", "=" + key );
+        }
+
+
+        @Override
+        public String getMongoQl() {
+            return "db.usertable.find({\"ycsb_key\":" + key + "})";
+        }
+
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2026 The Polypheny Project
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.polypheny.simpleclient.scenario.ycsb.queryBuilder;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.polypheny.simpleclient.query.KeyDistribution;
+import org.polypheny.simpleclient.query.Query;
+import org.polypheny.simpleclient.query.QueryBuilder;
+import org.polypheny.simpleclient.query.RestRequest;
+
+
+/**
+ * Updates one randomly chosen field of a record (like the YCSB core workloads, which do not write all fields by default).
+ */
+public class UpdateRecord extends QueryBuilder {
+
+    private static final boolean EXPECT_RESULT = false;
+
+    private final KeyDistribution keys;
+    private final int fieldCount;
+    private final int fieldLength;
+    private final Random random;
+
+
+    public UpdateRecord( KeyDistribution keys, int fieldCount, int fieldLength, Random random ) {
+        this.keys = keys;
+        this.fieldCount = fieldCount;
+        this.fieldLength = fieldLength;
+        this.random = random;
+    }
+
+
+    @Override
+    public Query getNewQuery() {
+        return newQuery( keys.nextKey() );
+    }
+
+
+    UpdateRecordQuery newQuery( int key ) {
+        return new UpdateRecordQuery( key, "field" + (random.nextInt( fieldCount ) + 1), InsertRecord.randomValue( random, fieldLength ) );
+    }
+
+
+    static class UpdateRecordQuery extends Query {
+
+        private final int key;
+        private final String field;
+        private final String value;
+
+
+        UpdateRecordQuery( int key, String field, String value ) {
+            super( EXPECT_RESULT );
+            this.key = key;
+            this.field = field;
+            this.value = value;
+        }
+
+
+        @Override
+        public String getSql() {
+            return "UPDATE usertable SET " + field + "='" + value + "' WHERE ycsb_key=" + key;
+        }
+
+
+        @Override
+        public String getParameterizedSqlQuery() {
+            return "UPDATE usertable SET " + field + "=? WHERE ycsb_key=?";
+        }
+
+
+        @Override
+        public Map<Integer, ImmutablePair<DataTypes, Object>> getParameterValues() {
+            Map<Integer, ImmutablePair<DataTypes, Object>> map = new HashMap<>();
+            map.put( 1, new ImmutablePair<>( DataTypes.VARCHAR, value ) );
+            map.put( 2, new ImmutablePair<>( DataTypes.INTEGER, key ) );
+            return map;
+        }
+
+
+        @Override
+        public RestRequest getRest() {
+            JsonObject set = new JsonObject();
+            set.add( "public.usertable." + field, new JsonPrimitive( value ) );
+
+            Map<String, String> where = new LinkedHashMap<>();
+            where.put( "public.usertable.ycsb_key", "=" + key );
+
+            return buildRestUpdate( "public.usertable", set, where );
+        }
+
+
+        @Override
+        public String getMongoQl() {
+            return "db.usertable.update({\"ycsb_key\":" + key + "},{\"$set\":{\"" + field + "\":" + maybeQuote( value ) + "}})";
+        }
+
+    }
+
+}